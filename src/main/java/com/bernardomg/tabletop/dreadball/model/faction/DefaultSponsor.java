@@ -66,6 +66,23 @@ public DefaultSponsor() {
         super();
     }
 
+    /**
+     * Constructs a copy of the received sponsor.
+     * 
+     * @param source
+     *            sponsor to copy
+     */
+    public DefaultSponsor(final DefaultSponsor source) {
+        super();
+
+        checkNotNull(source, "Received a null pointer as source sponsor");
+
+        affinityGroups.addAll(source.affinityGroups);
+        cash = source.cash;
+        name = source.name;
+        rank = source.rank;
+    }
+
     @Override
     public final void addAffinityGroup(final AffinityGroup affinity) {
         getAffinityGroupsModifiable().add(affinity);
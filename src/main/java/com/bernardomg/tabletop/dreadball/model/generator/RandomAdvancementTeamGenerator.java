@@ -0,0 +1,280 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.generator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import com.bernardomg.tabletop.dreadball.model.availability.asset.TeamTypeAssetsAvailability;
+import com.bernardomg.tabletop.dreadball.model.availability.player.TeamPlayerRangedAvailability;
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayerValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.player.DefaultAdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayerValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+import com.bernardomg.tabletop.dreadball.model.team.DefaultAdvancementTeam;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.AdvancementTeamValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CostCalculator;
+
+/**
+ * Seeded random generator for Dreadball Original advancement teams.
+ * <p>
+ * The generated teams are valid. Each player template is used no more times
+ * than its availability allows, and the assets are kept inside the limits of
+ * the team type.
+ * <p>
+ * The same seed and the same availabilities, in the same order, always
+ * generate the same teams. Teams can be filled again through
+ * {@link #fill(AdvancementTeam)}, which reuses the team and any player
+ * already created from the same template at the same position.
+ * <p>
+ * This class is not thread safe, each thread should use its own generator.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class RandomAdvancementTeamGenerator {
+
+    /**
+     * Assets availability for the team type.
+     */
+    private final TeamTypeAssetsAvailability                            assets;
+
+    /**
+     * Number of players already used for each template.
+     * <p>
+     * This is reused on each generation.
+     */
+    private final int[]                                                 counts;
+
+    /**
+     * Maximum amount of cash.
+     */
+    private final Integer                                               maxCash;
+
+    /**
+     * Maximum number of players for each template.
+     */
+    private final int[]                                                 maxCounts;
+
+    /**
+     * Maximum number of players on a team.
+     */
+    private final Integer                                               maxPlayers;
+
+    /**
+     * Maximum rank for the players.
+     */
+    private final Integer                                               maxRank;
+
+    /**
+     * Calculator for the players valoration.
+     */
+    private final TeamPlayerValorationCalculator<AdvancementTeamPlayer> playerValorator;
+
+    /**
+     * Player templates available.
+     */
+    private final List<TeamPlayer>                                      players = new ArrayList<>();
+
+    /**
+     * Random numbers source.
+     */
+    private final Random                                                random;
+
+    /**
+     * Valoration calculator for the generated teams.
+     */
+    private final CostCalculator<AdvancementTeam>                       valorationCalculator;
+
+    /**
+     * Constructs a generator with the specified arguments.
+     * 
+     * @param seed
+     *            seed for the random numbers
+     * @param assetsAvailability
+     *            assets availability for the team type
+     * @param availabilities
+     *            player templates available, and how many times each can be
+     *            used
+     * @param playersLimit
+     *            maximum number of players on a team
+     * @param rankLimit
+     *            maximum rank for the players
+     * @param cashLimit
+     *            maximum amount of cash
+     * @param rankCostIncrease
+     *            cost increase for each player rank
+     */
+    public RandomAdvancementTeamGenerator(final Long seed,
+            final TeamTypeAssetsAvailability assetsAvailability,
+            final Collection<? extends TeamPlayerRangedAvailability> availabilities,
+            final Integer playersLimit, final Integer rankLimit,
+            final Integer cashLimit, final Integer rankCostIncrease) {
+        super();
+
+        int index; // Index of the current availability
+
+        checkNotNull(seed, "Received a null pointer as seed");
+        assets = checkNotNull(assetsAvailability,
+                "Received a null pointer as assets availability");
+        checkNotNull(availabilities,
+                "Received a null pointer as availabilities");
+        maxPlayers = checkNotNull(playersLimit,
+                "Received a null pointer as players limit");
+        maxRank = checkNotNull(rankLimit,
+                "Received a null pointer as rank limit");
+        maxCash = checkNotNull(cashLimit,
+                "Received a null pointer as cash limit");
+
+        checkArgument(maxPlayers >= 0,
+                "The players limit should not be negative");
+        checkArgument(maxRank >= 0, "The rank limit should not be negative");
+        checkArgument(maxCash >= 0, "The cash limit should not be negative");
+
+        random = new Random(seed);
+
+        counts = new int[availabilities.size()];
+        maxCounts = new int[availabilities.size()];
+        index = 0;
+        for (final TeamPlayerRangedAvailability availability : availabilities) {
+            players.add(availability.getTeamPlayer());
+            maxCounts[index] = availability.getMaxNumber();
+            index++;
+        }
+
+        playerValorator = new AdvancementTeamPlayerValorationCalculator(
+                rankCostIncrease);
+        valorationCalculator = new AdvancementTeamValorationCalculator(
+                assets.getCoachingDieCost(), assets.getDreadballCardCost(),
+                assets.getCheerleaderCost(), assets.getCoachingStaffCost());
+    }
+
+    /**
+     * Fills the received team with random players and assets.
+     * <p>
+     * Any player already in the team is replaced. If the player at a position
+     * comes from the same template as the new one, it is kept and only its
+     * rank and experience are generated again.
+     * 
+     * @param team
+     *            team to fill
+     */
+    public final void fill(final AdvancementTeam team) {
+        final Integer playersCount; // Number of players to add
+        final Integer added;        // Number of players added
+
+        checkNotNull(team, "Received a null pointer as team");
+
+        team.setName("Team");
+        team.setCash(random.nextInt(maxCash + 1));
+        team.setCheerleaders(random.nextInt(assets.getCheerleaderMax() + 1));
+        team.setCoachingDice(random.nextInt(assets.getCoachingDieMax() + 1));
+        team.setDreadballCards(
+                random.nextInt(assets.getDreadballCardMax() + 1));
+        team.setDefensiveCoachingStaff(random.nextBoolean());
+        team.setOffensiveCoachingStaff(random.nextBoolean());
+        team.setSupportCoachingStaff(random.nextBoolean());
+
+        playersCount = random.nextInt(maxPlayers + 1);
+        added = addPlayers(team, playersCount);
+        RandomGenerators.removePlayersAfter(team, added);
+    }
+
+    /**
+     * Generates a new random team.
+     * 
+     * @return a new random team
+     */
+    public final AdvancementTeam generate() {
+        final AdvancementTeam team; // Generated team
+
+        team = new DefaultAdvancementTeam(assets.getTeamType(),
+                valorationCalculator);
+        fill(team);
+
+        return team;
+    }
+
+    /**
+     * Adds random players to the team, from the first position onwards.
+     * <p>
+     * Less players may be added if the availabilities run out.
+     * 
+     * @param team
+     *            team to fill
+     * @param playersCount
+     *            number of players to add
+     * @return the number of players added
+     */
+    private final Integer addPlayers(final AdvancementTeam team,
+            final Integer playersCount) {
+        TeamPlayer            template; // Template for the player
+        AdvancementTeamPlayer player;   // Player to add
+        int                   added;    // Number of players added
+        int                   index;    // Index of the template to use
+        int                   checked;  // Number of templates checked
+
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = 0;
+        }
+
+        added = 0;
+        while ((added < playersCount) && (!players.isEmpty())) {
+            // Probes from a random template until one is available
+            index = random.nextInt(players.size());
+            checked = 0;
+            while ((checked < counts.length)
+                    && (counts[index] >= maxCounts[index])) {
+                index = (index + 1) % counts.length;
+                checked++;
+            }
+
+            if (checked == counts.length) {
+                // All the templates were used up
+                break;
+            }
+
+            counts[index]++;
+            added++;
+
+            template = players.get(index);
+            player = team.getPlayers().get(added);
+            if ((player == null) || (!Objects.equals(
+                    player.getTemplateName(), template.getTemplateName()))) {
+                player = new DefaultAdvancementTeamPlayer(
+                        template.getTemplateName(), template.getCost(),
+                        template.getRole(), template.getAttributes(),
+                        template.getAbilities(), template.getMvp(),
+                        template.getGiant(), playerValorator);
+                team.addPlayer(player, added);
+            }
+
+            player.setRank(random.nextInt(maxRank + 1));
+            player.setUnspentExperience(0);
+        }
+
+        return added;
+    }
+
+}
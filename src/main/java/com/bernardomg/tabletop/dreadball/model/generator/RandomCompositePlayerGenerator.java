@@ -0,0 +1,194 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.generator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayerValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayerValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.player.component.Component;
+import com.bernardomg.tabletop.dreadball.model.player.component.ComponentLocation;
+import com.bernardomg.tabletop.dreadball.model.player.component.DefaultCompositeAdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+
+/**
+ * Seeded random generator for composite advancement players.
+ * <p>
+ * Each player is built from a random template, with at most one random
+ * component for each location. Only components supporting the template's
+ * role are used. The cost of the player is the cost of the template plus that
+ * of the components, and it receives the abilities of all of them.
+ * <p>
+ * The same seed, templates and components, in the same order, always generate
+ * the same players.
+ * <p>
+ * This class is not thread safe, each thread should use its own generator.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class RandomCompositePlayerGenerator {
+
+    /**
+     * Compatible components for each role, grouped by location.
+     * <p>
+     * The locations keep the order in which they were found on the catalog.
+     */
+    private final Map<Role, List<List<Component>>>                      components = new HashMap<>();
+
+    /**
+     * Maximum rank for the players.
+     */
+    private final Integer                                               maxRank;
+
+    /**
+     * Calculator for the players valoration.
+     */
+    private final TeamPlayerValorationCalculator<AdvancementTeamPlayer> playerValorator;
+
+    /**
+     * Random numbers source.
+     */
+    private final Random                                                random;
+
+    /**
+     * Player templates available.
+     */
+    private final List<TeamPlayer>                                      templates  = new ArrayList<>();
+
+    /**
+     * Constructs a generator with the specified arguments.
+     * 
+     * @param seed
+     *            seed for the random numbers
+     * @param players
+     *            player templates
+     * @param catalog
+     *            components which can be used
+     * @param rankLimit
+     *            maximum rank for the players
+     * @param rankCostIncrease
+     *            cost increase for each player rank
+     */
+    public RandomCompositePlayerGenerator(final Long seed,
+            final Collection<? extends TeamPlayer> players,
+            final Collection<? extends Component> catalog,
+            final Integer rankLimit, final Integer rankCostIncrease) {
+        super();
+
+        final Map<ComponentLocation, Collection<Component>> locations; // Components by location
+        List<List<Component>> roleComponents; // Components for a role
+        List<Component>       compatible;     // Compatible components
+
+        checkNotNull(seed, "Received a null pointer as seed");
+        checkNotNull(players, "Received a null pointer as players");
+        checkNotNull(catalog, "Received a null pointer as catalog");
+        maxRank = checkNotNull(rankLimit,
+                "Received a null pointer as rank limit");
+
+        checkArgument(!players.isEmpty(), "Received no player templates");
+        checkArgument(maxRank >= 0, "The rank limit should not be negative");
+
+        random = new Random(seed);
+        templates.addAll(players);
+
+        locations = new LinkedHashMap<>();
+        for (final Component component : catalog) {
+            if (!locations.containsKey(component.getLocation())) {
+                locations.put(component.getLocation(),
+                        new ArrayList<Component>());
+            }
+            locations.get(component.getLocation()).add(component);
+        }
+
+        // The compatible components are precomputed for each role
+        for (final TeamPlayer template : templates) {
+            if (!components.containsKey(template.getRole())) {
+                roleComponents = new ArrayList<>();
+                for (final Collection<Component> located : locations
+                        .values()) {
+                    compatible = new ArrayList<>();
+                    for (final Component component : located) {
+                        if (component.getRoles()
+                                .contains(template.getRole())) {
+                            compatible.add(component);
+                        }
+                    }
+
+                    if (!compatible.isEmpty()) {
+                        roleComponents.add(compatible);
+                    }
+                }
+                components.put(template.getRole(), roleComponents);
+            }
+        }
+
+        playerValorator = new AdvancementTeamPlayerValorationCalculator(
+                rankCostIncrease);
+    }
+
+    /**
+     * Generates a new random player.
+     * 
+     * @return a new random player
+     */
+    public final AdvancementTeamPlayer generate() {
+        final TeamPlayer            template;   // Template for the player
+        final Collection<Component> chosen;     // Components for the player
+        final Collection<Ability>   abilities;  // Abilities for the player
+        final AdvancementTeamPlayer player;     // Generated player
+        Integer                     cost;       // Cost of the player
+        int                         index;      // Index of the component
+
+        template = templates.get(random.nextInt(templates.size()));
+
+        cost = template.getCost();
+        chosen = new ArrayList<>();
+        abilities = new LinkedHashSet<>(template.getAbilities());
+        for (final List<Component> located : components
+                .get(template.getRole())) {
+            // The location may be left empty
+            index = random.nextInt(located.size() + 1);
+            if (index < located.size()) {
+                chosen.add(located.get(index));
+                cost += located.get(index).getCost();
+                abilities.addAll(located.get(index).getAbilities());
+            }
+        }
+
+        player = new DefaultCompositeAdvancementTeamPlayer(
+                template.getTemplateName(), cost, template.getRole(),
+                template.getAttributes(), abilities, template.getMvp(),
+                template.getGiant(), playerValorator, chosen);
+        player.setRank(random.nextInt(maxRank + 1));
+
+        return player;
+    }
+
+}
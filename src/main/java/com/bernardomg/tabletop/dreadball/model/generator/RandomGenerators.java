@@ -0,0 +1,67 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.generator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import com.bernardomg.tabletop.dreadball.model.team.Team;
+
+/**
+ * Utilities shared by the random generators.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+final class RandomGenerators {
+
+    /**
+     * Removes the players after the received position.
+     * <p>
+     * Generators fill positions from the first one, so any player after the
+     * last filled position is left over from a previous generation.
+     * 
+     * @param team
+     *            team to clean
+     * @param last
+     *            last position to keep
+     */
+    public static final void removePlayersAfter(final Team<?> team,
+            final Integer last) {
+        final Collection<Integer> positions; // Positions to remove
+
+        if (team.getPlayers().size() > last) {
+            positions = new ArrayList<>();
+            for (final Integer position : team.getPlayers().keySet()) {
+                if (position > last) {
+                    positions.add(position);
+                }
+            }
+
+            for (final Integer position : positions) {
+                team.removePlayer(position);
+            }
+        }
+    }
+
+    /**
+     * Private constructor to avoid initialization.
+     */
+    private RandomGenerators() {
+        super();
+    }
+
+}
@@ -0,0 +1,260 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.generator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+import com.bernardomg.tabletop.dreadball.model.availability.asset.SponsorAssetsCosts;
+import com.bernardomg.tabletop.dreadball.model.availability.player.TeamPlayerRangedAvailability;
+import com.bernardomg.tabletop.dreadball.model.faction.DefaultSponsor;
+import com.bernardomg.tabletop.dreadball.model.faction.Sponsor;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayers;
+import com.bernardomg.tabletop.dreadball.model.team.DefaultSponsorTeam;
+import com.bernardomg.tabletop.dreadball.model.team.SponsorTeam;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CostCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.DefaultRankCostCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.SponsorTeamValorationCalculator;
+
+/**
+ * Seeded random generator for Sponsor teams.
+ * <p>
+ * The generated teams are valid. Each player template is used no more times
+ * than its availability allows, and the Sponsor rank always covers the rank
+ * cost of the team.
+ * <p>
+ * The same seed and the same availabilities, in the same order, always
+ * generate the same teams. Teams can be filled again through
+ * {@link #fill(SponsorTeam)}, which avoids creating new instances when
+ * generating big workloads.
+ * <p>
+ * This class is not thread safe, each thread should use its own generator.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class RandomSponsorTeamGenerator {
+
+    /**
+     * Number of players already used for each template.
+     * <p>
+     * This is reused on each generation.
+     */
+    private final int[]                       counts;
+
+    /**
+     * Maximum number of each asset.
+     */
+    private final Integer                     maxAssets;
+
+    /**
+     * Maximum number of players for each template.
+     */
+    private final int[]                       maxCounts;
+
+    /**
+     * Maximum number of players on a team.
+     */
+    private final Integer                     maxPlayers;
+
+    /**
+     * Player templates available.
+     */
+    private final List<TeamPlayer>            players = new ArrayList<>();
+
+    /**
+     * Random numbers source.
+     */
+    private final Random                      random;
+
+    /**
+     * Rank cost calculator for the generated teams.
+     */
+    private final CostCalculator<SponsorTeam> rankCostCalculator;
+
+    /**
+     * Valoration calculator for the generated teams.
+     */
+    private final CostCalculator<SponsorTeam> valorationCalculator;
+
+    /**
+     * Constructs a generator with the specified arguments.
+     * 
+     * @param seed
+     *            seed for the random numbers
+     * @param costs
+     *            assets costs
+     * @param availabilities
+     *            player templates available, and how many times each can be
+     *            used
+     * @param playersLimit
+     *            maximum number of players on a team
+     * @param assetsLimit
+     *            maximum number of each asset on a team
+     */
+    public RandomSponsorTeamGenerator(final Long seed,
+            final SponsorAssetsCosts costs,
+            final Collection<? extends TeamPlayerRangedAvailability> availabilities,
+            final Integer playersLimit, final Integer assetsLimit) {
+        super();
+
+        int index; // Index of the current availability
+
+        checkNotNull(seed, "Received a null pointer as seed");
+        checkNotNull(costs, "Received a null pointer as costs");
+        checkNotNull(availabilities,
+                "Received a null pointer as availabilities");
+        maxPlayers = checkNotNull(playersLimit,
+                "Received a null pointer as players limit");
+        maxAssets = checkNotNull(assetsLimit,
+                "Received a null pointer as assets limit");
+
+        checkArgument(maxPlayers >= 0,
+                "The players limit should not be negative");
+        checkArgument(maxAssets >= 0, "The assets limit should not be negative");
+
+        random = new Random(seed);
+
+        counts = new int[availabilities.size()];
+        maxCounts = new int[availabilities.size()];
+        index = 0;
+        for (final TeamPlayerRangedAvailability availability : availabilities) {
+            players.add(availability.getTeamPlayer());
+            maxCounts[index] = availability.getMaxNumber();
+            index++;
+        }
+
+        valorationCalculator = new SponsorTeamValorationCalculator(
+                costs.getCoachingDieCost(), costs.getNastySurpriseCardCost(),
+                costs.getSpecialMoveCardCost(), costs.getCheerleaderCost(),
+                costs.getWagerCost(), costs.getMediBotCost());
+        rankCostCalculator = new DefaultRankCostCalculator(
+                costs.getCoachingDieCost(), costs.getNastySurpriseCardCost(),
+                costs.getSpecialMoveCardCost(), costs.getCheerleaderCost(),
+                costs.getWagerCost(), costs.getMediBotCost());
+    }
+
+    /**
+     * Fills the received team with random players and assets.
+     * <p>
+     * Any player already in the team is replaced, and the rank of its Sponsor
+     * is changed so it covers the new rank cost.
+     * 
+     * @param team
+     *            team to fill
+     */
+    public final void fill(final SponsorTeam team) {
+        final Integer playersCount; // Number of players to add
+        final Integer added;        // Number of players added
+
+        checkNotNull(team, "Received a null pointer as team");
+
+        team.setCheerleaders(nextAsset());
+        team.setCoachingDice(nextAsset());
+        team.setMediBots(nextAsset());
+        team.setNastySurpriseCards(nextAsset());
+        team.setSpecialMoveCards(nextAsset());
+        team.setWagers(nextAsset());
+
+        playersCount = random.nextInt(maxPlayers + 1);
+        added = addPlayers(team, playersCount);
+        RandomGenerators.removePlayersAfter(team, added);
+
+        team.getSponsor().setRank(team.getRankCost() + nextAsset());
+    }
+
+    /**
+     * Generates a new random team.
+     * 
+     * @return a new random team
+     */
+    public final SponsorTeam generate() {
+        final Sponsor     sponsor; // Sponsor for the team
+        final SponsorTeam team;    // Generated team
+
+        sponsor = new DefaultSponsor();
+        sponsor.setName("Sponsor");
+
+        team = new DefaultSponsorTeam(sponsor, valorationCalculator,
+                rankCostCalculator);
+        fill(team);
+
+        return team;
+    }
+
+    /**
+     * Adds random players to the team, from the first position onwards.
+     * <p>
+     * Less players may be added if the availabilities run out. The players
+     * are copies of the templates, made with {@link TeamPlayers#copyOf}.
+     * 
+     * @param team
+     *            team to fill
+     * @param playersCount
+     *            number of players to add
+     * @return the number of players added
+     */
+    private final Integer addPlayers(final SponsorTeam team,
+            final Integer playersCount) {
+        int added;   // Number of players added
+        int index;   // Index of the template to use
+        int checked; // Number of templates checked for availability
+
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = 0;
+        }
+
+        added = 0;
+        while ((added < playersCount) && (!players.isEmpty())) {
+            // Probes from a random template until one is available
+            index = random.nextInt(players.size());
+            checked = 0;
+            while ((checked < counts.length)
+                    && (counts[index] >= maxCounts[index])) {
+                index = (index + 1) % counts.length;
+                checked++;
+            }
+
+            if (checked == counts.length) {
+                // All the templates were used up
+                break;
+            }
+
+            counts[index]++;
+            added++;
+            // Each position receives its own player
+            team.addPlayer(TeamPlayers.copyOf(players.get(index)), added);
+        }
+
+        return added;
+    }
+
+    /**
+     * Returns a random number of assets.
+     * 
+     * @return a random number of assets
+     */
+    private final Integer nextAsset() {
+        return random.nextInt(maxAssets + 1);
+    }
+
+}
@@ -56,6 +56,29 @@ public final Integer getValoration(final AdvancementTeamPlayer player) {
         return valoration;
     }
 
+    /**
+     * Returns the valoration of the player, summed into a {@code long}.
+     * <p>
+     * This uses the same formula as {@link #getValoration}, but it can't
+     * overflow, so it can be used for checking the valoration.
+     * 
+     * @param player
+     *            player to valorate
+     * @return the valoration of the player
+     */
+    public final Long getWideValoration(final AdvancementTeamPlayer player) {
+        long valoration;
+
+        checkNotNull(player, "Received a null pointer as the player");
+
+        valoration = player.getCost();
+
+        valoration += player.getGraftedImplant().getCost();
+        valoration += (long) player.getRank() * getRankCostIncrease();
+
+        return valoration;
+    }
+
     /**
      * Returns the cost of each rank.
      * <p>
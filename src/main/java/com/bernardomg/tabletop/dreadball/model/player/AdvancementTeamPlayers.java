@@ -0,0 +1,96 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.player;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.bernardomg.tabletop.dreadball.model.player.component.DefaultCompositeAdvancementTeamPlayer;
+import com.google.common.base.Function;
+
+/**
+ * Utilities for copying advancement players.
+ * <p>
+ * Copies share all the immutable parts of the player, such as its template
+ * and components, and only duplicate the state which can change.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class AdvancementTeamPlayers {
+
+    /**
+     * Function copying players.
+     */
+    private static final Function<AdvancementTeamPlayer, AdvancementTeamPlayer> COPIER = new Function<AdvancementTeamPlayer, AdvancementTeamPlayer>() {
+
+        @Override
+        public final AdvancementTeamPlayer
+                apply(final AdvancementTeamPlayer input) {
+            return copyOf(input);
+        }
+
+    };
+
+    /**
+     * Returns a function copying players with {@link #copyOf}.
+     * 
+     * @return a function copying players
+     */
+    public static final Function<AdvancementTeamPlayer, AdvancementTeamPlayer>
+            copier() {
+        return COPIER;
+    }
+
+    /**
+     * Returns a copy of the player.
+     * <p>
+     * Only the implementations in this model can be copied.
+     * 
+     * @param player
+     *            player to copy
+     * @return a copy of the player
+     * @throws IllegalArgumentException
+     *             if the player implementation can't be copied
+     */
+    public static final AdvancementTeamPlayer
+            copyOf(final AdvancementTeamPlayer player) {
+        final AdvancementTeamPlayer copy; // Copied player
+
+        checkNotNull(player, "Received a null pointer as player");
+
+        if (player instanceof DefaultAdvancementTeamPlayer) {
+            copy = new DefaultAdvancementTeamPlayer(
+                    (DefaultAdvancementTeamPlayer) player);
+        } else if (player instanceof DefaultCompositeAdvancementTeamPlayer) {
+            copy = new DefaultCompositeAdvancementTeamPlayer(
+                    (DefaultCompositeAdvancementTeamPlayer) player);
+        } else {
+            throw new IllegalArgumentException(
+                    String.format("Can't copy players of type %s",
+                            player.getClass().getName()));
+        }
+
+        return copy;
+    }
+
+    /**
+     * Private constructor to avoid initialization.
+     */
+    private AdvancementTeamPlayers() {
+        super();
+    }
+
+}
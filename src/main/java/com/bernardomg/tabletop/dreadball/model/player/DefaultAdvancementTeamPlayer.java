@@ -18,19 +18,22 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 
 import com.bernardomg.tabletop.dreadball.model.player.component.Component;
 import com.bernardomg.tabletop.dreadball.model.player.component.ImmutableComponent;
 import com.bernardomg.tabletop.dreadball.model.player.component.ImmutableComponentLocation;
 import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.AbilitySet;
 import com.bernardomg.tabletop.dreadball.model.player.stats.Attributes;
 import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAttributes;
+import com.bernardomg.tabletop.dreadball.model.player.stats.MutableAttributes;
 import com.google.common.base.MoreObjects;
 
 /**
@@ -44,17 +47,20 @@
     /**
      * Serialization id.
      */
-    private static final long                                           serialVersionUID = -9100853601667992893L;
+    private static final long                                           serialVersionUID = 3895172836642910147L;
 
     /**
-     * TeamPlayer's attributes.
+     * Indicates if the player abilities are owned by the player.
+     * <p>
+     * Until they are first modified the abilities are those of the template,
+     * and then they are copied.
      */
-    private Attributes                                                  attributes;
+    private boolean                                                     abilitiesOwned   = false;
 
     /**
-     * {@code TeamPlayer} used for inheritance through composition.
+     * TeamPlayer's attributes.
      */
-    private final TeamPlayer                                            baseTeamPlayer;
+    private Attributes                                                  attributes;
 
     /**
      * Implant grafted to the player. This is a {@code TeamPlayer}, the same
@@ -74,14 +80,22 @@
 
     /**
      * The player's abilities.
+     * <p>
+     * These are the template abilities until they are first modified, and
+     * then they are copied.
      */
-    private final Collection<Ability>                                   playerAbilities  = new HashSet<>();
+    private Collection<Ability>                                         playerAbilities;
 
     /**
      * The player's current rank.
      */
     private Integer                                                     rank;
 
+    /**
+     * Template shared with the other players created from it.
+     */
+    private final ImmutableTeamPlayerTemplate                           template;
+
     /**
      * The unspent experience.
      */
@@ -94,6 +108,9 @@
 
     /**
      * Constructs an advancement player with the specified arguments.
+     * <p>
+     * The received attributes are kept by the player, while the template
+     * stores an immutable copy of them.
      * 
      * @param nameTemplate
      *            the player's base template name
@@ -117,17 +134,70 @@ public DefaultAdvancementTeamPlayer(final String nameTemplate,
             final Collection<Ability> abilities, final Boolean mvp,
             final Boolean giant,
             final TeamPlayerValorationCalculator<AdvancementTeamPlayer> valorator) {
+        this(ImmutableTeamPlayerTemplate.of(nameTemplate, cost, role, attrs,
+                abilities, mvp, giant), valorator);
+
+        // The received attributes are kept, as the template stores a copy
+        attributes = attrs;
+    }
+
+    /**
+     * Constructs an advancement player from the specified template.
+     * <p>
+     * The template is shared, and its abilities are only copied when they
+     * are first modified.
+     * 
+     * @param playerTemplate
+     *            template the player is created from
+     * @param valorator
+     *            calculator for the valoration
+     */
+    public DefaultAdvancementTeamPlayer(
+            final ImmutableTeamPlayerTemplate playerTemplate,
+            final TeamPlayerValorationCalculator<AdvancementTeamPlayer> valorator) {
         super();
 
-        baseTeamPlayer = new DefaultTeamPlayer(nameTemplate, cost, role, attrs,
-                abilities, mvp, giant);
+        template = checkNotNull(playerTemplate,
+                "Received a null pointer as template");
 
-        playerAbilities.addAll(baseTeamPlayer.getAbilities());
+        playerAbilities = template.getAbilities();
 
         valorationBuilder = checkNotNull(valorator,
                 "Received a null pointer as valoration builder");
-        attributes = checkNotNull(attrs,
-                "Received a null pointer as attributes");
+        attributes = template.getAttributes();
+    }
+
+    /**
+     * Constructs a copy of the received player.
+     * <p>
+     * The template, implant and valoration calculator are shared. The
+     * abilities are shared too while they are still those of the template,
+     * and mutable attributes are copied.
+     * 
+     * @param source
+     *            player to copy
+     */
+    public DefaultAdvancementTeamPlayer(
+            final DefaultAdvancementTeamPlayer source) {
+        super();
+
+        checkNotNull(source, "Received a null pointer as source player");
+
+        template = source.template;
+        valorationBuilder = source.valorationBuilder;
+        graftedImplant = source.graftedImplant;
+        name = source.name;
+        rank = source.rank;
+        unspentExperience = source.unspentExperience;
+
+        abilitiesOwned = source.abilitiesOwned;
+        if (abilitiesOwned) {
+            playerAbilities = new AbilitySet(source.playerAbilities);
+        } else {
+            playerAbilities = source.playerAbilities;
+        }
+
+        attributes = copyAttributes(source.attributes);
     }
 
     @Override
@@ -152,13 +222,12 @@ public final boolean equals(final Object obj) {
         final DefaultAdvancementTeamPlayer other;
 
         other = (DefaultAdvancementTeamPlayer) obj;
-        return Objects.equals(baseTeamPlayer, other.baseTeamPlayer)
-                && Objects.equals(name, other.name);
+        return Objects.equals(name, other.name);
     }
 
     @Override
     public final Collection<Ability> getAbilities() {
-        return Collections.unmodifiableCollection(getAbilitiesModifiable());
+        return Collections.unmodifiableCollection(playerAbilities);
     }
 
     @Override
@@ -168,12 +237,12 @@ public final Attributes getAttributes() {
 
     @Override
     public final Integer getCost() {
-        return getBaseTeamPlayer().getCost();
+        return getTemplate().getCost();
     }
 
     @Override
     public final Boolean getGiant() {
-        return getBaseTeamPlayer().getGiant();
+        return getTemplate().getGiant();
     }
 
     @Override
@@ -183,7 +252,7 @@ public final Component getGraftedImplant() {
 
     @Override
     public final Boolean getMvp() {
-        return getBaseTeamPlayer().getMvp();
+        return getTemplate().getMvp();
     }
 
     @Override
@@ -198,12 +267,21 @@ public final Integer getRank() {
 
     @Override
     public final Role getRole() {
-        return getBaseTeamPlayer().getRole();
+        return getTemplate().getRole();
+    }
+
+    /**
+     * Returns the template the player is created from.
+     * 
+     * @return the template the player is created from
+     */
+    public final ImmutableTeamPlayerTemplate getTemplate() {
+        return template;
     }
 
     @Override
     public final String getTemplateName() {
-        return getBaseTeamPlayer().getTemplateName();
+        return getTemplate().getTemplateName();
     }
 
     @Override
@@ -216,9 +294,33 @@ public final Integer getValoration() {
         return getValorationCalculator().getValoration(this);
     }
 
+    /**
+     * Returns the valoration of the player, summed into a {@code long}.
+     * <p>
+     * The valoration can only be widened when the calculator extends
+     * {@link AbstractAdvancementTeamPlayerValorationCalculator}, otherwise the
+     * value returned by {@link #getValoration()} is used.
+     * 
+     * @return the valoration of the player
+     */
+    public final Long getWideValoration() {
+        final TeamPlayerValorationCalculator<AdvancementTeamPlayer> calculator;
+        final Long                                                  valoration;
+
+        calculator = getValorationCalculator();
+        if (calculator instanceof AbstractAdvancementTeamPlayerValorationCalculator) {
+            valoration = ((AbstractAdvancementTeamPlayerValorationCalculator) calculator)
+                    .getWideValoration(this);
+        } else {
+            valoration = getValoration().longValue();
+        }
+
+        return valoration;
+    }
+
     @Override
     public final int hashCode() {
-        return Objects.hash(baseTeamPlayer, name);
+        return Objects.hashCode(name);
     }
 
     @Override
@@ -270,23 +372,47 @@ public final String toString() {
     }
 
     /**
-     * Returns the modifiable list of the player's abilities.
+     * Returns the attributes to store in a copy of the player.
+     * <p>
+     * Mutable attributes are copied, any other is shared.
      * 
-     * @return the modifiable list of the player's abilities
+     * @param attrs
+     *            attributes to copy
+     * @return the attributes for the copy
      */
-    private final Collection<Ability> getAbilitiesModifiable() {
-        return playerAbilities;
+    private final Attributes copyAttributes(final Attributes attrs) {
+        final MutableAttributes copy;   // Copied attributes
+        final Attributes        result; // Attributes for the copy
+
+        if (attrs instanceof MutableAttributes) {
+            copy = new MutableAttributes();
+            copy.setArmor(attrs.getArmor());
+            copy.setMovement(attrs.getMovement());
+            copy.setSkill(attrs.getSkill());
+            copy.setSpeed(attrs.getSpeed());
+            copy.setStrength(attrs.getStrength());
+
+            result = copy;
+        } else {
+            result = attrs;
+        }
+
+        return result;
     }
 
     /**
-     * Returns the base player class being used for inheritance through
-     * composition.
+     * Returns the modifiable list of the player's abilities.
      * 
-     * @return the base player class being used for inheritance through
-     *         composition
+     * @return the modifiable list of the player's abilities
      */
-    private final TeamPlayer getBaseTeamPlayer() {
-        return baseTeamPlayer;
+    private final Collection<Ability> getAbilitiesModifiable() {
+        if (!abilitiesOwned) {
+            // Copied on the first modification
+            playerAbilities = new AbilitySet(playerAbilities);
+            abilitiesOwned = true;
+        }
+
+        return playerAbilities;
     }
 
     /**
@@ -299,4 +425,26 @@ private final TeamPlayer getBaseTeamPlayer() {
         return valorationBuilder;
     }
 
+    /**
+     * Deserializes the player.
+     * <p>
+     * If the abilities are still those of the template, they are linked again
+     * to the template, which may have been replaced by an interned instance.
+     * 
+     * @param input
+     *            input stream
+     * @throws IOException
+     *             if the object can't be read
+     * @throws ClassNotFoundException
+     *             if a class can't be found
+     */
+    private final void readObject(final ObjectInputStream input)
+            throws IOException, ClassNotFoundException {
+        input.defaultReadObject();
+
+        if (!abilitiesOwned) {
+            playerAbilities = template.getAbilities();
+        }
+    }
+
 }
@@ -20,8 +20,6 @@
 
 import java.io.Serializable;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.LinkedHashSet;
 import java.util.Objects;
 
 import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
@@ -39,47 +37,17 @@ public final class DefaultTeamPlayer implements TeamPlayer, Serializable {
     /**
      * Serialization id.
      */
-    private static final long         serialVersionUID = 2114193062568651459L;
-
-    /**
-     * TeamPlayer's attributes.
-     */
-    private final Attributes          attributes;
-
-    /**
-     * Base cost of the player.
-     */
-    private final Integer             cost;
-
-    /**
-     * Indicates if the player is a giant.
-     */
-    private final Boolean             giant;
-
-    /**
-     * Indicates if the player is a MVP.
-     */
-    private final Boolean             mvp;
+    private static final long                 serialVersionUID = -6270947117539042826L;
 
     /**
      * TeamPlayer's name.
      */
-    private String                    name             = "";
+    private String                            name             = "";
 
     /**
-     * The player's abilities.
+     * Template shared with the other players created from it.
      */
-    private final Collection<Ability> playerAbilities  = new LinkedHashSet<>();
-
-    /**
-     * The player's team position.
-     */
-    private final Role                role;
-
-    /**
-     * Name of the template from which this player has been created.
-     */
-    private final String              templateName;
+    private final ImmutableTeamPlayerTemplate template;
 
     /**
      * Constructs a player with the specified arguments.
@@ -103,24 +71,39 @@ public DefaultTeamPlayer(final String nameTemplate,
             final Integer playerCost, final Role playerRole,
             final Attributes attrs, final Collection<Ability> abilities,
             final Boolean mvpFlag, final Boolean giantFlag) {
-        super();
+        this("", ImmutableTeamPlayerTemplate.of(nameTemplate, playerCost,
+                playerRole, attrs, abilities, mvpFlag, giantFlag));
+    }
 
-        templateName = checkNotNull(nameTemplate,
-                "Received a null pointer as the template name");
-        attributes = checkNotNull(attrs,
-                "Received a null pointer as attributes");
-        role = checkNotNull(playerRole, "Received a null pointer as position");
-        giant = checkNotNull(giantFlag,
-                "Received a null pointer as giant flag");
-        mvp = checkNotNull(mvpFlag, "Received a null pointer as MVP flag");
-        cost = checkNotNull(playerCost, "Received a null pointer as cost");
+    /**
+     * Constructs a copy of the received player.
+     * <p>
+     * The template is shared.
+     * 
+     * @param source
+     *            player to copy
+     */
+    public DefaultTeamPlayer(final DefaultTeamPlayer source) {
+        this(checkNotNull(source, "Received a null pointer as source player")
+                .getName(), source.getTemplate());
+    }
 
-        checkNotNull(abilities, "Received a null pointer as abilities");
+    /**
+     * Constructs a player with the specified arguments.
+     * 
+     * @param playerName
+     *            the player's name
+     * @param playerTemplate
+     *            template the player is created from
+     */
+    public DefaultTeamPlayer(final String playerName,
+            final ImmutableTeamPlayerTemplate playerTemplate) {
+        super();
 
-        for (final Ability ability : abilities) {
-            playerAbilities.add(checkNotNull(ability,
-                    "Received a null pointer as ability"));
-        }
+        name = checkNotNull(playerName,
+                "Received a null pointer as the template name");
+        template = checkNotNull(playerTemplate,
+                "Received a null pointer as template");
     }
 
     /**
@@ -147,26 +130,8 @@ public DefaultTeamPlayer(final String playerName, final String nameTemplate,
             final Integer playerCost, final Role playerRole,
             final Attributes attrs, final Collection<Ability> abilities,
             final Boolean mvpFlag, final Boolean giantFlag) {
-        super();
-
-        name = checkNotNull(playerName,
-                "Received a null pointer as the template name");
-        templateName = checkNotNull(nameTemplate,
-                "Received a null pointer as the template name");
-        attributes = checkNotNull(attrs,
-                "Received a null pointer as attributes");
-        role = checkNotNull(playerRole, "Received a null pointer as position");
-        giant = checkNotNull(giantFlag,
-                "Received a null pointer as giant flag");
-        mvp = checkNotNull(mvpFlag, "Received a null pointer as MVP flag");
-        cost = checkNotNull(playerCost, "Received a null pointer as cost");
-
-        checkNotNull(abilities, "Received a null pointer as abilities");
-
-        for (final Ability ability : abilities) {
-            playerAbilities.add(checkNotNull(ability,
-                    "Received a null pointer as ability"));
-        }
+        this(playerName, ImmutableTeamPlayerTemplate.of(nameTemplate,
+                playerCost, playerRole, attrs, abilities, mvpFlag, giantFlag));
     }
 
     @Override
@@ -191,27 +156,27 @@ public final boolean equals(final Object obj) {
 
     @Override
     public final Collection<Ability> getAbilities() {
-        return Collections.unmodifiableCollection(getAbilitiesModifiable());
+        return getTemplate().getAbilities();
     }
 
     @Override
     public final Attributes getAttributes() {
-        return attributes;
+        return getTemplate().getAttributes();
     }
 
     @Override
     public final Integer getCost() {
-        return cost;
+        return getTemplate().getCost();
     }
 
     @Override
     public final Boolean getGiant() {
-        return giant;
+        return getTemplate().getGiant();
     }
 
     @Override
     public final Boolean getMvp() {
-        return mvp;
+        return getTemplate().getMvp();
     }
 
     @Override
@@ -221,12 +186,21 @@ public final String getName() {
 
     @Override
     public final Role getRole() {
-        return role;
+        return getTemplate().getRole();
     }
 
     @Override
     public final String getTemplateName() {
-        return templateName;
+        return getTemplate().getTemplateName();
+    }
+
+    /**
+     * Returns the template the player is created from.
+     * 
+     * @return the template the player is created from
+     */
+    public final ImmutableTeamPlayerTemplate getTemplate() {
+        return template;
     }
 
     @Override
@@ -252,13 +226,4 @@ public final String toString() {
                 .add("giant", getGiant()).toString();
     }
 
-    /**
-     * Returns the modifiable collection of the player's abilities.
-     * 
-     * @return the modifiable collection of the player's abilities
-     */
-    private final Collection<Ability> getAbilitiesModifiable() {
-        return playerAbilities;
-    }
-
 }
@@ -144,6 +144,32 @@ public ImmutableAffinityTeamPlayer(final String nameTemplate,
         }
     }
 
+    /**
+     * Constructs a copy of the received player.
+     * <p>
+     * The template data is shared, while the name and affinities are copied.
+     * 
+     * @param source
+     *            player to copy
+     */
+    public ImmutableAffinityTeamPlayer(
+            final ImmutableAffinityTeamPlayer source) {
+        super();
+
+        checkNotNull(source, "Received a null pointer as source player");
+
+        // The base player is never renamed, so it can be shared
+        baseTeamPlayer = source.baseTeamPlayer;
+        cost = source.cost;
+        allyCost = source.allyCost;
+        friendCost = source.friendCost;
+        strangerCost = source.strangerCost;
+        name = source.name;
+
+        affinityGroups.addAll(source.affinityGroups);
+        hatedAffinities.addAll(source.hatedAffinities);
+    }
+
     @Override
     public final boolean equals(final Object obj) {
         if (this == obj) {
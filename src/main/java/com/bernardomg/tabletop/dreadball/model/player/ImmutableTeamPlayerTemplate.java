@@ -0,0 +1,321 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.player;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.AbilitySet;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Attributes;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAttributes;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.collect.Iterables;
+
+/**
+ * Template data shared by all the players created from the same template.
+ * <p>
+ * Templates are interned, so equal templates are the same instance, and a
+ * team of players created from a few templates only keeps a few copies of
+ * their abilities and attributes. Use {@link #of} to acquire them.
+ * <p>
+ * Two templates are only equal if they have the same abilities in the same
+ * order, so an interned template always iterates its abilities in the order
+ * they were received. The attributes are copied into immutable ones, as they
+ * are shared between all the players using the template.
+ * <p>
+ * This is an immutable implementation.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class ImmutableTeamPlayerTemplate implements Serializable {
+
+    /**
+     * Templates already in use.
+     * <p>
+     * The references are weak, so unused templates are discarded.
+     */
+    private static final Interner<ImmutableTeamPlayerTemplate> TEMPLATES        = Interners
+            .newWeakInterner();
+
+    /**
+     * Serialization id.
+     */
+    private static final long                                  serialVersionUID = 4410581373519720372L;
+
+    /**
+     * The template's abilities.
+     */
+    private final Set<Ability>                                 abilities;
+
+    /**
+     * The template's attributes.
+     */
+    private final Attributes                                   attributes;
+
+    /**
+     * Base cost of the template.
+     */
+    private final Integer                                      cost;
+
+    /**
+     * Indicates if the template is a giant.
+     */
+    private final Boolean                                      giant;
+
+    /**
+     * Indicates if the template is a MVP.
+     */
+    private final Boolean                                      mvp;
+
+    /**
+     * The template's team position.
+     */
+    private final Role                                         role;
+
+    /**
+     * Name of the template.
+     */
+    private final String                                       templateName;
+
+    /**
+     * Returns the template for the specified arguments.
+     * <p>
+     * If an equal template is already in use, then that instance is
+     * returned. The attributes are copied, so later changes to them are not
+     * shared with the template.
+     * 
+     * @param nameTemplate
+     *            the template name
+     * @param templateCost
+     *            cost of the template
+     * @param templateRole
+     *            team position role of the template
+     * @param attrs
+     *            template attributes
+     * @param templateAbilities
+     *            template abilities
+     * @param mvpFlag
+     *            flag indicating if this is a MVP
+     * @param giantFlag
+     *            flag indicating if this is a giant
+     * @return the template for the arguments
+     */
+    public static final ImmutableTeamPlayerTemplate of(
+            final String nameTemplate, final Integer templateCost,
+            final Role templateRole, final Attributes attrs,
+            final Collection<Ability> templateAbilities, final Boolean mvpFlag,
+            final Boolean giantFlag) {
+        return TEMPLATES.intern(
+                new ImmutableTeamPlayerTemplate(nameTemplate, templateCost,
+                        templateRole, attrs, templateAbilities, mvpFlag,
+                        giantFlag));
+    }
+
+    /**
+     * Constructs a template with the specified arguments.
+     * 
+     * @param nameTemplate
+     *            the template name
+     * @param templateCost
+     *            cost of the template
+     * @param templateRole
+     *            team position role of the template
+     * @param attrs
+     *            template attributes
+     * @param templateAbilities
+     *            template abilities
+     * @param mvpFlag
+     *            flag indicating if this is a MVP
+     * @param giantFlag
+     *            flag indicating if this is a giant
+     */
+    private ImmutableTeamPlayerTemplate(final String nameTemplate,
+            final Integer templateCost, final Role templateRole,
+            final Attributes attrs,
+            final Collection<Ability> templateAbilities, final Boolean mvpFlag,
+            final Boolean giantFlag) {
+        super();
+
+        final Set<Ability> abilitiesSet; // Received abilities
+
+        templateName = checkNotNull(nameTemplate,
+                "Received a null pointer as the template name");
+        checkNotNull(attrs, "Received a null pointer as attributes");
+        role = checkNotNull(templateRole,
+                "Received a null pointer as position");
+        giant = checkNotNull(giantFlag,
+                "Received a null pointer as giant flag");
+        mvp = checkNotNull(mvpFlag, "Received a null pointer as MVP flag");
+        cost = checkNotNull(templateCost, "Received a null pointer as cost");
+
+        checkNotNull(templateAbilities,
+                "Received a null pointer as abilities");
+
+        abilitiesSet = new AbilitySet();
+        for (final Ability ability : templateAbilities) {
+            abilitiesSet.add(checkNotNull(ability,
+                    "Received a null pointer as ability"));
+        }
+        abilities = Collections.unmodifiableSet(abilitiesSet);
+
+        if (attrs instanceof ImmutableAttributes) {
+            attributes = attrs;
+        } else {
+            // Copied so changes made by the caller are not shared
+            attributes = new ImmutableAttributes(attrs.getArmor(),
+                    attrs.getMovement(), attrs.getSkill(), attrs.getSpeed(),
+                    attrs.getStrength());
+        }
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null) {
+            return false;
+        }
+
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final ImmutableTeamPlayerTemplate other;
+
+        other = (ImmutableTeamPlayerTemplate) obj;
+        return Objects.equals(templateName, other.templateName)
+                && Objects.equals(cost, other.cost)
+                && Objects.equals(role, other.role)
+                && Objects.equals(mvp, other.mvp)
+                && Objects.equals(giant, other.giant)
+                && Objects.equals(attributes, other.attributes)
+                && Iterables.elementsEqual(abilities, other.abilities);
+    }
+
+    /**
+     * Returns the template's abilities.
+     * 
+     * @return the template's abilities
+     */
+    public final Collection<Ability> getAbilities() {
+        return abilities;
+    }
+
+    /**
+     * Returns the template's attributes.
+     * 
+     * @return the template's attributes
+     */
+    public final Attributes getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Returns the cost of the template.
+     * 
+     * @return the cost of the template
+     */
+    public final Integer getCost() {
+        return cost;
+    }
+
+    /**
+     * Returns the flag indicating if the template is a giant.
+     * 
+     * @return {@code true} if the template is a giant, {@code false} otherwise
+     */
+    public final Boolean getGiant() {
+        return giant;
+    }
+
+    /**
+     * Returns the flag indicating if the template is a MVP.
+     * 
+     * @return {@code true} if the template is a MVP, {@code false} otherwise
+     */
+    public final Boolean getMvp() {
+        return mvp;
+    }
+
+    /**
+     * Returns the template's team position role.
+     * 
+     * @return the template's team position role
+     */
+    public final Role getRole() {
+        return role;
+    }
+
+    /**
+     * Returns the template name.
+     * 
+     * @return the template name
+     */
+    public final String getTemplateName() {
+        return templateName;
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(templateName, cost, role, mvp, giant, attributes,
+                getAbilitiesHash());
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("name", templateName)
+                .add("cost", cost).add("role", role).add("mvp", mvp)
+                .add("giant", giant).toString();
+    }
+
+    /**
+     * Returns a hash code for the abilities which depends on their order, as
+     * is done for lists.
+     * 
+     * @return a hash code for the abilities in order
+     */
+    private final int getAbilitiesHash() {
+        int hash; // Abilities hash
+
+        hash = 1;
+        for (final Ability ability : abilities) {
+            hash = (31 * hash) + ability.hashCode();
+        }
+
+        return hash;
+    }
+
+    /**
+     * Replaces deserialized templates with the interned instance.
+     * 
+     * @return the interned template
+     */
+    private final Object readResolve() {
+        return TEMPLATES.intern(this);
+    }
+
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.player;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.bernardomg.tabletop.dreadball.model.player.component.DefaultCompositeAffinityTeamPlayer;
+import com.google.common.base.Function;
+
+/**
+ * Utilities for copying players.
+ * <p>
+ * Copies share all the immutable parts of the player, such as its template,
+ * and only duplicate the state which can change. Advancement players are
+ * copied with {@link AdvancementTeamPlayers}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TeamPlayers {
+
+    /**
+     * Function copying players.
+     */
+    private static final Function<TeamPlayer, TeamPlayer> COPIER = new Function<TeamPlayer, TeamPlayer>() {
+
+        @Override
+        public final TeamPlayer apply(final TeamPlayer input) {
+            return copyOf(input);
+        }
+
+    };
+
+    /**
+     * Returns a function copying players with {@link #copyOf}.
+     * 
+     * @return a function copying players
+     */
+    public static final Function<TeamPlayer, TeamPlayer> copier() {
+        return COPIER;
+    }
+
+    /**
+     * Returns a copy of the player.
+     * <p>
+     * Only the implementations in this model can be copied. Composite
+     * affinity players can't be changed, so they are returned as they are.
+     * 
+     * @param player
+     *            player to copy
+     * @return a copy of the player
+     * @throws IllegalArgumentException
+     *             if the player implementation can't be copied
+     */
+    public static final TeamPlayer copyOf(final TeamPlayer player) {
+        final TeamPlayer copy; // Copied player
+
+        checkNotNull(player, "Received a null pointer as player");
+
+        if (player instanceof AdvancementTeamPlayer) {
+            copy = AdvancementTeamPlayers
+                    .copyOf((AdvancementTeamPlayer) player);
+        } else if (player instanceof DefaultTeamPlayer) {
+            copy = new DefaultTeamPlayer((DefaultTeamPlayer) player);
+        } else if (player instanceof ImmutableAffinityTeamPlayer) {
+            copy = new ImmutableAffinityTeamPlayer(
+                    (ImmutableAffinityTeamPlayer) player);
+        } else if (player instanceof DefaultCompositeAffinityTeamPlayer) {
+            copy = player;
+        } else {
+            throw new IllegalArgumentException(
+                    String.format("Can't copy players of type %s",
+                            player.getClass().getName()));
+        }
+
+        return copy;
+    }
+
+    /**
+     * Private constructor to avoid initialization.
+     */
+    private TeamPlayers() {
+        super();
+    }
+
+}
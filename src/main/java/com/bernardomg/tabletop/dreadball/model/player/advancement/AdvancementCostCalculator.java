@@ -0,0 +1,60 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.player.advancement;
+
+import com.bernardomg.tabletop.dreadball.model.player.component.Component;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+
+/**
+ * Calculates the experience each advancement costs.
+ * <p>
+ * Costs should not depend on the order the advancements are taken, as plans
+ * are searched in a single canonical order.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public interface AdvancementCostCalculator {
+
+    /**
+     * Returns the experience needed for learning the ability.
+     * 
+     * @param ability
+     *            ability to learn
+     * @return the experience needed for the ability
+     */
+    public Integer getAbilityCost(final Ability ability);
+
+    /**
+     * Returns the experience needed for grafting the implant.
+     * 
+     * @param implant
+     *            implant to graft
+     * @return the experience needed for the implant
+     */
+    public Integer getImplantCost(final Component implant);
+
+    /**
+     * Returns the experience needed for advancing from the rank to the next
+     * one.
+     * 
+     * @param rank
+     *            current rank
+     * @return the experience needed for the next rank
+     */
+    public Integer getRankCost(final Integer rank);
+
+}
@@ -0,0 +1,187 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.player.advancement;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.component.Component;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Plan for spending the experience of a player, along the valoration the
+ * player would have after following it.
+ * <p>
+ * This is an immutable implementation.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class AdvancementPlan {
+
+    /**
+     * Abilities learnt.
+     */
+    private final Collection<Ability> abilities = new ArrayList<>();
+
+    /**
+     * Experience spent.
+     */
+    private final Integer             experienceSpent;
+
+    /**
+     * Implant grafted, or {@code null} if the current one is kept.
+     */
+    private final Component           implant;
+
+    /**
+     * Rank reached.
+     */
+    private final Integer             rank;
+
+    /**
+     * Experience left unspent.
+     */
+    private final Integer             unspentExperience;
+
+    /**
+     * Valoration of the player after following the plan.
+     */
+    private final Integer             valoration;
+
+    /**
+     * Constructs a plan with the specified values.
+     * 
+     * @param rankReached
+     *            rank reached
+     * @param learnt
+     *            abilities learnt
+     * @param grafted
+     *            implant grafted, or {@code null} to keep the current one
+     * @param spent
+     *            experience spent
+     * @param unspent
+     *            experience left unspent
+     * @param value
+     *            valoration of the player after following the plan
+     */
+    public AdvancementPlan(final Integer rankReached,
+            final Collection<Ability> learnt, final Component grafted,
+            final Integer spent, final Integer unspent, final Integer value) {
+        super();
+
+        rank = checkNotNull(rankReached, "Received a null pointer as rank");
+        experienceSpent = checkNotNull(spent,
+                "Received a null pointer as experience spent");
+        unspentExperience = checkNotNull(unspent,
+                "Received a null pointer as unspent experience");
+        valoration = checkNotNull(value,
+                "Received a null pointer as valoration");
+        implant = grafted;
+
+        checkNotNull(learnt, "Received a null pointer as abilities");
+        for (final Ability ability : learnt) {
+            abilities.add(
+                    checkNotNull(ability, "Received a null pointer as ability"));
+        }
+    }
+
+    /**
+     * Applies the plan to the player.
+     * 
+     * @param player
+     *            player to advance
+     */
+    public final void applyTo(final AdvancementTeamPlayer player) {
+        checkNotNull(player, "Received a null pointer as player");
+
+        player.setRank(rank);
+        for (final Ability ability : abilities) {
+            player.addAbility(ability);
+        }
+        if (implant != null) {
+            player.setGraftedImplant(implant);
+        }
+        player.setUnspentExperience(unspentExperience);
+    }
+
+    /**
+     * Returns the abilities learnt.
+     * 
+     * @return the abilities learnt
+     */
+    public final Collection<Ability> getAbilities() {
+        return Collections.unmodifiableCollection(abilities);
+    }
+
+    /**
+     * Returns the experience spent.
+     * 
+     * @return the experience spent
+     */
+    public final Integer getExperienceSpent() {
+        return experienceSpent;
+    }
+
+    /**
+     * Returns the implant grafted.
+     * 
+     * @return the implant grafted, or {@code null} if the current one is kept
+     */
+    public final Component getImplant() {
+        return implant;
+    }
+
+    /**
+     * Returns the rank reached.
+     * 
+     * @return the rank reached
+     */
+    public final Integer getRank() {
+        return rank;
+    }
+
+    /**
+     * Returns the experience left unspent.
+     * 
+     * @return the experience left unspent
+     */
+    public final Integer getUnspentExperience() {
+        return unspentExperience;
+    }
+
+    /**
+     * Returns the valoration of the player after following the plan.
+     * 
+     * @return the valoration after following the plan
+     */
+    public final Integer getValoration() {
+        return valoration;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("rank", rank)
+                .add("abilities", abilities).add("implant", implant)
+                .add("valoration", valoration).toString();
+    }
+
+}
@@ -0,0 +1,567 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.player.advancement;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayers;
+import com.bernardomg.tabletop.dreadball.model.player.component.Component;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+import com.bernardomg.tabletop.dreadball.model.team.DefaultAdvancementTeam;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CostCalculator;
+
+/**
+ * Plans how players can spend their unspent experience on ranks, abilities
+ * and implants.
+ * <p>
+ * The planner returns the Pareto front of the advancements affordable for
+ * the player, comparing the valoration after taking them, the experience
+ * left and the abilities learnt. Any plan not in the front is dominated by
+ * one of them, being no better in any of these and worse in at least one.
+ * Valorations are computed by the player's own valoration calculator on a
+ * copy of the player.
+ * <p>
+ * Valorations don't depend on which abilities are learnt, so a set of
+ * abilities is always dominated by the cheapest set of the same size. The
+ * search takes each number of ranks, with or without each implant, followed
+ * by the cheapest abilities the player still lacks, which keeps the number
+ * of candidates linear on the candidate abilities, instead of exponential.
+ * Implants not supporting the player's role are discarded before searching.
+ * <p>
+ * Advancements are memoized by player state while planning a team, so
+ * players with the same rank, experience, abilities and implant options, as
+ * those created from the same template, are only searched once. The
+ * memoized advancements are discarded after each planning.
+ * <p>
+ * At most 64 candidate abilities and 64 candidate implants are supported.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class AdvancementPlanner {
+
+    /**
+     * Index for a missing implant.
+     */
+    static final int              NONE = -1;
+
+    /**
+     * Candidate abilities, sorted by cost.
+     */
+    private final List<Ability>   abilities;
+
+    /**
+     * Experience for each candidate ability.
+     */
+    private final int[]           abilityCosts;
+
+    /**
+     * Experience for each candidate implant.
+     */
+    private final int[]           implantCosts;
+
+    /**
+     * Candidate implants.
+     */
+    private final List<Component> implants;
+
+    /**
+     * Experience for advancing from each rank to the next, up to the maximum
+     * rank.
+     */
+    private final int[]           rankCosts;
+
+    /**
+     * Constructs a planner with the specified arguments.
+     * 
+     * @param costs
+     *            calculator for the experience of each advancement
+     * @param candidateAbilities
+     *            abilities which can be learnt
+     * @param candidateImplants
+     *            implants which can be grafted
+     * @param maxRank
+     *            highest rank a player can reach
+     */
+    public AdvancementPlanner(final AdvancementCostCalculator costs,
+            final Collection<Ability> candidateAbilities,
+            final Collection<Component> candidateImplants,
+            final Integer maxRank) {
+        super();
+
+        final List<Ability> sorted; // Abilities sorted by cost
+
+        checkNotNull(costs, "Received a null pointer as costs calculator");
+        checkNotNull(candidateAbilities,
+                "Received a null pointer as abilities");
+        checkNotNull(candidateImplants, "Received a null pointer as implants");
+        checkNotNull(maxRank, "Received a null pointer as maximum rank");
+        checkArgument(candidateAbilities.size() <= Long.SIZE,
+                "At most %s abilities are supported", Long.SIZE);
+        checkArgument(candidateImplants.size() <= Long.SIZE,
+                "At most %s implants are supported", Long.SIZE);
+        checkArgument(maxRank >= 0, "The maximum rank should not be negative");
+
+        sorted = new ArrayList<>();
+        for (final Ability ability : candidateAbilities) {
+            checkNotNull(ability, "Received a null pointer as ability");
+            if (!sorted.contains(ability)) {
+                sorted.add(ability);
+            }
+        }
+        Collections.sort(sorted, new Comparator<Ability>() {
+
+            @Override
+            public final int compare(final Ability left,
+                    final Ability right) {
+                return Integer.compare(costs.getAbilityCost(left),
+                        costs.getAbilityCost(right));
+            }
+
+        });
+        abilities = Collections.unmodifiableList(sorted);
+        abilityCosts = new int[abilities.size()];
+        for (int i = 0; i < abilityCosts.length; i++) {
+            abilityCosts[i] = getCost(costs.getAbilityCost(abilities.get(i)));
+        }
+
+        implants = Collections
+                .unmodifiableList(new ArrayList<>(candidateImplants));
+        implantCosts = new int[implants.size()];
+        for (int i = 0; i < implantCosts.length; i++) {
+            checkNotNull(implants.get(i), "Received a null pointer as implant");
+            implantCosts[i] = getCost(costs.getImplantCost(implants.get(i)));
+        }
+
+        rankCosts = new int[maxRank];
+        for (int rank = 0; rank < maxRank; rank++) {
+            rankCosts[rank] = getCost(costs.getRankCost(rank));
+        }
+    }
+
+    /**
+     * Returns the plans for spending the player's unspent experience.
+     * <p>
+     * Only the plans not dominated by another one are returned. The plans
+     * are sorted from the highest valoration to the lowest. Ties are sorted
+     * by rank, abilities learnt and unspent experience, higher first.
+     * <p>
+     * Valorations are calculated over copies of the player, so it should be
+     * one of the implementations supported by
+     * {@link AdvancementTeamPlayers#copyOf(AdvancementTeamPlayer)}.
+     * 
+     * @param player
+     *            player to plan for
+     * @return the plans for the player
+     */
+    public final List<AdvancementPlan>
+            plan(final AdvancementTeamPlayer player) {
+        checkNotNull(player, "Received a null pointer as player");
+
+        return plan(player,
+                new HashMap<PlayerState, List<PlannedAdvancement>>());
+    }
+
+    /**
+     * Returns the plans for spending the experience of all the players in
+     * the team.
+     * <p>
+     * The team valoration after the plans is calculated over a copy of the
+     * team, where each player follows its best plan. The team itself is not
+     * changed.
+     * 
+     * @param team
+     *            team to plan for
+     * @param calculator
+     *            calculator for the team valoration
+     * @return the plans for the team
+     */
+    public final TeamAdvancementPlan plan(final DefaultAdvancementTeam team,
+            final CostCalculator<AdvancementTeam> calculator) {
+        final DefaultAdvancementTeam                     advanced; // Team copy
+        final Map<Integer, List<AdvancementPlan>>        plans;    // Plans
+        final Map<PlayerState, List<PlannedAdvancement>> cache;    // Memoized
+        List<AdvancementPlan>                            options;  // Options
+
+        checkNotNull(team, "Received a null pointer as team");
+        checkNotNull(calculator, "Received a null pointer as calculator");
+
+        advanced = new DefaultAdvancementTeam(team);
+
+        cache = new HashMap<>();
+        plans = new TreeMap<>();
+        for (int i = 0; i < team.getPlayerCount(); i++) {
+            options = plan(team.getPlayerAt(i), cache);
+            plans.put(team.getPositionAt(i), options);
+
+            // The copy follows the best plan
+            options.get(0).applyTo(advanced.getPlayerAt(i));
+        }
+
+        return new TeamAdvancementPlan(plans, calculator.getCost(team),
+                calculator.getCost(advanced));
+    }
+
+    /**
+     * Validates and unboxes an experience cost.
+     * 
+     * @param cost
+     *            cost to validate
+     * @return the unboxed cost
+     */
+    private final int getCost(final Integer cost) {
+        checkNotNull(cost, "Received a null pointer as experience cost");
+        checkArgument(cost >= 0, "Experience costs should not be negative");
+
+        return cost;
+    }
+
+    /**
+     * Returns the plans which are not dominated by any other.
+     * <p>
+     * Of the plans tied in valoration, experience left and abilities learnt,
+     * only the first one is kept.
+     * 
+     * @param plans
+     *            sorted plans
+     * @return the plans not dominated, in the same order
+     */
+    private final List<AdvancementPlan>
+            getFront(final List<AdvancementPlan> plans) {
+        final List<AdvancementPlan> front;     // Plans not dominated
+        AdvancementPlan             plan;      // Checked plan
+        Boolean                     dominated; // Flag for a dominated plan
+
+        front = new ArrayList<>();
+        for (int i = 0; i < plans.size(); i++) {
+            plan = plans.get(i);
+            dominated = false;
+            for (int j = 0; !dominated && (j < plans.size()); j++) {
+                if (j != i) {
+                    dominated = isDominated(plan, plans.get(j), j < i);
+                }
+            }
+
+            if (!dominated) {
+                front.add(plan);
+            }
+        }
+
+        return front;
+    }
+
+    /**
+     * Returns the state of the player, as seen by the planner.
+     * 
+     * @param player
+     *            player to read
+     * @return the state of the player
+     */
+    private final PlayerState getState(final AdvancementTeamPlayer player) {
+        final Collection<Ability> owned;       // Player abilities
+        long                      ownedMask;   // Candidates owned
+        long                      allowedMask; // Implants allowed
+        int                       rank;        // Player rank
+        int                       experience;  // Player experience
+
+        owned = player.getAbilities();
+        ownedMask = 0;
+        for (int i = 0; i < abilities.size(); i++) {
+            if (owned.contains(abilities.get(i))) {
+                ownedMask |= 1L << i;
+            }
+        }
+
+        allowedMask = 0;
+        for (int i = 0; i < implants.size(); i++) {
+            if (implants.get(i).getRoles().contains(player.getRole())) {
+                allowedMask |= 1L << i;
+            }
+        }
+
+        if (player.getRank() == null) {
+            rank = 0;
+        } else {
+            rank = player.getRank();
+        }
+
+        if (player.getUnspentExperience() == null) {
+            experience = 0;
+        } else {
+            experience = player.getUnspentExperience();
+        }
+
+        return new PlayerState(rank, experience, ownedMask,
+                implants.indexOf(player.getGraftedImplant()), allowedMask);
+    }
+
+    /**
+     * Indicates if the plan is dominated by another one.
+     * <p>
+     * It is dominated if the other plan is at least as good in valoration,
+     * experience left and abilities learnt, and better in one of them. When
+     * both are tied the plan is dominated only if the other one comes first.
+     * 
+     * @param plan
+     *            checked plan
+     * @param other
+     *            plan to compare with
+     * @param first
+     *            flag telling if the other plan comes first
+     * @return {@code true} if the plan is dominated, {@code false} otherwise
+     */
+    private final Boolean isDominated(final AdvancementPlan plan,
+            final AdvancementPlan other, final Boolean first) {
+        final int     valoration; // Valoration comparison
+        final int     unspent;    // Experience left comparison
+        final int     learnt;     // Abilities learnt comparison
+        final Boolean covered;    // Flag for the other plan being as good
+
+        valoration = other.getValoration().compareTo(plan.getValoration());
+        unspent = other.getUnspentExperience()
+                .compareTo(plan.getUnspentExperience());
+        learnt = Integer.compare(other.getAbilities().size(),
+                plan.getAbilities().size());
+
+        covered = (valoration >= 0) && (unspent >= 0) && (learnt >= 0);
+
+        return covered
+                && (first || (valoration > 0) || (unspent > 0) || (learnt > 0));
+    }
+
+    /**
+     * Indicates if the implant can be grafted to the player with the
+     * experience left.
+     * 
+     * @param state
+     *            initial player state
+     * @param implant
+     *            candidate implant
+     * @param remaining
+     *            experience left
+     * @return {@code true} if the implant is affordable, {@code false}
+     *         otherwise
+     */
+    private final Boolean isImplantAffordable(final PlayerState state,
+            final int implant, final int remaining) {
+        return ((state.getAllowedImplants() & (1L << implant)) != 0)
+                && (implant != state.getImplant())
+                && (implantCosts[implant] <= remaining);
+    }
+
+    /**
+     * Returns the front of plans for spending the player's unspent
+     * experience, sorted as returned to the user.
+     * 
+     * @param player
+     *            player to plan for
+     * @param cache
+     *            advancements memoized for each player state
+     * @return the plans for the player
+     */
+    private final List<AdvancementPlan> plan(
+            final AdvancementTeamPlayer player,
+            final Map<PlayerState, List<PlannedAdvancement>> cache) {
+        final PlayerState           state;        // Player state
+        final List<AdvancementPlan> plans;        // Plans found
+        List<PlannedAdvancement>    advancements; // Advancements found
+
+        state = getState(player);
+
+        advancements = cache.get(state);
+        if (advancements == null) {
+            advancements = search(state);
+            cache.put(state, advancements);
+        }
+
+        plans = new ArrayList<>();
+        for (final PlannedAdvancement advancement : advancements) {
+            plans.add(toPlan(player, state, advancement));
+        }
+
+        Collections.sort(plans, new Comparator<AdvancementPlan>() {
+
+            @Override
+            public final int compare(final AdvancementPlan left,
+                    final AdvancementPlan right) {
+                int result; // Comparison result
+
+                result = right.getValoration().compareTo(left.getValoration());
+                if (result == 0) {
+                    result = right.getRank().compareTo(left.getRank());
+                }
+                if (result == 0) {
+                    result = Integer.compare(right.getAbilities().size(),
+                            left.getAbilities().size());
+                }
+                if (result == 0) {
+                    result = right.getUnspentExperience()
+                            .compareTo(left.getUnspentExperience());
+                }
+
+                return result;
+            }
+
+        });
+
+        return getFront(plans);
+    }
+
+    /**
+     * Searches the candidate advancements for the player state.
+     * 
+     * @param state
+     *            player state
+     * @return the candidate advancements
+     */
+    private final List<PlannedAdvancement> search(final PlayerState state) {
+        final List<PlannedAdvancement> found; // Advancements found
+        int                            ranks; // Ranks gained
+        int                            spent; // Experience spent on ranks
+        Boolean                        next;  // Flag for another rank
+
+        found = new ArrayList<>();
+
+        ranks = 0;
+        spent = 0;
+        next = true;
+        while (next) {
+            searchAbilities(state, ranks, NONE, spent, found);
+            for (int i = 0; i < implantCosts.length; i++) {
+                if (isImplantAffordable(state, i,
+                        state.getExperience() - spent)) {
+                    searchAbilities(state, ranks, i, spent + implantCosts[i],
+                            found);
+                }
+            }
+
+            next = ((state.getRank() + ranks) < rankCosts.length)
+                    && ((spent + rankCosts[state.getRank()
+                            + ranks]) <= state.getExperience());
+            if (next) {
+                spent += rankCosts[state.getRank() + ranks];
+                ranks++;
+            }
+        }
+
+        return Collections.unmodifiableList(found);
+    }
+
+    /**
+     * Stores the advancements for the ranks and implant received, followed
+     * by each number of abilities which can be learnt.
+     * <p>
+     * Any set of abilities is dominated by the cheapest set of the same size,
+     * so the abilities are learnt from the cheapest.
+     * 
+     * @param state
+     *            initial player state
+     * @param ranks
+     *            ranks gained
+     * @param implant
+     *            implant grafted
+     * @param spent
+     *            experience spent
+     * @param found
+     *            candidate advancements found
+     */
+    private final void searchAbilities(final PlayerState state,
+            final int ranks, final int implant, final int spent,
+            final List<PlannedAdvancement> found) {
+        long learnt; // Abilities learnt
+        int  total;  // Experience spent
+
+        learnt = 0;
+        total = spent;
+        found.add(new PlannedAdvancement(ranks, learnt, implant, total));
+
+        // Abilities are sorted by cost
+        for (int i = 0; (i < abilityCosts.length)
+                && ((total + abilityCosts[i]) <= state.getExperience()); i++) {
+            if ((state.getOwnedAbilities() & (1L << i)) == 0) {
+                learnt |= 1L << i;
+                total += abilityCosts[i];
+                found.add(
+                        new PlannedAdvancement(ranks, learnt, implant, total));
+            }
+        }
+    }
+
+    /**
+     * Transforms the advancements into a plan for the player.
+     * <p>
+     * The advancements are applied to a copy of the player, which gives the
+     * valoration after following the plan.
+     * 
+     * @param player
+     *            player to plan for
+     * @param state
+     *            player state
+     * @param advancement
+     *            advancements to take
+     * @return the plan for the player
+     */
+    private final AdvancementPlan toPlan(final AdvancementTeamPlayer player,
+            final PlayerState state, final PlannedAdvancement advancement) {
+        final Collection<Ability>   learnt;  // Abilities learnt
+        final AdvancementTeamPlayer copy;    // Advanced player
+        final Integer               rank;    // Rank reached
+        final Integer               unspent; // Experience left
+        final Component             implant; // Implant grafted
+
+        learnt = new ArrayList<>();
+        for (int i = 0; i < abilities.size(); i++) {
+            if ((advancement.getAbilities() & (1L << i)) != 0) {
+                learnt.add(abilities.get(i));
+            }
+        }
+
+        if (advancement.getImplant() == NONE) {
+            implant = null;
+        } else {
+            implant = implants.get(advancement.getImplant());
+        }
+
+        rank = state.getRank() + advancement.getRanks();
+        unspent = state.getExperience() - advancement.getSpent();
+
+        copy = AdvancementTeamPlayers.copyOf(player);
+        copy.setRank(rank);
+        for (final Ability ability : learnt) {
+            copy.addAbility(ability);
+        }
+        if (implant != null) {
+            copy.setGraftedImplant(implant);
+        }
+        copy.setUnspentExperience(unspent);
+
+        return new AdvancementPlan(rank, learnt, implant,
+                advancement.getSpent(), unspent, copy.getValoration());
+    }
+
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.player.advancement;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Serializable;
+
+import com.bernardomg.tabletop.dreadball.model.player.component.Component;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.google.common.math.IntMath;
+
+/**
+ * Advancement cost calculator where abilities and implants have a fixed cost,
+ * and each rank costs more than the previous one.
+ * <p>
+ * Advancing to a rank costs the rank multiplied by the rank cost, so going
+ * from rank 2 to rank 3 costs three times the rank cost.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class LinearAdvancementCostCalculator
+        implements AdvancementCostCalculator, Serializable {
+
+    /**
+     * Serialization id.
+     */
+    private static final long serialVersionUID = -3306425878839528541L;
+
+    /**
+     * Experience for each ability.
+     */
+    private final Integer     abilityCost;
+
+    /**
+     * Experience for each implant.
+     */
+    private final Integer     implantCost;
+
+    /**
+     * Experience for each rank, multiplied by the rank reached.
+     */
+    private final Integer     rankCost;
+
+    /**
+     * Constructs a calculator with the specified costs.
+     * 
+     * @param rank
+     *            experience for each rank
+     * @param ability
+     *            experience for each ability
+     * @param implant
+     *            experience for each implant
+     */
+    public LinearAdvancementCostCalculator(final Integer rank,
+            final Integer ability, final Integer implant) {
+        super();
+
+        rankCost = checkNotNull(rank, "Received a null pointer as rank cost");
+        abilityCost = checkNotNull(ability,
+                "Received a null pointer as ability cost");
+        implantCost = checkNotNull(implant,
+                "Received a null pointer as implant cost");
+
+        checkArgument(rankCost >= 0, "The rank cost should not be negative");
+        checkArgument(abilityCost >= 0,
+                "The ability cost should not be negative");
+        checkArgument(implantCost >= 0,
+                "The implant cost should not be negative");
+    }
+
+    @Override
+    public final Integer getAbilityCost(final Ability ability) {
+        return abilityCost;
+    }
+
+    @Override
+    public final Integer getImplantCost(final Component implant) {
+        return implantCost;
+    }
+
+    @Override
+    public final Integer getRankCost(final Integer rank) {
+        return IntMath.checkedMultiply(IntMath.checkedAdd(rank, 1),
+                rankCost);
+    }
+
+}
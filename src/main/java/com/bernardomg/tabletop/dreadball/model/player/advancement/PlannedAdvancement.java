@@ -0,0 +1,106 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.player.advancement;
+
+/**
+ * Advancements found by the search, before being turned into a plan for a
+ * specific player.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+final class PlannedAdvancement {
+
+    /**
+     * Candidate abilities learnt, as a bitmask.
+     */
+    private final long abilities;
+
+    /**
+     * Candidate implant grafted, or {@link AdvancementPlanner#NONE} to keep
+     * the current one.
+     */
+    private final int  implant;
+
+    /**
+     * Ranks gained.
+     */
+    private final int  ranks;
+
+    /**
+     * Experience spent.
+     */
+    private final int  spent;
+
+    /**
+     * Constructs the advancements with the specified values.
+     * 
+     * @param gained
+     *            ranks gained
+     * @param learnt
+     *            candidate abilities learnt
+     * @param grafted
+     *            candidate implant grafted
+     * @param experience
+     *            experience spent
+     */
+    PlannedAdvancement(final int gained, final long learnt, final int grafted,
+            final int experience) {
+        super();
+
+        ranks = gained;
+        abilities = learnt;
+        implant = grafted;
+        spent = experience;
+    }
+
+    /**
+     * Returns the candidate abilities learnt.
+     * 
+     * @return the candidate abilities learnt, as a bitmask
+     */
+    final long getAbilities() {
+        return abilities;
+    }
+
+    /**
+     * Returns the candidate implant grafted.
+     * 
+     * @return the candidate implant grafted
+     */
+    final int getImplant() {
+        return implant;
+    }
+
+    /**
+     * Returns the ranks gained.
+     * 
+     * @return the ranks gained
+     */
+    final int getRanks() {
+        return ranks;
+    }
+
+    /**
+     * Returns the experience spent.
+     * 
+     * @return the experience spent
+     */
+    final int getSpent() {
+        return spent;
+    }
+
+}
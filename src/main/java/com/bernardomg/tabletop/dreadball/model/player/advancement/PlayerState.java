@@ -0,0 +1,164 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.player.advancement;
+
+import java.util.Objects;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * State of a player, as seen by the planner.
+ * <p>
+ * Players with the same state have the same advancements available, so
+ * this is used as the key for memoizing the searches.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+final class PlayerState {
+
+    /**
+     * Candidate implants allowed for the player, as a bitmask.
+     */
+    private final long allowedImplants;
+
+    /**
+     * Unspent experience.
+     */
+    private final int  experience;
+
+    /**
+     * Candidate implant currently grafted, or {@link AdvancementPlanner#NONE}
+     * if it is not a candidate.
+     */
+    private final int  implant;
+
+    /**
+     * Candidate abilities the player already has, as a bitmask.
+     */
+    private final long ownedAbilities;
+
+    /**
+     * Current rank.
+     */
+    private final int  rank;
+
+    /**
+     * Constructs a state with the specified values.
+     * 
+     * @param currentRank
+     *            current rank
+     * @param unspent
+     *            unspent experience
+     * @param owned
+     *            candidate abilities the player already has
+     * @param grafted
+     *            candidate implant currently grafted
+     * @param allowed
+     *            candidate implants allowed for the player
+     */
+    PlayerState(final int currentRank, final int unspent, final long owned,
+            final int grafted, final long allowed) {
+        super();
+
+        rank = currentRank;
+        experience = unspent;
+        ownedAbilities = owned;
+        implant = grafted;
+        allowedImplants = allowed;
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null) {
+            return false;
+        }
+
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final PlayerState other;
+
+        other = (PlayerState) obj;
+        return (rank == other.rank) && (experience == other.experience)
+                && (ownedAbilities == other.ownedAbilities)
+                && (implant == other.implant)
+                && (allowedImplants == other.allowedImplants);
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(rank, experience, ownedAbilities, implant,
+                allowedImplants);
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("rank", rank)
+                .add("experience", experience).toString();
+    }
+
+    /**
+     * Returns the candidate implants allowed for the player.
+     * 
+     * @return the candidate implants allowed, as a bitmask
+     */
+    final long getAllowedImplants() {
+        return allowedImplants;
+    }
+
+    /**
+     * Returns the unspent experience.
+     * 
+     * @return the unspent experience
+     */
+    final int getExperience() {
+        return experience;
+    }
+
+    /**
+     * Returns the candidate implant currently grafted.
+     * 
+     * @return the candidate implant currently grafted
+     */
+    final int getImplant() {
+        return implant;
+    }
+
+    /**
+     * Returns the candidate abilities the player already has.
+     * 
+     * @return the candidate abilities owned, as a bitmask
+     */
+    final long getOwnedAbilities() {
+        return ownedAbilities;
+    }
+
+    /**
+     * Returns the current rank.
+     * 
+     * @return the current rank
+     */
+    final int getRank() {
+        return rank;
+    }
+
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.player.advancement;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Plans for spending the experience of all the players in a team.
+ * <p>
+ * For each position this keeps all the plans found, and the best of them,
+ * which is the one giving the highest valoration. The team valoration is
+ * reported both before and after following the best plans.
+ * <p>
+ * This is an immutable implementation.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TeamAdvancementPlan {
+
+    /**
+     * Best plan for each position.
+     */
+    private final Map<Integer, AdvancementPlan>       bestPlans = new TreeMap<>();
+
+    /**
+     * Team valoration before following the plans.
+     */
+    private final Integer                             currentValoration;
+
+    /**
+     * Team valoration after following the best plans.
+     */
+    private final Integer                             plannedValoration;
+
+    /**
+     * All the plans for each position.
+     */
+    private final Map<Integer, List<AdvancementPlan>> plans     = new TreeMap<>();
+
+    /**
+     * Constructs a team plan with the specified values.
+     * 
+     * @param positionPlans
+     *            all the plans for each position, sorted from best to worst
+     * @param current
+     *            team valoration before following the plans
+     * @param planned
+     *            team valoration after following the best plans
+     */
+    public TeamAdvancementPlan(
+            final Map<Integer, List<AdvancementPlan>> positionPlans,
+            final Integer current, final Integer planned) {
+        super();
+
+        checkNotNull(positionPlans, "Received a null pointer as plans");
+
+        currentValoration = checkNotNull(current,
+                "Received a null pointer as current valoration");
+        plannedValoration = checkNotNull(planned,
+                "Received a null pointer as planned valoration");
+
+        for (final Map.Entry<Integer, List<AdvancementPlan>> entry : positionPlans
+                .entrySet()) {
+            plans.put(entry.getKey(),
+                    Collections.unmodifiableList(
+                            new ArrayList<>(entry.getValue())));
+            if (!entry.getValue().isEmpty()) {
+                bestPlans.put(entry.getKey(), entry.getValue().get(0));
+            }
+        }
+    }
+
+    /**
+     * Returns the best plan for each position.
+     * 
+     * @return the best plan for each position
+     */
+    public final Map<Integer, AdvancementPlan> getBestPlans() {
+        return Collections.unmodifiableMap(bestPlans);
+    }
+
+    /**
+     * Returns the team valoration before following the plans.
+     * 
+     * @return the current team valoration
+     */
+    public final Integer getCurrentValoration() {
+        return currentValoration;
+    }
+
+    /**
+     * Returns the team valoration after following the best plans.
+     * 
+     * @return the planned team valoration
+     */
+    public final Integer getPlannedValoration() {
+        return plannedValoration;
+    }
+
+    /**
+     * Returns all the plans for each position, sorted from best to worst.
+     * 
+     * @return all the plans for each position
+     */
+    public final Map<Integer, List<AdvancementPlan>> getPlans() {
+        return Collections.unmodifiableMap(plans);
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("currentValoration", currentValoration)
+                .add("plannedValoration", plannedValoration)
+                .add("bestPlans", bestPlans).toString();
+    }
+
+}
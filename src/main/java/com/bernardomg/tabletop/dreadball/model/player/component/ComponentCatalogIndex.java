@@ -0,0 +1,269 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.player.component;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+
+/**
+ * Index for a components catalog, telling which components can be fitted to
+ * each role at each location.
+ * <p>
+ * The components for each role and location are sorted by cost, from the
+ * cheapest, and then by name. The locations keep the order in which they were
+ * found on the catalog.
+ * <p>
+ * All the queries are precomputed when the index is created, and the
+ * collections returned are unmodifiable, so the index can be shared between
+ * threads.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class ComponentCatalogIndex {
+
+    /**
+     * Locations in the catalog.
+     */
+    private final Collection<ComponentLocation>                      locations;
+
+    /**
+     * Compatible components for each role, grouped by location.
+     */
+    private final Map<Role, Map<ComponentLocation, List<Component>>> options = new HashMap<>();
+
+    /**
+     * Constructs an index for the catalog.
+     * 
+     * @param catalog
+     *            components to index
+     */
+    public ComponentCatalogIndex(
+            final Collection<? extends Component> catalog) {
+        super();
+
+        final Map<ComponentLocation, List<Component>> located;     // By location
+        final Comparator<Component>                   byCost;      // Sorting
+        Map<ComponentLocation, List<Component>>       roleOptions; // For a role
+        List<Component>                               compatible;  // Compatible
+
+        checkNotNull(catalog, "Received a null pointer as catalog");
+
+        located = new LinkedHashMap<>();
+        for (final Component component : catalog) {
+            checkNotNull(component, "Received a null pointer as component");
+
+            if (!located.containsKey(component.getLocation())) {
+                located.put(component.getLocation(),
+                        new ArrayList<Component>());
+            }
+            located.get(component.getLocation()).add(component);
+        }
+
+        locations = Collections
+                .unmodifiableCollection(new ArrayList<>(located.keySet()));
+
+        byCost = new Comparator<Component>() {
+
+            @Override
+            public final int compare(final Component left,
+                    final Component right) {
+                return compareByCost(left, right);
+            }
+
+        };
+
+        for (final Role role : getRoles(catalog)) {
+            roleOptions = new LinkedHashMap<>();
+            for (final Map.Entry<ComponentLocation, List<Component>> entry : located
+                    .entrySet()) {
+                compatible = new ArrayList<>();
+                for (final Component component : entry.getValue()) {
+                    if (component.getRoles().contains(role)) {
+                        compatible.add(component);
+                    }
+                }
+
+                if (!compatible.isEmpty()) {
+                    Collections.sort(compatible, byCost);
+                    roleOptions.put(entry.getKey(),
+                            Collections.unmodifiableList(compatible));
+                }
+            }
+
+            options.put(role, Collections.unmodifiableMap(roleOptions));
+        }
+    }
+
+    /**
+     * Returns the components which can be fitted to the role at the location,
+     * sorted by cost.
+     * 
+     * @param role
+     *            role of the player
+     * @param location
+     *            location to fit
+     * @return the compatible components, sorted by cost
+     */
+    public final List<Component> getComponents(final Role role,
+            final ComponentLocation location) {
+        final List<Component> components; // Compatible components
+
+        checkNotNull(location, "Received a null pointer as location");
+
+        if (getOptions(role).containsKey(location)) {
+            components = getOptions(role).get(location);
+        } else {
+            components = Collections.emptyList();
+        }
+
+        return components;
+    }
+
+    /**
+     * Returns the components which can be fitted to the player, for each
+     * location with at least one of them.
+     * <p>
+     * A valid loadout takes at most one component from each of these
+     * locations.
+     * 
+     * @param player
+     *            player to fit
+     * @return the compatible components for each location
+     */
+    public final Map<ComponentLocation, List<Component>>
+            getLoadoutOptions(final TeamPlayer player) {
+        checkNotNull(player, "Received a null pointer as player");
+
+        return getOptions(player.getRole());
+    }
+
+    /**
+     * Returns all the locations in the catalog.
+     * 
+     * @return all the locations in the catalog
+     */
+    public final Collection<ComponentLocation> getLocations() {
+        return locations;
+    }
+
+    /**
+     * Indicates if the components are a valid loadout for the player.
+     * <p>
+     * This requires all of them to support the player's role, and to be at
+     * different locations.
+     * 
+     * @param player
+     *            player to fit
+     * @param loadout
+     *            components to check
+     * @return {@code true} if the loadout is valid, {@code false} otherwise
+     */
+    public final Boolean isValidLoadout(final TeamPlayer player,
+            final Collection<? extends Component> loadout) {
+        final Collection<ComponentLocation> used;  // Locations already used
+        Boolean                             valid; // Validity flag
+
+        checkNotNull(player, "Received a null pointer as player");
+        checkNotNull(loadout, "Received a null pointer as loadout");
+
+        used = new HashSet<>();
+        valid = true;
+        for (final Component component : loadout) {
+            if ((!component.getRoles().contains(player.getRole()))
+                    || (!used.add(component.getLocation()))) {
+                valid = false;
+            }
+        }
+
+        return valid;
+    }
+
+    /**
+     * Compares two components by cost, and then by name.
+     * 
+     * @param left
+     *            first component
+     * @param right
+     *            second component
+     * @return the comparison result
+     */
+    private final int compareByCost(final Component left,
+            final Component right) {
+        int result; // Comparison result
+
+        result = left.getCost().compareTo(right.getCost());
+        if (result == 0) {
+            result = left.getName().compareTo(right.getName());
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the compatible components for the role, by location.
+     * 
+     * @param role
+     *            role to fit
+     * @return the compatible components for the role
+     */
+    private final Map<ComponentLocation, List<Component>>
+            getOptions(final Role role) {
+        final Map<ComponentLocation, List<Component>> roleOptions; // Options
+
+        checkNotNull(role, "Received a null pointer as role");
+
+        if (options.containsKey(role)) {
+            roleOptions = options.get(role);
+        } else {
+            roleOptions = Collections.emptyMap();
+        }
+
+        return roleOptions;
+    }
+
+    /**
+     * Returns all the roles supported by the components in the catalog.
+     * 
+     * @param catalog
+     *            catalog to read
+     * @return all the roles supported by the catalog
+     */
+    private final Collection<Role>
+            getRoles(final Collection<? extends Component> catalog) {
+        final Collection<Role> roles; // Supported roles
+
+        roles = new HashSet<>();
+        for (final Component component : catalog) {
+            roles.addAll(component.getRoles());
+        }
+
+        return roles;
+    }
+
+}
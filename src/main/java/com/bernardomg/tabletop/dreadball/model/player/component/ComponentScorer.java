@@ -0,0 +1,37 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.player.component;
+
+/**
+ * Gives a score to components, telling how desirable they are.
+ * <p>
+ * The score of a loadout is the sum of the scores of its components.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public interface ComponentScorer {
+
+    /**
+     * Returns the score for the component.
+     * 
+     * @param component
+     *            component to score
+     * @return the score for the component
+     */
+    public Integer getScore(final Component component);
+
+}
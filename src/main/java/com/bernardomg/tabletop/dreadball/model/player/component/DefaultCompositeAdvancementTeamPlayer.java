@@ -25,6 +25,7 @@
 import java.util.Objects;
 
 import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayers;
 import com.bernardomg.tabletop.dreadball.model.player.DefaultAdvancementTeamPlayer;
 import com.bernardomg.tabletop.dreadball.model.player.Role;
 import com.bernardomg.tabletop.dreadball.model.player.TeamPlayerValorationCalculator;
@@ -101,6 +102,24 @@ public DefaultCompositeAdvancementTeamPlayer(final String nameTemplate,
         }
     }
 
+    /**
+     * Constructs a copy of the received player.
+     * <p>
+     * The components are shared, while the base player is copied.
+     * 
+     * @param source
+     *            player to copy
+     */
+    public DefaultCompositeAdvancementTeamPlayer(
+            final DefaultCompositeAdvancementTeamPlayer source) {
+        super();
+
+        checkNotNull(source, "Received a null pointer as source player");
+
+        baseTeamPlayer = AdvancementTeamPlayers.copyOf(source.baseTeamPlayer);
+        components.addAll(source.components);
+    }
+
     @Override
     public final void addAbility(final Ability ability) {
         getBaseTeamPlayer().addAbility(ability);
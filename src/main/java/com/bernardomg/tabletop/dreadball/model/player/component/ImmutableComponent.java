@@ -26,6 +26,7 @@
 
 import com.bernardomg.tabletop.dreadball.model.player.Role;
 import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.AbilitySet;
 import com.bernardomg.tabletop.dreadball.model.player.stats.Attributes;
 import com.google.common.base.MoreObjects;
 
@@ -46,7 +47,7 @@ public final class ImmutableComponent implements Component, Serializable {
     /**
      * Abilities given by this component.
      */
-    private final Collection<Ability> abilitiesGiven   = new LinkedHashSet<Ability>();
+    private final Collection<Ability> abilitiesGiven   = new AbilitySet();
 
     /**
      * Attributes given by this component.
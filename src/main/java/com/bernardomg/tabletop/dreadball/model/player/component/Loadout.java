@@ -0,0 +1,106 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.player.component;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Components chosen for a player, along their total cost and score.
+ * <p>
+ * This is an immutable class.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class Loadout {
+
+    /**
+     * Chosen components.
+     */
+    private final List<Component> components;
+
+    /**
+     * Total cost of the components.
+     */
+    private final Integer         cost;
+
+    /**
+     * Total score of the components.
+     */
+    private final Integer         score;
+
+    /**
+     * Constructs a loadout with the specified arguments.
+     * 
+     * @param chosen
+     *            chosen components
+     * @param totalCost
+     *            total cost of the components
+     * @param totalScore
+     *            total score of the components
+     */
+    public Loadout(final Collection<? extends Component> chosen,
+            final Integer totalCost, final Integer totalScore) {
+        super();
+
+        checkNotNull(chosen, "Received a null pointer as components");
+
+        components = Collections.unmodifiableList(new ArrayList<>(chosen));
+        cost = checkNotNull(totalCost, "Received a null pointer as cost");
+        score = checkNotNull(totalScore, "Received a null pointer as score");
+    }
+
+    /**
+     * Returns the chosen components.
+     * 
+     * @return the chosen components
+     */
+    public final List<Component> getComponents() {
+        return components;
+    }
+
+    /**
+     * Returns the total cost of the components.
+     * 
+     * @return the total cost of the components
+     */
+    public final Integer getCost() {
+        return cost;
+    }
+
+    /**
+     * Returns the total score of the components.
+     * 
+     * @return the total score of the components
+     */
+    public final Integer getScore() {
+        return score;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("components", components)
+                .add("cost", cost).add("score", score).toString();
+    }
+
+}
@@ -0,0 +1,284 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.player.component;
+
+import java.util.Arrays;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Branch and bound search for the best loadout, starting from a fixed prefix
+ * of choices.
+ * <p>
+ * The options for each location should be sorted by cost, and their scores
+ * should grow along their costs, so the best option affordable with a budget
+ * is the most expensive one inside it. This allows bounding the score
+ * reachable from each node, and pruning the branches which can't beat the
+ * best score found, which is shared between all the searches running in
+ * parallel.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+final class LoadoutSearch extends RecursiveAction {
+
+    /**
+     * Value for a location without component.
+     */
+    static final int            NONE             = -1;
+
+    /**
+     * Serialization id.
+     */
+    private static final long   serialVersionUID = -2411532815315811004L;
+
+    /**
+     * Best score found by any search.
+     */
+    private final AtomicInteger bestFound;
+
+    /**
+     * Options chosen for the best loadout found by this search.
+     */
+    private final int[]         bestChoices;
+
+    /**
+     * Cost of the best loadout found by this search.
+     */
+    private int                 bestCost;
+
+    /**
+     * Score of the best loadout found by this search.
+     */
+    private int                 bestScore;
+
+    /**
+     * Maximum cost for the loadout.
+     */
+    private final int           budget;
+
+    /**
+     * Options chosen on the current branch.
+     */
+    private final int[]         choices;
+
+    /**
+     * Cost of each option, by location.
+     */
+    private final int[][]       costs;
+
+    /**
+     * Score of each option, by location.
+     */
+    private final int[][]       scores;
+
+    /**
+     * Number of locations fixed by the prefix.
+     */
+    private final int           start;
+
+    /**
+     * Constructs a search with the specified arguments.
+     * 
+     * @param optionCosts
+     *            cost of each option, by location
+     * @param optionScores
+     *            score of each option, by location
+     * @param maxCost
+     *            maximum cost for the loadout
+     * @param shared
+     *            best score found by any search
+     * @param prefix
+     *            options fixed for the first locations
+     */
+    LoadoutSearch(final int[][] optionCosts, final int[][] optionScores,
+            final int maxCost, final AtomicInteger shared,
+            final int[] prefix) {
+        super();
+
+        costs = optionCosts;
+        scores = optionScores;
+        budget = maxCost;
+        bestFound = shared;
+        start = prefix.length;
+
+        choices = Arrays.copyOf(prefix, costs.length);
+        Arrays.fill(choices, start, choices.length, NONE);
+        bestChoices = new int[costs.length];
+        Arrays.fill(bestChoices, NONE);
+        bestCost = 0;
+        bestScore = Integer.MIN_VALUE;
+    }
+
+    @Override
+    protected final void compute() {
+        int cost;  // Cost of the prefix
+        int score; // Score of the prefix
+
+        cost = 0;
+        score = 0;
+        for (int location = 0; location < start; location++) {
+            if (choices[location] != NONE) {
+                cost += costs[location][choices[location]];
+                score += scores[location][choices[location]];
+            }
+        }
+
+        if (cost <= budget) {
+            search(start, cost, score);
+        }
+    }
+
+    /**
+     * Returns the options chosen for the best loadout found.
+     * 
+     * @return the options chosen for the best loadout found
+     */
+    final int[] getBestChoices() {
+        return bestChoices;
+    }
+
+    /**
+     * Returns the cost of the best loadout found.
+     * 
+     * @return the cost of the best loadout found
+     */
+    final int getBestCost() {
+        return bestCost;
+    }
+
+    /**
+     * Returns the score of the best loadout found, or
+     * {@code Integer.MIN_VALUE} if no loadout was valid.
+     * 
+     * @return the score of the best loadout found
+     */
+    final int getBestScore() {
+        return bestScore;
+    }
+
+    /**
+     * Returns the highest score reachable from the location with the
+     * remaining budget.
+     * <p>
+     * Each location is bounded independently, so the real score may be lower.
+     * 
+     * @param location
+     *            first location to bound
+     * @param remaining
+     *            budget remaining
+     * @return the highest score reachable
+     */
+    private final int bound(final int location, final int remaining) {
+        int bound;      // Score bound
+        int affordable; // Best option affordable
+
+        bound = 0;
+        for (int i = location; i < costs.length; i++) {
+            affordable = getAffordable(i, remaining);
+            if (affordable != NONE) {
+                bound += scores[i][affordable];
+            }
+        }
+
+        return bound;
+    }
+
+    /**
+     * Returns the most expensive option for the location inside the budget.
+     * 
+     * @param location
+     *            location to check
+     * @param remaining
+     *            budget remaining
+     * @return the index of the option, or {@link #NONE} if no option is
+     *         affordable
+     */
+    private final int getAffordable(final int location, final int remaining) {
+        int index; // Search result
+
+        index = Arrays.binarySearch(costs[location], remaining);
+        if (index >= 0) {
+            // Equal costs may follow
+            while ((index + 1 < costs[location].length)
+                    && (costs[location][index + 1] == remaining)) {
+                index++;
+            }
+        } else {
+            index = -(index + 1) - 1;
+        }
+
+        return index;
+    }
+
+    /**
+     * Stores the current branch if it is better than the best one found.
+     * 
+     * @param cost
+     *            cost of the branch
+     * @param score
+     *            score of the branch
+     */
+    private final void record(final int cost, final int score) {
+        int found; // Best score shared between searches
+
+        if ((score > bestScore)
+                || ((score == bestScore) && (cost < bestCost))) {
+            bestScore = score;
+            bestCost = cost;
+            System.arraycopy(choices, 0, bestChoices, 0, choices.length);
+
+            // Raised only if no other search found a better one
+            found = bestFound.get();
+            while ((score > found)
+                    && (!bestFound.compareAndSet(found, score))) {
+                found = bestFound.get();
+            }
+        }
+    }
+
+    /**
+     * Searches the options from the location.
+     * 
+     * @param location
+     *            location to choose
+     * @param cost
+     *            cost of the branch
+     * @param score
+     *            score of the branch
+     */
+    private final void search(final int location, final int cost,
+            final int score) {
+        final int last; // Most expensive option affordable
+
+        if (location == costs.length) {
+            record(cost, score);
+        } else if ((score + bound(location, budget - cost)) >= bestFound
+                .get()) {
+            // Better options are tried first
+            last = getAffordable(location, budget - cost);
+            for (int option = last; option >= 0; option--) {
+                choices[location] = option;
+                search(location + 1, cost + costs[location][option],
+                        score + scores[location][option]);
+            }
+
+            choices[location] = NONE;
+            search(location + 1, cost, score);
+        }
+    }
+
+}
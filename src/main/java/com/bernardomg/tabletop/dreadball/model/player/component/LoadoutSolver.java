@@ -0,0 +1,317 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.player.component;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+
+/**
+ * Finds the loadout with the best score for a player, inside a cost budget.
+ * <p>
+ * A loadout takes at most one component for each location, and all its
+ * components should support the player's role. The compatible components
+ * are read from a {@link ComponentCatalogIndex}, and scored with a
+ * {@link ComponentScorer}.
+ * <p>
+ * The search is a branch and bound over the locations. Before searching, the
+ * components which can't be part of the best loadout are discarded: those
+ * without a positive score, those over the budget, and those which are not
+ * better than a cheaper component at the same location. The remaining
+ * branches are pruned when even the best components affordable at each
+ * location can't beat the best loadout found.
+ * <p>
+ * In the parallel mode the branches for the first location are searched in
+ * a {@code ForkJoinPool}, sharing the best score found for pruning.
+ * <p>
+ * When several loadouts have the best score, the cheapest one is returned.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class LoadoutSolver {
+
+    /**
+     * Index with the compatible components.
+     */
+    private final ComponentCatalogIndex index;
+
+    /**
+     * Scorer for the components.
+     */
+    private final ComponentScorer       scorer;
+
+    /**
+     * Constructs a solver with the specified arguments.
+     * 
+     * @param catalogIndex
+     *            index with the compatible components
+     * @param componentScorer
+     *            scorer for the components
+     */
+    public LoadoutSolver(final ComponentCatalogIndex catalogIndex,
+            final ComponentScorer componentScorer) {
+        super();
+
+        index = checkNotNull(catalogIndex,
+                "Received a null pointer as catalog index");
+        scorer = checkNotNull(componentScorer,
+                "Received a null pointer as scorer");
+    }
+
+    /**
+     * Returns the best loadout for the player inside the budget.
+     * 
+     * @param player
+     *            player to fit
+     * @param budget
+     *            maximum cost for the loadout
+     * @return the best loadout for the player
+     */
+    public final Loadout solve(final TeamPlayer player, final Integer budget) {
+        final List<List<Component>> options; // Candidate components
+        final LoadoutSearch         search;  // Sequential search
+
+        options = getOptions(player, budget);
+
+        search = new LoadoutSearch(getCosts(options), getScores(options),
+                budget, new AtomicInteger(0), new int[0]);
+        search.invoke();
+
+        return toLoadout(options, search);
+    }
+
+    /**
+     * Returns the best loadout for the player inside the budget, searching
+     * in parallel.
+     * 
+     * @param player
+     *            player to fit
+     * @param budget
+     *            maximum cost for the loadout
+     * @param pool
+     *            pool where the search is run
+     * @return the best loadout for the player
+     */
+    public final Loadout solve(final TeamPlayer player, final Integer budget,
+            final ForkJoinPool pool) {
+        final List<List<Component>>     options;  // Candidate components
+        final int[][]                   costs;    // Candidate costs
+        final int[][]                   scores;   // Candidate scores
+        final AtomicInteger             best;     // Best score found
+        final Collection<LoadoutSearch> searches; // Parallel searches
+        LoadoutSearch                   result;   // Best search
+
+        checkNotNull(pool, "Received a null pointer as pool");
+
+        options = getOptions(player, budget);
+        costs = getCosts(options);
+        scores = getScores(options);
+        best = new AtomicInteger(0);
+
+        searches = new ArrayList<>();
+        if (options.isEmpty()) {
+            searches.add(new LoadoutSearch(costs, scores, budget, best,
+                    new int[0]));
+        } else {
+            // A search for each option of the first location
+            searches.add(new LoadoutSearch(costs, scores, budget, best,
+                    new int[] { LoadoutSearch.NONE }));
+            for (int option = 0; option < costs[0].length; option++) {
+                searches.add(new LoadoutSearch(costs, scores, budget, best,
+                        new int[] { option }));
+            }
+        }
+
+        for (final LoadoutSearch search : searches) {
+            pool.execute(search);
+        }
+
+        result = null;
+        for (final LoadoutSearch search : searches) {
+            search.join();
+            if ((result == null) || isBetter(search, result)) {
+                result = search;
+            }
+        }
+
+        return toLoadout(options, result);
+    }
+
+    /**
+     * Returns the candidate costs, by location.
+     * 
+     * @param options
+     *            candidate components
+     * @return the candidate costs
+     */
+    private final int[][] getCosts(final List<List<Component>> options) {
+        final int[][] costs; // Candidate costs
+
+        costs = new int[options.size()][];
+        for (int location = 0; location < costs.length; location++) {
+            costs[location] = new int[options.get(location).size()];
+            for (int option = 0; option < costs[location].length; option++) {
+                costs[location][option] = options.get(location).get(option)
+                        .getCost();
+            }
+        }
+
+        return costs;
+    }
+
+    /**
+     * Returns the candidate components for each location.
+     * <p>
+     * Each location keeps its components sorted by cost, and only those which
+     * have a better score than all the cheaper ones. The locations are sorted
+     * by their best score, so the best branches are found earlier.
+     * 
+     * @param player
+     *            player to fit
+     * @param budget
+     *            maximum cost for the loadout
+     * @return the candidate components for each location
+     */
+    private final List<List<Component>> getOptions(final TeamPlayer player,
+            final Integer budget) {
+        final List<List<Component>> options; // Candidate components
+        List<Component>             located; // Candidates for a location
+        Component                   last;    // Last candidate kept
+
+        checkNotNull(player, "Received a null pointer as player");
+        checkNotNull(budget, "Received a null pointer as budget");
+        checkArgument(budget >= 0, "The budget should not be negative");
+
+        options = new ArrayList<>();
+        for (final List<Component> components : index
+                .getLoadoutOptions(player).values()) {
+            located = new ArrayList<>();
+            for (final Component component : components) {
+                if ((component.getCost() <= budget)
+                        && (scorer.getScore(component) > 0)) {
+                    if (located.isEmpty()) {
+                        located.add(component);
+                    } else {
+                        last = located.get(located.size() - 1);
+                        if (scorer.getScore(component) > scorer
+                                .getScore(last)) {
+                            if (component.getCost().equals(last.getCost())) {
+                                // Same cost, but a better score
+                                located.remove(located.size() - 1);
+                            }
+                            located.add(component);
+                        }
+                    }
+                }
+            }
+
+            if (!located.isEmpty()) {
+                options.add(located);
+            }
+        }
+
+        Collections.sort(options, new Comparator<List<Component>>() {
+
+            @Override
+            public final int compare(final List<Component> left,
+                    final List<Component> right) {
+                return Integer.compare(
+                        scorer.getScore(right.get(right.size() - 1)),
+                        scorer.getScore(left.get(left.size() - 1)));
+            }
+
+        });
+
+        return options;
+    }
+
+    /**
+     * Returns the candidate scores, by location.
+     * 
+     * @param options
+     *            candidate components
+     * @return the candidate scores
+     */
+    private final int[][] getScores(final List<List<Component>> options) {
+        final int[][] scores; // Candidate scores
+
+        scores = new int[options.size()][];
+        for (int location = 0; location < scores.length; location++) {
+            scores[location] = new int[options.get(location).size()];
+            for (int option = 0; option < scores[location].length; option++) {
+                scores[location][option] = scorer
+                        .getScore(options.get(location).get(option));
+            }
+        }
+
+        return scores;
+    }
+
+    /**
+     * Indicates if the first search found a better loadout than the second.
+     * 
+     * @param search
+     *            search to check
+     * @param other
+     *            search to compare with
+     * @return {@code true} if the first search is better, {@code false}
+     *         otherwise
+     */
+    private final Boolean isBetter(final LoadoutSearch search,
+            final LoadoutSearch other) {
+        return (search.getBestScore() > other.getBestScore())
+                || ((search.getBestScore() == other.getBestScore())
+                        && (search.getBestCost() < other.getBestCost()));
+    }
+
+    /**
+     * Transforms the best choices of a search into a loadout.
+     * 
+     * @param options
+     *            candidate components
+     * @param search
+     *            finished search
+     * @return the loadout for the search
+     */
+    private final Loadout toLoadout(final List<List<Component>> options,
+            final LoadoutSearch search) {
+        final Collection<Component> chosen;  // Chosen components
+        final int[]                 choices; // Chosen options
+
+        choices = search.getBestChoices();
+
+        chosen = new ArrayList<>();
+        for (int location = 0; location < choices.length; location++) {
+            if (choices[location] != LoadoutSearch.NONE) {
+                chosen.add(options.get(location).get(choices[location]));
+            }
+        }
+
+        return new Loadout(chosen, search.getBestCost(),
+                search.getBestScore());
+    }
+
+}
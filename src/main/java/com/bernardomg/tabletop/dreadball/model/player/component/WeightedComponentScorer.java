@@ -0,0 +1,126 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.player.component;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Serializable;
+
+import com.bernardomg.tabletop.dreadball.model.player.stats.Attributes;
+
+/**
+ * Scores components by weighting the attributes and abilities they grant.
+ * <p>
+ * Each attribute is multiplied by its weight, and each ability adds the
+ * abilities weight. Weights may be negative, for those attributes where a
+ * lower value is better.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class WeightedComponentScorer
+        implements ComponentScorer, Serializable {
+
+    /**
+     * Serialization id.
+     */
+    private static final long serialVersionUID = 6209436734201571394L;
+
+    /**
+     * Weight for each ability.
+     */
+    private final Integer     abilityWeight;
+
+    /**
+     * Weight for the armor.
+     */
+    private final Integer     armorWeight;
+
+    /**
+     * Weight for the movement.
+     */
+    private final Integer     movementWeight;
+
+    /**
+     * Weight for the skill.
+     */
+    private final Integer     skillWeight;
+
+    /**
+     * Weight for the speed.
+     */
+    private final Integer     speedWeight;
+
+    /**
+     * Weight for the strength.
+     */
+    private final Integer     strengthWeight;
+
+    /**
+     * Constructs a scorer with the specified weights.
+     * 
+     * @param armor
+     *            weight for the armor
+     * @param movement
+     *            weight for the movement
+     * @param skill
+     *            weight for the skill
+     * @param speed
+     *            weight for the speed
+     * @param strength
+     *            weight for the strength
+     * @param ability
+     *            weight for each ability
+     */
+    public WeightedComponentScorer(final Integer armor, final Integer movement,
+            final Integer skill, final Integer speed, final Integer strength,
+            final Integer ability) {
+        super();
+
+        armorWeight = checkNotNull(armor,
+                "Received a null pointer as armor weight");
+        movementWeight = checkNotNull(movement,
+                "Received a null pointer as movement weight");
+        skillWeight = checkNotNull(skill,
+                "Received a null pointer as skill weight");
+        speedWeight = checkNotNull(speed,
+                "Received a null pointer as speed weight");
+        strengthWeight = checkNotNull(strength,
+                "Received a null pointer as strength weight");
+        abilityWeight = checkNotNull(ability,
+                "Received a null pointer as ability weight");
+    }
+
+    @Override
+    public final Integer getScore(final Component component) {
+        final Attributes attributes; // Component attributes
+        Integer          score;      // Component score
+
+        checkNotNull(component, "Received a null pointer as component");
+
+        attributes = component.getAttributes();
+
+        score = attributes.getArmor() * armorWeight;
+        score += attributes.getMovement() * movementWeight;
+        score += attributes.getSkill() * skillWeight;
+        score += attributes.getSpeed() * speedWeight;
+        score += attributes.getStrength() * strengthWeight;
+        score += component.getAbilities().size() * abilityWeight;
+
+        return score;
+    }
+
+}
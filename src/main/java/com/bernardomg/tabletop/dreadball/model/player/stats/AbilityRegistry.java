@@ -0,0 +1,254 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.player.stats;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Global registry assigning an index to each ability.
+ * <p>
+ * Indices are small, starting at zero, so they can be used as bit positions,
+ * as done by {@link AbilitySet}. They are only valid for the running
+ * application, and should not be persisted.
+ * <p>
+ * The registry only keeps weak references to the abilities. An index stays
+ * assigned while the instance returned by {@link #register(Ability)} is
+ * reachable, so whoever uses an index should keep that instance. Once it is
+ * collected, its index is given to the next ability registered.
+ * <p>
+ * The registry is only locked for registering and reclaiming indices.
+ * {@link ImmutableAbility} instances keep their index along the registered
+ * instance, so finding the index of a known ability doesn't search or lock
+ * the registry.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class AbilityRegistry {
+
+    /**
+     * Weak reference to a registered ability, along its index.
+     */
+    private static final class IndexReference extends WeakReference<Ability> {
+
+        /**
+         * Index of the ability.
+         */
+        private final int index;
+
+        /**
+         * Constructs a reference to the ability.
+         * 
+         * @param ability
+         *            registered ability
+         * @param abilityIndex
+         *            index of the ability
+         */
+        public IndexReference(final Ability ability, final int abilityIndex) {
+            super(ability, QUEUE);
+
+            index = abilityIndex;
+        }
+
+    }
+
+    /**
+     * Index returned for abilities which are not registered.
+     */
+    public static final int                           NONE    = -1;
+
+    /**
+     * Indices freed by collected abilities.
+     */
+    private static final Deque<Integer>               FREE    = new ArrayDeque<>();
+
+    /**
+     * References to the registered abilities.
+     * <p>
+     * Keys are weak, and the values only reference them weakly, so entries
+     * don't keep the abilities reachable.
+     */
+    private static final Map<Ability, IndexReference> INDICES = new WeakHashMap<>();
+
+    /**
+     * Queue receiving the references to collected abilities.
+     */
+    private static final ReferenceQueue<Ability>      QUEUE   = new ReferenceQueue<>();
+
+    /**
+     * Next index never assigned.
+     */
+    private static int                                next    = 0;
+
+    /**
+     * Returns the index for the ability, or {@link #NONE} if it is not
+     * registered.
+     * <p>
+     * This won't register the ability.
+     * 
+     * @param ability
+     *            ability to find
+     * @return the index for the ability, or {@link #NONE} if it is not
+     *         registered
+     */
+    public static final int getIndex(final Object ability) {
+        IndexReference reference;  // Registered ability
+        Ability        registered; // Registered instance
+        int            result;     // Found index
+
+        if (ability instanceof ImmutableAbility) {
+            result = ((ImmutableAbility) ability).getCachedIndex();
+        } else {
+            result = NONE;
+        }
+
+        if ((result == NONE) && (ability != null)) {
+            synchronized (INDICES) {
+                reference = INDICES.get(ability);
+                if (reference == null) {
+                    registered = null;
+                } else {
+                    registered = reference.get();
+                }
+
+                if (registered != null) {
+                    result = reference.index;
+                    cacheIndex(ability, registered, result);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the number of abilities registered and not yet collected.
+     * 
+     * @return the number of registered abilities
+     */
+    public static final int getSize() {
+        synchronized (INDICES) {
+            release();
+
+            return INDICES.size();
+        }
+    }
+
+    /**
+     * Registers the ability, returning the registered instance equal to it.
+     * <p>
+     * If no equal ability was registered, the received one is registered and
+     * returned. The index of the ability, found with {@link #getIndex(Object)},
+     * stays assigned while the returned instance is reachable.
+     * 
+     * @param ability
+     *            ability to register
+     * @return the registered instance equal to the ability
+     */
+    public static final Ability register(final Ability ability) {
+        IndexReference reference;  // Registered ability
+        Ability        registered; // Registered instance
+        int            index;      // Index for a new ability
+
+        checkNotNull(ability, "Received a null pointer as ability");
+
+        if (ability instanceof ImmutableAbility) {
+            // Already registered abilities don't need the lock
+            registered = ((ImmutableAbility) ability).getRegistered();
+        } else {
+            registered = null;
+        }
+
+        if (registered == null) {
+            synchronized (INDICES) {
+                release();
+
+                reference = INDICES.get(ability);
+                if (reference != null) {
+                    registered = reference.get();
+                }
+
+                if (registered == null) {
+                    if (FREE.isEmpty()) {
+                        index = next;
+                        next++;
+                    } else {
+                        index = FREE.pop();
+                    }
+
+                    registered = ability;
+                    INDICES.put(registered,
+                            new IndexReference(registered, index));
+                } else {
+                    index = reference.index;
+                }
+
+                cacheIndex(ability, registered, index);
+                cacheIndex(registered, registered, index);
+            }
+        }
+
+        return registered;
+    }
+
+    /**
+     * Stores the index into the ability, if it can keep it.
+     * <p>
+     * This should be called while the registry is locked.
+     * 
+     * @param ability
+     *            ability to store the index into
+     * @param registered
+     *            instance registered for the ability
+     * @param index
+     *            index of the ability
+     */
+    private static final void cacheIndex(final Object ability,
+            final Ability registered, final int index) {
+        if (ability instanceof ImmutableAbility) {
+            ((ImmutableAbility) ability).cacheIndex(registered, index);
+        }
+    }
+
+    /**
+     * Frees the indices of the collected abilities.
+     */
+    private static final void release() {
+        Reference<? extends Ability> reference; // Collected ability
+
+        reference = QUEUE.poll();
+        while (reference != null) {
+            FREE.push(((IndexReference) reference).index);
+            reference = QUEUE.poll();
+        }
+    }
+
+    /**
+     * Private constructor to avoid initialization.
+     */
+    private AbilityRegistry() {
+        super();
+    }
+
+}
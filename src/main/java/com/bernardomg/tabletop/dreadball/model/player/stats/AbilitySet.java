@@ -0,0 +1,431 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.player.stats;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Set of abilities stored as a bitmask over the indices given by the
+ * {@link AbilityRegistry}.
+ * <p>
+ * Membership checks are a bit test, instead of hashing the ability, and
+ * checking if a set contains another one is done a word at a time. Iteration
+ * follows the insertion order, as with a {@code LinkedHashSet}.
+ * <p>
+ * The abilities returned when iterating are the instances added. The set
+ * also keeps the instances returned by the registry, so the indices it uses
+ * stay assigned for as long as the set exists.
+ * <p>
+ * Null abilities are rejected, throwing a {@code NullPointerException}.
+ * <p>
+ * This set is not thread safe.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class AbilitySet extends AbstractSet<Ability>
+        implements Serializable {
+
+    /**
+     * Bits to shift an index to find its word.
+     */
+    private static final int    ADDRESS_BITS     = 6;
+
+    /**
+     * Initial capacity for the insertion order.
+     */
+    private static final int    INITIAL_CAPACITY = 4;
+
+    /**
+     * Serialization id.
+     */
+    private static final long   serialVersionUID = -3268107484652390862L;
+
+    /**
+     * Abilities in the set, in insertion order.
+     */
+    private transient Ability[] added;
+
+    /**
+     * Bitmask with the indices of the abilities.
+     */
+    private transient long[]    bits;
+
+    /**
+     * Number of modifications, to detect concurrent modifications when
+     * iterating.
+     */
+    private transient int       modifications;
+
+    /**
+     * Indices of the abilities, in insertion order.
+     */
+    private transient int[]     order;
+
+    /**
+     * Registered instances of the abilities, in insertion order.
+     * <p>
+     * These keep the indices of the abilities assigned.
+     */
+    private transient Ability[] registered;
+
+    /**
+     * Number of abilities in the set.
+     */
+    private transient int       size;
+
+    /**
+     * Constructs an empty set.
+     */
+    public AbilitySet() {
+        super();
+
+        initialize();
+    }
+
+    /**
+     * Constructs a set with the received abilities, in iteration order.
+     * 
+     * @param abilities
+     *            abilities to add
+     */
+    public AbilitySet(final Collection<? extends Ability> abilities) {
+        this();
+
+        checkNotNull(abilities, "Received a null pointer as abilities");
+
+        addAll(abilities);
+    }
+
+    @Override
+    public final boolean add(final Ability ability) {
+        final Ability key;    // Registered instance
+        final int     index;  // Ability index
+        final boolean absent; // Flag for an ability not in the set
+
+        key = AbilityRegistry.register(ability);
+        index = AbilityRegistry.getIndex(key);
+
+        absent = !isSet(index);
+        if (absent) {
+            if ((index >>> ADDRESS_BITS) >= bits.length) {
+                bits = Arrays.copyOf(bits, (index >>> ADDRESS_BITS) + 1);
+            }
+            bits[index >>> ADDRESS_BITS] |= 1L << index;
+
+            if (size == order.length) {
+                order = Arrays.copyOf(order, size * 2);
+                added = Arrays.copyOf(added, size * 2);
+                registered = Arrays.copyOf(registered, size * 2);
+            }
+            order[size] = index;
+            added[size] = ability;
+            registered[size] = key;
+            size++;
+            modifications++;
+        }
+
+        return absent;
+    }
+
+    @Override
+    public final void clear() {
+        Arrays.fill(bits, 0L);
+        Arrays.fill(added, 0, size, null);
+        Arrays.fill(registered, 0, size, null);
+        size = 0;
+        modifications++;
+    }
+
+    @Override
+    public final boolean contains(final Object ability) {
+        return isSet(AbilityRegistry.getIndex(ability));
+    }
+
+    @Override
+    public final boolean containsAll(final Collection<?> abilities) {
+        final long[] other;     // Bitmask to check
+        boolean      contained; // Flag for all the abilities contained
+        int          word;      // Current word
+
+        checkNotNull(abilities, "Received a null pointer as abilities");
+
+        if (abilities instanceof AbilitySet) {
+            // Checked a word at a time
+            other = ((AbilitySet) abilities).bits;
+            contained = true;
+            word = 0;
+            while ((contained) && (word < other.length)) {
+                contained = (other[word] & ~getWord(word)) == 0;
+                word++;
+            }
+        } else {
+            contained = super.containsAll(abilities);
+        }
+
+        return contained;
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        final boolean equal; // Flag for equal sets
+
+        if (obj instanceof AbilitySet) {
+            equal = (size == ((AbilitySet) obj).size)
+                    && containsAll((AbilitySet) obj);
+        } else {
+            equal = super.equals(obj);
+        }
+
+        return equal;
+    }
+
+    @Override
+    public final int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * Indicates if this set shares any ability with the received one.
+     * 
+     * @param abilities
+     *            abilities to check
+     * @return {@code true} if any ability is in both sets, {@code false}
+     *         otherwise
+     */
+    public final boolean intersects(final AbilitySet abilities) {
+        boolean shared; // Flag for a shared ability
+        int     word;   // Current word
+
+        checkNotNull(abilities, "Received a null pointer as abilities");
+
+        shared = false;
+        word = 0;
+        while ((!shared) && (word < abilities.bits.length)) {
+            shared = (abilities.bits[word] & getWord(word)) != 0;
+            word++;
+        }
+
+        return shared;
+    }
+
+    @Override
+    public final Iterator<Ability> iterator() {
+        return new Iterator<Ability>() {
+
+            /**
+             * Position of the next ability.
+             */
+            private int     cursor    = 0;
+
+            /**
+             * Modifications expected by the iterator.
+             */
+            private int     expected  = modifications;
+
+            /**
+             * Flag indicating if the last returned ability can be removed.
+             */
+            private boolean removable = false;
+
+            @Override
+            public final boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public final Ability next() {
+                checkModifications();
+
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                removable = true;
+                cursor++;
+
+                return added[cursor - 1];
+            }
+
+            @Override
+            public final void remove() {
+                checkState(removable, "No ability to remove");
+                checkModifications();
+
+                cursor--;
+                removeAt(cursor);
+                expected = modifications;
+                removable = false;
+            }
+
+            /**
+             * Checks the set was not modified outside the iterator.
+             */
+            private final void checkModifications() {
+                if (expected != modifications) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+        };
+    }
+
+    @Override
+    public final boolean remove(final Object ability) {
+        final int     index;    // Ability index
+        final boolean present;  // Flag for an ability in the set
+        int           position; // Position in the insertion order
+
+        index = AbilityRegistry.getIndex(ability);
+
+        present = isSet(index);
+        if (present) {
+            position = 0;
+            while (order[position] != index) {
+                position++;
+            }
+            removeAt(position);
+        }
+
+        return present;
+    }
+
+    @Override
+    public final int size() {
+        return size;
+    }
+
+    /**
+     * Returns the bitmask word at the position, or zero if it is outside the
+     * bitmask.
+     * 
+     * @param word
+     *            position of the word
+     * @return the bitmask word at the position
+     */
+    private final long getWord(final int word) {
+        final long value; // Word value
+
+        if (word < bits.length) {
+            value = bits[word];
+        } else {
+            value = 0L;
+        }
+
+        return value;
+    }
+
+    /**
+     * Creates the empty arrays.
+     */
+    private final void initialize() {
+        bits = new long[1];
+        order = new int[INITIAL_CAPACITY];
+        added = new Ability[INITIAL_CAPACITY];
+        registered = new Ability[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Indicates if the bit for the index is set.
+     * 
+     * @param index
+     *            ability index
+     * @return {@code true} if the bit is set, {@code false} otherwise
+     */
+    private final boolean isSet(final int index) {
+        return (index != AbilityRegistry.NONE)
+                && ((getWord(index >>> ADDRESS_BITS) & (1L << index)) != 0);
+    }
+
+    /**
+     * Reads the abilities, registering them again.
+     * 
+     * @param input
+     *            stream to read
+     * @throws IOException
+     *             if the stream can't be read
+     * @throws ClassNotFoundException
+     *             if the ability class can't be found
+     */
+    private final void readObject(final ObjectInputStream input)
+            throws IOException, ClassNotFoundException {
+        final int count; // Number of abilities
+
+        input.defaultReadObject();
+
+        initialize();
+
+        count = input.readInt();
+        for (int i = 0; i < count; i++) {
+            add((Ability) input.readObject());
+        }
+    }
+
+    /**
+     * Removes the ability at the position of the insertion order.
+     * 
+     * @param position
+     *            position of the ability to remove
+     */
+    private final void removeAt(final int position) {
+        final int index; // Ability index
+
+        index = order[position];
+        bits[index >>> ADDRESS_BITS] &= ~(1L << index);
+
+        System.arraycopy(order, position + 1, order, position,
+                size - position - 1);
+        System.arraycopy(added, position + 1, added, position,
+                size - position - 1);
+        System.arraycopy(registered, position + 1, registered, position,
+                size - position - 1);
+        size--;
+        added[size] = null;
+        registered[size] = null;
+        modifications++;
+    }
+
+    /**
+     * Writes the abilities, as indices are not kept between applications.
+     * 
+     * @param output
+     *            stream to write
+     * @throws IOException
+     *             if the stream can't be written
+     */
+    private final void writeObject(final ObjectOutputStream output)
+            throws IOException {
+        output.defaultWriteObject();
+
+        output.writeInt(size);
+        for (final Ability ability : this) {
+            output.writeObject(ability);
+        }
+    }
+
+}
@@ -26,6 +26,9 @@
 /**
  * TeamPlayer ability.
  * <p>
+ * The index given by the {@link AbilityRegistry} is kept along the registered
+ * instance, so it can be found without searching the registry.
+ * <p>
  * This is an immutable implementation.
  * 
  * @author Bernardo Mart&iacute;nez Garrido
@@ -35,12 +38,24 @@ public final class ImmutableAbility implements Ability, Serializable {
     /**
      * Serialization id.
      */
-    private static final long serialVersionUID = 5005941056605378231L;
+    private static final long          serialVersionUID = 5005941056605378231L;
+
+    /**
+     * Index given by the registry.
+     * <p>
+     * It is only valid if the registered instance is set.
+     */
+    private transient int              index;
 
     /**
      * Ability's name.
      */
-    private final String      name;
+    private final String               name;
+
+    /**
+     * Instance registered for this ability, which keeps the index assigned.
+     */
+    private transient volatile Ability registered;
 
     /**
      * Constructs an ability with the specified parameters.
@@ -89,4 +104,48 @@ public final String toString() {
         return MoreObjects.toStringHelper(this).add("name", name).toString();
     }
 
+    /**
+     * Stores the index given by the registry.
+     * <p>
+     * This should only be called by the registry, while it is locked.
+     * 
+     * @param ability
+     *            instance registered for this ability
+     * @param abilityIndex
+     *            index of the ability
+     */
+    final void cacheIndex(final Ability ability, final int abilityIndex) {
+        index = abilityIndex;
+        // Set last, as reading it makes the index visible
+        registered = ability;
+    }
+
+    /**
+     * Returns the instance registered for this ability, or {@code null} if it
+     * is not known yet.
+     * 
+     * @return the instance registered for this ability
+     */
+    final Ability getRegistered() {
+        return registered;
+    }
+
+    /**
+     * Returns the index given by the registry, or {@link AbilityRegistry#NONE}
+     * if it is not known yet.
+     * 
+     * @return the index given by the registry
+     */
+    final int getCachedIndex() {
+        final int result; // Cached index
+
+        if (registered == null) {
+            result = AbilityRegistry.NONE;
+        } else {
+            result = index;
+        }
+
+        return result;
+    }
+
 }
@@ -0,0 +1,121 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.ruleset;
+
+/**
+ * Cost constant which can be configured through a ruleset.
+ * <p>
+ * Each rule has a key, which is used to store it in ruleset files.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public enum CostRule {
+
+    /**
+     * Valoration of a Dreadball Card on an advancement team.
+     */
+    ADVANCEMENT_CARD("advancement.card"),
+    /**
+     * Valoration of a Cheerleader on an advancement team.
+     */
+    ADVANCEMENT_CHEERLEADER("advancement.cheerleader"),
+    /**
+     * Valoration of each Coaching Staff on an advancement team.
+     */
+    ADVANCEMENT_COACHING_STAFF("advancement.coachingStaff"),
+    /**
+     * Valoration of a Coaching Die on an advancement team.
+     */
+    ADVANCEMENT_DIE("advancement.die"),
+    /**
+     * Valoration increase for each rank of an advancement player.
+     */
+    PLAYER_RANK("player.rank"),
+    /**
+     * Rank cost of a Cheerleader.
+     */
+    RANK_CHEERLEADER("rank.cheerleader"),
+    /**
+     * Rank cost of a Coaching Die.
+     */
+    RANK_DIE("rank.die"),
+    /**
+     * Rank cost of a Medibot.
+     */
+    RANK_MEDIBOT("rank.medibot"),
+    /**
+     * Rank cost of a Nasty Surprise Card.
+     */
+    RANK_NASTY_SURPRISE_CARD("rank.nastySurpriseCard"),
+    /**
+     * Rank cost of a Special Move Card.
+     */
+    RANK_SPECIAL_MOVE_CARD("rank.specialMoveCard"),
+    /**
+     * Rank cost of a Wager.
+     */
+    RANK_WAGER("rank.wager"),
+    /**
+     * Valoration of a Cheerleader on a Sponsor team.
+     */
+    SPONSOR_CHEERLEADER("sponsor.cheerleader"),
+    /**
+     * Valoration of a Coaching Die on a Sponsor team.
+     */
+    SPONSOR_DIE("sponsor.die"),
+    /**
+     * Valoration of a Medibot on a Sponsor team.
+     */
+    SPONSOR_MEDIBOT("sponsor.medibot"),
+    /**
+     * Valoration of a Nasty Surprise Card on a Sponsor team.
+     */
+    SPONSOR_NASTY_SURPRISE_CARD("sponsor.nastySurpriseCard"),
+    /**
+     * Valoration of a Special Move Card on a Sponsor team.
+     */
+    SPONSOR_SPECIAL_MOVE_CARD("sponsor.specialMoveCard"),
+    /**
+     * Valoration of a Wager on a Sponsor team.
+     */
+    SPONSOR_WAGER("sponsor.wager");
+
+    /**
+     * Key for the rule in ruleset files.
+     */
+    private final String key;
+
+    /**
+     * Constructs a rule with the specified key.
+     * 
+     * @param ruleKey
+     *            key for the rule in ruleset files
+     */
+    private CostRule(final String ruleKey) {
+        key = ruleKey;
+    }
+
+    /**
+     * Returns the key for the rule in ruleset files.
+     * 
+     * @return the key for the rule
+     */
+    public final String getKey() {
+        return key;
+    }
+
+}
@@ -0,0 +1,178 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.ruleset;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import com.bernardomg.tabletop.dreadball.model.team.calculator.AdvancementTeamValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.DefaultRankCostCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.SponsorTeamValorationCalculator;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Complete set of cost constants, such as those of Dreadball or Dreadball
+ * Xtreme, or a house variant.
+ * <p>
+ * The costs are stored into a flat plan, an array indexed by the rule
+ * ordinal. The default calculators for these costs are built along the
+ * ruleset, so replacing the ruleset also replaces them.
+ * <p>
+ * This is an immutable implementation.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class CostRuleset implements Serializable {
+
+    /**
+     * Serialization id.
+     */
+    private static final long                         serialVersionUID = -1204568861853296514L;
+
+    /**
+     * Valoration calculator for advancement teams.
+     */
+    private final AdvancementTeamValorationCalculator advancementTeamValorator;
+
+    /**
+     * Name of the ruleset.
+     */
+    private final String                              name;
+
+    /**
+     * Cost for each rule, indexed by the rule ordinal.
+     */
+    private final int[]                               plan;
+
+    /**
+     * Rank cost calculator for Sponsor teams.
+     */
+    private final DefaultRankCostCalculator           rankCostCalculator;
+
+    /**
+     * Valoration calculator for Sponsor teams.
+     */
+    private final SponsorTeamValorationCalculator     sponsorTeamValorator;
+
+    /**
+     * Constructs a ruleset with the specified arguments.
+     * <p>
+     * All the rules should receive a cost.
+     * 
+     * @param rulesetName
+     *            name of the ruleset
+     * @param costs
+     *            cost for each rule
+     */
+    public CostRuleset(final String rulesetName,
+            final Map<CostRule, Integer> costs) {
+        super();
+
+        name = checkNotNull(rulesetName, "Received a null pointer as name");
+        checkNotNull(costs, "Received a null pointer as costs");
+
+        plan = new int[CostRule.values().length];
+        for (final CostRule rule : CostRule.values()) {
+            checkArgument(costs.get(rule) != null, "Missing cost for rule %s",
+                    rule);
+
+            plan[rule.ordinal()] = costs.get(rule);
+        }
+
+        advancementTeamValorator = new AdvancementTeamValorationCalculator(
+                getCost(CostRule.ADVANCEMENT_DIE),
+                getCost(CostRule.ADVANCEMENT_CARD),
+                getCost(CostRule.ADVANCEMENT_CHEERLEADER),
+                getCost(CostRule.ADVANCEMENT_COACHING_STAFF));
+        rankCostCalculator = new DefaultRankCostCalculator(
+                getCost(CostRule.RANK_DIE),
+                getCost(CostRule.RANK_NASTY_SURPRISE_CARD),
+                getCost(CostRule.RANK_SPECIAL_MOVE_CARD),
+                getCost(CostRule.RANK_CHEERLEADER), getCost(CostRule.RANK_WAGER),
+                getCost(CostRule.RANK_MEDIBOT));
+        sponsorTeamValorator = new SponsorTeamValorationCalculator(
+                getCost(CostRule.SPONSOR_DIE),
+                getCost(CostRule.SPONSOR_NASTY_SURPRISE_CARD),
+                getCost(CostRule.SPONSOR_SPECIAL_MOVE_CARD),
+                getCost(CostRule.SPONSOR_CHEERLEADER),
+                getCost(CostRule.SPONSOR_WAGER),
+                getCost(CostRule.SPONSOR_MEDIBOT));
+    }
+
+    /**
+     * Returns the cost for the rule.
+     * 
+     * @param rule
+     *            rule to find the cost for
+     * @return the cost for the rule
+     */
+    public final Integer getCost(final CostRule rule) {
+        checkNotNull(rule, "Received a null pointer as rule");
+
+        return plan[rule.ordinal()];
+    }
+
+    /**
+     * Returns the name of the ruleset.
+     * 
+     * @return the name of the ruleset
+     */
+    public final String getName() {
+        return name;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("name", name).toString();
+    }
+
+    /**
+     * Returns the valoration calculator for advancement teams built from the
+     * ruleset.
+     * 
+     * @return the valoration calculator for advancement teams
+     */
+    final AdvancementTeamValorationCalculator
+            getAdvancementTeamValorationCalculator() {
+        return advancementTeamValorator;
+    }
+
+    /**
+     * Returns the rank cost calculator for Sponsor teams built from the
+     * ruleset.
+     * 
+     * @return the rank cost calculator for Sponsor teams
+     */
+    final DefaultRankCostCalculator getRankCostCalculator() {
+        return rankCostCalculator;
+    }
+
+    /**
+     * Returns the valoration calculator for Sponsor teams built from the
+     * ruleset.
+     * 
+     * @return the valoration calculator for Sponsor teams
+     */
+    final SponsorTeamValorationCalculator
+            getSponsorTeamValorationCalculator() {
+        return sponsorTeamValorator;
+    }
+
+}
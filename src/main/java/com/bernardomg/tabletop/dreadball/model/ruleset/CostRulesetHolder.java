@@ -0,0 +1,149 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.ruleset;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Serializable;
+
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayerValorationCalculator;
+
+/**
+ * Holds the current ruleset of a league, and the calculators applying it.
+ * <p>
+ * The calculators are created once, and always delegate to the calculators
+ * built from the current ruleset. So the ruleset can be replaced at any
+ * moment, and the teams already using the calculators will apply the new
+ * costs from the next call.
+ * <p>
+ * Several leagues can run side by side by using a holder for each of them.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class CostRulesetHolder implements Serializable {
+
+    /**
+     * Serialization id.
+     */
+    private static final long                                           serialVersionUID = 5311840286069431741L;
+
+    /**
+     * Valoration calculator for advancement teams.
+     */
+    private final RulesetAdvancementTeamValorationCalculator            advancementTeamValorator;
+
+    /**
+     * Valoration calculator for advancement players.
+     */
+    private final TeamPlayerValorationCalculator<AdvancementTeamPlayer> playerValorator;
+
+    /**
+     * Rank cost calculator for Sponsor teams.
+     */
+    private final RulesetRankCostCalculator                             rankCostCalculator;
+
+    /**
+     * Current ruleset.
+     */
+    private volatile CostRuleset                                        ruleset;
+
+    /**
+     * Valoration calculator for Sponsor teams.
+     */
+    private final RulesetSponsorTeamValorationCalculator                sponsorTeamValorator;
+
+    /**
+     * Constructs a holder with the initial ruleset.
+     * 
+     * @param initial
+     *            initial ruleset
+     */
+    public CostRulesetHolder(final CostRuleset initial) {
+        super();
+
+        ruleset = checkNotNull(initial, "Received a null pointer as ruleset");
+
+        advancementTeamValorator = new RulesetAdvancementTeamValorationCalculator(
+                this);
+        playerValorator = new RulesetPlayerValorationCalculator(this);
+        rankCostCalculator = new RulesetRankCostCalculator(this);
+        sponsorTeamValorator = new RulesetSponsorTeamValorationCalculator(
+                this);
+    }
+
+    /**
+     * Returns the valoration calculator for advancement teams.
+     * 
+     * @return the valoration calculator for advancement teams
+     */
+    public final RulesetAdvancementTeamValorationCalculator
+            getAdvancementTeamValorationCalculator() {
+        return advancementTeamValorator;
+    }
+
+    /**
+     * Returns the valoration calculator for advancement players.
+     * 
+     * @return the valoration calculator for advancement players
+     */
+    public final TeamPlayerValorationCalculator<AdvancementTeamPlayer>
+            getPlayerValorationCalculator() {
+        return playerValorator;
+    }
+
+    /**
+     * Returns the rank cost calculator for Sponsor teams.
+     * 
+     * @return the rank cost calculator for Sponsor teams
+     */
+    public final RulesetRankCostCalculator getRankCostCalculator() {
+        return rankCostCalculator;
+    }
+
+    /**
+     * Returns the current ruleset.
+     * 
+     * @return the current ruleset
+     */
+    public final CostRuleset getRuleset() {
+        return ruleset;
+    }
+
+    /**
+     * Returns the valoration calculator for Sponsor teams.
+     * 
+     * @return the valoration calculator for Sponsor teams
+     */
+    public final RulesetSponsorTeamValorationCalculator
+            getSponsorTeamValorationCalculator() {
+        return sponsorTeamValorator;
+    }
+
+    /**
+     * Replaces the current ruleset.
+     * <p>
+     * The calculators will use the new ruleset from their next call.
+     * 
+     * @param rules
+     *            the new ruleset
+     */
+    public final void setRuleset(final CostRuleset rules) {
+        ruleset = checkNotNull(rules, "Received a null pointer as ruleset");
+    }
+
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.ruleset;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Reads rulesets from properties files.
+ * <p>
+ * The file should contain a {@code name} property and a value for the key
+ * of each {@link CostRule}, for example:
+ * 
+ * <pre>
+ * name=Dreadball Xtreme
+ * sponsor.die=10
+ * rank.die=1
+ * </pre>
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class CostRulesetReader {
+
+    /**
+     * Key for the ruleset name.
+     */
+    private static final String KEY_NAME = "name";
+
+    /**
+     * Default constructor.
+     */
+    public CostRulesetReader() {
+        super();
+    }
+
+    /**
+     * Reads a ruleset from the received stream.
+     * <p>
+     * The stream is not closed.
+     * 
+     * @param input
+     *            stream with the ruleset properties
+     * @return the ruleset read
+     * @throws IOException
+     *             if the stream can't be read
+     */
+    public final CostRuleset read(final InputStream input) throws IOException {
+        final Properties             properties; // Read properties
+        final Map<CostRule, Integer> costs;      // Parsed costs
+        String                       value;      // Value for a rule
+
+        checkNotNull(input, "Received a null pointer as input");
+
+        properties = new Properties();
+        properties.load(input);
+
+        checkArgument(properties.getProperty(KEY_NAME) != null,
+                "Missing ruleset name");
+
+        costs = new EnumMap<>(CostRule.class);
+        for (final CostRule rule : CostRule.values()) {
+            value = properties.getProperty(rule.getKey());
+            checkArgument(value != null, "Missing cost for rule %s",
+                    rule.getKey());
+
+            try {
+                costs.put(rule, Integer.valueOf(value.trim()));
+            } catch (final NumberFormatException e) {
+                throw new IllegalArgumentException(String.format(
+                        "Invalid cost %s for rule %s", value, rule.getKey()),
+                        e);
+            }
+        }
+
+        return new CostRuleset(properties.getProperty(KEY_NAME), costs);
+    }
+
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.ruleset;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Serializable;
+
+import com.bernardomg.tabletop.dreadball.model.player.AbstractAdvancementTeamPlayerValorationCalculator;
+
+/**
+ * Calculates the valoration of an advancement player, using the current
+ * ruleset of a holder.
+ * <p>
+ * It applies the same formula as the
+ * {@code AdvancementTeamPlayerValorationCalculator}, reading the rank cost
+ * from the current ruleset.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+final class RulesetPlayerValorationCalculator
+        extends AbstractAdvancementTeamPlayerValorationCalculator
+        implements Serializable {
+
+    /**
+     * Serialization id.
+     */
+    private static final long       serialVersionUID = -7435911626590358117L;
+
+    /**
+     * Holder with the current ruleset.
+     */
+    private final CostRulesetHolder holder;
+
+    /**
+     * Constructs a calculator using the ruleset in the holder.
+     * 
+     * @param rulesetHolder
+     *            holder with the current ruleset
+     */
+    public RulesetPlayerValorationCalculator(
+            final CostRulesetHolder rulesetHolder) {
+        super();
+
+        holder = checkNotNull(rulesetHolder,
+                "Received a null pointer as ruleset holder");
+    }
+
+    @Override
+    protected final Integer getRankCostIncrease() {
+        return holder.getRuleset().getCost(CostRule.PLAYER_RANK);
+    }
+
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.ruleset;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Serializable;
+
+import com.bernardomg.tabletop.dreadball.model.team.SponsorTeam;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CostAccumulator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CostBreakdown;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CostBreakdownCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.SponsorTeamValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.WideCostCalculator;
+
+/**
+ * Calculates the valoration of a {@link SponsorTeam}, using the current
+ * ruleset of a holder.
+ * <p>
+ * Each call is delegated to the {@link SponsorTeamValorationCalculator} built
+ * from the current ruleset, so it gives the same results, breakdowns and cost
+ * terms.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class RulesetSponsorTeamValorationCalculator
+        implements CostBreakdownCalculator<SponsorTeam>,
+        WideCostCalculator<SponsorTeam>, Serializable {
+
+    /**
+     * Serialization id.
+     */
+    private static final long       serialVersionUID = -3563431987063187012L;
+
+    /**
+     * Holder with the current ruleset.
+     */
+    private final CostRulesetHolder holder;
+
+    /**
+     * Constructs a calculator using the ruleset in the holder.
+     * 
+     * @param rulesetHolder
+     *            holder with the current ruleset
+     */
+    public RulesetSponsorTeamValorationCalculator(
+            final CostRulesetHolder rulesetHolder) {
+        super();
+
+        holder = checkNotNull(rulesetHolder,
+                "Received a null pointer as ruleset holder");
+    }
+
+    @Override
+    public final Integer getCost(final SponsorTeam team) {
+        return getCalculator().getCost(team);
+    }
+
+    @Override
+    public final void getCostBreakdown(final SponsorTeam team,
+            final CostBreakdown breakdown) {
+        getCalculator().getCostBreakdown(team, breakdown);
+    }
+
+    @Override
+    public final void getCostTerms(final SponsorTeam team,
+            final CostAccumulator accumulator) {
+        getCalculator().getCostTerms(team, accumulator);
+    }
+
+    /**
+     * Returns the calculator built from the current ruleset.
+     * 
+     * @return the calculator built from the current ruleset
+     */
+    private final SponsorTeamValorationCalculator getCalculator() {
+        return holder.getRuleset().getSponsorTeamValorationCalculator();
+    }
+
+}
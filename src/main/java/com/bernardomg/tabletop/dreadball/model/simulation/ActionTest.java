@@ -0,0 +1,55 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.simulation;
+
+/**
+ * Tests a player may roll during a simulated match.
+ * <p>
+ * Each test rolls a pool of dice against one of the player attributes, and
+ * each die reaching the attribute value is a success.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public enum ActionTest {
+
+    /**
+     * Armor test, rolled after being knocked down. Uses the armor value.
+     */
+    ARMOR,
+
+    /**
+     * Dodge test, rolled to evade a slam. Uses the speed value.
+     */
+    DODGE,
+
+    /**
+     * Pick up test, rolled to take the ball. Uses the skill value.
+     */
+    PICK_UP,
+
+    /**
+     * Slam test, rolled to knock down the ball carrier. Uses the strength
+     * value.
+     */
+    SLAM,
+
+    /**
+     * Strike test, rolled to score. Uses the skill value.
+     */
+    STRIKE
+
+}
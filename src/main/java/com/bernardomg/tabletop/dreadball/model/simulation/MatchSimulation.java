@@ -0,0 +1,290 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.simulation;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Simulates matches between two teams.
+ * <p>
+ * Each team plays the same number of rushes, taking turns and starting with
+ * the home team. On each rush one of the attacking players picks up the ball,
+ * then dodges a slam from a defending player, and finally strikes. Failing
+ * any test ends the rush without points, and players knocked down who fail
+ * their armor test are out for the rest of the match.
+ * <p>
+ * The match ends early on a landslide, when a team gets a lead of seven
+ * points.
+ * <p>
+ * Instances keep the state of the match being simulated, so they should not
+ * be shared between threads. The snapshots of the teams can be shared.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+final class MatchSimulation {
+
+    /**
+     * Lead which ends the match.
+     */
+    private static final int    LANDSLIDE = 7;
+
+    /**
+     * Index for a missing player.
+     */
+    private static final int    NONE      = -1;
+
+    /**
+     * Away team.
+     */
+    private final SimulatedTeam away;
+
+    /**
+     * Flags indicating which away players are out of the match.
+     */
+    private final boolean[]     awayOut;
+
+    /**
+     * Points scored by the away team in the last match.
+     */
+    private int                 awayPoints;
+
+    /**
+     * Home team.
+     */
+    private final SimulatedTeam home;
+
+    /**
+     * Flags indicating which home players are out of the match.
+     */
+    private final boolean[]     homeOut;
+
+    /**
+     * Points scored by the home team in the last match.
+     */
+    private int                 homePoints;
+
+    /**
+     * Source of random numbers.
+     */
+    private final Random        random;
+
+    /**
+     * Rushes played by each team.
+     */
+    private final int           rushes;
+
+    /**
+     * Constructs a simulation between the teams.
+     * 
+     * @param homeTeam
+     *            home team
+     * @param awayTeam
+     *            away team
+     * @param rushesPerTeam
+     *            rushes played by each team
+     * @param rnd
+     *            source of random numbers
+     */
+    MatchSimulation(final SimulatedTeam homeTeam,
+            final SimulatedTeam awayTeam, final int rushesPerTeam,
+            final Random rnd) {
+        super();
+
+        home = homeTeam;
+        away = awayTeam;
+        rushes = rushesPerTeam;
+        random = rnd;
+
+        homeOut = new boolean[home.getSize()];
+        awayOut = new boolean[away.getSize()];
+    }
+
+    /**
+     * Returns the points scored by the away team in the last match.
+     * 
+     * @return the points scored by the away team
+     */
+    final int getAwayPoints() {
+        return awayPoints;
+    }
+
+    /**
+     * Returns the points scored by the home team in the last match.
+     * 
+     * @return the points scored by the home team
+     */
+    final int getHomePoints() {
+        return homePoints;
+    }
+
+    /**
+     * Simulates a match.
+     */
+    final void play() {
+        int rush; // Current rush
+
+        Arrays.fill(homeOut, false);
+        Arrays.fill(awayOut, false);
+        homePoints = 0;
+        awayPoints = 0;
+
+        rush = 0;
+        while ((rush < rushes) && (!isLandslide())) {
+            homePoints += playRush(home, homeOut, away, awayOut);
+            if (!isLandslide()) {
+                awayPoints += playRush(away, awayOut, home, homeOut);
+            }
+            rush++;
+        }
+    }
+
+    /**
+     * Indicates if a team got a landslide lead.
+     * 
+     * @return {@code true} if there is a landslide, {@code false} otherwise
+     */
+    private final boolean isLandslide() {
+        return Math.abs(homePoints - awayPoints) >= LANDSLIDE;
+    }
+
+    /**
+     * Picks a random player still in the match from the candidates.
+     * 
+     * @param candidates
+     *            indexes of the candidates
+     * @param out
+     *            flags indicating which players are out
+     * @return the index of the player picked, or {@link #NONE} if there is no
+     *         one to pick
+     */
+    private final int pick(final int[] candidates, final boolean[] out) {
+        int available; // Candidates still in the match
+        int chosen;    // Candidate chosen
+        int picked;    // Player picked
+
+        available = 0;
+        for (final int candidate : candidates) {
+            if (!out[candidate]) {
+                available++;
+            }
+        }
+
+        picked = NONE;
+        if (available > 0) {
+            chosen = random.nextInt(available);
+            for (int i = 0; (i < candidates.length) && (picked == NONE); i++) {
+                if (!out[candidates[i]]) {
+                    if (chosen == 0) {
+                        picked = candidates[i];
+                    }
+                    chosen--;
+                }
+            }
+        }
+
+        return picked;
+    }
+
+    /**
+     * Simulates a rush.
+     * 
+     * @param attacker
+     *            team trying to score
+     * @param attackerOut
+     *            flags indicating which attacking players are out
+     * @param defender
+     *            team trying to stop the attacker
+     * @param defenderOut
+     *            flags indicating which defending players are out
+     * @return the points scored by the attacker
+     */
+    private final int playRush(final SimulatedTeam attacker,
+            final boolean[] attackerOut, final SimulatedTeam defender,
+            final boolean[] defenderOut) {
+        final int carrier; // Player with the ball
+        final int blocker; // Player trying to stop the carrier
+        final int dodge;   // Successes dodging
+        final int slam;    // Successes slamming
+        int       points;  // Points scored
+
+        points = 0;
+        carrier = pick(attacker.getCarriers(), attackerOut);
+        if ((carrier != NONE)
+                && (roll(attacker, carrier, ActionTest.PICK_UP) > 0)) {
+            blocker = pick(defender.getBlockers(), defenderOut);
+            if (blocker == NONE) {
+                dodge = 0;
+                slam = 0;
+            } else {
+                dodge = roll(attacker, carrier, ActionTest.DODGE);
+                slam = roll(defender, blocker, ActionTest.SLAM);
+            }
+
+            if (slam > dodge) {
+                // The carrier is knocked down
+                if (roll(attacker, carrier, ActionTest.ARMOR) < (slam
+                        - dodge)) {
+                    attackerOut[carrier] = true;
+                }
+            } else {
+                if ((dodge > slam) && (roll(defender, blocker,
+                        ActionTest.ARMOR) < (dodge - slam))) {
+                    // The blocker is knocked down, and out
+                    defenderOut[blocker] = true;
+                }
+
+                if (roll(attacker, carrier, ActionTest.STRIKE) > 0) {
+                    points = attacker.getStrikeValue(carrier);
+                }
+            }
+        }
+
+        return points;
+    }
+
+    /**
+     * Rolls a test for the player, returning the successes.
+     * 
+     * @param team
+     *            team of the player
+     * @param player
+     *            index of the player
+     * @param test
+     *            test to roll
+     * @return the number of successes
+     */
+    private final int roll(final SimulatedTeam team, final int player,
+            final ActionTest test) {
+        final int dice;      // Dice to roll
+        final int target;    // Value to reach
+        int       successes; // Successes rolled
+
+        dice = team.getDice(player, test.ordinal());
+        target = team.getTarget(player, test.ordinal());
+
+        successes = 0;
+        for (int i = 0; i < dice; i++) {
+            if ((random.nextInt(6) + 1) >= target) {
+                successes++;
+            }
+        }
+
+        return successes;
+    }
+
+}
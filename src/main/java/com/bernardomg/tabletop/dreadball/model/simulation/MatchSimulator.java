@@ -0,0 +1,165 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.simulation;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.team.Rosters;
+import com.bernardomg.tabletop.dreadball.model.team.Team;
+
+/**
+ * Estimates the outcome of a match between two teams, by simulating it many
+ * times.
+ * <p>
+ * The simulation reads the attributes, role and abilities of each player:
+ * <ul>
+ * <li>Strikers, Jacks and Keepers carry the ball, while Guards, Jacks and
+ * Keepers block.</li>
+ * <li>Each test rolls three dice against an attribute, and abilities can
+ * add a die to one of the tests.</li>
+ * <li>Players with more movement strike from further, scoring more
+ * points.</li>
+ * </ul>
+ * The rules followed on each match are described in
+ * {@link MatchSimulation}.
+ * <p>
+ * Matches are simulated with a {@link Random} created from the received
+ * seed, which seeds a new generator for each group of matches. The same seed
+ * always gives the same result, whether the matches are simulated
+ * sequentially or in parallel.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class MatchSimulator {
+
+    /**
+     * Test receiving an additional die for each ability.
+     */
+    private final Map<Ability, ActionTest> bonuses = new HashMap<>();
+
+    /**
+     * Rushes played by each team.
+     */
+    private final Integer                  rushes;
+
+    /**
+     * Constructs a simulator with the specified arguments.
+     * 
+     * @param rushesPerTeam
+     *            rushes played by each team on a match
+     * @param abilityBonuses
+     *            test receiving an additional die for each ability
+     */
+    public MatchSimulator(final Integer rushesPerTeam,
+            final Map<Ability, ActionTest> abilityBonuses) {
+        super();
+
+        rushes = checkNotNull(rushesPerTeam,
+                "Received a null pointer as rushes");
+        checkArgument(rushes > 0, "The rushes should be higher than zero");
+
+        checkNotNull(abilityBonuses,
+                "Received a null pointer as ability bonuses");
+        for (final Map.Entry<Ability, ActionTest> bonus : abilityBonuses
+                .entrySet()) {
+            bonuses.put(
+                    checkNotNull(bonus.getKey(),
+                            "Received a null pointer as ability"),
+                    checkNotNull(bonus.getValue(),
+                            "Received a null pointer as test"));
+        }
+    }
+
+    /**
+     * Simulates matches between the teams in the current thread.
+     * 
+     * @param home
+     *            home team, which starts each match
+     * @param away
+     *            away team
+     * @param trials
+     *            matches to simulate
+     * @param seed
+     *            seed for the random numbers
+     * @return the result of the matches
+     */
+    public final SimulationResult simulate(final Team<?> home,
+            final Team<?> away, final Long trials, final Long seed) {
+        return createTask(home, away, trials, seed).simulate();
+    }
+
+    /**
+     * Simulates matches between the teams in parallel.
+     * 
+     * @param home
+     *            home team, which starts each match
+     * @param away
+     *            away team
+     * @param trials
+     *            matches to simulate
+     * @param seed
+     *            seed for the random numbers
+     * @param pool
+     *            pool where the matches are simulated
+     * @return the result of the matches
+     */
+    public final SimulationResult simulate(final Team<?> home,
+            final Team<?> away, final Long trials, final Long seed,
+            final ForkJoinPool pool) {
+        checkNotNull(pool, "Received a null pointer as pool");
+
+        return pool.invoke(createTask(home, away, trials, seed));
+    }
+
+    /**
+     * Creates the task for simulating the matches.
+     * <p>
+     * The teams are read at this point, so they can change while the matches
+     * are simulated.
+     * 
+     * @param home
+     *            home team
+     * @param away
+     *            away team
+     * @param trials
+     *            matches to simulate
+     * @param seed
+     *            seed for the random numbers
+     * @return the task for simulating the matches
+     */
+    private final SimulationTask createTask(final Team<?> home,
+            final Team<?> away, final Long trials, final Long seed) {
+        checkNotNull(home, "Received a null pointer as home team");
+        checkNotNull(away, "Received a null pointer as away team");
+        checkNotNull(trials, "Received a null pointer as trials");
+        checkNotNull(seed, "Received a null pointer as seed");
+        checkArgument(trials >= 0, "The trials should not be negative");
+
+        return new SimulationTask(
+                new SimulatedTeam(Rosters.of(home), bonuses),
+                new SimulatedTeam(Rosters.of(away), bonuses), rushes, trials,
+                new Random(seed));
+    }
+
+}
@@ -0,0 +1,248 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.simulation;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Attributes;
+import com.bernardomg.tabletop.dreadball.model.team.PlayerRoster;
+
+/**
+ * Snapshot of a team, taken before simulating its matches.
+ * <p>
+ * The players are stored into primitive arrays, with the dice and target
+ * value of each of their tests, so the simulation doesn't need to read the
+ * players again.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+final class SimulatedTeam {
+
+    /**
+     * Dice rolled for a test when there are no bonuses.
+     */
+    static final int    BASE_DICE = 3;
+
+    /**
+     * Number of kinds of test.
+     */
+    static final int    TESTS     = ActionTest.values().length;
+
+    /**
+     * Indexes of the players who can block the ball carrier.
+     */
+    private final int[] blockers;
+
+    /**
+     * Indexes of the players who can carry the ball.
+     */
+    private final int[] carriers;
+
+    /**
+     * Dice rolled by each player for each test.
+     */
+    private final int[] dice;
+
+    /**
+     * Number of players.
+     */
+    private final int   size;
+
+    /**
+     * Points scored by each player on a successful strike.
+     */
+    private final int[] strikeValues;
+
+    /**
+     * Value to reach with each die, by player and test.
+     */
+    private final int[] targets;
+
+    /**
+     * Constructs a snapshot of the roster.
+     * 
+     * @param roster
+     *            players to simulate
+     * @param bonuses
+     *            test receiving an additional die for each ability
+     */
+    SimulatedTeam(final PlayerRoster<?> roster,
+            final Map<Ability, ActionTest> bonuses) {
+        super();
+
+        final int[] carrierIndexes; // Carriers found
+        final int[] blockerIndexes; // Blockers found
+        int         carrierCount;   // Number of carriers
+        int         blockerCount;   // Number of blockers
+        TeamPlayer  player;         // Player to store
+        ActionTest  bonus;          // Test improved by an ability
+
+        size = roster.getPlayerCount();
+        dice = new int[size * TESTS];
+        targets = new int[size * TESTS];
+        strikeValues = new int[size];
+        carrierIndexes = new int[size];
+        blockerIndexes = new int[size];
+
+        Arrays.fill(dice, BASE_DICE);
+
+        carrierCount = 0;
+        blockerCount = 0;
+        for (int i = 0; i < size; i++) {
+            player = roster.getPlayerAt(i);
+
+            setTargets(i, player.getAttributes());
+
+            for (final Ability ability : player.getAbilities()) {
+                bonus = bonuses.get(ability);
+                if (bonus != null) {
+                    dice[(i * TESTS) + bonus.ordinal()]++;
+                }
+            }
+
+            if (isCarrier(player.getRole())) {
+                carrierIndexes[carrierCount] = i;
+                carrierCount++;
+            }
+            if (isBlocker(player.getRole())) {
+                blockerIndexes[blockerCount] = i;
+                blockerCount++;
+            }
+        }
+
+        carriers = Arrays.copyOf(carrierIndexes, carrierCount);
+        blockers = Arrays.copyOf(blockerIndexes, blockerCount);
+    }
+
+    /**
+     * Returns the indexes of the players who can block the ball carrier.
+     * 
+     * @return the indexes of the blockers
+     */
+    final int[] getBlockers() {
+        return blockers;
+    }
+
+    /**
+     * Returns the indexes of the players who can carry the ball.
+     * 
+     * @return the indexes of the carriers
+     */
+    final int[] getCarriers() {
+        return carriers;
+    }
+
+    /**
+     * Returns the dice rolled by the player for the test.
+     * 
+     * @param player
+     *            index of the player
+     * @param test
+     *            ordinal of the test
+     * @return the dice rolled
+     */
+    final int getDice(final int player, final int test) {
+        return dice[(player * TESTS) + test];
+    }
+
+    /**
+     * Returns the number of players.
+     * 
+     * @return the number of players
+     */
+    final int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the points scored by the player on a successful strike.
+     * 
+     * @param player
+     *            index of the player
+     * @return the points scored
+     */
+    final int getStrikeValue(final int player) {
+        return strikeValues[player];
+    }
+
+    /**
+     * Returns the value the player should reach with each die for the test.
+     * 
+     * @param player
+     *            index of the player
+     * @param test
+     *            ordinal of the test
+     * @return the value to reach
+     */
+    final int getTarget(final int player, final int test) {
+        return targets[(player * TESTS) + test];
+    }
+
+    /**
+     * Indicates if a player with the role blocks the ball carrier.
+     * 
+     * @param role
+     *            role to check
+     * @return {@code true} if the role blocks, {@code false} otherwise
+     */
+    private final Boolean isBlocker(final Role role) {
+        return role != Role.STRIKER;
+    }
+
+    /**
+     * Indicates if a player with the role can carry the ball.
+     * 
+     * @param role
+     *            role to check
+     * @return {@code true} if the role carries the ball, {@code false}
+     *         otherwise
+     */
+    private final Boolean isCarrier(final Role role) {
+        return role != Role.GUARD;
+    }
+
+    /**
+     * Stores the test values for the player.
+     * <p>
+     * Faster players strike from further away, scoring more points, between
+     * one and four.
+     * 
+     * @param player
+     *            index of the player
+     * @param attributes
+     *            attributes of the player
+     */
+    private final void setTargets(final int player,
+            final Attributes attributes) {
+        final int base; // First index for the player
+
+        base = player * TESTS;
+        targets[base + ActionTest.ARMOR.ordinal()] = attributes.getArmor();
+        targets[base + ActionTest.DODGE.ordinal()] = attributes.getSpeed();
+        targets[base + ActionTest.PICK_UP.ordinal()] = attributes.getSkill();
+        targets[base + ActionTest.SLAM.ordinal()] = attributes.getStrength();
+        targets[base + ActionTest.STRIKE.ordinal()] = attributes.getSkill();
+
+        strikeValues[player] = Math.max(1,
+                Math.min(4, attributes.getMovement() - 3));
+    }
+
+}
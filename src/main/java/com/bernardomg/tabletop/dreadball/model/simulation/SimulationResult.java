@@ -0,0 +1,231 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.simulation;
+
+import java.util.Objects;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Outcome of simulating a number of matches between two teams.
+ * <p>
+ * This is an immutable implementation.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class SimulationResult {
+
+    /**
+     * Points scored by the away team in all the matches.
+     */
+    private final long awayPoints;
+
+    /**
+     * Matches won by the away team.
+     */
+    private final long awayWins;
+
+    /**
+     * Points scored by the home team in all the matches.
+     */
+    private final long homePoints;
+
+    /**
+     * Matches won by the home team.
+     */
+    private final long homeWins;
+
+    /**
+     * Matches simulated.
+     */
+    private final long trials;
+
+    /**
+     * Constructs a result with the specified values.
+     * 
+     * @param matches
+     *            matches simulated
+     * @param home
+     *            matches won by the home team
+     * @param away
+     *            matches won by the away team
+     * @param homeScored
+     *            points scored by the home team
+     * @param awayScored
+     *            points scored by the away team
+     */
+    SimulationResult(final long matches, final long home, final long away,
+            final long homeScored, final long awayScored) {
+        super();
+
+        trials = matches;
+        homeWins = home;
+        awayWins = away;
+        homePoints = homeScored;
+        awayPoints = awayScored;
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null) {
+            return false;
+        }
+
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final SimulationResult other;
+
+        other = (SimulationResult) obj;
+        return (trials == other.trials) && (homeWins == other.homeWins)
+                && (awayWins == other.awayWins)
+                && (homePoints == other.homePoints)
+                && (awayPoints == other.awayPoints);
+    }
+
+    /**
+     * Returns the average points scored by the away team in each match.
+     * 
+     * @return the average points scored by the away team
+     */
+    public final Double getAverageAwayPoints() {
+        return getAverage(awayPoints);
+    }
+
+    /**
+     * Returns the average points scored by the home team in each match.
+     * 
+     * @return the average points scored by the home team
+     */
+    public final Double getAverageHomePoints() {
+        return getAverage(homePoints);
+    }
+
+    /**
+     * Returns the probability of the away team winning.
+     * 
+     * @return the probability of the away team winning
+     */
+    public final Double getAwayWinProbability() {
+        return getAverage(awayWins);
+    }
+
+    /**
+     * Returns the matches won by the away team.
+     * 
+     * @return the matches won by the away team
+     */
+    public final Long getAwayWins() {
+        return awayWins;
+    }
+
+    /**
+     * Returns the probability of a draw.
+     * 
+     * @return the probability of a draw
+     */
+    public final Double getDrawProbability() {
+        return getAverage(getDraws());
+    }
+
+    /**
+     * Returns the matches which ended in a draw.
+     * 
+     * @return the matches which ended in a draw
+     */
+    public final Long getDraws() {
+        return trials - homeWins - awayWins;
+    }
+
+    /**
+     * Returns the probability of the home team winning.
+     * 
+     * @return the probability of the home team winning
+     */
+    public final Double getHomeWinProbability() {
+        return getAverage(homeWins);
+    }
+
+    /**
+     * Returns the matches won by the home team.
+     * 
+     * @return the matches won by the home team
+     */
+    public final Long getHomeWins() {
+        return homeWins;
+    }
+
+    /**
+     * Returns the number of matches simulated.
+     * 
+     * @return the number of matches simulated
+     */
+    public final Long getTrials() {
+        return trials;
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(trials, homeWins, awayWins, homePoints,
+                awayPoints);
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("trials", trials)
+                .add("homeWins", homeWins).add("awayWins", awayWins)
+                .add("draws", getDraws()).toString();
+    }
+
+    /**
+     * Returns the sum of this result and another one.
+     * 
+     * @param other
+     *            result to add
+     * @return the sum of both results
+     */
+    final SimulationResult add(final SimulationResult other) {
+        return new SimulationResult(trials + other.trials,
+                homeWins + other.homeWins, awayWins + other.awayWins,
+                homePoints + other.homePoints, awayPoints + other.awayPoints);
+    }
+
+    /**
+     * Returns the average of the value over the matches simulated.
+     * 
+     * @param value
+     *            value to average
+     * @return the average for each match
+     */
+    private final Double getAverage(final long value) {
+        final Double average; // Average for each match
+
+        if (trials == 0) {
+            average = 0.0;
+        } else {
+            average = (double) value / trials;
+        }
+
+        return average;
+    }
+
+}
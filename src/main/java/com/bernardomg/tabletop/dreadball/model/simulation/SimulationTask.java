@@ -0,0 +1,194 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.simulation;
+
+import java.util.Random;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Simulates a number of matches, splitting them into halves until they are
+ * few enough to simulate directly.
+ * <p>
+ * Each half receives its own random generator, seeded from the parent one,
+ * so the result only depends on the initial seed, and not on how the halves
+ * are scheduled. This allows running the same simulation either
+ * sequentially, or in parallel in a {@code ForkJoinPool}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+final class SimulationTask extends RecursiveTask<SimulationResult> {
+
+    /**
+     * Serialization id.
+     */
+    private static final long   serialVersionUID = 4377516236457710151L;
+
+    /**
+     * Maximum number of matches simulated without splitting.
+     */
+    private static final long   THRESHOLD        = 2048;
+
+    /**
+     * Away team.
+     */
+    private final SimulatedTeam away;
+
+    /**
+     * Home team.
+     */
+    private final SimulatedTeam home;
+
+    /**
+     * Source of random numbers.
+     */
+    private final Random        random;
+
+    /**
+     * Rushes played by each team.
+     */
+    private final int           rushes;
+
+    /**
+     * Matches to simulate.
+     */
+    private final long          trials;
+
+    /**
+     * Constructs a task for simulating the matches.
+     * 
+     * @param homeTeam
+     *            home team
+     * @param awayTeam
+     *            away team
+     * @param rushesPerTeam
+     *            rushes played by each team
+     * @param matches
+     *            matches to simulate
+     * @param rnd
+     *            source of random numbers
+     */
+    SimulationTask(final SimulatedTeam homeTeam, final SimulatedTeam awayTeam,
+            final int rushesPerTeam, final long matches,
+            final Random rnd) {
+        super();
+
+        home = homeTeam;
+        away = awayTeam;
+        rushes = rushesPerTeam;
+        trials = matches;
+        random = rnd;
+    }
+
+    @Override
+    protected final SimulationResult compute() {
+        final SimulationTask   left;   // First half
+        final SimulationTask   right;  // Second half
+        final SimulationResult result; // Result of the matches
+
+        if (trials <= THRESHOLD) {
+            result = simulateDirectly();
+        } else {
+            left = createLeft();
+            right = createRight();
+
+            left.fork();
+            result = right.compute().add(left.join());
+        }
+
+        return result;
+    }
+
+    /**
+     * Simulates the matches in the current thread.
+     * 
+     * @return the result of the matches
+     */
+    final SimulationResult simulate() {
+        final SimulationTask   left;   // First half
+        final SimulationTask   right;  // Second half
+        final SimulationResult result; // Result of the matches
+
+        if (trials <= THRESHOLD) {
+            result = simulateDirectly();
+        } else {
+            left = createLeft();
+            right = createRight();
+
+            result = left.simulate().add(right.simulate());
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates the task for the first half of the matches.
+     * <p>
+     * This should be called before {@link #createRight()}, as both take the
+     * seed of their generator from the parent one.
+     * 
+     * @return the task for the first half
+     */
+    private final SimulationTask createLeft() {
+        return new SimulationTask(home, away, rushes, trials / 2,
+                new Random(random.nextLong()));
+    }
+
+    /**
+     * Creates the task for the second half of the matches.
+     * 
+     * @return the task for the second half
+     */
+    private final SimulationTask createRight() {
+        return new SimulationTask(home, away, rushes, trials - (trials / 2),
+                new Random(random.nextLong()));
+    }
+
+    /**
+     * Simulates the matches one after another.
+     * 
+     * @return the result of the matches
+     */
+    private final SimulationResult simulateDirectly() {
+        final MatchSimulation match;      // Simulated match
+        long                  homeWins;   // Matches won by the home team
+        long                  awayWins;   // Matches won by the away team
+        long                  homePoints; // Points by the home team
+        long                  awayPoints; // Points by the away team
+
+        match = new MatchSimulation(home, away, rushes, random);
+
+        homeWins = 0;
+        awayWins = 0;
+        homePoints = 0;
+        awayPoints = 0;
+        for (long i = 0; i < trials; i++) {
+            match.play();
+
+            homePoints += match.getHomePoints();
+            awayPoints += match.getAwayPoints();
+            if (match.getHomePoints() > match.getAwayPoints()) {
+                homeWins++;
+            } else if (match.getAwayPoints() > match.getHomePoints()) {
+                awayWins++;
+            }
+        }
+
+        return new SimulationResult(trials, homeWins, awayWins, homePoints,
+                awayPoints);
+    }
+
+}
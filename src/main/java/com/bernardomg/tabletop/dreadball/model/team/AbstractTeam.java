@@ -17,42 +17,143 @@
 package com.bernardomg.tabletop.dreadball.model.team;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.team.event.ImmutableTeamChangeEvent;
+import com.bernardomg.tabletop.dreadball.model.team.event.TeamChange;
+import com.bernardomg.tabletop.dreadball.model.team.event.TeamChangeEvent;
+import com.bernardomg.tabletop.dreadball.model.team.event.TeamChangeListener;
+import com.google.common.base.Function;
 
 /**
  * Abstract root team representing the basic features all the Dreadball teams
  * have, no matter if they come from Dreadball Original (DBO) or Dreaball Xtreme
  * (DBX), serving as a root interface for both games.
+ * <p>
+ * Besides the players map, the players are kept in arrays sorted by position,
+ * which are used for the indexed access of {@link PlayerRoster}.
+ * <p>
+ * Changes can be grouped into batches, opened with {@link #beginBatch()} and
+ * closed with {@link #commitBatch()}. The team version only advances once
+ * for each batch, so any value derived from the team, and cached by version,
+ * is recomputed a single time after all the changes. Batches can be nested,
+ * and only the outermost commit advances the version.
+ * <p>
+ * A batch left open keeps the team from publishing any further change, so it
+ * should always be committed, even after an exception. The easiest way is
+ * closing the {@link TeamBatch} returned when opening it:
+ * 
+ * <pre>
+ * try (TeamBatch batch = team.beginBatch()) {
+ *     team.addPlayer(player);
+ *     team.setCheerleaders(2);
+ * }
+ * </pre>
+ * 
+ * Which is the same as committing it in a {@code finally} block:
+ * 
+ * <pre>
+ * team.beginBatch();
+ * try {
+ *     team.addPlayer(player);
+ *     team.setCheerleaders(2);
+ * } finally {
+ *     team.commitBatch();
+ * }
+ * </pre>
+ * <p>
+ * Each time the version advances the change listeners receive a single
+ * event, with all the kinds of change committed.
+ * <p>
+ * Players don't notify their own changes. When a player is changed directly,
+ * for example when it gains a rank, {@link #markPlayerChanged(Integer)}
+ * should be called afterwards, so the version advances and the listeners
+ * receive the change.
+ * <p>
+ * Implementations can offer copy constructors built over
+ * {@link #AbstractTeam(AbstractTeam, Function)}, which copies the roster
+ * arrays directly instead of adding the players one by one.
  * 
  * @author Bernardo Mart&iacute;nez Garrido
  *
  * @param <U>
  *            the type of player the team is composed of
  */
-public abstract class AbstractTeam<U extends TeamPlayer> implements Team<U> {
+public abstract class AbstractTeam<U extends TeamPlayer>
+        implements Team<U>, PlayerRoster<U> {
+
+    /**
+     * Initial capacity of the sorted players arrays.
+     */
+    private static final int                     INITIAL_CAPACITY = 16;
+
+    /**
+     * Number of batches open.
+     */
+    private int                                  batchDepth       = 0;
+
+    /**
+     * Listeners for the committed changes.
+     */
+    private final Collection<TeamChangeListener> listeners        = new CopyOnWriteArrayList<>();
+
+    /**
+     * Changes not yet committed.
+     */
+    private final Collection<TeamChange>         pendingChanges   = EnumSet
+            .noneOf(TeamChange.class);
+
+    /**
+     * Number of players in the team.
+     */
+    private int                                  playerCount      = 0;
 
     /**
      * Team's players.
      */
-    private final Map<Integer, U> playersMap       = new HashMap<>();
+    private final Map<Integer, U>                playersMap       = new HashMap<>();
+
+    /**
+     * Unmodifiable view of the team's players.
+     */
+    private final Map<Integer, U>                playersView      = Collections
+            .unmodifiableMap(playersMap);
+
+    /**
+     * Team's players, sorted by position.
+     */
+    private Object[]                             rosterPlayers    = new Object[INITIAL_CAPACITY];
+
+    /**
+     * Positions of the players, sorted.
+     */
+    private int[]                                rosterPositions  = new int[INITIAL_CAPACITY];
 
     /**
      * Number of Cheerleaders on the team.
      */
-    private Integer               teamCheerleaders = 0;
+    private Integer                              teamCheerleaders = 0;
 
     /**
      * Number of Coaching Dice in the team.
      */
-    private Integer               teamDice         = 0;
+    private Integer                              teamDice         = 0;
+
+    /**
+     * Version of the team, advanced with each committed change.
+     */
+    private long                                 version          = 0;
 
     /**
      * Default constructor.
@@ -61,31 +162,59 @@ public AbstractTeam() {
         super();
     }
 
-    @Override
-    public final void addPlayer(final U player) {
-        checkNotNull(player, "Received a null pointer as player");
+    /**
+     * Constructs a copy of the received team.
+     * <p>
+     * The players are passed through the copier, which may return the same
+     * player when it can be shared. The listeners are not copied, and the
+     * copy starts with its own version.
+     * 
+     * @param source
+     *            team to copy
+     * @param copier
+     *            function returning the player to store in the copy for each
+     *            player in the source
+     */
+    protected AbstractTeam(final AbstractTeam<? extends U> source,
+            final Function<? super U, ? extends U> copier) {
+        super();
 
-        final List<Integer> positions; // Team positions taken
-        final Integer maxPos;          // Maximum position
-        Integer position;              // Team position searched
+        U player; // Copied player
 
-        position = 1;
+        checkNotNull(source, "Received a null pointer as source team");
+        checkNotNull(copier, "Received a null pointer as copier");
+        checkArgument(!source.isInBatch(),
+                "Can't copy a team with a batch open");
 
-        if (getPlayersModifiable().isEmpty()) {
-            addPlayer(player, position);
-        } else {
-            positions = new ArrayList<>(getPlayersModifiable().keySet());
-            Collections.sort(positions);
+        playerCount = source.playerCount;
+        rosterPositions = Arrays.copyOf(source.rosterPositions,
+                source.rosterPositions.length);
+        rosterPlayers = new Object[source.rosterPlayers.length];
+        for (int i = 0; i < playerCount; i++) {
+            player = checkNotNull(copier.apply(source.getPlayerAt(i)),
+                    "Received a null pointer as copied player");
+            rosterPlayers[i] = player;
+            playersMap.put(rosterPositions[i], player);
+        }
 
-            maxPos = positions.get(positions.size() - 1);
-            while ((positions.contains(position)) && (position <= maxPos)) {
-                position++;
-            }
+        teamCheerleaders = source.teamCheerleaders;
+        teamDice = source.teamDice;
+    }
 
-            if (!positions.contains(position)) {
-                addPlayer(player, position);
-            }
+    @Override
+    public final void addPlayer(final U player) {
+        int position; // Team position searched
+
+        checkNotNull(player, "Received a null pointer as player");
+
+        // The first free position is searched
+        position = 1;
+        for (int i = 0; (i < playerCount)
+                && (rosterPositions[i] == position); i++) {
+            position++;
         }
+
+        addPlayer(player, position);
     }
 
     @Override
@@ -95,7 +224,62 @@ public final void addPlayer(final U player, final Integer position) {
 
         checkArgument(position > 0, "The position should be higher than zero");
 
-        getPlayersModifiable().put(position, player);
+        putPlayer(player, position);
+
+        markChanged(TeamChange.ROSTER);
+    }
+
+    /**
+     * Adds a listener for the committed changes.
+     * 
+     * @param listener
+     *            listener to add
+     */
+    public final void addChangeListener(final TeamChangeListener listener) {
+        checkNotNull(listener, "Received a null pointer as listener");
+
+        listeners.add(listener);
+    }
+
+    /**
+     * Opens a batch of changes.
+     * <p>
+     * Until the batch is committed, the team version won't advance. The
+     * batch is committed either with {@link #commitBatch()} or by closing
+     * the returned handle, which is meant for try-with-resources blocks.
+     * 
+     * @return a handle committing the batch when closed
+     */
+    public final TeamBatch beginBatch() {
+        batchDepth++;
+
+        return new TeamBatch(this);
+    }
+
+    /**
+     * Commits the current batch of changes.
+     * <p>
+     * If this closes the outermost batch, and the team changed, then the
+     * version advances.
+     */
+    public final void commitBatch() {
+        checkState(batchDepth > 0, "There is no batch to commit");
+
+        batchDepth--;
+
+        if ((batchDepth == 0) && (!pendingChanges.isEmpty())) {
+            commitChanges();
+        }
+    }
+
+    @Override
+    public final void
+            forEachPlayer(final TeamPlayerVisitor<? super U> visitor) {
+        checkNotNull(visitor, "Received a null pointer as visitor");
+
+        for (int i = 0; i < playerCount; i++) {
+            visitor.visit(rosterPositions[i], getPlayerAt(i));
+        }
     }
 
     @Override
@@ -108,33 +292,243 @@ public final Integer getCoachingDice() {
         return teamDice;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public final U getPlayerAt(final int index) {
+        checkElementIndex(index, playerCount);
+
+        return (U) rosterPlayers[index];
+    }
+
+    @Override
+    public final int getPlayerCount() {
+        return playerCount;
+    }
+
     @Override
     public final Map<Integer, U> getPlayers() {
-        return Collections.unmodifiableMap(getPlayersModifiable());
+        return playersView;
+    }
+
+    @Override
+    public final int getPositionAt(final int index) {
+        checkElementIndex(index, playerCount);
+
+        return rosterPositions[index];
+    }
+
+    /**
+     * Returns the team version.
+     * <p>
+     * This advances each time a change is committed, either on its own or as
+     * part of a batch.
+     * 
+     * @return the team version
+     */
+    public final long getVersion() {
+        return version;
+    }
+
+    /**
+     * Indicates if there is a batch open.
+     * 
+     * @return {@code true} if there is a batch open, {@code false} otherwise
+     */
+    public final Boolean isInBatch() {
+        return batchDepth > 0;
+    }
+
+    /**
+     * Marks the player at the position as changed.
+     * <p>
+     * This should be called after changing any value of the player, as the
+     * team can't know about those changes otherwise. Like any other change,
+     * it is committed along the current batch, if there is one.
+     * 
+     * @param position
+     *            position of the changed player
+     */
+    public final void markPlayerChanged(final Integer position) {
+        checkNotNull(position, "Received a null pointer as position");
+        checkArgument(playersMap.containsKey(position),
+                "No player at position %s", position);
+
+        markChanged(TeamChange.PLAYERS);
+    }
+
+    /**
+     * Moves a player to a new position.
+     * <p>
+     * If there is a player in the new position then both are swapped.
+     * 
+     * @param from
+     *            position of the player to move
+     * @param to
+     *            new position for the player
+     */
+    public final void movePlayer(final Integer from, final Integer to) {
+        final U moved;     // Player to move
+        final U displaced; // Player in the new position
+
+        checkNotNull(from, "Received a null pointer as origin position");
+        checkNotNull(to, "Received a null pointer as target position");
+        checkArgument(to > 0, "The position should be higher than zero");
+
+        moved = playersMap.get(from);
+        checkArgument(moved != null, "No player at position %s", from);
+
+        if (!from.equals(to)) {
+            displaced = playersMap.get(to);
+
+            deletePlayer(from);
+            putPlayer(moved, to);
+            if (displaced != null) {
+                putPlayer(displaced, from);
+            }
+
+            markChanged(TeamChange.ROSTER);
+        }
+    }
+
+    /**
+     * Removes a listener for the committed changes.
+     * 
+     * @param listener
+     *            listener to remove
+     */
+    public final void
+            removeChangeListener(final TeamChangeListener listener) {
+        listeners.remove(listener);
     }
 
     @Override
     public final void removePlayer(final Integer position) {
-        getPlayersModifiable().remove(position);
+        if ((position != null) && playersMap.containsKey(position)) {
+            deletePlayer(position);
+
+            markChanged(TeamChange.ROSTER);
+        }
     }
 
     @Override
     public final void setCheerleaders(final Integer cheerleaders) {
         teamCheerleaders = cheerleaders;
+
+        markChanged(TeamChange.ASSETS);
     }
 
     @Override
     public final void setCoachingDice(final Integer dice) {
         teamDice = dice;
+
+        markChanged(TeamChange.ASSETS);
     }
 
     /**
-     * Returns the team's modifiable map of players.
+     * Marks the team as changed.
+     * <p>
+     * Outside a batch this advances the version, otherwise the change is
+     * committed along the batch.
      * 
-     * @return the team's modifiable map of players
+     * @param change
+     *            kind of change
+     */
+    protected final void markChanged(final TeamChange change) {
+        pendingChanges.add(change);
+
+        if (batchDepth == 0) {
+            commitChanges();
+        }
+    }
+
+    /**
+     * Commits the pending changes, advancing the version and notifying the
+     * listeners.
      */
-    protected final Map<Integer, U> getPlayersModifiable() {
-        return playersMap;
+    private final void commitChanges() {
+        final TeamChangeEvent event; // Committed changes
+
+        version++;
+
+        if (listeners.isEmpty()) {
+            pendingChanges.clear();
+        } else {
+            event = new ImmutableTeamChangeEvent(this, pendingChanges,
+                    version);
+            pendingChanges.clear();
+
+            for (final TeamChangeListener listener : listeners) {
+                listener.onChange(event);
+            }
+        }
+    }
+
+    /**
+     * Removes the player at the position from the map and the sorted arrays.
+     * 
+     * @param position
+     *            position to empty
+     */
+    private final void deletePlayer(final int position) {
+        final int index; // Index for the position
+
+        playersMap.remove(position);
+
+        index = Arrays.binarySearch(rosterPositions, 0, playerCount, position);
+
+        playerCount--;
+        System.arraycopy(rosterPositions, index + 1, rosterPositions, index,
+                playerCount - index);
+        System.arraycopy(rosterPlayers, index + 1, rosterPlayers, index,
+                playerCount - index);
+        rosterPlayers[playerCount] = null;
+    }
+
+    /**
+     * Inserts a player into the sorted arrays.
+     * 
+     * @param index
+     *            index where the player is inserted
+     * @param position
+     *            position of the player
+     * @param player
+     *            player to insert
+     */
+    private final void insertPlayer(final int index, final int position,
+            final U player) {
+        if (playerCount == rosterPositions.length) {
+            rosterPositions = Arrays.copyOf(rosterPositions, playerCount * 2);
+            rosterPlayers = Arrays.copyOf(rosterPlayers, playerCount * 2);
+        }
+
+        System.arraycopy(rosterPositions, index, rosterPositions, index + 1,
+                playerCount - index);
+        System.arraycopy(rosterPlayers, index, rosterPlayers, index + 1,
+                playerCount - index);
+        rosterPositions[index] = position;
+        rosterPlayers[index] = player;
+        playerCount++;
+    }
+
+    /**
+     * Stores the player at the position, in the map and the sorted arrays.
+     * 
+     * @param player
+     *            player to store
+     * @param position
+     *            position for the player
+     */
+    private final void putPlayer(final U player, final int position) {
+        final int index; // Index for the position
+
+        playersMap.put(position, player);
+
+        index = Arrays.binarySearch(rosterPositions, 0, playerCount, position);
+        if (index >= 0) {
+            rosterPlayers[index] = player;
+        } else {
+            insertPlayer(-(index + 1), position, player);
+        }
     }
 
 }
@@ -23,7 +23,9 @@
 
 import com.bernardomg.tabletop.dreadball.model.faction.TeamType;
 import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayers;
 import com.bernardomg.tabletop.dreadball.model.team.calculator.CostCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.event.TeamChange;
 import com.google.common.base.MoreObjects;
 
 /**
@@ -98,6 +100,29 @@ public DefaultAdvancementTeam(final TeamType type,
                 "Received a null pointer as valoration calculator");
     }
 
+    /**
+     * Constructs a copy of the received team.
+     * <p>
+     * The team type and valoration calculator are shared, while the players
+     * are copied. The listeners are not copied.
+     * 
+     * @param source
+     *            team to copy
+     */
+    public DefaultAdvancementTeam(final DefaultAdvancementTeam source) {
+        super(source, AdvancementTeamPlayers.copier());
+
+        teamType = source.teamType;
+        valorationCalculator = source.valorationCalculator;
+
+        defensiveCoachingStaff = source.defensiveCoachingStaff;
+        dreadballCards = source.dreadballCards;
+        name = source.name;
+        offensiveCoachingStaff = source.offensiveCoachingStaff;
+        supportCoachingStaff = source.supportCoachingStaff;
+        teamCash = source.teamCash;
+    }
+
     @Override
     public final boolean equals(final Object obj) {
         if (this == obj) {
@@ -168,31 +193,43 @@ public final void setCash(final Integer cash) {
         checkNotNull(cash, "Received a null pointer as cash");
 
         teamCash = cash;
+
+        markChanged(TeamChange.CASH);
     }
 
     @Override
     public final void setDefensiveCoachingStaff(final Boolean coach) {
         defensiveCoachingStaff = coach;
+
+        markChanged(TeamChange.ASSETS);
     }
 
     @Override
     public final void setDreadballCards(final Integer cards) {
         dreadballCards = cards;
+
+        markChanged(TeamChange.ASSETS);
     }
 
     @Override
     public final void setName(final String teamName) {
         name = teamName;
+
+        markChanged(TeamChange.NAME);
     }
 
     @Override
     public final void setOffensiveCoachingStaff(final Boolean coach) {
         offensiveCoachingStaff = coach;
+
+        markChanged(TeamChange.ASSETS);
     }
 
     @Override
     public final void setSupportCoachingStaff(final Boolean coach) {
         supportCoachingStaff = coach;
+
+        markChanged(TeamChange.ASSETS);
     }
 
     @Override
@@ -24,15 +24,21 @@
 import java.util.Collections;
 import java.util.Objects;
 
+import com.bernardomg.tabletop.dreadball.model.faction.DefaultSponsor;
 import com.bernardomg.tabletop.dreadball.model.faction.Sponsor;
 import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayers;
 import com.bernardomg.tabletop.dreadball.model.player.stats.AffinityGroup;
 import com.bernardomg.tabletop.dreadball.model.team.calculator.CostCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.event.TeamChange;
 import com.google.common.base.MoreObjects;
 
 /**
  * Dreadball Xtreme (DBX) team, composed of players with affinities, and a
  * Sponsor which changes over time.
+ * <p>
+ * Changes to the Sponsor are published to the change listeners after calling
+ * {@link #markSponsorChanged()}.
  * 
  * @author Bernardo Mart&iacute;nez Garrido
  */
@@ -107,14 +113,43 @@ public DefaultSponsorTeam(final Sponsor teamSponsor,
                 "Received a null pointer as rank cost calculator");
     }
 
+    /**
+     * Constructs a copy of the received team.
+     * <p>
+     * The calculators are shared, and the players are copied with
+     * {@link TeamPlayers#copyOf}. The sponsor is copied when it is a
+     * {@code DefaultSponsor}, and shared otherwise. The listeners are not
+     * copied.
+     * 
+     * @param source
+     *            team to copy
+     */
+    public DefaultSponsorTeam(final DefaultSponsorTeam source) {
+        super(source, TeamPlayers.copier());
+
+        sponsor = copySponsor(source.sponsor);
+        valorationCalculator = source.valorationCalculator;
+        rankCostCalculator = source.rankCostCalculator;
+
+        affinities.addAll(source.affinities);
+        mediBots = source.mediBots;
+        nastySurpriseCards = source.nastySurpriseCards;
+        specialMoveCards = source.specialMoveCards;
+        wagers = source.wagers;
+    }
+
     @Override
     public final void addAdditionalAffinityGroup(final AffinityGroup affinity) {
         getAffinityGroupsModifiable().add(affinity);
+
+        markChanged(TeamChange.AFFINITIES);
     }
 
     @Override
     public final void clearAdditionalAffinityGroups() {
         getAffinityGroupsModifiable().clear();
+
+        markChanged(TeamChange.AFFINITIES);
     }
 
     @Override
@@ -193,24 +228,43 @@ public final int hashCode() {
         return Objects.hashCode(sponsor);
     }
 
+    /**
+     * Marks the Sponsor as changed.
+     * <p>
+     * The Sponsor doesn't notify its own changes, so this should be called
+     * after changing it, for example after setting its cash or rank, so the
+     * listeners receive the change.
+     */
+    public final void markSponsorChanged() {
+        markChanged(TeamChange.SPONSOR);
+    }
+
     @Override
     public final void setMediBots(final Integer medibots) {
         mediBots = medibots;
+
+        markChanged(TeamChange.ASSETS);
     }
 
     @Override
     public final void setNastySurpriseCards(final Integer cards) {
         nastySurpriseCards = cards;
+
+        markChanged(TeamChange.ASSETS);
     }
 
     @Override
     public final void setSpecialMoveCards(final Integer cards) {
         specialMoveCards = cards;
+
+        markChanged(TeamChange.ASSETS);
     }
 
     @Override
     public final void setWagers(final Integer teamWagers) {
         wagers = teamWagers;
+
+        markChanged(TeamChange.ASSETS);
     }
 
     @Override
@@ -219,6 +273,27 @@ public final String toString() {
                 .add("players", getPlayers()).toString();
     }
 
+    /**
+     * Returns the sponsor to store in a copy of the team.
+     * <p>
+     * A {@code DefaultSponsor} is copied, any other is shared.
+     * 
+     * @param source
+     *            sponsor to copy
+     * @return the sponsor for the copy
+     */
+    private final Sponsor copySponsor(final Sponsor source) {
+        final Sponsor copy; // Sponsor for the copy
+
+        if (source instanceof DefaultSponsor) {
+            copy = new DefaultSponsor((DefaultSponsor) source);
+        } else {
+            copy = source;
+        }
+
+        return copy;
+    }
+
     /**
      * Returns the modifiable collection with the additiona affinity groups.
      * 
@@ -0,0 +1,92 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+
+/**
+ * Roster copied from the players map of a team, for those teams which don't
+ * offer indexed access.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <U>
+ *            the type of player the team is composed of
+ */
+final class MapPlayerRoster<U extends TeamPlayer> implements PlayerRoster<U> {
+
+    /**
+     * Players, sorted by position.
+     */
+    private final List<U>       players   = new ArrayList<>();
+
+    /**
+     * Positions of the players.
+     */
+    private final List<Integer> positions = new ArrayList<>();
+
+    /**
+     * Constructs a roster with the players from the map.
+     * 
+     * @param playersMap
+     *            players of the team
+     */
+    public MapPlayerRoster(final Map<Integer, U> playersMap) {
+        super();
+
+        checkNotNull(playersMap, "Received a null pointer as players");
+
+        for (final Map.Entry<Integer, U> entry : new TreeMap<>(playersMap)
+                .entrySet()) {
+            positions.add(entry.getKey());
+            players.add(entry.getValue());
+        }
+    }
+
+    @Override
+    public final void
+            forEachPlayer(final TeamPlayerVisitor<? super U> visitor) {
+        checkNotNull(visitor, "Received a null pointer as visitor");
+
+        for (int i = 0; i < players.size(); i++) {
+            visitor.visit(positions.get(i), players.get(i));
+        }
+    }
+
+    @Override
+    public final U getPlayerAt(final int index) {
+        return players.get(index);
+    }
+
+    @Override
+    public final int getPlayerCount() {
+        return players.size();
+    }
+
+    @Override
+    public final int getPositionAt(final int index) {
+        return positions.get(index);
+    }
+
+}
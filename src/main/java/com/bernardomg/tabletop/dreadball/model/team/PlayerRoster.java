@@ -0,0 +1,71 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team;
+
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+
+/**
+ * Indexed access to the players of a team.
+ * <p>
+ * Players are sorted by their position, and the indexes go from zero to the
+ * number of players, exclusive. Reading the players through this interface
+ * doesn't create views or iterators, which makes it the preferred way to read
+ * them in loops which are run often, such as calculators.
+ * <p>
+ * The indexes are only valid until the players of the team change.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <U>
+ *            the type of player the team is composed of
+ */
+public interface PlayerRoster<U extends TeamPlayer> {
+
+    /**
+     * Visits all the players in the team, sorted by position.
+     * 
+     * @param visitor
+     *            visitor for the players
+     */
+    public void forEachPlayer(final TeamPlayerVisitor<? super U> visitor);
+
+    /**
+     * Returns the player at the specified index.
+     * 
+     * @param index
+     *            index of the player
+     * @return the player at the index
+     */
+    public U getPlayerAt(final int index);
+
+    /**
+     * Returns the number of players in the team.
+     * 
+     * @return the number of players in the team
+     */
+    public int getPlayerCount();
+
+    /**
+     * Returns the position of the player at the specified index.
+     * 
+     * @param index
+     *            index of the player
+     * @return the position of the player at the index
+     */
+    public int getPositionAt(final int index);
+
+}
@@ -0,0 +1,67 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+
+/**
+ * Utilities for acquiring the roster of a team.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class Rosters {
+
+    /**
+     * Returns the roster for the team.
+     * <p>
+     * If the team offers indexed access, such as any team extending
+     * {@link AbstractTeam}, then the team itself is returned. Otherwise its
+     * players are copied into a new roster.
+     * 
+     * @param <U>
+     *            the type of player the team is composed of
+     * @param team
+     *            team to read
+     * @return the roster for the team
+     */
+    @SuppressWarnings("unchecked")
+    public static final <U extends TeamPlayer> PlayerRoster<U>
+            of(final Team<U> team) {
+        final PlayerRoster<U> roster; // Team roster
+
+        checkNotNull(team, "Received a null pointer as team");
+
+        if (team instanceof PlayerRoster) {
+            // Teams are rosters of the same players
+            roster = (PlayerRoster<U>) team;
+        } else {
+            roster = new MapPlayerRoster<>(team.getPlayers());
+        }
+
+        return roster;
+    }
+
+    /**
+     * Private constructor to avoid initialization.
+     */
+    private Rosters() {
+        super();
+    }
+
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package com.bernardomg.tabletop.dreadball.model.team;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Batch of changes open in a team.
+ * <p>
+ * Closing it commits the batch, so it can be used in a try-with-resources
+ * block. Closing it again does nothing.
+ * <p>
+ * Changes are applied to the team as they are made, so closing the batch
+ * after an exception still commits them. The team can't undo them, but the
+ * version advances, so no value cached for the old version is kept.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TeamBatch implements AutoCloseable {
+
+    /**
+     * Flag telling if the batch was already committed.
+     */
+    private boolean               closed = false;
+
+    /**
+     * Team where the batch is open.
+     */
+    private final AbstractTeam<?> team;
+
+    /**
+     * Constructs a batch for the team.
+     * 
+     * @param batched
+     *            team where the batch is open
+     */
+    TeamBatch(final AbstractTeam<?> batched) {
+        super();
+
+        team = checkNotNull(batched, "Received a null pointer as team");
+    }
+
+    /**
+     * Commits the batch, if it wasn't already.
+     */
+    @Override
+    public final void close() {
+        if (!closed) {
+            closed = true;
+            team.commitBatch();
+        }
+    }
+
+}
@@ -0,0 +1,41 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team;
+
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+
+/**
+ * Receives each of the players in a team, along their positions.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <U>
+ *            the type of player being visited
+ */
+public interface TeamPlayerVisitor<U extends TeamPlayer> {
+
+    /**
+     * Visits a player.
+     * 
+     * @param position
+     *            position of the player
+     * @param player
+     *            player being visited
+     */
+    public void visit(final int position, final U player);
+
+}
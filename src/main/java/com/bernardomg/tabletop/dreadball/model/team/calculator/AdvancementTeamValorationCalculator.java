@@ -21,7 +21,10 @@
 import java.io.Serializable;
 
 import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.DefaultAdvancementTeamPlayer;
 import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+import com.bernardomg.tabletop.dreadball.model.team.PlayerRoster;
+import com.bernardomg.tabletop.dreadball.model.team.Rosters;
 
 /**
  * Team valoration calculator for an {@code AdvancementTeam}.
@@ -29,7 +32,8 @@
  * @author Bernardo Mart&iacute;nez Garrido
  */
 public final class AdvancementTeamValorationCalculator
-        implements CostCalculator<AdvancementTeam>, Serializable {
+        implements CostBreakdownCalculator<AdvancementTeam>,
+        WideCostCalculator<AdvancementTeam>, Serializable {
 
     /**
      * Serialization id.
@@ -95,13 +99,16 @@ public AdvancementTeamValorationCalculator(final Integer dieCost,
      */
     @Override
     public final Integer getCost(final AdvancementTeam team) {
-        Integer valoration;
+        final PlayerRoster<AdvancementTeamPlayer> roster; // Team players
+        Integer                                   valoration;
 
         checkNotNull(team, "Received a null pointer as the team");
 
+        roster = Rosters.of(team);
+
         valoration = team.getCash();
-        for (final AdvancementTeamPlayer player : team.getPlayers().values()) {
-            valoration += player.getValoration();
+        for (int i = 0; i < roster.getPlayerCount(); i++) {
+            valoration += roster.getPlayerAt(i).getValoration();
         }
 
         valoration += team.getCoachingDice() * getCostDie();
@@ -121,6 +128,101 @@ public final Integer getCost(final AdvancementTeam team) {
         return valoration;
     }
 
+    /**
+     * Stores a team's valoration, split by lines, into the breakdown.
+     * 
+     * @param team
+     *            the team of which the valoration will be calculated
+     * @param breakdown
+     *            the breakdown where the valoration lines will be stored
+     */
+    @Override
+    public final void getCostBreakdown(final AdvancementTeam team,
+            final CostBreakdown breakdown) {
+        final PlayerRoster<AdvancementTeamPlayer> roster; // Team players
+
+        checkNotNull(team, "Received a null pointer as the team");
+        checkNotNull(breakdown, "Received a null pointer as the breakdown");
+
+        breakdown.clear();
+
+        breakdown.addAssetCost(TeamAsset.CASH, team.getCash());
+        roster = Rosters.of(team);
+        for (int i = 0; i < roster.getPlayerCount(); i++) {
+            breakdown.addPlayerCost(roster.getPositionAt(i),
+                    roster.getPlayerAt(i).getValoration());
+        }
+
+        breakdown.addAssetCost(TeamAsset.COACHING_DICE,
+                team.getCoachingDice() * getCostDie());
+        breakdown.addAssetCost(TeamAsset.DREADBALL_CARDS,
+                team.getDreadballCards() * getCostCard());
+        breakdown.addAssetCost(TeamAsset.CHEERLEADERS,
+                team.getCheerleaders() * getCostCheerleader());
+
+        if (team.getDefensiveCoachingStaff()) {
+            breakdown.addAssetCost(TeamAsset.DEFENSIVE_COACHING_STAFF,
+                    getCostCoaching());
+        }
+        if (team.getOffensiveCoachingStaff()) {
+            breakdown.addAssetCost(TeamAsset.OFFENSIVE_COACHING_STAFF,
+                    getCostCoaching());
+        }
+        if (team.getSupportCoachingStaff()) {
+            breakdown.addAssetCost(TeamAsset.SUPPORT_COACHING_STAFF,
+                    getCostCoaching());
+        }
+    }
+
+    /**
+     * Adds a team's valoration terms to the accumulator.
+     * <p>
+     * The valoration of a {@link DefaultAdvancementTeamPlayer} is summed into a
+     * {@code long}, so it never overflows. Any other player's valoration is
+     * added as the player returns it.
+     * 
+     * @param team
+     *            the team of which the valoration will be calculated
+     * @param accumulator
+     *            the accumulator where the valoration terms will be added
+     */
+    @Override
+    public final void getCostTerms(final AdvancementTeam team,
+            final CostAccumulator accumulator) {
+        final PlayerRoster<AdvancementTeamPlayer> roster; // Team players
+        AdvancementTeamPlayer                     player; // Valorated player
+
+        checkNotNull(team, "Received a null pointer as the team");
+        checkNotNull(accumulator, "Received a null pointer as the accumulator");
+
+        accumulator.addCost(team.getCash());
+
+        roster = Rosters.of(team);
+        for (int i = 0; i < roster.getPlayerCount(); i++) {
+            player = roster.getPlayerAt(i);
+            if (player instanceof DefaultAdvancementTeamPlayer) {
+                accumulator.addCost(((DefaultAdvancementTeamPlayer) player)
+                        .getWideValoration());
+            } else {
+                accumulator.addCost(player.getValoration());
+            }
+        }
+
+        accumulator.addCost(team.getCoachingDice(), getCostDie());
+        accumulator.addCost(team.getDreadballCards(), getCostCard());
+        accumulator.addCost(team.getCheerleaders(), getCostCheerleader());
+
+        if (team.getDefensiveCoachingStaff()) {
+            accumulator.addCost(getCostCoaching());
+        }
+        if (team.getOffensiveCoachingStaff()) {
+            accumulator.addCost(getCostCoaching());
+        }
+        if (team.getSupportCoachingStaff()) {
+            accumulator.addCost(getCostCoaching());
+        }
+    }
+
     /**
      * Returns the cost of a dreadball card.
      * 
@@ -0,0 +1,151 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.calculator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Serializable;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Cost calculator which never returns an overflowed cost.
+ * <p>
+ * It wraps a {@link WideCostCalculator}, sums its cost terms exactly, and
+ * narrows the result, applying an {@link OverflowPolicy} when it does not fit
+ * into an {@code Integer}.
+ * <p>
+ * The result is only as exact as the terms received. Player valorations are
+ * exact for players which can widen them, such as a
+ * {@code DefaultAdvancementTeamPlayer} with the default valoration
+ * calculators, while any other player valoration is added as returned.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <T>
+ *            the type of object for calculating costs
+ */
+public final class CheckedCostCalculator<T>
+        implements CostCalculator<T>, Serializable {
+
+    /**
+     * Serialization id.
+     */
+    private static final long           serialVersionUID = 5238760170553296632L;
+
+    /**
+     * Calculator accumulating the cost.
+     */
+    private final WideCostCalculator<T> baseCalculator;
+
+    /**
+     * Action to take on overflows.
+     */
+    private final OverflowPolicy        policy;
+
+    /**
+     * Constructs a checked calculator with the specified arguments.
+     * 
+     * @param calculator
+     *            calculator accumulating the cost
+     * @param overflowPolicy
+     *            action to take on overflows
+     */
+    public CheckedCostCalculator(final WideCostCalculator<T> calculator,
+            final OverflowPolicy overflowPolicy) {
+        super();
+
+        baseCalculator = checkNotNull(calculator,
+                "Received a null pointer as calculator");
+        policy = checkNotNull(overflowPolicy,
+                "Received a null pointer as overflow policy");
+    }
+
+    /**
+     * Returns the cost of the received object.
+     * <p>
+     * If the cost does not fit into an {@code Integer} the overflow policy is
+     * applied, however large the cost is.
+     * 
+     * @param obj
+     *            the object of which the cost will be calculated
+     * @return the cost of the received object
+     */
+    @Override
+    public final Integer getCost(final T obj) {
+        final CostAccumulator accumulator; // Exact sum
+        final Integer cost;                // Narrowed cost
+
+        accumulator = new CostAccumulator();
+        getBaseCalculator().getCostTerms(obj, accumulator);
+
+        if ((accumulator.isLong())
+                && (accumulator.getSum() <= Integer.MAX_VALUE)
+                && (accumulator.getSum() >= Integer.MIN_VALUE)) {
+            cost = (int) accumulator.getSum();
+        } else {
+            checkOverflow(accumulator);
+            if (accumulator.getSignum() > 0) {
+                cost = Integer.MAX_VALUE;
+            } else {
+                cost = Integer.MIN_VALUE;
+            }
+        }
+
+        return cost;
+    }
+
+    /**
+     * Returns the overflow policy.
+     * 
+     * @return the overflow policy
+     */
+    public final OverflowPolicy getPolicy() {
+        return policy;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("calculator", baseCalculator).add("policy", policy)
+                .toString();
+    }
+
+    /**
+     * Throws an exception for the overflowed cost, if the policy requires
+     * failing.
+     * 
+     * @param accumulator
+     *            the overflowed cost
+     */
+    private final void checkOverflow(final CostAccumulator accumulator) {
+        if (getPolicy() == OverflowPolicy.FAIL) {
+            throw new ArithmeticException(
+                    String.format("Cost %s overflows an integer", accumulator));
+        }
+    }
+
+    /**
+     * Returns the calculator accumulating the cost.
+     * 
+     * @return the calculator accumulating the cost
+     */
+    private final WideCostCalculator<T> getBaseCalculator() {
+        return baseCalculator;
+    }
+
+}
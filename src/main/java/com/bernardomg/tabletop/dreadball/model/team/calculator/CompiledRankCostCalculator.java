@@ -0,0 +1,195 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.calculator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Serializable;
+
+import com.bernardomg.tabletop.dreadball.model.team.SponsorTeam;
+
+/**
+ * Calculates the rank cost of a {@link SponsorTeam}, using a packed asset
+ * vector.
+ * <p>
+ * The costs are stored in a primitive array in the same order as the packed
+ * assets, so the rank cost is just the dot product of both vectors. It gives
+ * the same results as {@link DefaultRankCostCalculator}.
+ * <p>
+ * Assets can be packed with {@link #pack(SponsorTeam, int[], int)}, and many
+ * teams can be stored in a single array, each one on its own offset, so they
+ * can be evaluated with {@link #getCost(int[], int)} without touching the
+ * teams.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class CompiledRankCostCalculator
+        implements Serializable, CostCalculator<SponsorTeam> {
+
+    /**
+     * Number of values in a packed asset vector.
+     */
+    public static final int   ASSETS_SIZE       = 6;
+
+    /**
+     * Index of the Cheerleaders in a packed asset vector.
+     */
+    public static final int   INDEX_CHEERLEADER = 3;
+
+    /**
+     * Index of the Coaching Dice in a packed asset vector.
+     */
+    public static final int   INDEX_DIE         = 0;
+
+    /**
+     * Index of the Medibots in a packed asset vector.
+     */
+    public static final int   INDEX_MEDIBOT     = 5;
+
+    /**
+     * Index of the Nasty Surprise Cards in a packed asset vector.
+     */
+    public static final int   INDEX_NASTY       = 1;
+
+    /**
+     * Index of the Special Move Cards in a packed asset vector.
+     */
+    public static final int   INDEX_SPECIAL     = 2;
+
+    /**
+     * Index of the Wagers in a packed asset vector.
+     */
+    public static final int   INDEX_WAGER       = 4;
+
+    /**
+     * Serialization id.
+     */
+    private static final long serialVersionUID  = 3197428420567123384L;
+
+    /**
+     * Costs for each asset, in the packed asset vector order.
+     */
+    private final int[]       costs             = new int[ASSETS_SIZE];
+
+    /**
+     * Constructs a rank cost calculator using the specified cost.
+     * <p>
+     * These costs will be applied to the team assets to find out the final
+     * cost.
+     * 
+     * @param dieCost
+     *            rank cost of a die
+     * @param nastySurpriseCardCost
+     *            rank cost of a nasty surprise card
+     * @param specialMoveCost
+     *            rank cost of a special move card
+     * @param cheerleaderCost
+     *            rank cost of a cheerleader
+     * @param wagerCost
+     *            rank cost of a wager
+     * @param mediBotCost
+     *            rank cost of a medibot
+     */
+    public CompiledRankCostCalculator(final Integer dieCost,
+            final Integer nastySurpriseCardCost, final Integer specialMoveCost,
+            final Integer cheerleaderCost, final Integer wagerCost,
+            final Integer mediBotCost) {
+        super();
+
+        costs[INDEX_DIE] = checkNotNull(dieCost,
+                "Received a null pointer as the dice cost");
+        costs[INDEX_NASTY] = checkNotNull(nastySurpriseCardCost,
+                "Received a null pointer as the nasty surprise card cost");
+        costs[INDEX_SPECIAL] = checkNotNull(specialMoveCost,
+                "Received a null pointer as the special move card cost");
+        costs[INDEX_CHEERLEADER] = checkNotNull(cheerleaderCost,
+                "Received a null pointer as the cheerleader cost");
+        costs[INDEX_WAGER] = checkNotNull(wagerCost,
+                "Received a null pointer as the wager cost");
+        costs[INDEX_MEDIBOT] = checkNotNull(mediBotCost,
+                "Received a null pointer as the medibot cost");
+    }
+
+    /**
+     * Returns the rank cost of a packed asset vector.
+     * 
+     * @param assets
+     *            array containing the packed assets
+     * @param offset
+     *            position of the first asset in the array
+     * @return the rank cost of the assets
+     */
+    public final int getCost(final int[] assets, final int offset) {
+        int valoration;
+
+        checkNotNull(assets, "Received a null pointer as the assets");
+        checkArgument((offset >= 0) && (offset + ASSETS_SIZE <= assets.length),
+                "Invalid offset %s for %s assets", offset, assets.length);
+
+        valoration = 0;
+        for (int i = 0; i < ASSETS_SIZE; i++) {
+            valoration += assets[offset + i] * costs[i];
+        }
+
+        return valoration;
+    }
+
+    /**
+     * Returns a {@code SponsorTeam}'s rank cost.
+     * 
+     * @param team
+     *            the {@code SponsorTeam} of which the rank cost will be
+     *            calculated
+     * @return the rank cost of the {@code SponsorTeam}
+     */
+    @Override
+    public final Integer getCost(final SponsorTeam team) {
+        checkNotNull(team, "Received a null pointer as the team");
+
+        return team.getCoachingDice() * costs[INDEX_DIE]
+                + team.getNastySurpriseCards() * costs[INDEX_NASTY]
+                + team.getSpecialMoveCards() * costs[INDEX_SPECIAL]
+                + team.getCheerleaders() * costs[INDEX_CHEERLEADER]
+                + team.getWagers() * costs[INDEX_WAGER]
+                + team.getMediBots() * costs[INDEX_MEDIBOT];
+    }
+
+    /**
+     * Packs the assets of a team into the received array.
+     * 
+     * @param team
+     *            team to pack
+     * @param assets
+     *            array where the assets will be stored
+     * @param offset
+     *            position of the first asset in the array
+     */
+    public final void pack(final SponsorTeam team, final int[] assets,
+            final int offset) {
+        checkNotNull(team, "Received a null pointer as the team");
+        checkNotNull(assets, "Received a null pointer as the assets");
+
+        assets[offset + INDEX_DIE] = team.getCoachingDice();
+        assets[offset + INDEX_NASTY] = team.getNastySurpriseCards();
+        assets[offset + INDEX_SPECIAL] = team.getSpecialMoveCards();
+        assets[offset + INDEX_CHEERLEADER] = team.getCheerleaders();
+        assets[offset + INDEX_WAGER] = team.getWagers();
+        assets[offset + INDEX_MEDIBOT] = team.getMediBots();
+    }
+
+}
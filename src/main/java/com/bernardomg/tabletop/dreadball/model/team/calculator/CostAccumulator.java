@@ -0,0 +1,157 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.calculator;
+
+import java.math.BigInteger;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Exact sum of cost terms.
+ * <p>
+ * The terms are accumulated into a {@code long}, and only if that overflows the
+ * sum moves to arbitrary precision. This way the sum is always exact, while
+ * the usual cases avoid any allocation.
+ * <p>
+ * It is filled by a {@link WideCostCalculator}, and read by the
+ * {@link CheckedCostCalculator}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class CostAccumulator {
+
+    /**
+     * Sum after overflowing a {@code long}.
+     * <p>
+     * It is {@code null} while the sum fits into a {@code long}.
+     */
+    private BigInteger overflowed;
+
+    /**
+     * Sum while it fits into a {@code long}.
+     */
+    private long       sum;
+
+    /**
+     * Default constructor.
+     */
+    public CostAccumulator() {
+        super();
+    }
+
+    /**
+     * Adds a cost to the sum.
+     * 
+     * @param cost
+     *            cost to add
+     */
+    public final void addCost(final long cost) {
+        add(cost);
+    }
+
+    /**
+     * Adds the cost of several units to the sum.
+     * <p>
+     * The product is made into a {@code long}, so it never overflows.
+     * 
+     * @param count
+     *            number of units
+     * @param unitCost
+     *            cost of each unit
+     */
+    public final void addCost(final int count, final int unitCost) {
+        add((long) count * unitCost);
+    }
+
+    @Override
+    public final String toString() {
+        final Object value; // Current sum
+
+        if (overflowed == null) {
+            value = sum;
+        } else {
+            value = overflowed;
+        }
+
+        return MoreObjects.toStringHelper(this).add("sum", value).toString();
+    }
+
+    /**
+     * Returns the sign of the sum.
+     * 
+     * @return -1, 0 or 1 as the sum is negative, zero or positive
+     */
+    final int getSignum() {
+        final int signum;
+
+        if (overflowed == null) {
+            signum = Long.signum(sum);
+        } else {
+            signum = overflowed.signum();
+        }
+
+        return signum;
+    }
+
+    /**
+     * Returns the sum, which is only valid if it fits into a {@code long}.
+     * 
+     * @return the sum
+     */
+    final long getSum() {
+        return sum;
+    }
+
+    /**
+     * Indicates if the sum fits into a {@code long}.
+     * 
+     * @return {@code true} if the sum fits into a {@code long}
+     */
+    final Boolean isLong() {
+        return overflowed == null;
+    }
+
+    /**
+     * Adds a value to the sum.
+     * 
+     * @param value
+     *            value to add
+     */
+    private final void add(final long value) {
+        final long result; // Sum after adding
+
+        if (overflowed == null) {
+            result = sum + value;
+
+            // Overflows only when both operands have the sign the result lacks
+            if (((sum ^ result) & (value ^ result)) < 0) {
+                overflowed = BigInteger.valueOf(sum)
+                        .add(BigInteger.valueOf(value));
+            } else {
+                sum = result;
+            }
+        } else {
+            overflowed = overflowed.add(BigInteger.valueOf(value));
+            if (overflowed.bitLength() < Long.SIZE) {
+                // Back inside the long range
+                sum = overflowed.longValue();
+                overflowed = null;
+            }
+        }
+    }
+
+}
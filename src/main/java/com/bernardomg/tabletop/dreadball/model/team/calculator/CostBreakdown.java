@@ -0,0 +1,187 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.calculator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Arrays;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Cost split into lines, one for each {@link TeamAsset} and one for each
+ * player.
+ * <p>
+ * It is meant to be reused. The storage is sized on construction, and is only
+ * enlarged when a team has more players than expected, so filling it does not
+ * allocate anything.
+ * <p>
+ * This is a mutable implementation, and it is not thread safe.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class CostBreakdown {
+
+    /**
+     * Cost of each asset, indexed by the asset ordinal.
+     */
+    private final int[] assetCosts = new int[TeamAsset.values().length];
+
+    /**
+     * Number of player lines stored.
+     */
+    private int         playerCount;
+
+    /**
+     * Cost of each player line.
+     */
+    private int[]       playerCosts;
+
+    /**
+     * Team position of each player line.
+     */
+    private int[]       playerPositions;
+
+    /**
+     * Sum of all the lines.
+     */
+    private int         total;
+
+    /**
+     * Constructs a breakdown with room for the specified number of players.
+     * 
+     * @param players
+     *            expected maximum number of players
+     */
+    public CostBreakdown(final Integer players) {
+        super();
+
+        checkNotNull(players, "Received a null pointer as players");
+        checkArgument(players >= 0, "The players should not be negative");
+
+        playerCosts = new int[players];
+        playerPositions = new int[players];
+    }
+
+    /**
+     * Removes all the lines.
+     */
+    public final void clear() {
+        Arrays.fill(assetCosts, 0);
+        playerCount = 0;
+        total = 0;
+    }
+
+    /**
+     * Returns the cost of the asset.
+     * 
+     * @param asset
+     *            asset to check
+     * @return the cost of the asset
+     */
+    public final int getAssetCost(final TeamAsset asset) {
+        return assetCosts[asset.ordinal()];
+    }
+
+    /**
+     * Returns the number of player lines.
+     * 
+     * @return the number of player lines
+     */
+    public final int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * Returns the cost of the player line at the index.
+     * 
+     * @param index
+     *            index of the player line
+     * @return the cost of the player line
+     */
+    public final int getPlayerCost(final int index) {
+        checkElementIndex(index, playerCount);
+
+        return playerCosts[index];
+    }
+
+    /**
+     * Returns the team position of the player line at the index.
+     * 
+     * @param index
+     *            index of the player line
+     * @return the team position of the player line
+     */
+    public final int getPlayerPosition(final int index) {
+        checkElementIndex(index, playerCount);
+
+        return playerPositions[index];
+    }
+
+    /**
+     * Returns the sum of all the lines.
+     * 
+     * @return the sum of all the lines
+     */
+    public final int getTotal() {
+        return total;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("assets", Arrays.toString(assetCosts))
+                .add("players", playerCount).add("total", total).toString();
+    }
+
+    /**
+     * Adds the cost of an asset.
+     * 
+     * @param asset
+     *            asset to add
+     * @param cost
+     *            cost of the asset
+     */
+    final void addAssetCost(final TeamAsset asset, final int cost) {
+        assetCosts[asset.ordinal()] += cost;
+        total += cost;
+    }
+
+    /**
+     * Adds a player line.
+     * 
+     * @param position
+     *            team position of the player
+     * @param cost
+     *            cost of the player
+     */
+    final void addPlayerCost(final int position, final int cost) {
+        if (playerCount == playerCosts.length) {
+            playerCosts = Arrays.copyOf(playerCosts, (playerCount * 2) + 1);
+            playerPositions = Arrays.copyOf(playerPositions,
+                    playerCosts.length);
+        }
+
+        playerPositions[playerCount] = position;
+        playerCosts[playerCount] = cost;
+        playerCount++;
+        total += cost;
+    }
+
+}
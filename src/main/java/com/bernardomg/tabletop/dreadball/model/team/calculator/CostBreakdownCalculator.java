@@ -0,0 +1,45 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.calculator;
+
+/**
+ * Cost calculator which can also split the cost into its lines.
+ * <p>
+ * The lines are stored into a {@link CostBreakdown} received from the caller,
+ * which can be reused between calls.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <T>
+ *            the type of object for calculating costs
+ */
+public interface CostBreakdownCalculator<T> extends CostCalculator<T> {
+
+    /**
+     * Stores the cost of the received object, split by lines, into the
+     * breakdown.
+     * <p>
+     * The breakdown is cleared before being filled.
+     * 
+     * @param obj
+     *            the object of which the cost will be calculated
+     * @param breakdown
+     *            the breakdown where the cost lines will be stored
+     */
+    public void getCostBreakdown(final T obj, final CostBreakdown breakdown);
+
+}
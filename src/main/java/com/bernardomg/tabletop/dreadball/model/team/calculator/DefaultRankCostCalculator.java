@@ -28,7 +28,8 @@
  * @author Bernardo Mart&iacute;nez Garrido
  */
 public final class DefaultRankCostCalculator
-        implements Serializable, CostCalculator<SponsorTeam> {
+        implements Serializable, CostBreakdownCalculator<SponsorTeam>,
+        WideCostCalculator<SponsorTeam> {
 
     /**
      * Serialization id.
@@ -130,6 +131,62 @@ public final Integer getCost(final SponsorTeam team) {
         return valoration;
     }
 
+    /**
+     * Stores a {@code SponsorTeam}'s rank cost, split by lines, into the
+     * breakdown.
+     * 
+     * @param team
+     *            the {@code SponsorTeam} of which the rank cost will be
+     *            calculated
+     * @param breakdown
+     *            the breakdown where the rank cost lines will be stored
+     */
+    @Override
+    public final void getCostBreakdown(final SponsorTeam team,
+            final CostBreakdown breakdown) {
+        checkNotNull(team, "Received a null pointer as the team");
+        checkNotNull(breakdown, "Received a null pointer as the breakdown");
+
+        breakdown.clear();
+
+        breakdown.addAssetCost(TeamAsset.COACHING_DICE,
+                team.getCoachingDice() * getDieCost());
+        breakdown.addAssetCost(TeamAsset.NASTY_SURPRISE_CARDS,
+                team.getNastySurpriseCards() * getNastySurpriseCardCost());
+        breakdown.addAssetCost(TeamAsset.SPECIAL_MOVE_CARDS,
+                team.getSpecialMoveCards() * getSpecialMoveCost());
+        breakdown.addAssetCost(TeamAsset.CHEERLEADERS,
+                team.getCheerleaders() * getCheerleaderCost());
+        breakdown.addAssetCost(TeamAsset.WAGERS,
+                team.getWagers() * getWagerCost());
+        breakdown.addAssetCost(TeamAsset.MEDIBOTS,
+                team.getMediBots() * getMediBotCost());
+    }
+
+    /**
+     * Adds a {@code SponsorTeam}'s rank cost terms to the accumulator.
+     * 
+     * @param team
+     *            the {@code SponsorTeam} of which the rank cost will be
+     *            calculated
+     * @param accumulator
+     *            the accumulator where the rank cost terms will be added
+     */
+    @Override
+    public final void getCostTerms(final SponsorTeam team,
+            final CostAccumulator accumulator) {
+        checkNotNull(team, "Received a null pointer as the team");
+        checkNotNull(accumulator, "Received a null pointer as the accumulator");
+
+        accumulator.addCost(team.getCoachingDice(), getDieCost());
+        accumulator.addCost(team.getNastySurpriseCards(),
+                getNastySurpriseCardCost());
+        accumulator.addCost(team.getSpecialMoveCards(), getSpecialMoveCost());
+        accumulator.addCost(team.getCheerleaders(), getCheerleaderCost());
+        accumulator.addCost(team.getWagers(), getWagerCost());
+        accumulator.addCost(team.getMediBots(), getMediBotCost());
+    }
+
     /**
      * Returns the cost of a cheerleader.
      * 
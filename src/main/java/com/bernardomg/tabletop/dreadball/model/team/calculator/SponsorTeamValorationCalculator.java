@@ -21,6 +21,8 @@
 import java.io.Serializable;
 
 import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.team.PlayerRoster;
+import com.bernardomg.tabletop.dreadball.model.team.Rosters;
 import com.bernardomg.tabletop.dreadball.model.team.SponsorTeam;
 
 /**
@@ -29,7 +31,8 @@
  * @author Bernardo Mart&iacute;nez Garrido
  */
 public final class SponsorTeamValorationCalculator
-        implements CostCalculator<SponsorTeam>, Serializable {
+        implements CostBreakdownCalculator<SponsorTeam>,
+        WideCostCalculator<SponsorTeam>, Serializable {
 
     /**
      * Serialization id.
@@ -114,13 +117,16 @@ public SponsorTeamValorationCalculator(final Integer dieCost,
      */
     @Override
     public final Integer getCost(final SponsorTeam team) {
-        Integer valoration;
+        final PlayerRoster<TeamPlayer> roster; // Team players
+        Integer                        valoration;
 
         checkNotNull(team, "Received a null pointer as the team");
 
+        roster = Rosters.of(team);
+
         valoration = 0;
-        for (final TeamPlayer player : team.getPlayers().values()) {
-            valoration += player.getCost();
+        for (int i = 0; i < roster.getPlayerCount(); i++) {
+            valoration += roster.getPlayerAt(i).getCost();
         }
 
         valoration += team.getCoachingDice() * getDieCost();
@@ -133,6 +139,73 @@ public final Integer getCost(final SponsorTeam team) {
         return valoration;
     }
 
+    /**
+     * Stores a team's valoration, split by lines, into the breakdown.
+     * 
+     * @param team
+     *            the team of which the valoration will be calculated
+     * @param breakdown
+     *            the breakdown where the valoration lines will be stored
+     */
+    @Override
+    public final void getCostBreakdown(final SponsorTeam team,
+            final CostBreakdown breakdown) {
+        final PlayerRoster<TeamPlayer> roster; // Team players
+
+        checkNotNull(team, "Received a null pointer as the team");
+        checkNotNull(breakdown, "Received a null pointer as the breakdown");
+
+        breakdown.clear();
+
+        roster = Rosters.of(team);
+        for (int i = 0; i < roster.getPlayerCount(); i++) {
+            breakdown.addPlayerCost(roster.getPositionAt(i),
+                    roster.getPlayerAt(i).getCost());
+        }
+
+        breakdown.addAssetCost(TeamAsset.COACHING_DICE,
+                team.getCoachingDice() * getDieCost());
+        breakdown.addAssetCost(TeamAsset.NASTY_SURPRISE_CARDS,
+                team.getNastySurpriseCards() * getSabotageCost());
+        breakdown.addAssetCost(TeamAsset.SPECIAL_MOVE_CARDS,
+                team.getSpecialMoveCards() * getSpecialMoveCost());
+        breakdown.addAssetCost(TeamAsset.CHEERLEADERS,
+                team.getCheerleaders() * getCheerleaderCost());
+        breakdown.addAssetCost(TeamAsset.WAGERS,
+                team.getWagers() * getWagerCost());
+        breakdown.addAssetCost(TeamAsset.MEDIBOTS,
+                team.getMediBots() * getMediBotCost());
+    }
+
+    /**
+     * Adds a team's valoration terms to the accumulator.
+     * 
+     * @param team
+     *            the team of which the valoration will be calculated
+     * @param accumulator
+     *            the accumulator where the valoration terms will be added
+     */
+    @Override
+    public final void getCostTerms(final SponsorTeam team,
+            final CostAccumulator accumulator) {
+        final PlayerRoster<TeamPlayer> roster; // Team players
+
+        checkNotNull(team, "Received a null pointer as the team");
+        checkNotNull(accumulator, "Received a null pointer as the accumulator");
+
+        roster = Rosters.of(team);
+        for (int i = 0; i < roster.getPlayerCount(); i++) {
+            accumulator.addCost(roster.getPlayerAt(i).getCost());
+        }
+
+        accumulator.addCost(team.getCoachingDice(), getDieCost());
+        accumulator.addCost(team.getNastySurpriseCards(), getSabotageCost());
+        accumulator.addCost(team.getSpecialMoveCards(), getSpecialMoveCost());
+        accumulator.addCost(team.getCheerleaders(), getCheerleaderCost());
+        accumulator.addCost(team.getWagers(), getWagerCost());
+        accumulator.addCost(team.getMediBots(), getMediBotCost());
+    }
+
     /**
      * Returns the cost of a cheerleader.
      * 
@@ -0,0 +1,83 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.calculator;
+
+/**
+ * Team assets which are taken into account when calculating costs.
+ * <p>
+ * Each calculator only uses the assets of the type of team it works with.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public enum TeamAsset {
+
+    /**
+     * Unspent cash.
+     */
+    CASH,
+
+    /**
+     * Cheerleaders.
+     */
+    CHEERLEADERS,
+
+    /**
+     * Coaching Dice.
+     */
+    COACHING_DICE,
+
+    /**
+     * Defensive Coaching Staff.
+     */
+    DEFENSIVE_COACHING_STAFF,
+
+    /**
+     * Dreadball Cards.
+     */
+    DREADBALL_CARDS,
+
+    /**
+     * Medibots.
+     */
+    MEDIBOTS,
+
+    /**
+     * Nasty Surprise (Sabotage) Cards.
+     */
+    NASTY_SURPRISE_CARDS,
+
+    /**
+     * Offensive Coaching Staff.
+     */
+    OFFENSIVE_COACHING_STAFF,
+
+    /**
+     * Special Move Cards.
+     */
+    SPECIAL_MOVE_CARDS,
+
+    /**
+     * Support Coaching Staff.
+     */
+    SUPPORT_COACHING_STAFF,
+
+    /**
+     * Wagers.
+     */
+    WAGERS
+
+}
@@ -0,0 +1,44 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.calculator;
+
+/**
+ * Cost calculator which can also hand its cost terms to a
+ * {@link CostAccumulator}.
+ * <p>
+ * The calculator makes no arithmetic with the terms, so the accumulator can
+ * sum them exactly. This allows detecting costs which do not fit into an
+ * {@code Integer}, instead of silently overflowing.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <T>
+ *            the type of object for calculating costs
+ */
+public interface WideCostCalculator<T> extends CostCalculator<T> {
+
+    /**
+     * Adds the cost terms of the received object to the accumulator.
+     * 
+     * @param obj
+     *            the object of which the cost will be calculated
+     * @param accumulator
+     *            the accumulator where the cost terms will be added
+     */
+    public void getCostTerms(final T obj, final CostAccumulator accumulator);
+
+}
@@ -0,0 +1,352 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.calculator.formula;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CostCalculator;
+
+/**
+ * Builds cost calculators from formulas over the getters of a type, such as
+ * {@code SponsorTeam} or {@code AdvancementTeam}.
+ * <p>
+ * The formula is a sum of terms:
+ * <ul>
+ * <li>Weighted getters, which multiply the value of a getter by a
+ * weight.</li>
+ * <li>Surcharges, which add a fixed cost when a getter is above a
+ * threshold.</li>
+ * <li>Constants.</li>
+ * <li>Other calculators, such as a players valoration.</li>
+ * </ul>
+ * Getters should return an {@code Integer} or a {@code Boolean}, which counts
+ * as one when it is {@code true}, and zero otherwise.
+ * <p>
+ * The terms are composed into a single method handle when added, so the
+ * built calculator doesn't interpret the formula on each call. The built
+ * calculators are not serializable.
+ * <p>
+ * For example, this builds the rank cost calculator for Sponsor teams:
+ * 
+ * <pre>
+ * new FormulaCalculatorBuilder&lt;&gt;(SponsorTeam.class)
+ *         .addTerm("getCoachingDice", 1)
+ *         .addTerm("getNastySurpriseCards", 2)
+ *         .addSurcharge("getWagers", 3, 10).build();
+ * </pre>
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <T>
+ *            the type of object to calculate the cost for
+ */
+public final class FormulaCalculatorBuilder<T> {
+
+    /**
+     * Type of the handles composing the formula.
+     */
+    private static final MethodType           FORMULA_TYPE = MethodType
+            .methodType(int.class, Object.class);
+
+    /**
+     * Lookup for the handles.
+     */
+    private static final MethodHandles.Lookup LOOKUP       = MethodHandles
+            .lookup();
+
+    /**
+     * Handle for the formula built so far.
+     */
+    private MethodHandle                      formula;
+
+    /**
+     * Type of object the formula is applied to.
+     */
+    private final Class<T>                    type;
+
+    /**
+     * Constructs a builder for the specified type.
+     * 
+     * @param formulaType
+     *            type of object the formula is applied to
+     */
+    public FormulaCalculatorBuilder(final Class<T> formulaType) {
+        super();
+
+        type = checkNotNull(formulaType, "Received a null pointer as type");
+
+        formula = MethodHandles.dropArguments(
+                MethodHandles.constant(int.class, 0), 0, Object.class);
+    }
+
+    /**
+     * Adds a calculator to the formula.
+     * 
+     * @param calculator
+     *            calculator to add
+     * @return this builder
+     */
+    public final FormulaCalculatorBuilder<T>
+            addCalculator(final CostCalculator<? super T> calculator) {
+        final MethodHandle cost; // Handle for the calculator
+
+        checkNotNull(calculator, "Received a null pointer as calculator");
+
+        try {
+            cost = LOOKUP
+                    .findVirtual(CostCalculator.class, "getCost", MethodType
+                            .methodType(Integer.class, Object.class))
+                    .bindTo(calculator);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return addHandle(MethodHandles.filterReturnValue(cost,
+                findStatic("toInt", int.class, Integer.class)));
+    }
+
+    /**
+     * Adds a constant to the formula.
+     * 
+     * @param value
+     *            constant to add
+     * @return this builder
+     */
+    public final FormulaCalculatorBuilder<T> addConstant(final Integer value) {
+        checkNotNull(value, "Received a null pointer as value");
+
+        return addHandle(MethodHandles.dropArguments(
+                MethodHandles.constant(int.class, value), 0, Object.class));
+    }
+
+    /**
+     * Adds a surcharge to the formula, applied when the getter value is above
+     * the threshold.
+     * 
+     * @param getter
+     *            name of the getter to check
+     * @param threshold
+     *            value the getter should surpass
+     * @param surcharge
+     *            cost to add
+     * @return this builder
+     */
+    public final FormulaCalculatorBuilder<T> addSurcharge(final String getter,
+            final Integer threshold, final Integer surcharge) {
+        final MethodHandle test;   // Checks the threshold
+        final MethodHandle charge; // Returns the surcharge
+        final MethodHandle none;   // Returns zero
+
+        checkNotNull(threshold, "Received a null pointer as threshold");
+        checkNotNull(surcharge, "Received a null pointer as surcharge");
+
+        test = MethodHandles.filterReturnValue(findGetter(getter),
+                MethodHandles.insertArguments(findStatic("isAbove",
+                        boolean.class, int.class, int.class), 0, threshold));
+        charge = MethodHandles.dropArguments(
+                MethodHandles.constant(int.class, surcharge), 0, Object.class);
+        none = MethodHandles.dropArguments(
+                MethodHandles.constant(int.class, 0), 0, Object.class);
+
+        return addHandle(MethodHandles.guardWithTest(test, charge, none));
+    }
+
+    /**
+     * Adds a weighted getter to the formula.
+     * 
+     * @param getter
+     *            name of the getter
+     * @param weight
+     *            weight to multiply the getter value by
+     * @return this builder
+     */
+    public final FormulaCalculatorBuilder<T> addTerm(final String getter,
+            final Integer weight) {
+        checkNotNull(weight, "Received a null pointer as weight");
+
+        return addHandle(MethodHandles.filterReturnValue(findGetter(getter),
+                MethodHandles.insertArguments(findStatic("multiply", int.class,
+                        int.class, int.class), 0, weight)));
+    }
+
+    /**
+     * Builds a calculator for the formula.
+     * 
+     * @return a calculator for the formula
+     */
+    public final CostCalculator<T> build() {
+        return new MethodHandleCostCalculator<>(formula);
+    }
+
+    /**
+     * Adds a term handle to the formula.
+     * 
+     * @param term
+     *            handle to add, receiving an {@code Object} and returning an
+     *            {@code int}
+     * @return this builder
+     */
+    private final FormulaCalculatorBuilder<T>
+            addHandle(final MethodHandle term) {
+        final MethodHandle sum; // Adds both handles
+
+        sum = MethodHandles.filterArguments(
+                findStatic("add", int.class, int.class, int.class), 0,
+                formula, term);
+
+        // Both handles receive the same argument
+        formula = MethodHandles.permuteArguments(sum, FORMULA_TYPE, 0, 0);
+
+        return this;
+    }
+
+    /**
+     * Returns a handle for the getter, which receives an {@code Object} and
+     * returns an {@code int}.
+     * 
+     * @param getter
+     *            name of the getter
+     * @return a handle for the getter
+     */
+    private final MethodHandle findGetter(final String getter) {
+        final Method       method;    // Getter method
+        final MethodHandle handle;    // Getter handle
+        final MethodHandle converter; // Return value conversion
+
+        checkNotNull(getter, "Received a null pointer as getter");
+
+        try {
+            method = type.getMethod(getter);
+            handle = LOOKUP.unreflect(method);
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid getter %s for %s", getter, type),
+                    e);
+        }
+
+        if (Integer.class.equals(method.getReturnType())) {
+            converter = findStatic("toInt", int.class, Integer.class);
+        } else if (Boolean.class.equals(method.getReturnType())) {
+            converter = findStatic("toInt", int.class, Boolean.class);
+        } else {
+            throw new IllegalArgumentException(String.format(
+                    "Getter %s should return an Integer or a Boolean",
+                    getter));
+        }
+
+        return MethodHandles.filterReturnValue(handle, converter)
+                .asType(FORMULA_TYPE);
+    }
+
+    /**
+     * Returns a handle for one of the static operations of this class.
+     * 
+     * @param name
+     *            name of the operation
+     * @param returnType
+     *            type returned
+     * @param params
+     *            parameter types
+     * @return a handle for the operation
+     */
+    private final MethodHandle findStatic(final String name,
+            final Class<?> returnType, final Class<?>... params) {
+        try {
+            return LOOKUP.findStatic(FormulaCalculatorBuilder.class, name,
+                    MethodType.methodType(returnType, params));
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Adds two values.
+     * 
+     * @param left
+     *            first value
+     * @param right
+     *            second value
+     * @return the sum of both values
+     */
+    private static final int add(final int left, final int right) {
+        return left + right;
+    }
+
+    /**
+     * Checks if a value is above a threshold.
+     * 
+     * @param threshold
+     *            the threshold
+     * @param value
+     *            value to check
+     * @return {@code true} if the value is above the threshold, {@code false}
+     *         otherwise
+     */
+    private static final boolean isAbove(final int threshold,
+            final int value) {
+        return value > threshold;
+    }
+
+    /**
+     * Multiplies two values.
+     * 
+     * @param weight
+     *            first value
+     * @param value
+     *            second value
+     * @return the product of both values
+     */
+    private static final int multiply(final int weight, final int value) {
+        return weight * value;
+    }
+
+    /**
+     * Transforms a flag into a number.
+     * 
+     * @param value
+     *            flag to transform
+     * @return one if the flag is {@code true}, zero otherwise
+     */
+    private static final int toInt(final Boolean value) {
+        int result;
+
+        if (value) {
+            result = 1;
+        } else {
+            result = 0;
+        }
+
+        return result;
+    }
+
+    /**
+     * Unboxes a number.
+     * 
+     * @param value
+     *            number to unbox
+     * @return the unboxed number
+     */
+    private static final int toInt(final Integer value) {
+        return value;
+    }
+
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.calculator.formula;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.lang.invoke.MethodHandle;
+
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CostCalculator;
+
+/**
+ * Cost calculator which delegates on a method handle.
+ * <p>
+ * The handle should receive an {@code Object} and return an {@code int}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <T>
+ *            the type of object to calculate the cost for
+ */
+final class MethodHandleCostCalculator<T> implements CostCalculator<T> {
+
+    /**
+     * Handle calculating the cost.
+     */
+    private final MethodHandle handle;
+
+    /**
+     * Constructs a calculator delegating on the handle.
+     * 
+     * @param costHandle
+     *            handle calculating the cost
+     */
+    public MethodHandleCostCalculator(final MethodHandle costHandle) {
+        super();
+
+        handle = checkNotNull(costHandle, "Received a null pointer as handle");
+    }
+
+    @Override
+    public final Integer getCost(final T value) {
+        checkNotNull(value, "Received a null pointer as value");
+
+        try {
+            return (int) handle.invokeExact((Object) value);
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
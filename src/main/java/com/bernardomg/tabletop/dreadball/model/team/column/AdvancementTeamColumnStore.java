@@ -0,0 +1,353 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.column;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.ruleset.CostRule;
+import com.bernardomg.tabletop.dreadball.model.ruleset.CostRuleset;
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+
+/**
+ * Columnar store for advancement teams.
+ * <p>
+ * The data of each team is stored as a row in parallel primitive arrays. The
+ * players of all the teams are stored in their own columns, and each team
+ * points to the first of its players, so the rows can be scanned without
+ * following any reference.
+ * <p>
+ * The bulk kernels reproduce the results of the
+ * {@code AdvancementTeamValorationCalculator} and
+ * {@code AdvancementTeamPlayerValorationCalculator} using the same costs.
+ * <p>
+ * The store only keeps a copy of the data, later changes to the teams are not
+ * reflected in it.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class AdvancementTeamColumnStore {
+
+    /**
+     * Flag for the Defensive Coaching Staff on the staff column.
+     */
+    public static final int STAFF_DEFENSIVE = 1;
+
+    /**
+     * Flag for the Offensive Coaching Staff on the staff column.
+     */
+    public static final int STAFF_OFFENSIVE = 2;
+
+    /**
+     * Flag for the Support Coaching Staff on the staff column.
+     */
+    public static final int STAFF_SUPPORT   = 4;
+
+    /**
+     * Cash column.
+     */
+    private int[]           cash;
+
+    /**
+     * Cheerleaders column.
+     */
+    private int[]           cheerleaders;
+
+    /**
+     * Coaching Dice column.
+     */
+    private int[]           dice;
+
+    /**
+     * Dreadball Cards column.
+     */
+    private int[]           dreadballCards;
+
+    /**
+     * Team ids column.
+     */
+    private int[]           ids;
+
+    /**
+     * Number of players stored.
+     */
+    private int             playerCount     = 0;
+
+    /**
+     * Players cost column.
+     */
+    private int[]           playerCost;
+
+    /**
+     * Players implant cost column.
+     */
+    private int[]           playerImplantCost;
+
+    /**
+     * Index of the first player of each team.
+     * <p>
+     * The players of a team end where those of the next one begin, so this
+     * has one more value than teams.
+     */
+    private int[]           playerOffsets;
+
+    /**
+     * Players rank column.
+     */
+    private int[]           playerRank;
+
+    /**
+     * Number of teams stored.
+     */
+    private int             size            = 0;
+
+    /**
+     * Coaching Staff flags column.
+     */
+    private byte[]          staff;
+
+    /**
+     * Constructs a store with the specified initial capacity.
+     * <p>
+     * The store grows when this capacity is exceeded.
+     * 
+     * @param teams
+     *            initial capacity for teams
+     * @param players
+     *            initial capacity for players
+     */
+    public AdvancementTeamColumnStore(final Integer teams,
+            final Integer players) {
+        super();
+
+        checkNotNull(teams, "Received a null pointer as teams capacity");
+        checkNotNull(players, "Received a null pointer as players capacity");
+        checkArgument(teams > 0, "The teams capacity should be positive");
+        checkArgument(players > 0, "The players capacity should be positive");
+
+        ids = new int[teams];
+        cash = new int[teams];
+        dice = new int[teams];
+        dreadballCards = new int[teams];
+        cheerleaders = new int[teams];
+        staff = new byte[teams];
+        playerOffsets = new int[teams + 1];
+
+        playerCost = new int[players];
+        playerRank = new int[players];
+        playerImplantCost = new int[players];
+    }
+
+    /**
+     * Adds a team to the store.
+     * 
+     * @param id
+     *            id for the team
+     * @param team
+     *            team to add
+     * @return the row where the team was stored
+     */
+    public final int add(final Integer id, final AdvancementTeam team) {
+        final int row; // Row for the team
+        int       staffFlags;
+
+        checkNotNull(id, "Received a null pointer as id");
+        checkNotNull(team, "Received a null pointer as team");
+
+        row = size;
+
+        ids = Columns.grow(ids, row + 1);
+        cash = Columns.grow(cash, row + 1);
+        dice = Columns.grow(dice, row + 1);
+        dreadballCards = Columns.grow(dreadballCards, row + 1);
+        cheerleaders = Columns.grow(cheerleaders, row + 1);
+        staff = Columns.grow(staff, row + 1);
+        playerOffsets = Columns.grow(playerOffsets, row + 2);
+
+        ids[row] = id;
+        cash[row] = team.getCash();
+        dice[row] = team.getCoachingDice();
+        dreadballCards[row] = team.getDreadballCards();
+        cheerleaders[row] = team.getCheerleaders();
+
+        staffFlags = 0;
+        if (team.getDefensiveCoachingStaff()) {
+            staffFlags |= STAFF_DEFENSIVE;
+        }
+        if (team.getOffensiveCoachingStaff()) {
+            staffFlags |= STAFF_OFFENSIVE;
+        }
+        if (team.getSupportCoachingStaff()) {
+            staffFlags |= STAFF_SUPPORT;
+        }
+        staff[row] = (byte) staffFlags;
+
+        playerCost = Columns.grow(playerCost,
+                playerCount + team.getPlayers().size());
+        playerRank = Columns.grow(playerRank,
+                playerCount + team.getPlayers().size());
+        playerImplantCost = Columns.grow(playerImplantCost,
+                playerCount + team.getPlayers().size());
+        for (final AdvancementTeamPlayer player : team.getPlayers().values()) {
+            playerCost[playerCount] = player.getCost();
+            playerRank[playerCount] = player.getRank();
+            playerImplantCost[playerCount] = player.getGraftedImplant()
+                    .getCost();
+            playerCount++;
+        }
+
+        size++;
+        playerOffsets[size] = playerCount;
+
+        return row;
+    }
+
+    /**
+     * Removes all the teams from the store.
+     * <p>
+     * The columns are kept, so they can be reused.
+     */
+    public final void clear() {
+        size = 0;
+        playerCount = 0;
+    }
+
+    /**
+     * Returns the id of the team at the row.
+     * 
+     * @param row
+     *            row of the team
+     * @return the id of the team
+     */
+    public final int getId(final int row) {
+        checkElementIndex(row, size);
+
+        return ids[row];
+    }
+
+    /**
+     * Returns the number of players of the team at the row.
+     * 
+     * @param row
+     *            row of the team
+     * @return the number of players of the team
+     */
+    public final int getPlayerCount(final int row) {
+        checkElementIndex(row, size);
+
+        return playerOffsets[row + 1] - playerOffsets[row];
+    }
+
+    /**
+     * Returns the number of teams in the store.
+     * 
+     * @return the number of teams in the store
+     */
+    public final int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the valoration of the team at the row.
+     * 
+     * @param row
+     *            row of the team
+     * @param rules
+     *            ruleset with the costs
+     * @return the valoration of the team
+     */
+    public final int getValoration(final int row, final CostRuleset rules) {
+        final int[] result; // Valoration of the team
+
+        checkElementIndex(row, size);
+        checkNotNull(rules, "Received a null pointer as rules");
+
+        result = new int[1];
+        valorate(rules, row, row + 1, result, 0);
+
+        return result[0];
+    }
+
+    /**
+     * Calculates the valoration of all the teams in the store.
+     * 
+     * @param rules
+     *            ruleset with the costs
+     * @param valorations
+     *            array where the valorations will be stored, by row
+     */
+    public final void valorate(final CostRuleset rules,
+            final int[] valorations) {
+        checkNotNull(rules, "Received a null pointer as rules");
+        checkNotNull(valorations, "Received a null pointer as valorations");
+        checkArgument(valorations.length >= size,
+                "The valorations array should hold %s values", size);
+
+        valorate(rules, 0, size, valorations, 0);
+    }
+
+    /**
+     * Calculates the valoration for a range of rows.
+     * 
+     * @param rules
+     *            ruleset with the costs
+     * @param from
+     *            first row, inclusive
+     * @param to
+     *            last row, exclusive
+     * @param valorations
+     *            array where the valorations will be stored
+     * @param offset
+     *            position in the array for the first row
+     */
+    private final void valorate(final CostRuleset rules, final int from,
+            final int to, final int[] valorations, final int offset) {
+        final int dieCost;          // Cost of a Coaching Die
+        final int cardCost;         // Cost of a Dreadball Card
+        final int cheerleaderCost;  // Cost of a Cheerleader
+        final int staffCost;        // Cost of a Coaching Staff
+        final int rankCost;         // Cost of each player rank
+        int       valoration;       // Valoration of a team
+        int       playerValoration; // Valoration of a player
+
+        dieCost = rules.getCost(CostRule.ADVANCEMENT_DIE);
+        cardCost = rules.getCost(CostRule.ADVANCEMENT_CARD);
+        cheerleaderCost = rules.getCost(CostRule.ADVANCEMENT_CHEERLEADER);
+        staffCost = rules.getCost(CostRule.ADVANCEMENT_COACHING_STAFF);
+        rankCost = rules.getCost(CostRule.PLAYER_RANK);
+
+        for (int row = from; row < to; row++) {
+            valoration = cash[row];
+            for (int p = playerOffsets[row]; p < playerOffsets[row + 1]; p++) {
+                // Same formula as the player valoration calculator
+                playerValoration = playerCost[p] + playerImplantCost[p]
+                        + (playerRank[p] * rankCost);
+                valoration += playerValoration;
+            }
+
+            valoration += dice[row] * dieCost;
+            valoration += dreadballCards[row] * cardCost;
+            valoration += cheerleaders[row] * cheerleaderCost;
+            valoration += Integer.bitCount(staff[row]) * staffCost;
+
+            valorations[offset + row - from] = valoration;
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.column;
+
+import java.util.Arrays;
+
+/**
+ * Utilities shared by the columnar stores.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+final class Columns {
+
+    /**
+     * Returns a column able to hold the required number of values.
+     * <p>
+     * If the column is too small a bigger copy is returned, otherwise the
+     * same column is returned.
+     * 
+     * @param column
+     *            column to grow
+     * @param required
+     *            number of values the column should hold
+     * @return a column able to hold the required values
+     */
+    public static final byte[] grow(final byte[] column, final int required) {
+        final byte[] result;
+
+        if (required > column.length) {
+            result = Arrays.copyOf(column,
+                    Math.max(required, column.length * 2));
+        } else {
+            result = column;
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a column able to hold the required number of values.
+     * <p>
+     * If the column is too small a bigger copy is returned, otherwise the
+     * same column is returned.
+     * 
+     * @param column
+     *            column to grow
+     * @param required
+     *            number of values the column should hold
+     * @return a column able to hold the required values
+     */
+    public static final int[] grow(final int[] column, final int required) {
+        final int[] result;
+
+        if (required > column.length) {
+            result = Arrays.copyOf(column,
+                    Math.max(required, column.length * 2));
+        } else {
+            result = column;
+        }
+
+        return result;
+    }
+
+    /**
+     * Private constructor to avoid initialization.
+     */
+    private Columns() {
+        super();
+    }
+
+}
@@ -0,0 +1,385 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.column;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Arrays;
+
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.ruleset.CostRule;
+import com.bernardomg.tabletop.dreadball.model.ruleset.CostRuleset;
+import com.bernardomg.tabletop.dreadball.model.team.SponsorTeam;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.TeamAsset;
+
+/**
+ * Columnar store for Sponsor teams.
+ * <p>
+ * The data of each team is stored as a row in parallel primitive arrays, so
+ * the rows can be scanned without following any reference. Of the players,
+ * only their number and total cost are kept for each team, as that is all
+ * the kernels need.
+ * <p>
+ * The kernels work a column at a time, adding each asset column multiplied
+ * by its cost to the results. This keeps the loops simple enough for the JIT
+ * compiler to vectorize them. When a single cost changes,
+ * {@link #reprice(TeamAsset, int, int, int[]) reprice} updates the previous
+ * results with just the affected column.
+ * <p>
+ * The bulk kernels reproduce the results of the
+ * {@code SponsorTeamValorationCalculator} and the
+ * {@code DefaultRankCostCalculator} using the same costs.
+ * <p>
+ * The store only keeps a copy of the data, later changes to the teams are not
+ * reflected in it.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class SponsorTeamColumnStore {
+
+    /**
+     * Cheerleaders column.
+     */
+    private int[] cheerleaders;
+
+    /**
+     * Coaching Dice column.
+     */
+    private int[] dice;
+
+    /**
+     * Team ids column.
+     */
+    private int[] ids;
+
+    /**
+     * Medibots column.
+     */
+    private int[] mediBots;
+
+    /**
+     * Nasty Surprise Cards column.
+     */
+    private int[] nastySurpriseCards;
+
+    /**
+     * Number of players column.
+     */
+    private int[] playerCounts;
+
+    /**
+     * Players total cost column.
+     */
+    private int[] playersTotal;
+
+    /**
+     * Sponsor rank column.
+     */
+    private int[] ranks;
+
+    /**
+     * Number of teams stored.
+     */
+    private int   size = 0;
+
+    /**
+     * Special Move Cards column.
+     */
+    private int[] specialMoveCards;
+
+    /**
+     * Wagers column.
+     */
+    private int[] wagers;
+
+    /**
+     * Constructs a store with the specified initial capacity.
+     * <p>
+     * The store grows when this capacity is exceeded.
+     * 
+     * @param teams
+     *            initial capacity for teams
+     */
+    public SponsorTeamColumnStore(final Integer teams) {
+        super();
+
+        checkNotNull(teams, "Received a null pointer as teams capacity");
+        checkArgument(teams > 0, "The teams capacity should be positive");
+
+        ids = new int[teams];
+        ranks = new int[teams];
+        dice = new int[teams];
+        nastySurpriseCards = new int[teams];
+        specialMoveCards = new int[teams];
+        cheerleaders = new int[teams];
+        wagers = new int[teams];
+        mediBots = new int[teams];
+        playersTotal = new int[teams];
+        playerCounts = new int[teams];
+    }
+
+    /**
+     * Adds a team to the store.
+     * 
+     * @param id
+     *            id for the team
+     * @param team
+     *            team to add
+     * @return the row where the team was stored
+     */
+    public final int add(final Integer id, final SponsorTeam team) {
+        final int row;   // Row for the team
+        int       total; // Players total cost
+
+        checkNotNull(id, "Received a null pointer as id");
+        checkNotNull(team, "Received a null pointer as team");
+
+        row = size;
+
+        ids = Columns.grow(ids, row + 1);
+        ranks = Columns.grow(ranks, row + 1);
+        dice = Columns.grow(dice, row + 1);
+        nastySurpriseCards = Columns.grow(nastySurpriseCards, row + 1);
+        specialMoveCards = Columns.grow(specialMoveCards, row + 1);
+        cheerleaders = Columns.grow(cheerleaders, row + 1);
+        wagers = Columns.grow(wagers, row + 1);
+        mediBots = Columns.grow(mediBots, row + 1);
+        playersTotal = Columns.grow(playersTotal, row + 1);
+        playerCounts = Columns.grow(playerCounts, row + 1);
+
+        ids[row] = id;
+        ranks[row] = team.getBaseRank();
+        dice[row] = team.getCoachingDice();
+        nastySurpriseCards[row] = team.getNastySurpriseCards();
+        specialMoveCards[row] = team.getSpecialMoveCards();
+        cheerleaders[row] = team.getCheerleaders();
+        wagers[row] = team.getWagers();
+        mediBots[row] = team.getMediBots();
+
+        total = 0;
+        for (final TeamPlayer player : team.getPlayers().values()) {
+            total += player.getCost();
+        }
+        playersTotal[row] = total;
+        playerCounts[row] = team.getPlayers().size();
+
+        size++;
+
+        return row;
+    }
+
+    /**
+     * Removes all the teams from the store.
+     * <p>
+     * The columns are kept, so they can be reused.
+     */
+    public final void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns the base rank of the team at the row.
+     * 
+     * @param row
+     *            row of the team
+     * @return the base rank of the team
+     */
+    public final int getBaseRank(final int row) {
+        checkElementIndex(row, size);
+
+        return ranks[row];
+    }
+
+    /**
+     * Returns the id of the team at the row.
+     * 
+     * @param row
+     *            row of the team
+     * @return the id of the team
+     */
+    public final int getId(final int row) {
+        checkElementIndex(row, size);
+
+        return ids[row];
+    }
+
+    /**
+     * Returns the number of players of the team at the row.
+     * 
+     * @param row
+     *            row of the team
+     * @return the number of players of the team
+     */
+    public final int getPlayerCount(final int row) {
+        checkElementIndex(row, size);
+
+        return playerCounts[row];
+    }
+
+    /**
+     * Returns the number of teams in the store.
+     * 
+     * @return the number of teams in the store
+     */
+    public final int getSize() {
+        return size;
+    }
+
+    /**
+     * Calculates the rank cost of all the teams in the store.
+     * 
+     * @param rules
+     *            ruleset with the costs
+     * @param costs
+     *            array where the rank costs will be stored, by row
+     */
+    public final void rankCost(final CostRuleset rules, final int[] costs) {
+        checkNotNull(rules, "Received a null pointer as rules");
+        checkNotNull(costs, "Received a null pointer as costs");
+        checkArgument(costs.length >= size,
+                "The costs array should hold %s values", size);
+
+        Arrays.fill(costs, 0, size, 0);
+
+        accumulate(costs, dice, rules.getCost(CostRule.RANK_DIE));
+        accumulate(costs, nastySurpriseCards,
+                rules.getCost(CostRule.RANK_NASTY_SURPRISE_CARD));
+        accumulate(costs, specialMoveCards,
+                rules.getCost(CostRule.RANK_SPECIAL_MOVE_CARD));
+        accumulate(costs, cheerleaders,
+                rules.getCost(CostRule.RANK_CHEERLEADER));
+        accumulate(costs, wagers, rules.getCost(CostRule.RANK_WAGER));
+        accumulate(costs, mediBots, rules.getCost(CostRule.RANK_MEDIBOT));
+    }
+
+    /**
+     * Updates costs calculated by the kernels after the cost of a single
+     * asset changes.
+     * <p>
+     * Only the difference for the changed asset is added to each value, so
+     * this works both for the valorations and the rank costs. The result is
+     * the same as running the kernel again with the new cost, as integer
+     * overflows wrap the same way in any order.
+     * 
+     * @param asset
+     *            asset which changed its cost
+     * @param oldCost
+     *            previous cost of the asset
+     * @param newCost
+     *            new cost of the asset
+     * @param values
+     *            costs to update, by row
+     */
+    public final void reprice(final TeamAsset asset, final int oldCost,
+            final int newCost, final int[] values) {
+        checkNotNull(asset, "Received a null pointer as asset");
+        checkNotNull(values, "Received a null pointer as values");
+        checkArgument(values.length >= size,
+                "The values array should hold %s values", size);
+
+        accumulate(values, getColumn(asset), newCost - oldCost);
+    }
+
+    /**
+     * Calculates the valoration of all the teams in the store.
+     * 
+     * @param rules
+     *            ruleset with the costs
+     * @param valorations
+     *            array where the valorations will be stored, by row
+     */
+    public final void valorate(final CostRuleset rules,
+            final int[] valorations) {
+        checkNotNull(rules, "Received a null pointer as rules");
+        checkNotNull(valorations, "Received a null pointer as valorations");
+        checkArgument(valorations.length >= size,
+                "The valorations array should hold %s values", size);
+
+        System.arraycopy(playersTotal, 0, valorations, 0, size);
+
+        accumulate(valorations, dice, rules.getCost(CostRule.SPONSOR_DIE));
+        accumulate(valorations, nastySurpriseCards,
+                rules.getCost(CostRule.SPONSOR_NASTY_SURPRISE_CARD));
+        accumulate(valorations, specialMoveCards,
+                rules.getCost(CostRule.SPONSOR_SPECIAL_MOVE_CARD));
+        accumulate(valorations, cheerleaders,
+                rules.getCost(CostRule.SPONSOR_CHEERLEADER));
+        accumulate(valorations, wagers, rules.getCost(CostRule.SPONSOR_WAGER));
+        accumulate(valorations, mediBots,
+                rules.getCost(CostRule.SPONSOR_MEDIBOT));
+    }
+
+    /**
+     * Adds a column, multiplied by the cost, to the values.
+     * <p>
+     * This simple loop over the whole column is the shape the JIT compiler
+     * can turn into SIMD instructions.
+     * 
+     * @param values
+     *            values to update
+     * @param column
+     *            column to add
+     * @param cost
+     *            cost to multiply the column by
+     */
+    private final void accumulate(final int[] values, final int[] column,
+            final int cost) {
+        for (int row = 0; row < size; row++) {
+            values[row] += column[row] * cost;
+        }
+    }
+
+    /**
+     * Returns the column for an asset.
+     * 
+     * @param asset
+     *            asset to find the column for
+     * @return the column for the asset
+     */
+    private final int[] getColumn(final TeamAsset asset) {
+        final int[] column;
+
+        switch (asset) {
+            case CHEERLEADERS:
+                column = cheerleaders;
+                break;
+            case COACHING_DICE:
+                column = dice;
+                break;
+            case MEDIBOTS:
+                column = mediBots;
+                break;
+            case NASTY_SURPRISE_CARDS:
+                column = nastySurpriseCards;
+                break;
+            case SPECIAL_MOVE_CARDS:
+                column = specialMoveCards;
+                break;
+            case WAGERS:
+                column = wagers;
+                break;
+            default:
+                throw new IllegalArgumentException(
+                        "Sponsor teams have no asset " + asset);
+        }
+
+        return column;
+    }
+
+}
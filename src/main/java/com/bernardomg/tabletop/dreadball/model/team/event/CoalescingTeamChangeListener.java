@@ -0,0 +1,223 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.bernardomg.tabletop.dreadball.model.team.Team;
+
+/**
+ * Listener which groups the events received over a time window, and sends a
+ * single event for each team to another listener when the window closes.
+ * <p>
+ * The window opens with the first event received after the last delivery, and
+ * the delivery is run by the received scheduler. The merged event contains
+ * all the kinds of change received for the team, and its latest version.
+ * <p>
+ * This is meant to be registered into teams which may change often, so the
+ * wrapped listener recomputes any derived data, such as the team valoration,
+ * once per burst of changes.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class CoalescingTeamChangeListener implements TeamChangeListener {
+
+    /**
+     * Listener receiving the merged events.
+     */
+    private final TeamChangeListener            delegate;
+
+    /**
+     * Scheduled delivery, or {@code null} if there is none.
+     */
+    private ScheduledFuture<?>                  delivery;
+
+    /**
+     * Number of deliveries made.
+     * <p>
+     * A scheduled delivery only sends the events if no other delivery was
+     * made since it was scheduled, as it may start after being cancelled.
+     */
+    private long                                generation = 0;
+
+    /**
+     * Changes received for each team, since the last delivery.
+     */
+    private final Map<Team<?>, Set<TeamChange>> pending    = new IdentityHashMap<>();
+
+    /**
+     * Scheduler for the deliveries.
+     */
+    private final ScheduledExecutorService      scheduler;
+
+    /**
+     * Unit for the window.
+     */
+    private final TimeUnit                      unit;
+
+    /**
+     * Latest version received for each team.
+     */
+    private final Map<Team<?>, Long>            versions   = new IdentityHashMap<>();
+
+    /**
+     * Length of the window.
+     */
+    private final long                          window;
+
+    /**
+     * Constructs a listener with the specified arguments.
+     * 
+     * @param listener
+     *            listener receiving the merged events
+     * @param executor
+     *            scheduler for the deliveries
+     * @param length
+     *            length of the window
+     * @param timeUnit
+     *            unit for the window
+     */
+    public CoalescingTeamChangeListener(final TeamChangeListener listener,
+            final ScheduledExecutorService executor, final long length,
+            final TimeUnit timeUnit) {
+        super();
+
+        delegate = checkNotNull(listener, "Received a null pointer as listener");
+        scheduler = checkNotNull(executor,
+                "Received a null pointer as scheduler");
+        unit = checkNotNull(timeUnit, "Received a null pointer as time unit");
+
+        checkArgument(length >= 0, "The window can't be negative");
+        window = length;
+    }
+
+    /**
+     * Delivers the events pending, without waiting for the window to close.
+     * <p>
+     * The scheduled delivery is cancelled.
+     */
+    public final void flush() {
+        send(drain());
+    }
+
+    @Override
+    public final void onChange(final TeamChangeEvent event) {
+        final long      scheduledGeneration; // Current deliveries
+        Set<TeamChange> changes;             // Changes pending for the team
+
+        checkNotNull(event, "Received a null pointer as event");
+
+        synchronized (this) {
+            changes = pending.get(event.getTeam());
+            if (changes == null) {
+                changes = EnumSet.noneOf(TeamChange.class);
+                pending.put(event.getTeam(), changes);
+            }
+            changes.addAll(event.getChanges());
+            versions.put(event.getTeam(), event.getVersion());
+
+            if (delivery == null) {
+                scheduledGeneration = generation;
+                delivery = scheduler.schedule(new Runnable() {
+
+                    @Override
+                    public final void run() {
+                        deliver(scheduledGeneration);
+                    }
+
+                }, window, unit);
+            }
+        }
+    }
+
+    /**
+     * Sends the events pending, if no other delivery was made since the
+     * delivery was scheduled.
+     * 
+     * @param scheduledGeneration
+     *            number of deliveries made when the delivery was scheduled
+     */
+    private final void deliver(final long scheduledGeneration) {
+        final Collection<TeamChangeEvent> events; // Merged events
+
+        synchronized (this) {
+            if (scheduledGeneration == generation) {
+                events = drain();
+            } else {
+                // A flush already sent the events of this window
+                events = Collections.emptyList();
+            }
+        }
+
+        send(events);
+    }
+
+    /**
+     * Merges the events pending and clears them, cancelling the scheduled
+     * delivery.
+     * 
+     * @return the merged events
+     */
+    private final synchronized Collection<TeamChangeEvent> drain() {
+        final Collection<TeamChangeEvent> events; // Merged events
+
+        events = new ArrayList<>(pending.size());
+        for (final Map.Entry<Team<?>, Set<TeamChange>> entry : pending
+                .entrySet()) {
+            events.add(new ImmutableTeamChangeEvent(entry.getKey(),
+                    entry.getValue(), versions.get(entry.getKey())));
+        }
+
+        pending.clear();
+        versions.clear();
+
+        if (delivery != null) {
+            delivery.cancel(false);
+            delivery = null;
+        }
+        generation++;
+
+        return events;
+    }
+
+    /**
+     * Sends the events to the delegate.
+     * <p>
+     * This should be called outside the lock.
+     * 
+     * @param events
+     *            events to send
+     */
+    private final void send(final Collection<TeamChangeEvent> events) {
+        for (final TeamChangeEvent event : events) {
+            delegate.onChange(event);
+        }
+    }
+
+}
@@ -0,0 +1,201 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.event;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Subscription which keeps only the latest update not yet delivered.
+ * <p>
+ * When the subscriber has no demand, a new update replaces the one pending,
+ * so slow subscribers receive the latest value once they request it, instead
+ * of all the intermediate ones.
+ * <p>
+ * The subscriber is always called outside the subscription lock, and by a
+ * single thread at a time. When updates are offered while another thread is
+ * delivering, that thread delivers them too, so they are received in order.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <T>
+ *            the type of update sent
+ */
+final class ConflatingSubscription<T> implements UpdateSubscription {
+
+    /**
+     * Flag telling if the subscription was cancelled.
+     */
+    private boolean                           cancelled = false;
+
+    /**
+     * Updates requested and not yet delivered.
+     */
+    private long                              demand    = 0;
+
+    /**
+     * Flag telling if a thread is delivering updates.
+     */
+    private boolean                           emitting  = false;
+
+    /**
+     * Latest update not yet delivered.
+     */
+    private T                                 pending;
+
+    /**
+     * Publisher which created the subscription.
+     */
+    private final TeamValorationPublisher<?>  publisher;
+
+    /**
+     * Subscriber receiving the updates.
+     */
+    private final UpdateSubscriber<? super T> subscriber;
+
+    /**
+     * Constructs a subscription with the specified arguments.
+     * 
+     * @param source
+     *            publisher which created the subscription
+     * @param receiver
+     *            subscriber receiving the updates
+     */
+    public ConflatingSubscription(final TeamValorationPublisher<?> source,
+            final UpdateSubscriber<? super T> receiver) {
+        super();
+
+        publisher = checkNotNull(source, "Received a null pointer as publisher");
+        subscriber = checkNotNull(receiver,
+                "Received a null pointer as subscriber");
+    }
+
+    @Override
+    public final void cancel() {
+        if (end()) {
+            publisher.unsubscribe(this);
+        }
+    }
+
+    @Override
+    public final void request(final long count) {
+        final Boolean active; // Flag telling if the subscription is active
+
+        if (count <= 0) {
+            if (end()) {
+                publisher.unsubscribe(this);
+                subscriber.onError(new IllegalArgumentException(
+                        "The requested updates should be positive"));
+            }
+        } else {
+            synchronized (this) {
+                active = !cancelled;
+                if (active) {
+                    demand += count;
+                    if (demand < 0) {
+                        // Overflow, the demand is unbounded
+                        demand = Long.MAX_VALUE;
+                    }
+                }
+            }
+
+            if (active) {
+                deliver();
+            }
+        }
+    }
+
+    /**
+     * Ends the updates.
+     */
+    final void complete() {
+        if (end()) {
+            subscriber.onComplete();
+        }
+    }
+
+    /**
+     * Sends an update, or keeps it until there is demand.
+     * 
+     * @param update
+     *            update to send
+     */
+    final void offer(final T update) {
+        final Boolean active; // Flag telling if the subscription is active
+
+        synchronized (this) {
+            active = !cancelled;
+            if (active) {
+                pending = update;
+            }
+        }
+
+        if (active) {
+            deliver();
+        }
+    }
+
+    /**
+     * Sends the pending updates while there is demand.
+     * <p>
+     * Only one thread delivers at a time. If another one is already
+     * delivering, then it will send the pending update.
+     */
+    private final void deliver() {
+        Boolean owner;  // Flag telling if this thread delivers
+        T       update; // Update to send
+
+        synchronized (this) {
+            owner = !emitting;
+            emitting = true;
+        }
+
+        while (owner) {
+            synchronized (this) {
+                if ((!cancelled) && (pending != null) && (demand > 0)) {
+                    update = pending;
+                    pending = null;
+                    demand--;
+                } else {
+                    update = null;
+                    emitting = false;
+                    owner = false;
+                }
+            }
+
+            if (update != null) {
+                subscriber.onNext(update);
+            }
+        }
+    }
+
+    /**
+     * Marks the subscription as cancelled.
+     * 
+     * @return {@code true} if the subscription was active, {@code false} if
+     *         it had already ended
+     */
+    private final synchronized Boolean end() {
+        final Boolean active; // Flag telling if the subscription was active
+
+        active = !cancelled;
+        cancelled = true;
+        pending = null;
+
+        return active;
+    }
+
+}
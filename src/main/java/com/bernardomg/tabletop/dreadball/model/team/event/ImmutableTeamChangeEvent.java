@@ -0,0 +1,98 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.bernardomg.tabletop.dreadball.model.team.Team;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Notification of changes committed to a team.
+ * <p>
+ * This is an immutable implementation.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class ImmutableTeamChangeEvent implements TeamChangeEvent {
+
+    /**
+     * Kinds of change committed.
+     */
+    private final Set<TeamChange> changes;
+
+    /**
+     * Team which changed.
+     */
+    private final Team<?>         team;
+
+    /**
+     * Team version after the changes.
+     */
+    private final long            version;
+
+    /**
+     * Constructs an event with the specified arguments.
+     * 
+     * @param source
+     *            team which changed
+     * @param changed
+     *            kinds of change committed
+     * @param teamVersion
+     *            team version after the changes
+     */
+    public ImmutableTeamChangeEvent(final Team<?> source,
+            final Collection<TeamChange> changed, final long teamVersion) {
+        super();
+
+        team = checkNotNull(source, "Received a null pointer as team");
+
+        checkNotNull(changed, "Received a null pointer as changes");
+        checkArgument(!changed.isEmpty(), "Received no changes");
+
+        changes = Collections.unmodifiableSet(EnumSet.copyOf(changed));
+        version = teamVersion;
+    }
+
+    @Override
+    public final Set<TeamChange> getChanges() {
+        return changes;
+    }
+
+    @Override
+    public final Team<?> getTeam() {
+        return team;
+    }
+
+    @Override
+    public final long getVersion() {
+        return version;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("changes", changes)
+                .add("version", version).toString();
+    }
+
+}
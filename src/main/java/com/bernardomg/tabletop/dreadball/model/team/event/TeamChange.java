@@ -0,0 +1,61 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.event;
+
+/**
+ * Kinds of change which a team may go through.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public enum TeamChange {
+
+    /**
+     * Affinity groups changed.
+     */
+    AFFINITIES,
+
+    /**
+     * Assets, such as dice, cards or Coaching Staffs, changed.
+     */
+    ASSETS,
+
+    /**
+     * Cash changed.
+     */
+    CASH,
+
+    /**
+     * Team name changed.
+     */
+    NAME,
+
+    /**
+     * Values of a player changed, such as its rank or abilities.
+     */
+    PLAYERS,
+
+    /**
+     * Players added, removed or moved.
+     */
+    ROSTER,
+
+    /**
+     * Values of the Sponsor changed, such as its rank or cash.
+     */
+    SPONSOR
+
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.event;
+
+import java.util.Set;
+
+import com.bernardomg.tabletop.dreadball.model.team.Team;
+
+/**
+ * Notification of changes committed to a team.
+ * <p>
+ * A single event may group several changes, such as all the changes in a
+ * batch.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public interface TeamChangeEvent {
+
+    /**
+     * Returns the kinds of change committed.
+     * 
+     * @return the kinds of change committed
+     */
+    public Set<TeamChange> getChanges();
+
+    /**
+     * Returns the team which changed.
+     * 
+     * @return the team which changed
+     */
+    public Team<?> getTeam();
+
+    /**
+     * Returns the team version after the changes.
+     * 
+     * @return the team version after the changes
+     */
+    public long getVersion();
+
+}
@@ -0,0 +1,34 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.event;
+
+/**
+ * Listener for the changes committed to a team.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public interface TeamChangeListener {
+
+    /**
+     * Receives the changes committed to a team.
+     * 
+     * @param event
+     *            event with the changes
+     */
+    public void onChange(final TeamChangeEvent event);
+
+}
@@ -0,0 +1,180 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.event;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.bernardomg.tabletop.dreadball.model.team.AbstractTeam;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CostCalculator;
+
+/**
+ * Publishes the valoration of a team each time it changes.
+ * <p>
+ * The valoration is recomputed with the received calculator after each event
+ * sent by the team, and published only if the value is different. So, for
+ * example, this can publish the total cost of a team with its valoration
+ * calculator, or the rank cost with its rank cost calculator.
+ * <p>
+ * Players and Sponsors don't send events of their own. Changes made directly
+ * to them are only published after the team is told about them, through
+ * {@link AbstractTeam#markPlayerChanged(Integer)} or
+ * {@code DefaultSponsorTeam#markSponsorChanged()}.
+ * <p>
+ * Subscribers only receive updates after requesting them. If new values come
+ * while a subscriber has no demand, only the latest one is kept, so slow
+ * subscribers are never flooded. Each new subscriber receives the current
+ * valoration as its first update.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <T>
+ *            the type of team being valorated
+ */
+public final class TeamValorationPublisher<T extends AbstractTeam<?>>
+        implements UpdatePublisher<ValorationUpdate>, TeamChangeListener {
+
+    /**
+     * Calculator for the valoration.
+     */
+    private final CostCalculator<? super T>                            calculator;
+
+    /**
+     * Latest valoration published.
+     * <p>
+     * It is only read and written while holding the subscriptions lock.
+     */
+    private ValorationUpdate                                           latest;
+
+    /**
+     * Active subscriptions.
+     * <p>
+     * This is also the lock for publishing, so new subscribers receive the
+     * latest valoration before any later one.
+     */
+    private final Collection<ConflatingSubscription<ValorationUpdate>> subscriptions = new CopyOnWriteArrayList<>();
+
+    /**
+     * Team being valorated.
+     */
+    private final T                                                    team;
+
+    /**
+     * Constructs a publisher for the team.
+     * <p>
+     * The publisher registers itself as listener into the team.
+     * 
+     * @param source
+     *            team being valorated
+     * @param valorator
+     *            calculator for the valoration
+     */
+    public TeamValorationPublisher(final T source,
+            final CostCalculator<? super T> valorator) {
+        super();
+
+        team = checkNotNull(source, "Received a null pointer as team");
+        calculator = checkNotNull(valorator,
+                "Received a null pointer as calculator");
+
+        latest = valorate();
+        team.addChangeListener(this);
+    }
+
+    /**
+     * Stops publishing, completing all the subscriptions.
+     * <p>
+     * The publisher is removed from the team listeners.
+     */
+    public final void close() {
+        team.removeChangeListener(this);
+
+        for (final ConflatingSubscription<ValorationUpdate> subscription : subscriptions) {
+            subscription.complete();
+        }
+        subscriptions.clear();
+    }
+
+    @Override
+    public final void onChange(final TeamChangeEvent event) {
+        final ValorationUpdate update; // New valoration
+
+        synchronized (subscriptions) {
+            update = valorate();
+
+            if (!Objects.equals(update.getValoration(),
+                    getLatest().getValoration())) {
+                latest = update;
+
+                for (final ConflatingSubscription<ValorationUpdate> subscription : subscriptions) {
+                    subscription.offer(update);
+                }
+            }
+        }
+    }
+
+    @Override
+    public final void
+            subscribe(final UpdateSubscriber<? super ValorationUpdate> subscriber) {
+        final ConflatingSubscription<ValorationUpdate> subscription;
+
+        checkNotNull(subscriber, "Received a null pointer as subscriber");
+
+        subscription = new ConflatingSubscription<>(this, subscriber);
+
+        // No change can be published before the latest one is offered
+        synchronized (subscriptions) {
+            subscriptions.add(subscription);
+
+            subscriber.onSubscribe(subscription);
+            subscription.offer(getLatest());
+        }
+    }
+
+    /**
+     * Removes a subscription.
+     * 
+     * @param subscription
+     *            subscription to remove
+     */
+    final void unsubscribe(final UpdateSubscription subscription) {
+        subscriptions.remove(subscription);
+    }
+
+    /**
+     * Returns the latest valoration published.
+     * 
+     * @return the latest valoration published
+     */
+    private final ValorationUpdate getLatest() {
+        return latest;
+    }
+
+    /**
+     * Computes the current valoration.
+     * 
+     * @return the current valoration
+     */
+    private final ValorationUpdate valorate() {
+        return new ValorationUpdate(team, calculator.getCost(team),
+                team.getVersion());
+    }
+
+}
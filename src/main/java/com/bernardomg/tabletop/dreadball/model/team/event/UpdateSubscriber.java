@@ -0,0 +1,61 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.event;
+
+/**
+ * Receiver of the updates sent by an {@link UpdatePublisher}.
+ * <p>
+ * This follows the same contract as the reactive streams subscribers, and the
+ * {@code Flow.Subscriber} interface, so it can be adapted to them directly.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <T>
+ *            the type of update received
+ */
+public interface UpdateSubscriber<T> {
+
+    /**
+     * Receives the end of the updates.
+     */
+    public void onComplete();
+
+    /**
+     * Receives an error, which ends the updates.
+     * 
+     * @param error
+     *            error which ends the updates
+     */
+    public void onError(final Throwable error);
+
+    /**
+     * Receives an update.
+     * 
+     * @param update
+     *            the update
+     */
+    public void onNext(final T update);
+
+    /**
+     * Receives the subscription, which is used to request updates.
+     * 
+     * @param subscription
+     *            the subscription
+     */
+    public void onSubscribe(final UpdateSubscription subscription);
+
+}
@@ -0,0 +1,43 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.event;
+
+/**
+ * Link between an {@link UpdatePublisher} and one of its subscribers.
+ * <p>
+ * This follows the same contract as the reactive streams subscriptions, and
+ * the {@code Flow.Subscription} interface, so it can be adapted to them
+ * directly.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public interface UpdateSubscription {
+
+    /**
+     * Stops the updates.
+     */
+    public void cancel();
+
+    /**
+     * Requests more updates.
+     * 
+     * @param count
+     *            number of updates requested, which should be positive
+     */
+    public void request(final long count);
+
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.event;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.bernardomg.tabletop.dreadball.model.team.Team;
+import com.google.common.base.MoreObjects;
+
+/**
+ * New valoration for a team, such as its total cost or its rank.
+ * <p>
+ * This is an immutable class.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class ValorationUpdate {
+
+    /**
+     * Team valorated.
+     */
+    private final Team<?> team;
+
+    /**
+     * New valoration.
+     */
+    private final Integer valoration;
+
+    /**
+     * Team version for the valoration.
+     */
+    private final long    version;
+
+    /**
+     * Constructs an update with the specified arguments.
+     * 
+     * @param source
+     *            team valorated
+     * @param value
+     *            new valoration
+     * @param teamVersion
+     *            team version for the valoration
+     */
+    public ValorationUpdate(final Team<?> source, final Integer value,
+            final long teamVersion) {
+        super();
+
+        team = checkNotNull(source, "Received a null pointer as team");
+        valoration = checkNotNull(value,
+                "Received a null pointer as valoration");
+        version = teamVersion;
+    }
+
+    /**
+     * Returns the team valorated.
+     * 
+     * @return the team valorated
+     */
+    public final Team<?> getTeam() {
+        return team;
+    }
+
+    /**
+     * Returns the new valoration.
+     * 
+     * @return the new valoration
+     */
+    public final Integer getValoration() {
+        return valoration;
+    }
+
+    /**
+     * Returns the team version for the valoration.
+     * 
+     * @return the team version for the valoration
+     */
+    public final long getVersion() {
+        return version;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("valoration", valoration)
+                .add("version", version).toString();
+    }
+
+}
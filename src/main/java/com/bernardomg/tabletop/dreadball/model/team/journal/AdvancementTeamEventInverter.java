@@ -0,0 +1,207 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+
+/**
+ * Creates the events undoing the events applied to an
+ * {@link AdvancementTeam}.
+ * <p>
+ * Each inverse only stores the value being replaced, so undoing doesn't
+ * require copying the team.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class AdvancementTeamEventInverter
+        implements TeamEventInverter<AdvancementTeam> {
+
+    /**
+     * Default constructor.
+     */
+    public AdvancementTeamEventInverter() {
+        super();
+    }
+
+    @Override
+    public final TeamEvent<? super AdvancementTeam> getInverse(
+            final AdvancementTeam team,
+            final TeamEvent<? super AdvancementTeam> event) {
+        final TeamEvent<? super AdvancementTeam> inverse; // Inverted event
+        final ImmutableStaffToggledEvent         toggled; // Staff event
+
+        checkNotNull(team, "Received a null pointer as team");
+        checkNotNull(event, "Received a null pointer as event");
+
+        if (event instanceof ImmutableCashSetEvent) {
+            inverse = new ImmutableCashSetEvent(team.getCash());
+        } else if (event instanceof ImmutableNameSetEvent) {
+            inverse = new ImmutableNameSetEvent(team.getName());
+        } else if (event instanceof ImmutableDreadballCardsSetEvent) {
+            inverse = new ImmutableDreadballCardsSetEvent(
+                    team.getDreadballCards());
+        } else if (event instanceof ImmutableStaffToggledEvent) {
+            toggled = (ImmutableStaffToggledEvent) event;
+            inverse = new ImmutableStaffToggledEvent(toggled.getStaff(),
+                    isHired(team, toggled.getStaff()));
+        } else if (event instanceof ImmutableRankChangedEvent) {
+            inverse = getInverseRank(team,
+                    ((ImmutableRankChangedEvent) event).getPosition());
+        } else if (event instanceof ImmutableExperienceSetEvent) {
+            inverse = getInverseExperience(team,
+                    ((ImmutableExperienceSetEvent) event).getPosition());
+        } else if (event instanceof ImmutableAbilitiesSetEvent) {
+            inverse = getInverseAbilities(team,
+                    ((ImmutableAbilitiesSetEvent) event).getPosition());
+        } else if (event instanceof ImmutableImplantGraftedEvent) {
+            inverse = getInverseImplant(team,
+                    ((ImmutableImplantGraftedEvent) event).getPosition());
+        } else {
+            inverse = TeamInverses.getInverse(team, event);
+            checkArgument(inverse != null, "Can't invert event %s", event);
+        }
+
+        return inverse;
+    }
+
+    /**
+     * Returns the event restoring the abilities of a player.
+     * 
+     * @param team
+     *            team with the player
+     * @param position
+     *            position of the player
+     * @return the event restoring the abilities of the player
+     */
+    private final TeamEvent<AdvancementTeam>
+            getInverseAbilities(final AdvancementTeam team,
+                    final Integer position) {
+        return new ImmutableAbilitiesSetEvent(position,
+                getPlayer(team, position).getAbilities());
+    }
+
+    /**
+     * Returns the event restoring the unspent experience of a player.
+     * 
+     * @param team
+     *            team with the player
+     * @param position
+     *            position of the player
+     * @return the event restoring the unspent experience of the player
+     */
+    private final TeamEvent<AdvancementTeam> getInverseExperience(
+            final AdvancementTeam team, final Integer position) {
+        final Integer experience; // Current experience
+
+        experience = getPlayer(team, position).getUnspentExperience();
+        checkState(experience != null,
+                "The player at position %s has no experience to restore",
+                position);
+
+        return new ImmutableExperienceSetEvent(position, experience);
+    }
+
+    /**
+     * Returns the event restoring the implant of a player.
+     * 
+     * @param team
+     *            team with the player
+     * @param position
+     *            position of the player
+     * @return the event restoring the implant of the player
+     */
+    private final TeamEvent<AdvancementTeam> getInverseImplant(
+            final AdvancementTeam team, final Integer position) {
+        return new ImmutableImplantGraftedEvent(position,
+                getPlayer(team, position).getGraftedImplant());
+    }
+
+    /**
+     * Returns the event restoring the rank of a player.
+     * 
+     * @param team
+     *            team with the player
+     * @param position
+     *            position of the player
+     * @return the event restoring the rank of the player
+     */
+    private final TeamEvent<AdvancementTeam>
+            getInverseRank(final AdvancementTeam team, final Integer position) {
+        final Integer rank; // Current rank
+
+        rank = getPlayer(team, position).getRank();
+        checkState(rank != null,
+                "The player at position %s has no rank to restore", position);
+
+        return new ImmutableRankChangedEvent(position, rank);
+    }
+
+    /**
+     * Returns the player at the position.
+     * 
+     * @param team
+     *            team with the player
+     * @param position
+     *            position of the player
+     * @return the player at the position
+     */
+    private final AdvancementTeamPlayer getPlayer(final AdvancementTeam team,
+            final Integer position) {
+        final AdvancementTeamPlayer player; // Player at the position
+
+        player = team.getPlayers().get(position);
+        checkArgument(player != null, "No player at position %s", position);
+
+        return player;
+    }
+
+    /**
+     * Returns the current flag for the staff.
+     * 
+     * @param team
+     *            team with the staff
+     * @param staff
+     *            staff to check
+     * @return {@code true} if the staff is hired, {@code false} otherwise
+     */
+    private final Boolean isHired(final AdvancementTeam team,
+            final CoachingStaff staff) {
+        final Boolean hired; // Staff flag
+
+        switch (staff) {
+            case DEFENSIVE:
+                hired = team.getDefensiveCoachingStaff();
+                break;
+            case OFFENSIVE:
+                hired = team.getOffensiveCoachingStaff();
+                break;
+            case SUPPORT:
+                hired = team.getSupportCoachingStaff();
+                break;
+            default:
+                throw new IllegalStateException("Unknown staff " + staff);
+        }
+
+        return hired;
+    }
+
+}
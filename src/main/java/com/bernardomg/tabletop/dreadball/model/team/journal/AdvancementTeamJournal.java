@@ -0,0 +1,295 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Append-only journal of the changes applied to an {@link AdvancementTeam}.
+ * <p>
+ * Each change is stored as a {@link TeamEvent}, which allows persisting only
+ * the change instead of the whole team. The team can be rebuilt by replaying
+ * the events.
+ * <p>
+ * To keep replays short, a snapshot of the team is taken each time the
+ * configured number of events has been recorded. Replaying starts from the
+ * latest snapshot, and only the events after it are applied.
+ * <p>
+ * The journal can be persisted by storing its latest snapshot, the index of
+ * that snapshot and the events after it, and loaded again from them. Events
+ * covered by the snapshot may be dropped with {@link #compact()}. Event
+ * indexes always count all the events recorded, including those dropped.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class AdvancementTeamJournal implements Serializable {
+
+    /**
+     * Serialization id.
+     */
+    private static final long                              serialVersionUID = 3815839461627304772L;
+
+    /**
+     * Recorded events, in order.
+     */
+    private final List<TeamEvent<? super AdvancementTeam>> events           = new ArrayList<>();
+
+    /**
+     * Number of events dropped from the start of the journal.
+     */
+    private Integer                                        offset           = 0;
+
+    /**
+     * Latest snapshot taken.
+     */
+    private AdvancementTeamSnapshot                        snapshot;
+
+    /**
+     * Number of events included in the latest snapshot.
+     */
+    private Integer                                        snapshotIndex    = 0;
+
+    /**
+     * Number of events between snapshots.
+     */
+    private final Integer                                  snapshotInterval;
+
+    /**
+     * Constructs a journal with the specified snapshot interval.
+     * 
+     * @param interval
+     *            number of events between snapshots
+     */
+    public AdvancementTeamJournal(final Integer interval) {
+        super();
+
+        snapshotInterval = checkNotNull(interval,
+                "Received a null pointer as snapshot interval");
+
+        checkArgument(interval > 0,
+                "The snapshot interval should be higher than zero");
+    }
+
+    /**
+     * Constructs a journal from a persisted snapshot and the events recorded
+     * after it.
+     * <p>
+     * The events before the snapshot are not kept, as if the journal had been
+     * compacted.
+     * 
+     * @param interval
+     *            number of events between snapshots
+     * @param teamSnapshot
+     *            latest snapshot taken
+     * @param index
+     *            number of events included in the snapshot
+     * @param tail
+     *            events recorded after the snapshot, in order
+     */
+    public AdvancementTeamJournal(final Integer interval,
+            final AdvancementTeamSnapshot teamSnapshot, final Integer index,
+            final List<TeamEvent<? super AdvancementTeam>> tail) {
+        this(interval);
+
+        snapshot = checkNotNull(teamSnapshot,
+                "Received a null pointer as snapshot");
+        snapshotIndex = checkNotNull(index,
+                "Received a null pointer as snapshot index");
+        checkNotNull(tail, "Received a null pointer as events");
+
+        checkArgument(index >= 0, "The snapshot index can't be negative");
+
+        offset = index;
+        for (final TeamEvent<? super AdvancementTeam> event : tail) {
+            append(event);
+        }
+    }
+
+    /**
+     * Appends an event to the journal, without applying it to any team.
+     * <p>
+     * This is meant for loading persisted events. No snapshot is taken.
+     * 
+     * @param event
+     *            event to append
+     */
+    public final void append(final TeamEvent<? super AdvancementTeam> event) {
+        checkNotNull(event, "Received a null pointer as event");
+
+        events.add(event);
+    }
+
+    /**
+     * Drops the events included in the latest snapshot.
+     * <p>
+     * These are no longer needed for replaying, but can't be queried after
+     * this.
+     */
+    public final void compact() {
+        events.subList(0, snapshotIndex - offset).clear();
+        offset = snapshotIndex;
+    }
+
+    /**
+     * Returns all the events kept, in order.
+     * <p>
+     * If the journal was compacted, the first of them is the one at
+     * {@link #getFirstIndex()}.
+     * 
+     * @return all the events kept
+     */
+    public final List<TeamEvent<? super AdvancementTeam>> getEvents() {
+        return Collections.unmodifiableList(events);
+    }
+
+    /**
+     * Returns the events recorded after the received index, in order.
+     * <p>
+     * This allows persisting only the events which were not stored yet. The
+     * index can't be lower than the first one kept.
+     * 
+     * @param index
+     *            index of the first event to return
+     * @return the events recorded after the index
+     */
+    public final List<TeamEvent<? super AdvancementTeam>>
+            getEvents(final Integer index) {
+        checkNotNull(index, "Received a null pointer as index");
+
+        checkArgument(index >= offset, "The events before %s were dropped",
+                offset);
+
+        return Collections.unmodifiableList(
+                events.subList(index - offset, events.size()));
+    }
+
+    /**
+     * Returns the index of the first event kept.
+     * <p>
+     * This is zero unless the journal was compacted, or loaded from a
+     * snapshot.
+     * 
+     * @return the index of the first event kept
+     */
+    public final Integer getFirstIndex() {
+        return offset;
+    }
+
+    /**
+     * Returns the latest snapshot taken.
+     * <p>
+     * If no snapshot has been taken, then this is {@code null}.
+     * 
+     * @return the latest snapshot taken
+     */
+    public final AdvancementTeamSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the number of events included in the latest snapshot.
+     * <p>
+     * Replaying will only apply the events after this index.
+     * 
+     * @return the number of events included in the latest snapshot
+     */
+    public final Integer getSnapshotIndex() {
+        return snapshotIndex;
+    }
+
+    /**
+     * Applies the event to the team and records it.
+     * <p>
+     * If enough events have been recorded since the latest snapshot, a new one
+     * is taken from the team.
+     * 
+     * @param team
+     *            team to change
+     * @param event
+     *            event to apply and record
+     */
+    public final void record(final AdvancementTeam team,
+            final TeamEvent<? super AdvancementTeam> event) {
+        checkNotNull(team, "Received a null pointer as team");
+        checkNotNull(event, "Received a null pointer as event");
+
+        event.apply(team);
+        events.add(event);
+
+        if ((offset + events.size() - snapshotIndex) >= snapshotInterval) {
+            takeSnapshot(team);
+        }
+    }
+
+    /**
+     * Rebuilds the journaled state into the received team.
+     * <p>
+     * If there is a snapshot the team is restored from it, otherwise the team
+     * is expected to be in the same state as the one where the first event
+     * was recorded.
+     * 
+     * @param team
+     *            team where the state will be rebuilt
+     */
+    public final void replay(final AdvancementTeam team) {
+        final Integer start; // First event to apply
+
+        checkNotNull(team, "Received a null pointer as team");
+
+        if (snapshot == null) {
+            start = 0;
+        } else {
+            snapshot.restore(team);
+            start = snapshotIndex - offset;
+        }
+
+        for (int i = start; i < events.size(); i++) {
+            events.get(i).apply(team);
+        }
+    }
+
+    /**
+     * Takes a snapshot of the team, which should be in the state reached
+     * after applying all the recorded events.
+     * 
+     * @param team
+     *            team to capture
+     */
+    public final void takeSnapshot(final AdvancementTeam team) {
+        checkNotNull(team, "Received a null pointer as team");
+
+        snapshot = new AdvancementTeamSnapshot(team);
+        snapshotIndex = offset + events.size();
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("events", events.size())
+                .add("firstIndex", offset).add("snapshotIndex", snapshotIndex)
+                .toString();
+    }
+
+}
@@ -0,0 +1,183 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayers;
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Captured state of an {@link AdvancementTeam}, used to bound the number of
+ * events which have to be replayed by a journal.
+ * <p>
+ * Players are copied when capturing the team, and again when restoring it,
+ * so the snapshot never shares a player with any team. This keeps all their
+ * values, including abilities, and restoring the same snapshot several times
+ * always gives the captured state.
+ * <p>
+ * This is an immutable implementation.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class AdvancementTeamSnapshot implements Serializable {
+
+    /**
+     * Serialization id.
+     */
+    private static final long                         serialVersionUID = 6014527350146813826L;
+
+    /**
+     * Team's unspent cash.
+     */
+    private final Integer                             cash;
+
+    /**
+     * Number of Cheerleaders.
+     */
+    private final Integer                             cheerleaders;
+
+    /**
+     * Number of Coaching Dice.
+     */
+    private final Integer                             coachingDice;
+
+    /**
+     * Defensive Coaching Staff flag.
+     */
+    private final Boolean                             defensiveStaff;
+
+    /**
+     * Number of Dreadball Cards.
+     */
+    private final Integer                             dreadballCards;
+
+    /**
+     * Team's name.
+     */
+    private final String                              name;
+
+    /**
+     * Offensive Coaching Staff flag.
+     */
+    private final Boolean                             offensiveStaff;
+
+    /**
+     * Copies of the team's players, by position.
+     */
+    private final Map<Integer, AdvancementTeamPlayer> players          = new HashMap<>();
+
+    /**
+     * Support Coaching Staff flag.
+     */
+    private final Boolean                             supportStaff;
+
+    /**
+     * Captures the current state of the received team.
+     * 
+     * @param team
+     *            team to capture
+     */
+    public AdvancementTeamSnapshot(final AdvancementTeam team) {
+        super();
+
+        checkNotNull(team, "Received a null pointer as team");
+
+        name = team.getName();
+        cash = team.getCash();
+        cheerleaders = team.getCheerleaders();
+        coachingDice = team.getCoachingDice();
+        dreadballCards = team.getDreadballCards();
+        defensiveStaff = team.getDefensiveCoachingStaff();
+        offensiveStaff = team.getOffensiveCoachingStaff();
+        supportStaff = team.getSupportCoachingStaff();
+
+        for (final Map.Entry<Integer, AdvancementTeamPlayer> entry : team
+                .getPlayers().entrySet()) {
+            players.put(entry.getKey(),
+                    AdvancementTeamPlayers.copyOf(entry.getValue()));
+        }
+    }
+
+    /**
+     * Returns copies of the captured players, by position.
+     * <p>
+     * Changing them won't change the snapshot.
+     * 
+     * @return copies of the captured players
+     */
+    public final Map<Integer, AdvancementTeamPlayer> getPlayers() {
+        final Map<Integer, AdvancementTeamPlayer> copies; // Copied players
+
+        copies = new HashMap<>();
+        for (final Map.Entry<Integer, AdvancementTeamPlayer> entry : players
+                .entrySet()) {
+            copies.put(entry.getKey(),
+                    AdvancementTeamPlayers.copyOf(entry.getValue()));
+        }
+
+        return Collections.unmodifiableMap(copies);
+    }
+
+    /**
+     * Returns the received team to the captured state.
+     * <p>
+     * Any player not in the snapshot is removed from the team, and the
+     * captured ones are added as new copies.
+     * 
+     * @param team
+     *            team to restore
+     */
+    public final void restore(final AdvancementTeam team) {
+        checkNotNull(team, "Received a null pointer as team");
+
+        team.setName(name);
+        team.setCash(cash);
+        team.setCheerleaders(cheerleaders);
+        team.setCoachingDice(coachingDice);
+        team.setDreadballCards(dreadballCards);
+        team.setDefensiveCoachingStaff(defensiveStaff);
+        team.setOffensiveCoachingStaff(offensiveStaff);
+        team.setSupportCoachingStaff(supportStaff);
+
+        for (final Integer position : new ArrayList<>(
+                team.getPlayers().keySet())) {
+            team.removePlayer(position);
+        }
+
+        for (final Map.Entry<Integer, AdvancementTeamPlayer> entry : players
+                .entrySet()) {
+            team.addPlayer(AdvancementTeamPlayers.copyOf(entry.getValue()),
+                    entry.getKey());
+        }
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("name", name)
+                .add("cash", cash).add("players", players).toString();
+    }
+
+}
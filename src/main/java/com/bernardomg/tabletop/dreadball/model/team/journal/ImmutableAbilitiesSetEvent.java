@@ -0,0 +1,118 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.team.AbstractTeam;
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Event for the abilities of a player being set.
+ * <p>
+ * This is an immutable implementation.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class ImmutableAbilitiesSetEvent
+        implements TeamEvent<AdvancementTeam> {
+
+    /**
+     * Serialization id.
+     */
+    private static final long   serialVersionUID = 5996889317146186204L;
+
+    /**
+     * New abilities of the player.
+     */
+    private final List<Ability> abilities;
+
+    /**
+     * Position of the player.
+     */
+    private final Integer       position;
+
+    /**
+     * Constructs an event for setting the abilities of the player at the
+     * position.
+     * 
+     * @param pos
+     *            position of the player
+     * @param playerAbilities
+     *            new abilities of the player
+     */
+    public ImmutableAbilitiesSetEvent(final Integer pos,
+            final Collection<Ability> playerAbilities) {
+        super();
+
+        position = checkNotNull(pos, "Received a null pointer as position");
+
+        checkNotNull(playerAbilities, "Received a null pointer as abilities");
+        abilities = new ArrayList<>(playerAbilities);
+    }
+
+    @Override
+    public final void apply(final AdvancementTeam team) {
+        final AdvancementTeamPlayer player; // Player to change
+
+        checkNotNull(team, "Received a null pointer as team");
+
+        player = team.getPlayers().get(position);
+        checkArgument(player != null, "No player at position %s", position);
+
+        player.setAbilities(abilities);
+
+        if (team instanceof AbstractTeam) {
+            // Players don't notify their own changes
+            ((AbstractTeam<?>) team).markPlayerChanged(position);
+        }
+    }
+
+    /**
+     * Returns the new abilities of the player.
+     * 
+     * @return the new abilities of the player
+     */
+    public final Collection<Ability> getAbilities() {
+        return Collections.unmodifiableCollection(abilities);
+    }
+
+    /**
+     * Returns the position of the player.
+     * 
+     * @return the position of the player
+     */
+    public final Integer getPosition() {
+        return position;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("position", position)
+                .add("abilities", abilities).toString();
+    }
+
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import com.bernardomg.tabletop.dreadball.model.player.stats.AffinityGroup;
+import com.bernardomg.tabletop.dreadball.model.team.SponsorTeam;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Event for the additional affinity groups of a Sponsor team being set.
+ * <p>
+ * This is an immutable implementation.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class ImmutableAffinityGroupsSetEvent
+        implements TeamEvent<SponsorTeam> {
+
+    /**
+     * Serialization id.
+     */
+    private static final long         serialVersionUID = 7739147374550147127L;
+
+    /**
+     * New additional affinity groups.
+     */
+    private final List<AffinityGroup> affinities;
+
+    /**
+     * Constructs an event for setting the additional affinity groups.
+     * 
+     * @param groups
+     *            new additional affinity groups
+     */
+    public ImmutableAffinityGroupsSetEvent(
+            final Iterable<AffinityGroup> groups) {
+        super();
+
+        checkNotNull(groups, "Received a null pointer as affinity groups");
+
+        affinities = new ArrayList<>();
+        for (final AffinityGroup affinity : groups) {
+            affinities.add(checkNotNull(affinity,
+                    "Received a null pointer as affinity group"));
+        }
+    }
+
+    @Override
+    public final void apply(final SponsorTeam team) {
+        checkNotNull(team, "Received a null pointer as team");
+
+        team.clearAdditionalAffinityGroups();
+        for (final AffinityGroup affinity : affinities) {
+            team.addAdditionalAffinityGroup(affinity);
+        }
+    }
+
+    /**
+     * Returns the new additional affinity groups.
+     * 
+     * @return the new additional affinity groups
+     */
+    public final Collection<AffinityGroup> getAffinityGroups() {
+        return Collections.unmodifiableCollection(affinities);
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("affinities", affinities).toString();
+    }
+
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Event for the unspent cash of a team being set.
+ * <p>
+ * This is an immutable implementation.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class ImmutableCashSetEvent implements TeamEvent<AdvancementTeam> {
+
+    /**
+     * Serialization id.
+     */
+    private static final long serialVersionUID = 4410582960113498512L;
+
+    /**
+     * New cash.
+     */
+    private final Integer     cash;
+
+    /**
+     * Constructs an event for setting the cash.
+     * 
+     * @param teamCash
+     *            new cash
+     */
+    public ImmutableCashSetEvent(final Integer teamCash) {
+        super();
+
+        cash = checkNotNull(teamCash, "Received a null pointer as cash");
+    }
+
+    @Override
+    public final void apply(final AdvancementTeam team) {
+        checkNotNull(team, "Received a null pointer as team");
+
+        team.setCash(cash);
+    }
+
+    /**
+     * Returns the new cash.
+     * 
+     * @return the new cash
+     */
+    public final Integer getCash() {
+        return cash;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("cash", cash).toString();
+    }
+
+}
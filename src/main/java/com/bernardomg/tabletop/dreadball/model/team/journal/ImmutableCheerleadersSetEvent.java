@@ -0,0 +1,78 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.bernardomg.tabletop.dreadball.model.team.Team;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Event for the Cheerleaders of a team being set.
+ * <p>
+ * This is an immutable implementation.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class ImmutableCheerleadersSetEvent implements TeamEvent<Team<?>> {
+
+    /**
+     * Serialization id.
+     */
+    private static final long serialVersionUID = -7814349595736700570L;
+
+    /**
+     * New number of Cheerleaders.
+     */
+    private final Integer     cheerleaders;
+
+    /**
+     * Constructs an event for setting the number of Cheerleaders.
+     * 
+     * @param teamCheerleaders
+     *            new number of Cheerleaders
+     */
+    public ImmutableCheerleadersSetEvent(final Integer teamCheerleaders) {
+        super();
+
+        cheerleaders = checkNotNull(teamCheerleaders,
+                "Received a null pointer as cheerleaders");
+    }
+
+    @Override
+    public final void apply(final Team<?> team) {
+        checkNotNull(team, "Received a null pointer as team");
+
+        team.setCheerleaders(cheerleaders);
+    }
+
+    /**
+     * Returns the new number of Cheerleaders.
+     * 
+     * @return the new number of Cheerleaders
+     */
+    public final Integer getCheerleaders() {
+        return cheerleaders;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("cheerleaders", cheerleaders).toString();
+    }
+
+}
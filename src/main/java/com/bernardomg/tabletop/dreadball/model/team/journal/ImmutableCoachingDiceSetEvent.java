@@ -0,0 +1,78 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.bernardomg.tabletop.dreadball.model.team.Team;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Event for the Coaching Dice of a team being set.
+ * <p>
+ * This is an immutable implementation.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class ImmutableCoachingDiceSetEvent implements TeamEvent<Team<?>> {
+
+    /**
+     * Serialization id.
+     */
+    private static final long serialVersionUID = 7149721079389027000L;
+
+    /**
+     * New number of Coaching Dice.
+     */
+    private final Integer     coachingDice;
+
+    /**
+     * Constructs an event for setting the number of Coaching Dice.
+     * 
+     * @param dice
+     *            new number of Coaching Dice
+     */
+    public ImmutableCoachingDiceSetEvent(final Integer dice) {
+        super();
+
+        coachingDice = checkNotNull(dice,
+                "Received a null pointer as coaching dice");
+    }
+
+    @Override
+    public final void apply(final Team<?> team) {
+        checkNotNull(team, "Received a null pointer as team");
+
+        team.setCoachingDice(coachingDice);
+    }
+
+    /**
+     * Returns the new number of Coaching Dice.
+     * 
+     * @return the new number of Coaching Dice
+     */
+    public final Integer getCoachingDice() {
+        return coachingDice;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("coachingDice", coachingDice).toString();
+    }
+
+}
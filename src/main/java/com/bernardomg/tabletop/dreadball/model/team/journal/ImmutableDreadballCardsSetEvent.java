@@ -0,0 +1,79 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Event for the Dreadball Cards of a team being set.
+ * <p>
+ * This is an immutable implementation.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class ImmutableDreadballCardsSetEvent
+        implements TeamEvent<AdvancementTeam> {
+
+    /**
+     * Serialization id.
+     */
+    private static final long serialVersionUID = 289932723524490999L;
+
+    /**
+     * New number of Dreadball Cards.
+     */
+    private final Integer     dreadballCards;
+
+    /**
+     * Constructs an event for setting the number of Dreadball Cards.
+     * 
+     * @param cards
+     *            new number of Dreadball Cards
+     */
+    public ImmutableDreadballCardsSetEvent(final Integer cards) {
+        super();
+
+        dreadballCards = checkNotNull(cards,
+                "Received a null pointer as Dreadball cards");
+    }
+
+    @Override
+    public final void apply(final AdvancementTeam team) {
+        checkNotNull(team, "Received a null pointer as team");
+
+        team.setDreadballCards(dreadballCards);
+    }
+
+    /**
+     * Returns the new number of Dreadball Cards.
+     * 
+     * @return the new number of Dreadball Cards
+     */
+    public final Integer getDreadballCards() {
+        return dreadballCards;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("dreadballCards", dreadballCards).toString();
+    }
+
+}
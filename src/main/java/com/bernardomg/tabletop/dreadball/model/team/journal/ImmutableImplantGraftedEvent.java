@@ -0,0 +1,112 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.component.Component;
+import com.bernardomg.tabletop.dreadball.model.team.AbstractTeam;
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Event for an implant being grafted to a player.
+ * <p>
+ * This is an immutable implementation.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class ImmutableImplantGraftedEvent
+        implements TeamEvent<AdvancementTeam> {
+
+    /**
+     * Serialization id.
+     */
+    private static final long serialVersionUID = -3164385232086224770L;
+
+    /**
+     * Implant grafted.
+     */
+    private final Component   implant;
+
+    /**
+     * Position of the player.
+     */
+    private final Integer     position;
+
+    /**
+     * Constructs an event for grafting the implant to the player at the
+     * position.
+     * 
+     * @param pos
+     *            position of the player
+     * @param graftedImplant
+     *            implant grafted
+     */
+    public ImmutableImplantGraftedEvent(final Integer pos,
+            final Component graftedImplant) {
+        super();
+
+        position = checkNotNull(pos, "Received a null pointer as position");
+        implant = checkNotNull(graftedImplant,
+                "Received a null pointer as implant");
+    }
+
+    @Override
+    public final void apply(final AdvancementTeam team) {
+        final AdvancementTeamPlayer player; // Player to change
+
+        checkNotNull(team, "Received a null pointer as team");
+
+        player = team.getPlayers().get(position);
+        checkArgument(player != null, "No player at position %s", position);
+
+        player.setGraftedImplant(implant);
+
+        if (team instanceof AbstractTeam) {
+            // Players don't notify their own changes
+            ((AbstractTeam<?>) team).markPlayerChanged(position);
+        }
+    }
+
+    /**
+     * Returns the implant grafted.
+     * 
+     * @return the implant grafted
+     */
+    public final Component getImplant() {
+        return implant;
+    }
+
+    /**
+     * Returns the position of the player.
+     * 
+     * @return the position of the player
+     */
+    public final Integer getPosition() {
+        return position;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("position", position)
+                .add("implant", implant).toString();
+    }
+
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Event for the name of a team being set.
+ * <p>
+ * This is an immutable implementation.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class ImmutableNameSetEvent implements TeamEvent<AdvancementTeam> {
+
+    /**
+     * Serialization id.
+     */
+    private static final long serialVersionUID = -8629730110545968494L;
+
+    /**
+     * New name.
+     */
+    private final String      name;
+
+    /**
+     * Constructs an event for setting the name.
+     * 
+     * @param teamName
+     *            new name
+     */
+    public ImmutableNameSetEvent(final String teamName) {
+        super();
+
+        name = checkNotNull(teamName, "Received a null pointer as name");
+    }
+
+    @Override
+    public final void apply(final AdvancementTeam team) {
+        checkNotNull(team, "Received a null pointer as team");
+
+        team.setName(name);
+    }
+
+    /**
+     * Returns the new name.
+     * 
+     * @return the new name
+     */
+    public final String getName() {
+        return name;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("name", name).toString();
+    }
+
+}
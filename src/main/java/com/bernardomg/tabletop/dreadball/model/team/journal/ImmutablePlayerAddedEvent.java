@@ -0,0 +1,129 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayers;
+import com.bernardomg.tabletop.dreadball.model.team.Team;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Event for a player being added to a team position.
+ * <p>
+ * The event keeps its own copy of the player, made with
+ * {@link TeamPlayers#copyOf(TeamPlayer)}, and adds a new copy each time it is
+ * applied. So changes to the player after creating the event, or to the
+ * player added to a team, never change the event, and applying it to several
+ * teams doesn't make them share a player.
+ * <p>
+ * This is an immutable implementation.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <U>
+ *            the type of player the team is composed of
+ */
+public final class ImmutablePlayerAddedEvent<U extends TeamPlayer>
+        implements TeamEvent<Team<U>> {
+
+    /**
+     * Serialization id.
+     */
+    private static final long serialVersionUID = 2985398290562771309L;
+
+    /**
+     * Copy of the player added.
+     */
+    private final U           player;
+
+    /**
+     * Position where the player is added.
+     */
+    private final Integer     position;
+
+    /**
+     * Constructs an event for adding the player to the position.
+     * <p>
+     * The player is copied.
+     * 
+     * @param playerAdded
+     *            player added
+     * @param pos
+     *            position where the player is added
+     * @throws IllegalArgumentException
+     *             if the player implementation can't be copied
+     */
+    public ImmutablePlayerAddedEvent(final U playerAdded, final Integer pos) {
+        super();
+
+        player = copyOf(
+                checkNotNull(playerAdded, "Received a null pointer as player"));
+        position = checkNotNull(pos, "Received a null pointer as position");
+
+        checkArgument(position > 0, "The position should be higher than zero");
+    }
+
+    @Override
+    public final void apply(final Team<U> team) {
+        checkNotNull(team, "Received a null pointer as team");
+
+        team.addPlayer(copyOf(player), position);
+    }
+
+    /**
+     * Returns a copy of the player added.
+     * 
+     * @return a copy of the player added
+     */
+    public final U getPlayer() {
+        return copyOf(player);
+    }
+
+    /**
+     * Returns the position where the player is added.
+     * 
+     * @return the position where the player is added
+     */
+    public final Integer getPosition() {
+        return position;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("position", position)
+                .add("player", player).toString();
+    }
+
+    /**
+     * Returns a copy of the player.
+     * <p>
+     * Copies keep the implementation of the player, so they are of the same
+     * type.
+     * 
+     * @param source
+     *            player to copy
+     * @return a copy of the player
+     */
+    @SuppressWarnings("unchecked")
+    private final U copyOf(final U source) {
+        return (U) TeamPlayers.copyOf(source);
+    }
+
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.bernardomg.tabletop.dreadball.model.team.Team;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Event for a player being removed from a team position.
+ * <p>
+ * This is an immutable implementation.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class ImmutablePlayerRemovedEvent implements TeamEvent<Team<?>> {
+
+    /**
+     * Serialization id.
+     */
+    private static final long serialVersionUID = -1877240342458129203L;
+
+    /**
+     * Position being emptied.
+     */
+    private final Integer     position;
+
+    /**
+     * Constructs an event for removing the player at the position.
+     * 
+     * @param pos
+     *            position being emptied
+     */
+    public ImmutablePlayerRemovedEvent(final Integer pos) {
+        super();
+
+        position = checkNotNull(pos, "Received a null pointer as position");
+    }
+
+    @Override
+    public final void apply(final Team<?> team) {
+        checkNotNull(team, "Received a null pointer as team");
+
+        team.removePlayer(position);
+    }
+
+    /**
+     * Returns the position being emptied.
+     * 
+     * @return the position being emptied
+     */
+    public final Integer getPosition() {
+        return position;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("position", position)
+                .toString();
+    }
+
+}
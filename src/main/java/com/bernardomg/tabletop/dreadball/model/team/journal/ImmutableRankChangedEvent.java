@@ -0,0 +1,110 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.team.AbstractTeam;
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Event for the rank of a player being changed.
+ * <p>
+ * This is an immutable implementation.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class ImmutableRankChangedEvent
+        implements TeamEvent<AdvancementTeam> {
+
+    /**
+     * Serialization id.
+     */
+    private static final long serialVersionUID = 6384711307712542386L;
+
+    /**
+     * Position of the player.
+     */
+    private final Integer     position;
+
+    /**
+     * New rank of the player.
+     */
+    private final Integer     rank;
+
+    /**
+     * Constructs an event for changing the rank of the player at the
+     * position.
+     * 
+     * @param pos
+     *            position of the player
+     * @param rankValue
+     *            new rank of the player
+     */
+    public ImmutableRankChangedEvent(final Integer pos,
+            final Integer rankValue) {
+        super();
+
+        position = checkNotNull(pos, "Received a null pointer as position");
+        rank = checkNotNull(rankValue, "Received a null pointer as rank");
+    }
+
+    @Override
+    public final void apply(final AdvancementTeam team) {
+        final AdvancementTeamPlayer player; // Player to change
+
+        checkNotNull(team, "Received a null pointer as team");
+
+        player = team.getPlayers().get(position);
+        checkArgument(player != null, "No player at position %s", position);
+
+        player.setRank(rank);
+
+        if (team instanceof AbstractTeam) {
+            // Players don't notify their own changes
+            ((AbstractTeam<?>) team).markPlayerChanged(position);
+        }
+    }
+
+    /**
+     * Returns the position of the player.
+     * 
+     * @return the position of the player
+     */
+    public final Integer getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns the new rank of the player.
+     * 
+     * @return the new rank of the player
+     */
+    public final Integer getRank() {
+        return rank;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("position", position)
+                .add("rank", rank).toString();
+    }
+
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.bernardomg.tabletop.dreadball.model.team.SponsorTeam;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Event for the number of an asset of a Sponsor team being set.
+ * <p>
+ * This is an immutable implementation.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class ImmutableSponsorAssetSetEvent
+        implements TeamEvent<SponsorTeam> {
+
+    /**
+     * Serialization id.
+     */
+    private static final long  serialVersionUID = -8653940368572111165L;
+
+    /**
+     * Asset being changed.
+     */
+    private final SponsorAsset asset;
+
+    /**
+     * New number of the asset.
+     */
+    private final Integer      value;
+
+    /**
+     * Constructs an event for setting the number of the asset.
+     * 
+     * @param sponsorAsset
+     *            asset being changed
+     * @param number
+     *            new number of the asset
+     */
+    public ImmutableSponsorAssetSetEvent(final SponsorAsset sponsorAsset,
+            final Integer number) {
+        super();
+
+        asset = checkNotNull(sponsorAsset, "Received a null pointer as asset");
+        value = checkNotNull(number, "Received a null pointer as value");
+    }
+
+    @Override
+    public final void apply(final SponsorTeam team) {
+        checkNotNull(team, "Received a null pointer as team");
+
+        switch (asset) {
+            case MEDIBOTS:
+                team.setMediBots(value);
+                break;
+            case NASTY_SURPRISE_CARDS:
+                team.setNastySurpriseCards(value);
+                break;
+            case SPECIAL_MOVE_CARDS:
+                team.setSpecialMoveCards(value);
+                break;
+            case WAGERS:
+                team.setWagers(value);
+                break;
+            default:
+                throw new IllegalStateException("Unknown asset " + asset);
+        }
+    }
+
+    /**
+     * Returns the asset being changed.
+     * 
+     * @return the asset being changed
+     */
+    public final SponsorAsset getAsset() {
+        return asset;
+    }
+
+    /**
+     * Returns the new number of the asset.
+     * 
+     * @return the new number of the asset
+     */
+    public final Integer getValue() {
+        return value;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("asset", asset)
+                .add("value", value).toString();
+    }
+
+}
@@ -0,0 +1,156 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import com.bernardomg.tabletop.dreadball.model.faction.Sponsor;
+import com.bernardomg.tabletop.dreadball.model.player.stats.AffinityGroup;
+import com.bernardomg.tabletop.dreadball.model.team.DefaultSponsorTeam;
+import com.bernardomg.tabletop.dreadball.model.team.SponsorTeam;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Event for the values of the Sponsor of a team being set.
+ * <p>
+ * The values are copied from a Sponsor when creating the event, and set into
+ * the Sponsor of the team when applying it.
+ * <p>
+ * This is an immutable implementation.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class ImmutableSponsorSetEvent implements TeamEvent<SponsorTeam> {
+
+    /**
+     * Serialization id.
+     */
+    private static final long         serialVersionUID = 2964470826180624145L;
+
+    /**
+     * New affinity groups of the Sponsor.
+     */
+    private final List<AffinityGroup> affinities;
+
+    /**
+     * New cash of the Sponsor.
+     */
+    private final Integer             cash;
+
+    /**
+     * New name of the Sponsor.
+     */
+    private final String              name;
+
+    /**
+     * New rank of the Sponsor.
+     */
+    private final Integer             rank;
+
+    /**
+     * Constructs an event for setting the current values of the received
+     * Sponsor.
+     * 
+     * @param sponsor
+     *            Sponsor with the new values
+     */
+    public ImmutableSponsorSetEvent(final Sponsor sponsor) {
+        super();
+
+        checkNotNull(sponsor, "Received a null pointer as sponsor");
+
+        name = checkNotNull(sponsor.getName(),
+                "Received a null pointer as name");
+        cash = checkNotNull(sponsor.getCash(),
+                "Received a null pointer as cash");
+        rank = checkNotNull(sponsor.getRank(),
+                "Received a null pointer as rank");
+
+        affinities = new ArrayList<>();
+        for (final AffinityGroup affinity : sponsor.getAffinityGroups()) {
+            affinities.add(checkNotNull(affinity,
+                    "Received a null pointer as affinity group"));
+        }
+    }
+
+    @Override
+    public final void apply(final SponsorTeam team) {
+        final Sponsor sponsor; // Sponsor to change
+
+        checkNotNull(team, "Received a null pointer as team");
+
+        sponsor = team.getSponsor();
+        sponsor.setName(name);
+        sponsor.setCash(cash);
+        sponsor.setRank(rank);
+        sponsor.setAffinityGroups(new ArrayList<AffinityGroup>(affinities));
+
+        if (team instanceof DefaultSponsorTeam) {
+            // The Sponsor doesn't notify its own changes
+            ((DefaultSponsorTeam) team).markSponsorChanged();
+        }
+    }
+
+    /**
+     * Returns the new affinity groups of the Sponsor.
+     * 
+     * @return the new affinity groups of the Sponsor
+     */
+    public final Collection<AffinityGroup> getAffinityGroups() {
+        return Collections.unmodifiableCollection(affinities);
+    }
+
+    /**
+     * Returns the new cash of the Sponsor.
+     * 
+     * @return the new cash of the Sponsor
+     */
+    public final Integer getCash() {
+        return cash;
+    }
+
+    /**
+     * Returns the new name of the Sponsor.
+     * 
+     * @return the new name of the Sponsor
+     */
+    public final String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the new rank of the Sponsor.
+     * 
+     * @return the new rank of the Sponsor
+     */
+    public final Integer getRank() {
+        return rank;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("name", name)
+                .add("cash", cash).add("rank", rank)
+                .add("affinities", affinities).toString();
+    }
+
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Event for a Coaching Staff being hired or fired.
+ * <p>
+ * This is an immutable implementation.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class ImmutableStaffToggledEvent
+        implements TeamEvent<AdvancementTeam> {
+
+    /**
+     * Serialization id.
+     */
+    private static final long   serialVersionUID = -2510326405129526620L;
+
+    /**
+     * Flag indicating if the staff is hired.
+     */
+    private final Boolean       hired;
+
+    /**
+     * Staff being changed.
+     */
+    private final CoachingStaff staff;
+
+    /**
+     * Constructs an event for hiring or firing the staff.
+     * 
+     * @param coachingStaff
+     *            staff being changed
+     * @param hiredFlag
+     *            flag indicating if the staff is hired
+     */
+    public ImmutableStaffToggledEvent(final CoachingStaff coachingStaff,
+            final Boolean hiredFlag) {
+        super();
+
+        staff = checkNotNull(coachingStaff, "Received a null pointer as staff");
+        hired = checkNotNull(hiredFlag,
+                "Received a null pointer as hired flag");
+    }
+
+    @Override
+    public final void apply(final AdvancementTeam team) {
+        checkNotNull(team, "Received a null pointer as team");
+
+        switch (staff) {
+            case DEFENSIVE:
+                team.setDefensiveCoachingStaff(hired);
+                break;
+            case OFFENSIVE:
+                team.setOffensiveCoachingStaff(hired);
+                break;
+            case SUPPORT:
+                team.setSupportCoachingStaff(hired);
+                break;
+            default:
+                throw new IllegalStateException("Unknown staff " + staff);
+        }
+    }
+
+    /**
+     * Returns the flag indicating if the staff is hired.
+     * 
+     * @return {@code true} if the staff is hired, {@code false} otherwise
+     */
+    public final Boolean getHired() {
+        return hired;
+    }
+
+    /**
+     * Returns the staff being changed.
+     * 
+     * @return the staff being changed
+     */
+    public final CoachingStaff getStaff() {
+        return staff;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("staff", staff)
+                .add("hired", hired).toString();
+    }
+
+}
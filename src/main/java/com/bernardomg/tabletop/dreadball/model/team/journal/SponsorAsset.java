@@ -0,0 +1,46 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+/**
+ * Assets which a Sponsor team may buy.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public enum SponsorAsset {
+
+    /**
+     * MediBots.
+     */
+    MEDIBOTS,
+
+    /**
+     * Nasty Surprise Cards.
+     */
+    NASTY_SURPRISE_CARDS,
+
+    /**
+     * Special Move Cards.
+     */
+    SPECIAL_MOVE_CARDS,
+
+    /**
+     * Wagers.
+     */
+    WAGERS
+
+}
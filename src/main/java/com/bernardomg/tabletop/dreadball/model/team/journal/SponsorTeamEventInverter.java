@@ -0,0 +1,102 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.bernardomg.tabletop.dreadball.model.team.SponsorTeam;
+
+/**
+ * Creates the events undoing the events applied to a {@link SponsorTeam}.
+ * <p>
+ * Each inverse only stores the value being replaced, so undoing doesn't
+ * require copying the team.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class SponsorTeamEventInverter
+        implements TeamEventInverter<SponsorTeam> {
+
+    /**
+     * Default constructor.
+     */
+    public SponsorTeamEventInverter() {
+        super();
+    }
+
+    @Override
+    public final TeamEvent<? super SponsorTeam> getInverse(
+            final SponsorTeam team,
+            final TeamEvent<? super SponsorTeam> event) {
+        final TeamEvent<? super SponsorTeam> inverse; // Inverted event
+        final SponsorAsset                   asset;   // Asset changed
+
+        checkNotNull(team, "Received a null pointer as team");
+        checkNotNull(event, "Received a null pointer as event");
+
+        if (event instanceof ImmutableSponsorAssetSetEvent) {
+            asset = ((ImmutableSponsorAssetSetEvent) event).getAsset();
+            inverse = new ImmutableSponsorAssetSetEvent(asset,
+                    getAsset(team, asset));
+        } else if (event instanceof ImmutableAffinityGroupsSetEvent) {
+            inverse = new ImmutableAffinityGroupsSetEvent(
+                    team.getAdditionalAffinityGroups());
+        } else if (event instanceof ImmutableSponsorSetEvent) {
+            inverse = new ImmutableSponsorSetEvent(team.getSponsor());
+        } else {
+            inverse = TeamInverses.getInverse(team, event);
+            checkArgument(inverse != null, "Can't invert event %s", event);
+        }
+
+        return inverse;
+    }
+
+    /**
+     * Returns the current number of the asset.
+     * 
+     * @param team
+     *            team with the asset
+     * @param asset
+     *            asset to check
+     * @return the current number of the asset
+     */
+    private final Integer getAsset(final SponsorTeam team,
+            final SponsorAsset asset) {
+        final Integer value; // Asset number
+
+        switch (asset) {
+            case MEDIBOTS:
+                value = team.getMediBots();
+                break;
+            case NASTY_SURPRISE_CARDS:
+                value = team.getNastySurpriseCards();
+                break;
+            case SPECIAL_MOVE_CARDS:
+                value = team.getSpecialMoveCards();
+                break;
+            case WAGERS:
+                value = team.getWagers();
+                break;
+            default:
+                throw new IllegalStateException("Unknown asset " + asset);
+        }
+
+        return value;
+    }
+
+}
@@ -0,0 +1,124 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import com.bernardomg.tabletop.dreadball.model.team.AbstractTeam;
+import com.bernardomg.tabletop.dreadball.model.team.TeamBatch;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Sequence of events applied as a single change.
+ * <p>
+ * When applied to a team extending {@link AbstractTeam} the events are
+ * applied inside a batch, so listeners receive a single change.
+ * <p>
+ * This is an immutable implementation.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <T>
+ *            the type of team the events are applied to
+ */
+public final class TeamChangeSet<T> implements TeamEvent<T> {
+
+    /**
+     * Serialization id.
+     */
+    private static final long                serialVersionUID = -392096928746613112L;
+
+    /**
+     * Events in the change set, in the order they are applied.
+     */
+    private final List<TeamEvent<? super T>> events;
+
+    /**
+     * Constructs a change set with the received events.
+     * 
+     * @param changes
+     *            events in the change set, in the order they are applied
+     */
+    public TeamChangeSet(final Collection<TeamEvent<? super T>> changes) {
+        super();
+
+        checkNotNull(changes, "Received a null pointer as events");
+
+        events = new ArrayList<>(changes.size());
+        for (final TeamEvent<? super T> event : changes) {
+            events.add(checkNotNull(event, "Received a null pointer as event"));
+        }
+    }
+
+    @Override
+    public final void apply(final T team) {
+        final AbstractTeam<?> batched; // Team receiving the batch
+
+        checkNotNull(team, "Received a null pointer as team");
+
+        if (team instanceof AbstractTeam) {
+            batched = (AbstractTeam<?>) team;
+            try (final TeamBatch batch = batched.beginBatch()) {
+                applyEvents(team);
+            }
+        } else {
+            applyEvents(team);
+        }
+    }
+
+    /**
+     * Returns the events in the change set, in the order they are applied.
+     * 
+     * @return the events in the change set
+     */
+    public final List<TeamEvent<? super T>> getEvents() {
+        return Collections.unmodifiableList(events);
+    }
+
+    /**
+     * Indicates if the change set has no events.
+     * 
+     * @return {@code true} if there are no events, {@code false} otherwise
+     */
+    public final Boolean isEmpty() {
+        return events.isEmpty();
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("events", events)
+                .toString();
+    }
+
+    /**
+     * Applies all the events to the team.
+     * 
+     * @param team
+     *            the team to mutate
+     */
+    private final void applyEvents(final T team) {
+        for (final TeamEvent<? super T> event : events) {
+            event.apply(team);
+        }
+    }
+
+}
@@ -0,0 +1,341 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.bernardomg.tabletop.dreadball.model.faction.Sponsor;
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.stats.AbilitySet;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Attributes;
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+import com.bernardomg.tabletop.dreadball.model.team.SponsorTeam;
+import com.bernardomg.tabletop.dreadball.model.team.Team;
+import com.google.common.collect.Iterables;
+
+/**
+ * Utilities for comparing two states of a team.
+ * <p>
+ * The comparison returns a change set which, applied to a team in the source
+ * state, leaves it in the target state. Only the values which are different
+ * are included, so the change set can be sent instead of the whole team.
+ * <p>
+ * Players are compared by position. If the player in a position is equal in
+ * both states, and has the same template values and attributes, then only its
+ * changed values are included. Otherwise a copy of the target player is
+ * included whole, so the change set doesn't share players with the target
+ * team. This covers values which have no event of their own, such as the
+ * attributes, and players which are equal only by their name.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TeamDiffs {
+
+    /**
+     * Returns the changes to go from the source state of an advancement team
+     * to the target state.
+     * 
+     * @param source
+     *            initial state
+     * @param target
+     *            final state
+     * @return the changes from the source state to the target state
+     */
+    public static final TeamChangeSet<AdvancementTeam>
+            diff(final AdvancementTeam source, final AdvancementTeam target) {
+        final List<TeamEvent<? super AdvancementTeam>> events; // Changes
+        AdvancementTeamPlayer                          from;   // Source player
+        AdvancementTeamPlayer                          to;     // Target player
+
+        checkNotNull(source, "Received a null pointer as source");
+        checkNotNull(target, "Received a null pointer as target");
+
+        events = new ArrayList<>();
+
+        for (final Integer position : diffRoster(source, target, events)) {
+            from = source.getPlayers().get(position);
+            to = target.getPlayers().get(position);
+
+            if (isChanged(from.getRank(), to.getRank())) {
+                events.add(new ImmutableRankChangedEvent(position,
+                        to.getRank()));
+            }
+            if (isChanged(from.getUnspentExperience(),
+                    to.getUnspentExperience())) {
+                events.add(new ImmutableExperienceSetEvent(position,
+                        to.getUnspentExperience()));
+            }
+            if (!new AbilitySet(from.getAbilities())
+                    .equals(new AbilitySet(to.getAbilities()))) {
+                events.add(new ImmutableAbilitiesSetEvent(position,
+                        to.getAbilities()));
+            }
+            if (isChanged(from.getGraftedImplant(), to.getGraftedImplant())) {
+                events.add(new ImmutableImplantGraftedEvent(position,
+                        to.getGraftedImplant()));
+            }
+        }
+
+        diffTeam(source, target, events);
+
+        if (isChanged(source.getName(), target.getName())) {
+            events.add(new ImmutableNameSetEvent(target.getName()));
+        }
+        if (isChanged(source.getCash(), target.getCash())) {
+            events.add(new ImmutableCashSetEvent(target.getCash()));
+        }
+        if (isChanged(source.getDreadballCards(),
+                target.getDreadballCards())) {
+            events.add(new ImmutableDreadballCardsSetEvent(
+                    target.getDreadballCards()));
+        }
+        if (isChanged(source.getDefensiveCoachingStaff(),
+                target.getDefensiveCoachingStaff())) {
+            events.add(new ImmutableStaffToggledEvent(CoachingStaff.DEFENSIVE,
+                    target.getDefensiveCoachingStaff()));
+        }
+        if (isChanged(source.getOffensiveCoachingStaff(),
+                target.getOffensiveCoachingStaff())) {
+            events.add(new ImmutableStaffToggledEvent(CoachingStaff.OFFENSIVE,
+                    target.getOffensiveCoachingStaff()));
+        }
+        if (isChanged(source.getSupportCoachingStaff(),
+                target.getSupportCoachingStaff())) {
+            events.add(new ImmutableStaffToggledEvent(CoachingStaff.SUPPORT,
+                    target.getSupportCoachingStaff()));
+        }
+
+        return new TeamChangeSet<>(events);
+    }
+
+    /**
+     * Returns the changes to go from the source state of a Sponsor team to
+     * the target state.
+     * 
+     * @param source
+     *            initial state
+     * @param target
+     *            final state
+     * @return the changes from the source state to the target state
+     */
+    public static final TeamChangeSet<SponsorTeam>
+            diff(final SponsorTeam source, final SponsorTeam target) {
+        final List<TeamEvent<? super SponsorTeam>> events; // Changes
+
+        checkNotNull(source, "Received a null pointer as source");
+        checkNotNull(target, "Received a null pointer as target");
+
+        events = new ArrayList<>();
+
+        // Sponsor players can only be renamed, and their equality covers the
+        // name, so a renamed player is added again whole by the roster diff
+        diffRoster(source, target, events);
+
+        if (isSponsorChanged(source.getSponsor(), target.getSponsor())) {
+            events.add(new ImmutableSponsorSetEvent(target.getSponsor()));
+        }
+
+        diffTeam(source, target, events);
+
+        if (isChanged(source.getMediBots(), target.getMediBots())) {
+            events.add(new ImmutableSponsorAssetSetEvent(SponsorAsset.MEDIBOTS,
+                    target.getMediBots()));
+        }
+        if (isChanged(source.getNastySurpriseCards(),
+                target.getNastySurpriseCards())) {
+            events.add(new ImmutableSponsorAssetSetEvent(
+                    SponsorAsset.NASTY_SURPRISE_CARDS,
+                    target.getNastySurpriseCards()));
+        }
+        if (isChanged(source.getSpecialMoveCards(),
+                target.getSpecialMoveCards())) {
+            events.add(new ImmutableSponsorAssetSetEvent(
+                    SponsorAsset.SPECIAL_MOVE_CARDS,
+                    target.getSpecialMoveCards()));
+        }
+        if (isChanged(source.getWagers(), target.getWagers())) {
+            events.add(new ImmutableSponsorAssetSetEvent(SponsorAsset.WAGERS,
+                    target.getWagers()));
+        }
+        if (!Iterables.elementsEqual(source.getAdditionalAffinityGroups(),
+                target.getAdditionalAffinityGroups())) {
+            events.add(new ImmutableAffinityGroupsSetEvent(
+                    target.getAdditionalAffinityGroups()));
+        }
+
+        return new TeamChangeSet<>(events);
+    }
+
+    /**
+     * Adds the changes to the roster, and returns the positions where the
+     * player is kept.
+     * 
+     * @param <U>
+     *            the type of player
+     * @param <T>
+     *            the type of team
+     * @param source
+     *            initial state
+     * @param target
+     *            final state
+     * @param events
+     *            changes found
+     * @return the positions where the player is kept
+     */
+    private static final <U extends TeamPlayer, T extends Team<U>>
+            Collection<Integer> diffRoster(final T source, final T target,
+                    final Collection<TeamEvent<? super T>> events) {
+        final Map<Integer, U>     from;   // Source players
+        final Map<Integer, U>     to;     // Target players
+        final Collection<Integer> kept;   // Positions with the same player
+        U                         player; // Source player
+
+        from = source.getPlayers();
+        to = target.getPlayers();
+        kept = new ArrayList<>();
+
+        for (final Integer position : from.keySet()) {
+            if (!to.containsKey(position)) {
+                events.add(new ImmutablePlayerRemovedEvent(position));
+            }
+        }
+
+        for (final Map.Entry<Integer, U> entry : to.entrySet()) {
+            player = from.get(entry.getKey());
+            if (entry.getValue().equals(player)
+                    && isSameBase(player, entry.getValue())) {
+                kept.add(entry.getKey());
+            } else {
+                // Replaces any player in the position, the event keeps its
+                // own copy of the target player
+                events.add(new ImmutablePlayerAddedEvent<U>(entry.getValue(),
+                        entry.getKey()));
+            }
+        }
+
+        return kept;
+    }
+
+    /**
+     * Adds the changes to the values shared by all the teams.
+     * 
+     * @param <T>
+     *            the type of team
+     * @param source
+     *            initial state
+     * @param target
+     *            final state
+     * @param events
+     *            changes found
+     */
+    private static final <T extends Team<?>> void diffTeam(final T source,
+            final T target, final Collection<TeamEvent<? super T>> events) {
+        if (isChanged(source.getCheerleaders(), target.getCheerleaders())) {
+            events.add(new ImmutableCheerleadersSetEvent(
+                    target.getCheerleaders()));
+        }
+        if (isChanged(source.getCoachingDice(), target.getCoachingDice())) {
+            events.add(new ImmutableCoachingDiceSetEvent(
+                    target.getCoachingDice()));
+        }
+    }
+
+    /**
+     * Indicates if a value should be changed.
+     * <p>
+     * Missing target values are never set.
+     * 
+     * @param source
+     *            initial value
+     * @param target
+     *            final value
+     * @return {@code true} if the value should be changed, {@code false}
+     *         otherwise
+     */
+    private static final Boolean isChanged(final Object source,
+            final Object target) {
+        return (target != null) && (!Objects.equals(source, target));
+    }
+
+    /**
+     * Indicates if two players share the values which can't be changed by an
+     * event.
+     * <p>
+     * These are the template values and the attributes.
+     * 
+     * @param source
+     *            initial player
+     * @param target
+     *            final player
+     * @return {@code true} if the players share the values, {@code false}
+     *         otherwise
+     */
+    private static final Boolean isSameBase(final TeamPlayer source,
+            final TeamPlayer target) {
+        final Attributes from; // Source attributes
+        final Attributes to;   // Target attributes
+
+        from = source.getAttributes();
+        to = target.getAttributes();
+
+        return Objects.equals(source.getTemplateName(),
+                target.getTemplateName())
+                && Objects.equals(source.getRole(), target.getRole())
+                && Objects.equals(source.getCost(), target.getCost())
+                && Objects.equals(source.getMvp(), target.getMvp())
+                && Objects.equals(source.getGiant(), target.getGiant())
+                && Objects.equals(from.getArmor(), to.getArmor())
+                && Objects.equals(from.getMovement(), to.getMovement())
+                && Objects.equals(from.getSkill(), to.getSkill())
+                && Objects.equals(from.getSpeed(), to.getSpeed())
+                && Objects.equals(from.getStrength(), to.getStrength());
+    }
+
+    /**
+     * Indicates if the values of the Sponsor should be changed.
+     * 
+     * @param source
+     *            initial Sponsor
+     * @param target
+     *            final Sponsor
+     * @return {@code true} if the Sponsor should be changed, {@code false}
+     *         otherwise
+     */
+    private static final Boolean isSponsorChanged(final Sponsor source,
+            final Sponsor target) {
+        return isChanged(source.getName(), target.getName())
+                || isChanged(source.getCash(), target.getCash())
+                || isChanged(source.getRank(), target.getRank())
+                || !Iterables.elementsEqual(source.getAffinityGroups(),
+                        target.getAffinityGroups());
+    }
+
+    /**
+     * Private constructor to avoid initialization.
+     */
+    private TeamDiffs() {
+        super();
+    }
+
+}
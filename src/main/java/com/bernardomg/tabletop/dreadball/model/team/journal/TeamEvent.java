@@ -0,0 +1,42 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+import java.io.Serializable;
+
+/**
+ * Mutation event which can be applied to a team.
+ * <p>
+ * Events are small, serializable descriptions of a single change, so a team
+ * state can be persisted as a sequence of them instead of as a whole.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <T>
+ *            the type of team the event is applied to
+ */
+public interface TeamEvent<T> extends Serializable {
+
+    /**
+     * Applies the event to the received team.
+     * 
+     * @param team
+     *            the team to mutate
+     */
+    public void apply(final T team);
+
+}
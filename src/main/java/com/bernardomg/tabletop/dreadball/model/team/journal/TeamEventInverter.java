@@ -0,0 +1,46 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+/**
+ * Creates the events undoing other events.
+ * <p>
+ * The inverse depends on the state the event is applied to, so it should be
+ * created just before applying the event.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <T>
+ *            the type of team the events are applied to
+ */
+public interface TeamEventInverter<T> {
+
+    /**
+     * Returns the event which undoes the received one.
+     * <p>
+     * The team should be in the state the event is going to be applied to.
+     * 
+     * @param team
+     *            team before applying the event
+     * @param event
+     *            event to invert
+     * @return the event undoing the received one
+     */
+    public TeamEvent<? super T> getInverse(final T team,
+            final TeamEvent<? super T> event);
+
+}
@@ -0,0 +1,263 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.bernardomg.tabletop.dreadball.model.team.AbstractTeam;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Undo and redo history for the changes applied to a team.
+ * <p>
+ * Each step stores the event applied and its inverse, created from the state
+ * the event was applied to, instead of a copy of the team. The steps are
+ * kept in a ring buffer of fixed capacity, so once it is full the oldest
+ * step is discarded, and undoing or redoing a step applies a single event.
+ * <p>
+ * All the changes to the team should go through the history, otherwise the
+ * stored inverses won't match the team state. If the team is changed in any
+ * other way, the history should be cleared.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <T>
+ *            the type of team the history is for
+ */
+public final class TeamHistory<T> {
+
+    /**
+     * Position where the next step is stored.
+     */
+    private int                        cursor   = 0;
+
+    /**
+     * Events applied, by step.
+     */
+    private final Object[]             events;
+
+    /**
+     * Creates the inverses for the events.
+     */
+    private final TeamEventInverter<T> inverter;
+
+    /**
+     * Inverses of the events applied, by step.
+     */
+    private final Object[]             inverses;
+
+    /**
+     * Number of steps which can be redone.
+     */
+    private int                        redoable = 0;
+
+    /**
+     * Team the events are applied to.
+     */
+    private final T                    team;
+
+    /**
+     * Number of steps which can be undone.
+     */
+    private int                        undoable = 0;
+
+    /**
+     * Constructs a history for the team.
+     * 
+     * @param source
+     *            team the events are applied to
+     * @param eventInverter
+     *            creates the inverses for the events
+     * @param capacity
+     *            maximum number of steps kept
+     */
+    public TeamHistory(final T source,
+            final TeamEventInverter<T> eventInverter, final Integer capacity) {
+        super();
+
+        team = checkNotNull(source, "Received a null pointer as team");
+        inverter = checkNotNull(eventInverter,
+                "Received a null pointer as inverter");
+
+        checkNotNull(capacity, "Received a null pointer as capacity");
+        checkArgument(capacity > 0, "The capacity should be higher than zero");
+
+        events = new Object[capacity];
+        inverses = new Object[capacity];
+    }
+
+    /**
+     * Applies an event to the team, storing it as a new step.
+     * <p>
+     * This discards the steps which could be redone.
+     * <p>
+     * If an event in a change set fails, the events of the change set already
+     * applied are undone before throwing the failure, and no step is stored.
+     * 
+     * @param event
+     *            event to apply
+     */
+    public final void apply(final TeamEvent<? super T> event) {
+        final TeamEvent<? super T> inverse; // Undoes the event
+
+        checkNotNull(event, "Received a null pointer as event");
+
+        inverse = applyInverting(event);
+
+        // Released so discarded steps can be collected
+        for (int i = 0; i < redoable; i++) {
+            events[(cursor + i) % events.length] = null;
+            inverses[(cursor + i) % events.length] = null;
+        }
+        redoable = 0;
+
+        events[cursor] = event;
+        inverses[cursor] = inverse;
+        cursor = (cursor + 1) % events.length;
+        if (undoable < events.length) {
+            undoable++;
+        }
+    }
+
+    /**
+     * Indicates if there is any step to redo.
+     * 
+     * @return {@code true} if there is a step to redo, {@code false}
+     *         otherwise
+     */
+    public final Boolean canRedo() {
+        return redoable > 0;
+    }
+
+    /**
+     * Indicates if there is any step to undo.
+     * 
+     * @return {@code true} if there is a step to undo, {@code false}
+     *         otherwise
+     */
+    public final Boolean canUndo() {
+        return undoable > 0;
+    }
+
+    /**
+     * Discards all the steps.
+     */
+    public final void clear() {
+        for (int i = 0; i < events.length; i++) {
+            events[i] = null;
+            inverses[i] = null;
+        }
+
+        cursor = 0;
+        undoable = 0;
+        redoable = 0;
+    }
+
+    /**
+     * Applies again the last step undone.
+     */
+    @SuppressWarnings("unchecked")
+    public final void redo() {
+        checkState(canRedo(), "There is nothing to redo");
+
+        ((TeamEvent<? super T>) events[cursor]).apply(team);
+
+        cursor = (cursor + 1) % events.length;
+        redoable--;
+        undoable++;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("undoable", undoable)
+                .add("redoable", redoable).toString();
+    }
+
+    /**
+     * Reverts the last step applied.
+     */
+    @SuppressWarnings("unchecked")
+    public final void undo() {
+        checkState(canUndo(), "There is nothing to undo");
+
+        cursor = (cursor - 1 + events.length) % events.length;
+        ((TeamEvent<? super T>) inverses[cursor]).apply(team);
+
+        undoable--;
+        redoable++;
+    }
+
+    /**
+     * Applies an event, returning its inverse.
+     * <p>
+     * The events in a change set are inverted one by one, as each one
+     * depends on the state left by the previous ones. If any of them fails,
+     * the inverses of those already applied are applied in reverse order.
+     * 
+     * @param event
+     *            event to apply
+     * @return the inverse of the event
+     */
+    @SuppressWarnings("unchecked")
+    private final TeamEvent<? super T>
+            applyInverting(final TeamEvent<? super T> event) {
+        final List<TeamEvent<? super T>> inverted; // Inverses of a change set
+        final TeamEvent<? super T>       inverse;  // Inverse of the event
+
+        if (event instanceof TeamChangeSet) {
+            inverted = new ArrayList<>();
+
+            if (team instanceof AbstractTeam) {
+                ((AbstractTeam<?>) team).beginBatch();
+            }
+            try {
+                for (final TeamEvent<?> change : ((TeamChangeSet<?>) event)
+                        .getEvents()) {
+                    // Events in a change set accept the same teams
+                    inverted.add(
+                            applyInverting((TeamEvent<? super T>) change));
+                }
+            } catch (final RuntimeException e) {
+                // Returns the team to the state before the change set
+                for (int i = inverted.size() - 1; i >= 0; i--) {
+                    inverted.get(i).apply(team);
+                }
+
+                throw e;
+            } finally {
+                if (team instanceof AbstractTeam) {
+                    ((AbstractTeam<?>) team).commitBatch();
+                }
+            }
+
+            Collections.reverse(inverted);
+            inverse = new TeamChangeSet<T>(inverted);
+        } else {
+            inverse = inverter.getInverse(team, event);
+            event.apply(team);
+        }
+
+        return inverse;
+    }
+
+}
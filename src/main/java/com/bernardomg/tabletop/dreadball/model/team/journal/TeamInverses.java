@@ -0,0 +1,89 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.journal;
+
+import java.util.Collections;
+
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.team.Team;
+
+/**
+ * Inverses for the events shared by all the teams.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+final class TeamInverses {
+
+    /**
+     * Returns the event which undoes the received one, if it is shared by all
+     * the teams.
+     * 
+     * @param <U>
+     *            the type of player in the team
+     * @param team
+     *            team before applying the event
+     * @param event
+     *            event to invert
+     * @return the event undoing the received one, or {@code null} if it is
+     *         not shared by all the teams
+     */
+    public static final <U extends TeamPlayer> TeamEvent<? super Team<U>>
+            getInverse(final Team<U> team, final TeamEvent<?> event) {
+        final TeamEvent<? super Team<U>> inverse;  // Inverted event
+        final Integer                    position; // Player position
+        final U                          previous; // Player replaced
+
+        if (event instanceof ImmutablePlayerAddedEvent) {
+            position = ((ImmutablePlayerAddedEvent<?>) event).getPosition();
+            previous = team.getPlayers().get(position);
+            if (previous == null) {
+                inverse = new ImmutablePlayerRemovedEvent(position);
+            } else {
+                // The replaced player is added back
+                inverse = new ImmutablePlayerAddedEvent<U>(previous, position);
+            }
+        } else if (event instanceof ImmutablePlayerRemovedEvent) {
+            position = ((ImmutablePlayerRemovedEvent) event).getPosition();
+            previous = team.getPlayers().get(position);
+            if (previous == null) {
+                // Removing an empty position changes nothing
+                inverse = new TeamChangeSet<Team<U>>(
+                        Collections.<TeamEvent<? super Team<U>>> emptyList());
+            } else {
+                inverse = new ImmutablePlayerAddedEvent<U>(previous, position);
+            }
+        } else if (event instanceof ImmutableCheerleadersSetEvent) {
+            inverse = new ImmutableCheerleadersSetEvent(
+                    team.getCheerleaders());
+        } else if (event instanceof ImmutableCoachingDiceSetEvent) {
+            inverse = new ImmutableCoachingDiceSetEvent(
+                    team.getCoachingDice());
+        } else {
+            inverse = null;
+        }
+
+        return inverse;
+    }
+
+    /**
+     * Private constructor to avoid initialization.
+     */
+    private TeamInverses() {
+        super();
+    }
+
+}
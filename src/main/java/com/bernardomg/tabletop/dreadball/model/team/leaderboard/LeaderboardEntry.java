@@ -0,0 +1,102 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.leaderboard;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Team in a {@link TeamLeaderboard}, along the valoration it is sorted by.
+ * <p>
+ * This is an immutable class.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <T>
+ *            the type of team in the leaderboard
+ */
+public final class LeaderboardEntry<T> {
+
+    /**
+     * Order in which the team was added, to break ties.
+     */
+    private final long    sequence;
+
+    /**
+     * Team in the leaderboard.
+     */
+    private final T       team;
+
+    /**
+     * Valoration of the team.
+     */
+    private final Integer valoration;
+
+    /**
+     * Constructs an entry with the specified arguments.
+     * 
+     * @param source
+     *            team in the leaderboard
+     * @param value
+     *            valoration of the team
+     * @param order
+     *            order in which the team was added
+     */
+    LeaderboardEntry(final T source, final Integer value, final long order) {
+        super();
+
+        team = checkNotNull(source, "Received a null pointer as team");
+        valoration = checkNotNull(value,
+                "Received a null pointer as valoration");
+        sequence = order;
+    }
+
+    /**
+     * Returns the team in the leaderboard.
+     * 
+     * @return the team in the leaderboard
+     */
+    public final T getTeam() {
+        return team;
+    }
+
+    /**
+     * Returns the valoration of the team.
+     * 
+     * @return the valoration of the team
+     */
+    public final Integer getValoration() {
+        return valoration;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("team", team)
+                .add("valoration", valoration).toString();
+    }
+
+    /**
+     * Returns the order in which the team was added.
+     * 
+     * @return the order in which the team was added
+     */
+    final long getSequence() {
+        return sequence;
+    }
+
+}
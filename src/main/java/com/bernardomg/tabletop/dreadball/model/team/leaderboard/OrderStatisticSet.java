@@ -0,0 +1,386 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package com.bernardomg.tabletop.dreadball.model.team.leaderboard;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Comparator;
+
+/**
+ * Sorted set which tells how many elements come before any of its elements.
+ * <p>
+ * This is an AVL tree where each node also keeps the size of its subtree, so
+ * adding, removing and finding the rank of an element all take logarithmic
+ * time.
+ * <p>
+ * It is not thread safe.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <E>
+ *            the type of element in the set
+ */
+final class OrderStatisticSet<E> {
+
+    /**
+     * Node of the tree.
+     * 
+     * @param <E>
+     *            the type of element in the node
+     */
+    private static final class Node<E> {
+
+        /**
+         * Height of the subtree.
+         */
+        private int     height = 1;
+
+        /**
+         * Left child, with the lower elements.
+         */
+        private Node<E> left;
+
+        /**
+         * Right child, with the higher elements.
+         */
+        private Node<E> right;
+
+        /**
+         * Number of elements in the subtree.
+         */
+        private int     size   = 1;
+
+        /**
+         * Element in the node.
+         */
+        private E       value;
+
+        /**
+         * Constructs a leaf with the element.
+         * 
+         * @param element
+         *            element in the node
+         */
+        public Node(final E element) {
+            super();
+
+            value = element;
+        }
+
+    }
+
+    /**
+     * Comparator sorting the elements.
+     */
+    private final Comparator<? super E> comparator;
+
+    /**
+     * Root of the tree.
+     */
+    private Node<E>                     root;
+
+    /**
+     * Constructs a set sorted with the comparator.
+     * 
+     * @param order
+     *            comparator sorting the elements
+     */
+    public OrderStatisticSet(final Comparator<? super E> order) {
+        super();
+
+        comparator = checkNotNull(order,
+                "Received a null pointer as comparator");
+    }
+
+    /**
+     * Adds an element, if it is not already in the set.
+     * 
+     * @param element
+     *            element to add
+     */
+    public final void add(final E element) {
+        root = insert(root, element);
+    }
+
+    /**
+     * Returns the number of elements lower than the received one.
+     * <p>
+     * For an element in the set this is its index in the sorted set.
+     * 
+     * @param element
+     *            element to search
+     * @return the number of elements lower than the element
+     */
+    public final int getRank(final E element) {
+        Node<E> node;       // Current node
+        int     rank;       // Elements lower than the element
+        int     comparison; // Comparison with the current node
+
+        rank = 0;
+        node = root;
+        while (node != null) {
+            comparison = comparator.compare(element, node.value);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                rank += getSize(node.left) + 1;
+                node = node.right;
+            } else {
+                rank += getSize(node.left);
+                node = null;
+            }
+        }
+
+        return rank;
+    }
+
+    /**
+     * Returns the number of elements in the set.
+     * 
+     * @return the number of elements in the set
+     */
+    public final int getSize() {
+        return getSize(root);
+    }
+
+    /**
+     * Removes an element, if it is in the set.
+     * 
+     * @param element
+     *            element to remove
+     */
+    public final void remove(final E element) {
+        root = delete(root, element);
+    }
+
+    /**
+     * Restores the balance of a subtree, after one of its children changed.
+     * 
+     * @param node
+     *            root of the subtree
+     * @return the new root of the subtree
+     */
+    private final Node<E> balance(final Node<E> node) {
+        final int balance; // Difference between the children heights
+        Node<E>   result;  // New root
+
+        update(node);
+
+        balance = getHeight(node.left) - getHeight(node.right);
+        if (balance > 1) {
+            if (getHeight(node.left.left) < getHeight(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            result = rotateRight(node);
+        } else if (balance < -1) {
+            if (getHeight(node.right.right) < getHeight(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            result = rotateLeft(node);
+        } else {
+            result = node;
+        }
+
+        return result;
+    }
+
+    /**
+     * Removes an element from a subtree.
+     * 
+     * @param node
+     *            root of the subtree
+     * @param element
+     *            element to remove
+     * @return the new root of the subtree
+     */
+    private final Node<E> delete(final Node<E> node, final E element) {
+        final Node<E> result;     // New root
+        final int     comparison; // Comparison with the root
+        Node<E>       successor;  // Lowest node on the right
+
+        if (node == null) {
+            result = null;
+        } else {
+            comparison = comparator.compare(element, node.value);
+            if (comparison < 0) {
+                node.left = delete(node.left, element);
+                result = balance(node);
+            } else if (comparison > 0) {
+                node.right = delete(node.right, element);
+                result = balance(node);
+            } else if (node.left == null) {
+                result = node.right;
+            } else if (node.right == null) {
+                result = node.left;
+            } else {
+                // The node takes the value of its successor
+                successor = node.right;
+                while (successor.left != null) {
+                    successor = successor.left;
+                }
+                node.value = successor.value;
+                node.right = deleteLowest(node.right);
+                result = balance(node);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Removes the lowest element from a subtree.
+     * 
+     * @param node
+     *            root of the subtree
+     * @return the new root of the subtree
+     */
+    private final Node<E> deleteLowest(final Node<E> node) {
+        final Node<E> result; // New root
+
+        if (node.left == null) {
+            result = node.right;
+        } else {
+            node.left = deleteLowest(node.left);
+            result = balance(node);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the height of a subtree.
+     * 
+     * @param node
+     *            root of the subtree
+     * @return the height of the subtree
+     */
+    private final int getHeight(final Node<E> node) {
+        final int height; // Subtree height
+
+        if (node == null) {
+            height = 0;
+        } else {
+            height = node.height;
+        }
+
+        return height;
+    }
+
+    /**
+     * Returns the number of elements in a subtree.
+     * 
+     * @param node
+     *            root of the subtree
+     * @return the number of elements in the subtree
+     */
+    private final int getSize(final Node<E> node) {
+        final int size; // Subtree size
+
+        if (node == null) {
+            size = 0;
+        } else {
+            size = node.size;
+        }
+
+        return size;
+    }
+
+    /**
+     * Adds an element into a subtree.
+     * 
+     * @param node
+     *            root of the subtree
+     * @param element
+     *            element to add
+     * @return the new root of the subtree
+     */
+    private final Node<E> insert(final Node<E> node, final E element) {
+        final Node<E> result;     // New root
+        final int     comparison; // Comparison with the root
+
+        if (node == null) {
+            result = new Node<E>(element);
+        } else {
+            comparison = comparator.compare(element, node.value);
+            if (comparison < 0) {
+                node.left = insert(node.left, element);
+                result = balance(node);
+            } else if (comparison > 0) {
+                node.right = insert(node.right, element);
+                result = balance(node);
+            } else {
+                result = node;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Rotates a subtree to the left.
+     * 
+     * @param node
+     *            root of the subtree
+     * @return the new root of the subtree
+     */
+    private final Node<E> rotateLeft(final Node<E> node) {
+        final Node<E> pivot; // New root
+
+        pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+
+        update(node);
+        update(pivot);
+
+        return pivot;
+    }
+
+    /**
+     * Rotates a subtree to the right.
+     * 
+     * @param node
+     *            root of the subtree
+     * @return the new root of the subtree
+     */
+    private final Node<E> rotateRight(final Node<E> node) {
+        final Node<E> pivot; // New root
+
+        pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+
+        update(node);
+        update(pivot);
+
+        return pivot;
+    }
+
+    /**
+     * Updates the height and size of a node from its children.
+     * 
+     * @param node
+     *            node to update
+     */
+    private final void update(final Node<E> node) {
+        node.height = Math.max(getHeight(node.left), getHeight(node.right))
+                + 1;
+        node.size = getSize(node.left) + getSize(node.right) + 1;
+    }
+
+}
@@ -0,0 +1,298 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.leaderboard;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import com.bernardomg.tabletop.dreadball.model.team.AbstractTeam;
+import com.bernardomg.tabletop.dreadball.model.team.Team;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CostCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.event.TeamChangeEvent;
+import com.bernardomg.tabletop.dreadball.model.team.event.TeamChangeListener;
+
+/**
+ * Teams sorted by a valoration, from highest to lowest, kept in order as the
+ * teams change.
+ * <p>
+ * The valoration is computed with the received calculator, so the teams can
+ * be sorted by their total cost, or by their rank with a rank calculator.
+ * Teams with the same valoration are sorted by the order in which they were
+ * added.
+ * <p>
+ * The leaderboard registers itself as a listener into the teams it contains,
+ * and moves a team each time it sends a change. Moving a team takes
+ * logarithmic time, instead of sorting all the teams again. Players don't
+ * notify their own changes, but teams send an event once they are told of
+ * them through {@link AbstractTeam#markPlayerChanged(Integer)}, and so the
+ * team is moved.
+ * <p>
+ * Reading the top teams doesn't block, and may run concurrently with the
+ * changes. These reads are weakly consistent, so a team being moved may be
+ * missing from them. Positions are kept in an order statistic tree, and are
+ * found in logarithmic time.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <T>
+ *            the type of team in the leaderboard
+ */
+public final class TeamLeaderboard<T extends AbstractTeam<?>>
+        implements TeamChangeListener {
+
+    /**
+     * Calculator for the valoration.
+     */
+    private final CostCalculator<? super T>              calculator;
+
+    /**
+     * Current entry of each team.
+     */
+    private final Map<Team<?>, LeaderboardEntry<T>>      entries  = new IdentityHashMap<>();
+
+    /**
+     * Entries sorted from highest to lowest valoration.
+     */
+    private final NavigableSet<LeaderboardEntry<T>>      ordered;
+
+    /**
+     * Entries sorted from highest to lowest valoration, for finding
+     * positions.
+     */
+    private final OrderStatisticSet<LeaderboardEntry<T>> ranks;
+
+    /**
+     * Order for the next team added.
+     */
+    private long                                         sequence = 0;
+
+    /**
+     * Constructs a leaderboard sorted with the specified calculator.
+     * 
+     * @param valorator
+     *            calculator for the valoration
+     */
+    public TeamLeaderboard(final CostCalculator<? super T> valorator) {
+        super();
+
+        final Comparator<LeaderboardEntry<T>> order; // Entries order
+
+        calculator = checkNotNull(valorator,
+                "Received a null pointer as calculator");
+
+        order = new Comparator<LeaderboardEntry<T>>() {
+
+            @Override
+            public final int compare(final LeaderboardEntry<T> left,
+                    final LeaderboardEntry<T> right) {
+                int result; // Comparison result
+
+                // Highest valorations first
+                result = right.getValoration()
+                        .compareTo(left.getValoration());
+                if (result == 0) {
+                    result = Long.compare(left.getSequence(),
+                            right.getSequence());
+                }
+
+                return result;
+            }
+
+        };
+
+        ordered = new ConcurrentSkipListSet<>(order);
+        ranks = new OrderStatisticSet<>(order);
+    }
+
+    /**
+     * Adds a team to the leaderboard, and starts listening to its changes.
+     * <p>
+     * If the team is already in the leaderboard, then nothing is done.
+     * 
+     * @param team
+     *            team to add
+     */
+    public final void addTeam(final T team) {
+        final LeaderboardEntry<T> entry; // Entry for the team
+
+        checkNotNull(team, "Received a null pointer as team");
+
+        synchronized (entries) {
+            if (!entries.containsKey(team)) {
+                entry = new LeaderboardEntry<T>(team, calculator.getCost(team),
+                        sequence);
+                sequence++;
+
+                entries.put(team, entry);
+                ordered.add(entry);
+                ranks.add(entry);
+
+                team.addChangeListener(this);
+            }
+        }
+    }
+
+    /**
+     * Returns the position of the team, starting at one.
+     * <p>
+     * This takes logarithmic time.
+     * 
+     * @param team
+     *            team to find
+     * @return the position of the team, or {@code null} if it is not in the
+     *         leaderboard
+     */
+    public final Integer getPosition(final T team) {
+        final LeaderboardEntry<T> entry;    // Entry for the team
+        final Integer             position; // Team position
+
+        checkNotNull(team, "Received a null pointer as team");
+
+        synchronized (entries) {
+            entry = entries.get(team);
+
+            if (entry == null) {
+                position = null;
+            } else {
+                position = ranks.getRank(entry) + 1;
+            }
+        }
+
+        return position;
+    }
+
+    /**
+     * Returns the number of teams in the leaderboard.
+     * 
+     * @return the number of teams in the leaderboard
+     */
+    public final Integer getSize() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Returns the teams with the highest valorations, sorted.
+     * 
+     * @param count
+     *            maximum number of teams to return
+     * @return the teams with the highest valorations
+     */
+    public final List<LeaderboardEntry<T>> getTop(final Integer count) {
+        final List<LeaderboardEntry<T>>     top; // Top teams
+        final Iterator<LeaderboardEntry<T>> itr; // Entries iterator
+
+        checkNotNull(count, "Received a null pointer as count");
+        checkArgument(count >= 0, "The count can't be negative");
+
+        top = new ArrayList<>(count);
+        itr = ordered.iterator();
+        while ((top.size() < count) && (itr.hasNext())) {
+            top.add(itr.next());
+        }
+
+        return top;
+    }
+
+    @Override
+    public final void onChange(final TeamChangeEvent event) {
+        checkNotNull(event, "Received a null pointer as event");
+
+        move(event.getTeam());
+    }
+
+    /**
+     * Removes a team from the leaderboard, and stops listening to its
+     * changes.
+     * 
+     * @param team
+     *            team to remove
+     */
+    public final void removeTeam(final T team) {
+        final LeaderboardEntry<T> entry; // Entry for the team
+
+        checkNotNull(team, "Received a null pointer as team");
+
+        team.removeChangeListener(this);
+
+        synchronized (entries) {
+            entry = entries.remove(team);
+            if (entry != null) {
+                ordered.remove(entry);
+                ranks.remove(entry);
+            }
+        }
+    }
+
+    /**
+     * Computes again the valoration of the team, moving it if needed.
+     * <p>
+     * Changes sent by the team already move it, so this is only needed when
+     * the valoration depends on values the team doesn't know about.
+     * 
+     * @param team
+     *            team to update
+     */
+    public final void update(final T team) {
+        checkNotNull(team, "Received a null pointer as team");
+
+        move(team);
+    }
+
+    /**
+     * Computes again the valoration of the team, moving it if it changed.
+     * 
+     * @param team
+     *            team to move
+     */
+    private final void move(final Team<?> team) {
+        final LeaderboardEntry<T> entry;   // Current entry
+        final LeaderboardEntry<T> updated; // Entry with the new valoration
+        final Integer             value;   // New valoration
+
+        synchronized (entries) {
+            entry = entries.get(team);
+
+            // Events may arrive after the team was removed
+            if (entry != null) {
+                value = calculator.getCost(entry.getTeam());
+                if (!value.equals(entry.getValoration())) {
+                    // The team keeps its place among equal valorations
+                    updated = new LeaderboardEntry<T>(entry.getTeam(), value,
+                            entry.getSequence());
+
+                    ordered.remove(entry);
+                    ranks.remove(entry);
+                    ordered.add(updated);
+                    ranks.add(updated);
+                    entries.put(team, updated);
+                }
+            }
+        }
+    }
+
+}
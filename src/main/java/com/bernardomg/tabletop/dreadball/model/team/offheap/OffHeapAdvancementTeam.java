@@ -0,0 +1,192 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.offheap;
+
+import java.util.Map;
+
+import com.bernardomg.tabletop.dreadball.model.faction.TeamType;
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Read-only view of an advancement team kept in an
+ * {@link OffHeapAdvancementTeamStore}.
+ * <p>
+ * All the values are read from the store on each call, and the mutators throw
+ * an {@code UnsupportedOperationException}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+final class OffHeapAdvancementTeam implements AdvancementTeam {
+
+    /**
+     * Id of the team in the store.
+     */
+    private final int                         id;
+
+    /**
+     * Store containing the team.
+     */
+    private final OffHeapAdvancementTeamStore store;
+
+    /**
+     * Constructs a view of a team in the store.
+     * 
+     * @param teamStore
+     *            store containing the team
+     * @param teamId
+     *            id of the team in the store
+     */
+    public OffHeapAdvancementTeam(final OffHeapAdvancementTeamStore teamStore,
+            final int teamId) {
+        super();
+
+        store = teamStore;
+        id = teamId;
+    }
+
+    @Override
+    public final void addPlayer(final AdvancementTeamPlayer player) {
+        throw new UnsupportedOperationException("Stored teams are read-only");
+    }
+
+    @Override
+    public final void addPlayer(final AdvancementTeamPlayer player,
+            final Integer position) {
+        throw new UnsupportedOperationException("Stored teams are read-only");
+    }
+
+    @Override
+    public final Integer getCash() {
+        return store.getField(id, OffHeapAdvancementTeamStore.CASH);
+    }
+
+    @Override
+    public final Integer getCheerleaders() {
+        return store.getField(id, OffHeapAdvancementTeamStore.CHEERLEADERS);
+    }
+
+    @Override
+    public final Integer getCoachingDice() {
+        return store.getField(id, OffHeapAdvancementTeamStore.DICE);
+    }
+
+    @Override
+    public final Boolean getDefensiveCoachingStaff() {
+        return hasStaff(OffHeapAdvancementTeamStore.STAFF_DEFENSIVE);
+    }
+
+    @Override
+    public final Integer getDreadballCards() {
+        return store.getField(id,
+                OffHeapAdvancementTeamStore.DREADBALL_CARDS);
+    }
+
+    @Override
+    public final String getName() {
+        return store.getName(id);
+    }
+
+    @Override
+    public final Boolean getOffensiveCoachingStaff() {
+        return hasStaff(OffHeapAdvancementTeamStore.STAFF_OFFENSIVE);
+    }
+
+    @Override
+    public final Map<Integer, AdvancementTeamPlayer> getPlayers() {
+        return store.getPlayers(id);
+    }
+
+    @Override
+    public final Boolean getSupportCoachingStaff() {
+        return hasStaff(OffHeapAdvancementTeamStore.STAFF_SUPPORT);
+    }
+
+    @Override
+    public final TeamType getTeamType() {
+        return store.getTeamType(id);
+    }
+
+    @Override
+    public final Integer getTotalCost() {
+        return store.getValorationCalculator().getCost(this);
+    }
+
+    @Override
+    public final void removePlayer(final Integer position) {
+        throw new UnsupportedOperationException("Stored teams are read-only");
+    }
+
+    @Override
+    public final void setCash(final Integer cash) {
+        throw new UnsupportedOperationException("Stored teams are read-only");
+    }
+
+    @Override
+    public final void setCheerleaders(final Integer cheerleaders) {
+        throw new UnsupportedOperationException("Stored teams are read-only");
+    }
+
+    @Override
+    public final void setCoachingDice(final Integer dice) {
+        throw new UnsupportedOperationException("Stored teams are read-only");
+    }
+
+    @Override
+    public final void setDefensiveCoachingStaff(final Boolean staff) {
+        throw new UnsupportedOperationException("Stored teams are read-only");
+    }
+
+    @Override
+    public final void setDreadballCards(final Integer cards) {
+        throw new UnsupportedOperationException("Stored teams are read-only");
+    }
+
+    @Override
+    public final void setName(final String name) {
+        throw new UnsupportedOperationException("Stored teams are read-only");
+    }
+
+    @Override
+    public final void setOffensiveCoachingStaff(final Boolean staff) {
+        throw new UnsupportedOperationException("Stored teams are read-only");
+    }
+
+    @Override
+    public final void setSupportCoachingStaff(final Boolean staff) {
+        throw new UnsupportedOperationException("Stored teams are read-only");
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("id", id).toString();
+    }
+
+    /**
+     * Checks if the team has a Coaching Staff.
+     * 
+     * @param flag
+     *            flag for the Coaching Staff
+     * @return {@code true} if the team has the staff, {@code false} otherwise
+     */
+    private final Boolean hasStaff(final int flag) {
+        return (store.getField(id, OffHeapAdvancementTeamStore.STAFF)
+                & flag) != 0;
+    }
+
+}
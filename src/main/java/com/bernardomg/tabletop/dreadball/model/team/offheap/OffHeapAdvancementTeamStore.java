@@ -0,0 +1,596 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.offheap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.bernardomg.tabletop.dreadball.model.faction.TeamType;
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayerValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.player.component.Component;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Attributes;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAttributes;
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CostCalculator;
+
+/**
+ * Off-heap store for archived advancement teams.
+ * <p>
+ * Teams and players are kept as integer records in direct buffers, and the
+ * team and player names as UTF-8 strings. Values shared by many players, such
+ * as the implants, abilities or attributes, are kept once in dictionaries.
+ * <p>
+ * Teams are read through flyweights implementing {@link AdvancementTeam},
+ * and their players through flyweights implementing
+ * {@link AdvancementTeamPlayer}. Both read the buffers on each call, and their
+ * mutators throw an {@code UnsupportedOperationException}, as archived teams
+ * can't be changed.
+ * <p>
+ * Adding teams is not thread safe. Reading them is, as long as no team is
+ * being added at the same time.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class OffHeapAdvancementTeamStore {
+
+    /**
+     * Cash field of the team records.
+     */
+    static final int                                                    CASH              = 0;
+
+    /**
+     * Cheerleaders field of the team records.
+     */
+    static final int                                                    CHEERLEADERS      = 1;
+
+    /**
+     * Coaching Dice field of the team records.
+     */
+    static final int                                                    DICE              = 2;
+
+    /**
+     * Dreadball Cards field of the team records.
+     */
+    static final int                                                    DREADBALL_CARDS   = 3;
+
+    /**
+     * Flag for a giant on the flags field of the player records.
+     */
+    static final int                                                    FLAG_GIANT        = 1;
+
+    /**
+     * Flag for a MVP on the flags field of the player records.
+     */
+    static final int                                                    FLAG_MVP          = 2;
+
+    /**
+     * Name field of the team records.
+     */
+    static final int                                                    NAME              = 4;
+
+    /**
+     * Value stored in place of a null number.
+     * <p>
+     * A number equal to this value will be read back as {@code null}.
+     */
+    static final int                                                    NULL_VALUE        = Integer.MIN_VALUE;
+
+    /**
+     * Abilities field of the player records.
+     */
+    static final int                                                    PLAYER_ABILITIES  = 0;
+
+    /**
+     * Attributes field of the player records.
+     */
+    static final int                                                    PLAYER_ATTRIBUTES = 1;
+
+    /**
+     * Cost field of the player records.
+     */
+    static final int                                                    PLAYER_COST       = 2;
+
+    /**
+     * Number of players field of the team records.
+     */
+    static final int                                                    PLAYER_COUNT      = 5;
+
+    /**
+     * Unspent experience field of the player records.
+     */
+    static final int                                                    PLAYER_EXPERIENCE = 3;
+
+    /**
+     * First player record field of the team records.
+     */
+    static final int                                                    PLAYER_FIRST      = 6;
+
+    /**
+     * Flags field of the player records.
+     */
+    static final int                                                    PLAYER_FLAGS      = 4;
+
+    /**
+     * Implant field of the player records.
+     */
+    static final int                                                    PLAYER_IMPLANT    = 5;
+
+    /**
+     * Name field of the player records.
+     */
+    static final int                                                    PLAYER_NAME       = 6;
+
+    /**
+     * Position field of the player records.
+     */
+    static final int                                                    PLAYER_POSITION   = 7;
+
+    /**
+     * Rank field of the player records.
+     */
+    static final int                                                    PLAYER_RANK       = 8;
+
+    /**
+     * Role field of the player records.
+     */
+    static final int                                                    PLAYER_ROLE       = 9;
+
+    /**
+     * Template name field of the player records.
+     */
+    static final int                                                    PLAYER_TEMPLATE   = 10;
+
+    /**
+     * Coaching Staff flags field of the team records.
+     */
+    static final int                                                    STAFF             = 7;
+
+    /**
+     * Flag for the Defensive Coaching Staff on the staff field.
+     */
+    static final int                                                    STAFF_DEFENSIVE   = 1;
+
+    /**
+     * Flag for the Offensive Coaching Staff on the staff field.
+     */
+    static final int                                                    STAFF_OFFENSIVE   = 2;
+
+    /**
+     * Flag for the Support Coaching Staff on the staff field.
+     */
+    static final int                                                    STAFF_SUPPORT     = 4;
+
+    /**
+     * Team type field of the team records.
+     */
+    static final int                                                    TYPE              = 8;
+
+    /**
+     * Number of fields in the player records.
+     */
+    private static final int                                            PLAYER_FIELDS     = 11;
+
+    /**
+     * Number of fields in the team records.
+     */
+    private static final int                                            TEAM_FIELDS       = 9;
+
+    /**
+     * Dictionary of abilities.
+     */
+    private final ValueDictionary<List<Ability>>                        abilities         = new ValueDictionary<>();
+
+    /**
+     * Dictionary of attributes.
+     */
+    private final ValueDictionary<Attributes>                           attributes        = new ValueDictionary<>();
+
+    /**
+     * Dictionary of implants.
+     */
+    private final ValueDictionary<Component>                            implants          = new ValueDictionary<>();
+
+    /**
+     * Calculator for the players valoration.
+     */
+    private final TeamPlayerValorationCalculator<AdvancementTeamPlayer> playerValorator;
+
+    /**
+     * Player records.
+     */
+    private final OffHeapRecords                                        players;
+
+    /**
+     * Dictionary of roles.
+     */
+    private final ValueDictionary<Role>                                 roles             = new ValueDictionary<>();
+
+    /**
+     * Team and player names.
+     */
+    private final OffHeapStrings                                        strings;
+
+    /**
+     * Team records.
+     */
+    private final OffHeapRecords                                        teams;
+
+    /**
+     * Dictionary of template names.
+     */
+    private final ValueDictionary<String>                               templates         = new ValueDictionary<>();
+
+    /**
+     * Dictionary of team types.
+     */
+    private final ValueDictionary<TeamType>                             types             = new ValueDictionary<>();
+
+    /**
+     * Valoration calculator for the teams.
+     */
+    private final CostCalculator<AdvancementTeam>                       valorationCalculator;
+
+    /**
+     * Constructs a store with the specified arguments.
+     * <p>
+     * The store grows when the initial capacity is exceeded.
+     * 
+     * @param valorator
+     *            valoration calculator for the teams
+     * @param playerValorationCalculator
+     *            valoration calculator for the players
+     * @param teamsCapacity
+     *            initial capacity for teams
+     * @param playersCapacity
+     *            initial capacity for players
+     */
+    public OffHeapAdvancementTeamStore(
+            final CostCalculator<AdvancementTeam> valorator,
+            final TeamPlayerValorationCalculator<AdvancementTeamPlayer> playerValorationCalculator,
+            final Integer teamsCapacity, final Integer playersCapacity) {
+        super();
+
+        valorationCalculator = checkNotNull(valorator,
+                "Received a null pointer as valoration calculator");
+        playerValorator = checkNotNull(playerValorationCalculator,
+                "Received a null pointer as player valoration calculator");
+        checkNotNull(teamsCapacity,
+                "Received a null pointer as teams capacity");
+        checkNotNull(playersCapacity,
+                "Received a null pointer as players capacity");
+        checkArgument(teamsCapacity > 0,
+                "The teams capacity should be positive");
+        checkArgument(playersCapacity > 0,
+                "The players capacity should be positive");
+
+        teams = new OffHeapRecords(TEAM_FIELDS, teamsCapacity);
+        players = new OffHeapRecords(PLAYER_FIELDS, playersCapacity);
+        strings = new OffHeapStrings((teamsCapacity + playersCapacity)
+                * (Integer.SIZE / Byte.SIZE) * 4);
+    }
+
+    /**
+     * Stores a copy of the team.
+     * 
+     * @param team
+     *            team to store
+     * @return the id of the stored team
+     */
+    public final int add(final AdvancementTeam team) {
+        final int record; // Team record
+        int       staff;  // Coaching Staff flags
+
+        checkNotNull(team, "Received a null pointer as team");
+
+        record = teams.append();
+
+        teams.set(record, NAME, strings.add(team.getName()));
+        teams.set(record, TYPE, types.add(team.getTeamType()));
+        teams.set(record, CASH, team.getCash());
+        teams.set(record, DICE, team.getCoachingDice());
+        teams.set(record, DREADBALL_CARDS, team.getDreadballCards());
+        teams.set(record, CHEERLEADERS, team.getCheerleaders());
+
+        staff = 0;
+        if (team.getDefensiveCoachingStaff()) {
+            staff |= STAFF_DEFENSIVE;
+        }
+        if (team.getOffensiveCoachingStaff()) {
+            staff |= STAFF_OFFENSIVE;
+        }
+        if (team.getSupportCoachingStaff()) {
+            staff |= STAFF_SUPPORT;
+        }
+        teams.set(record, STAFF, staff);
+
+        teams.set(record, PLAYER_FIRST, players.getCount());
+        teams.set(record, PLAYER_COUNT, team.getPlayers().size());
+        for (final Map.Entry<Integer, AdvancementTeamPlayer> entry : team
+                .getPlayers().entrySet()) {
+            addPlayer(entry.getKey(), entry.getValue());
+        }
+
+        return record;
+    }
+
+    /**
+     * Returns a read-only view of the team with the id.
+     * 
+     * @param id
+     *            id of the team
+     * @return a view of the team
+     */
+    public final AdvancementTeam get(final int id) {
+        checkElementIndex(id, teams.getCount());
+
+        return new OffHeapAdvancementTeam(this, id);
+    }
+
+    /**
+     * Returns the number of teams stored.
+     * 
+     * @return the number of teams stored
+     */
+    public final int getSize() {
+        return teams.getCount();
+    }
+
+    /**
+     * Returns the abilities of a player.
+     * 
+     * @param player
+     *            player record
+     * @return the abilities of the player
+     */
+    final List<Ability> getAbilities(final int player) {
+        return Collections.unmodifiableList(
+                abilities.get(players.get(player, PLAYER_ABILITIES)));
+    }
+
+    /**
+     * Returns the attributes of a player.
+     * 
+     * @param player
+     *            player record
+     * @return the attributes of the player
+     */
+    final Attributes getAttributes(final int player) {
+        return attributes.get(players.get(player, PLAYER_ATTRIBUTES));
+    }
+
+    /**
+     * Returns a field of a team.
+     * 
+     * @param id
+     *            id of the team
+     * @param field
+     *            field to read
+     * @return the value of the field
+     */
+    final Integer getField(final int id, final int field) {
+        return teams.get(id, field);
+    }
+
+    /**
+     * Returns the implant of a player.
+     * 
+     * @param player
+     *            player record
+     * @return the implant of the player
+     */
+    final Component getImplant(final int player) {
+        return implants.get(players.get(player, PLAYER_IMPLANT));
+    }
+
+    /**
+     * Returns the name of a team.
+     * 
+     * @param id
+     *            id of the team
+     * @return the name of the team
+     */
+    final String getName(final int id) {
+        return strings.get(teams.get(id, NAME));
+    }
+
+    /**
+     * Returns a field of a player.
+     * 
+     * @param player
+     *            player record
+     * @param field
+     *            field to read
+     * @return the value of the field, or {@code null} if it was stored as
+     *         {@code null}
+     */
+    final Integer getPlayerField(final int player, final int field) {
+        final int     value;  // Stored value
+        final Integer result; // Field value
+
+        value = players.get(player, field);
+        if (value == NULL_VALUE) {
+            result = null;
+        } else {
+            result = value;
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the name of a player.
+     * 
+     * @param player
+     *            player record
+     * @return the name of the player
+     */
+    final String getPlayerName(final int player) {
+        return strings.get(players.get(player, PLAYER_NAME));
+    }
+
+    /**
+     * Returns the players of a team.
+     * 
+     * @param id
+     *            id of the team
+     * @return the players of the team
+     */
+    final Map<Integer, AdvancementTeamPlayer> getPlayers(final int id) {
+        final Map<Integer, AdvancementTeamPlayer> result; // Players
+        final int                                 first;  // First record
+        final int                                 count;  // Players count
+
+        first = teams.get(id, PLAYER_FIRST);
+        count = teams.get(id, PLAYER_COUNT);
+
+        result = new LinkedHashMap<>();
+        for (int player = first; player < first + count; player++) {
+            result.put(players.get(player, PLAYER_POSITION),
+                    new OffHeapAdvancementTeamPlayer(this, player));
+        }
+
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Returns the valoration calculator for the players.
+     * 
+     * @return the valoration calculator for the players
+     */
+    final TeamPlayerValorationCalculator<AdvancementTeamPlayer>
+            getPlayerValorationCalculator() {
+        return playerValorator;
+    }
+
+    /**
+     * Returns the role of a player.
+     * 
+     * @param player
+     *            player record
+     * @return the role of the player
+     */
+    final Role getRole(final int player) {
+        return roles.get(players.get(player, PLAYER_ROLE));
+    }
+
+    /**
+     * Returns the template name of a player.
+     * 
+     * @param player
+     *            player record
+     * @return the template name of the player
+     */
+    final String getTemplateName(final int player) {
+        return templates.get(players.get(player, PLAYER_TEMPLATE));
+    }
+
+    /**
+     * Returns the type of a team.
+     * 
+     * @param id
+     *            id of the team
+     * @return the type of the team
+     */
+    final TeamType getTeamType(final int id) {
+        return types.get(teams.get(id, TYPE));
+    }
+
+    /**
+     * Returns the valoration calculator for the teams.
+     * 
+     * @return the valoration calculator
+     */
+    final CostCalculator<AdvancementTeam> getValorationCalculator() {
+        return valorationCalculator;
+    }
+
+    /**
+     * Stores a player.
+     * 
+     * @param position
+     *            position of the player
+     * @param player
+     *            player to store
+     */
+    private final void addPlayer(final Integer position,
+            final AdvancementTeamPlayer player) {
+        final int        record; // Player record
+        final Attributes attrs;  // Player attributes
+        int              flags;  // Player flags
+
+        record = players.append();
+
+        players.set(record, PLAYER_POSITION, position);
+        players.set(record, PLAYER_NAME, strings.add(player.getName()));
+        players.set(record, PLAYER_TEMPLATE,
+                templates.add(player.getTemplateName()));
+        players.set(record, PLAYER_COST, player.getCost());
+        players.set(record, PLAYER_ROLE, roles.add(player.getRole()));
+        players.set(record, PLAYER_RANK, toField(player.getRank()));
+        players.set(record, PLAYER_EXPERIENCE,
+                toField(player.getUnspentExperience()));
+        players.set(record, PLAYER_IMPLANT,
+                implants.add(player.getGraftedImplant()));
+        players.set(record, PLAYER_ABILITIES,
+                abilities.add(new ArrayList<>(player.getAbilities())));
+        // Attributes may be mutable, so an immutable copy is kept
+        attrs = player.getAttributes();
+        players.set(record, PLAYER_ATTRIBUTES,
+                attributes.add(new ImmutableAttributes(attrs.getArmor(),
+                        attrs.getMovement(), attrs.getSkill(),
+                        attrs.getSpeed(), attrs.getStrength())));
+
+        flags = 0;
+        if (player.getGiant()) {
+            flags |= FLAG_GIANT;
+        }
+        if (player.getMvp()) {
+            flags |= FLAG_MVP;
+        }
+        players.set(record, PLAYER_FLAGS, flags);
+    }
+
+    /**
+     * Returns the value to store for a number which may be {@code null}.
+     * 
+     * @param value
+     *            number to store
+     * @return the value to store
+     */
+    private final int toField(final Integer value) {
+        final int result;
+
+        if (value == null) {
+            result = NULL_VALUE;
+        } else {
+            result = value;
+        }
+
+        return result;
+    }
+
+}
@@ -0,0 +1,140 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.offheap;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed size records of integer fields, stored in a direct buffer.
+ * <p>
+ * The buffer grows, by copying it into a bigger one, when it runs out of
+ * space. Reads use absolute positions, so they are safe from several threads
+ * as long as no record is being appended.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+final class OffHeapRecords {
+
+    /**
+     * Bytes in each field.
+     */
+    private static final int FIELD_BYTES = Integer.SIZE / Byte.SIZE;
+
+    /**
+     * Buffer containing the records.
+     */
+    private ByteBuffer       buffer;
+
+    /**
+     * Number of records stored.
+     */
+    private int              count       = 0;
+
+    /**
+     * Fields in each record.
+     */
+    private final int        fields;
+
+    /**
+     * Constructs a records store with the specified arguments.
+     * 
+     * @param recordFields
+     *            fields in each record
+     * @param capacity
+     *            initial capacity, in records
+     */
+    public OffHeapRecords(final int recordFields, final int capacity) {
+        super();
+
+        fields = recordFields;
+        buffer = ByteBuffer.allocateDirect(capacity * fields * FIELD_BYTES);
+    }
+
+    /**
+     * Appends a new record, with all its fields set to zero.
+     * 
+     * @return the index of the new record
+     */
+    public final int append() {
+        final ByteBuffer grown;    // Bigger buffer
+        final long       required; // Bytes required
+
+        required = (long) (count + 1) * fields * FIELD_BYTES;
+        checkState(required <= Integer.MAX_VALUE,
+                "The records don't fit in a buffer");
+
+        if (required > buffer.capacity()) {
+            grown = ByteBuffer.allocateDirect((int) Math.min(
+                    Integer.MAX_VALUE, Math.max(required,
+                            (long) buffer.capacity() * 2)));
+            buffer.clear();
+            grown.put(buffer);
+            buffer = grown;
+        }
+
+        for (int i = 0; i < fields; i++) {
+            set(count, i, 0);
+        }
+
+        count++;
+
+        return count - 1;
+    }
+
+    /**
+     * Returns a field of a record.
+     * 
+     * @param record
+     *            index of the record
+     * @param field
+     *            index of the field
+     * @return the value of the field
+     */
+    public final int get(final int record, final int field) {
+        checkElementIndex(record, count);
+
+        return buffer.getInt(((record * fields) + field) * FIELD_BYTES);
+    }
+
+    /**
+     * Returns the number of records stored.
+     * 
+     * @return the number of records stored
+     */
+    public final int getCount() {
+        return count;
+    }
+
+    /**
+     * Sets a field of a record.
+     * 
+     * @param record
+     *            index of the record
+     * @param field
+     *            index of the field
+     * @param value
+     *            value for the field
+     */
+    public final void set(final int record, final int field,
+            final int value) {
+        buffer.putInt(((record * fields) + field) * FIELD_BYTES, value);
+    }
+
+}
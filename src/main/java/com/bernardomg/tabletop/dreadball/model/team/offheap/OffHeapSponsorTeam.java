@@ -0,0 +1,190 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.offheap;
+
+import java.util.Map;
+
+import com.bernardomg.tabletop.dreadball.model.faction.Sponsor;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.stats.AffinityGroup;
+import com.bernardomg.tabletop.dreadball.model.team.SponsorTeam;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Read-only view of a Sponsor team kept in an {@link OffHeapSponsorTeamStore}.
+ * <p>
+ * All the values are read from the store on each call, and the mutators throw
+ * an {@code UnsupportedOperationException}. The Sponsor returned is a copy,
+ * changing it won't affect the stored team.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+final class OffHeapSponsorTeam implements SponsorTeam {
+
+    /**
+     * Id of the team in the store.
+     */
+    private final int                     id;
+
+    /**
+     * Store containing the team.
+     */
+    private final OffHeapSponsorTeamStore store;
+
+    /**
+     * Constructs a view of a team in the store.
+     * 
+     * @param teamStore
+     *            store containing the team
+     * @param teamId
+     *            id of the team in the store
+     */
+    public OffHeapSponsorTeam(final OffHeapSponsorTeamStore teamStore,
+            final int teamId) {
+        super();
+
+        store = teamStore;
+        id = teamId;
+    }
+
+    @Override
+    public final void addAdditionalAffinityGroup(final AffinityGroup affinity) {
+        throw new UnsupportedOperationException("Stored teams are read-only");
+    }
+
+    @Override
+    public final void addPlayer(final TeamPlayer player) {
+        throw new UnsupportedOperationException("Stored teams are read-only");
+    }
+
+    @Override
+    public final void addPlayer(final TeamPlayer player,
+            final Integer position) {
+        throw new UnsupportedOperationException("Stored teams are read-only");
+    }
+
+    @Override
+    public final void clearAdditionalAffinityGroups() {
+        throw new UnsupportedOperationException("Stored teams are read-only");
+    }
+
+    @Override
+    public final Iterable<AffinityGroup> getAdditionalAffinityGroups() {
+        return store.getAdditionalAffinityGroups(id);
+    }
+
+    @Override
+    public final Integer getBaseRank() {
+        return store.getField(id, OffHeapSponsorTeamStore.SPONSOR_RANK);
+    }
+
+    @Override
+    public final Integer getCheerleaders() {
+        return store.getField(id, OffHeapSponsorTeamStore.CHEERLEADERS);
+    }
+
+    @Override
+    public final Integer getCoachingDice() {
+        return store.getField(id, OffHeapSponsorTeamStore.DICE);
+    }
+
+    @Override
+    public final Integer getCurrentRank() {
+        return getBaseRank() - getRankCost();
+    }
+
+    @Override
+    public final Integer getMediBots() {
+        return store.getField(id, OffHeapSponsorTeamStore.MEDIBOTS);
+    }
+
+    @Override
+    public final Integer getNastySurpriseCards() {
+        return store.getField(id, OffHeapSponsorTeamStore.NASTY_SURPRISE);
+    }
+
+    @Override
+    public final Map<Integer, TeamPlayer> getPlayers() {
+        return store.getPlayers(id);
+    }
+
+    @Override
+    public final Integer getRankCost() {
+        return store.getRankCostCalculator().getCost(this);
+    }
+
+    @Override
+    public final Integer getSpecialMoveCards() {
+        return store.getField(id, OffHeapSponsorTeamStore.SPECIAL_MOVE);
+    }
+
+    @Override
+    public final Sponsor getSponsor() {
+        return store.getSponsor(id);
+    }
+
+    @Override
+    public final Integer getTotalCost() {
+        return store.getValorationCalculator().getCost(this);
+    }
+
+    @Override
+    public final Integer getWagers() {
+        return store.getField(id, OffHeapSponsorTeamStore.WAGERS);
+    }
+
+    @Override
+    public final void removePlayer(final Integer position) {
+        throw new UnsupportedOperationException("Stored teams are read-only");
+    }
+
+    @Override
+    public final void setCheerleaders(final Integer cheerleaders) {
+        throw new UnsupportedOperationException("Stored teams are read-only");
+    }
+
+    @Override
+    public final void setCoachingDice(final Integer dice) {
+        throw new UnsupportedOperationException("Stored teams are read-only");
+    }
+
+    @Override
+    public final void setMediBots(final Integer medibots) {
+        throw new UnsupportedOperationException("Stored teams are read-only");
+    }
+
+    @Override
+    public final void setNastySurpriseCards(final Integer cards) {
+        throw new UnsupportedOperationException("Stored teams are read-only");
+    }
+
+    @Override
+    public final void setSpecialMoveCards(final Integer cards) {
+        throw new UnsupportedOperationException("Stored teams are read-only");
+    }
+
+    @Override
+    public final void setWagers(final Integer wagers) {
+        throw new UnsupportedOperationException("Stored teams are read-only");
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("id", id).toString();
+    }
+
+}
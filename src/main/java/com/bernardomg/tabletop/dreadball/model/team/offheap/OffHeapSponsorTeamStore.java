@@ -0,0 +1,546 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.offheap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.bernardomg.tabletop.dreadball.model.faction.DefaultSponsor;
+import com.bernardomg.tabletop.dreadball.model.faction.Sponsor;
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.AffinityGroup;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Attributes;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAttributes;
+import com.bernardomg.tabletop.dreadball.model.team.SponsorTeam;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CostCalculator;
+
+/**
+ * Off-heap store for archived Sponsor teams.
+ * <p>
+ * Teams and players are kept as integer records in direct buffers, and the
+ * Sponsor and player names as UTF-8 strings. Values shared by many players,
+ * such as the abilities, attributes or template names, are kept once in
+ * dictionaries.
+ * <p>
+ * Teams and their players are read through flyweights, which read the buffers
+ * on each call. These are read-only views: the team mutators throw an
+ * {@code UnsupportedOperationException}, as archived teams can't be changed,
+ * and the Sponsor they return is a detached copy, so changing it won't change
+ * the stored team.
+ * <p>
+ * Players are stored through the {@link TeamPlayer} values, so any additional
+ * data, such as the affinities of an {@code AffinityTeamPlayer}, is not kept.
+ * <p>
+ * Adding teams is not thread safe. Reading them is, as long as no team is
+ * being added at the same time.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class OffHeapSponsorTeamStore {
+
+    /**
+     * Additional affinity groups field of the team records.
+     */
+    static final int                                   AFFINITIES         = 0;
+
+    /**
+     * Cheerleaders field of the team records.
+     */
+    static final int                                   CHEERLEADERS       = 1;
+
+    /**
+     * Coaching Dice field of the team records.
+     */
+    static final int                                   DICE               = 2;
+
+    /**
+     * Giant flag of the player records.
+     */
+    static final int                                   FLAG_GIANT         = 1;
+
+    /**
+     * MVP flag of the player records.
+     */
+    static final int                                   FLAG_MVP           = 2;
+
+    /**
+     * Medibots field of the team records.
+     */
+    static final int                                   MEDIBOTS           = 3;
+
+    /**
+     * Nasty Surprise Cards field of the team records.
+     */
+    static final int                                   NASTY_SURPRISE     = 4;
+
+    /**
+     * Abilities field of the player records.
+     */
+    static final int                                   PLAYER_ABILITIES   = 0;
+
+    /**
+     * Attributes field of the player records.
+     */
+    static final int                                   PLAYER_ATTRIBUTES  = 1;
+
+    /**
+     * Cost field of the player records.
+     */
+    static final int                                   PLAYER_COST        = 2;
+
+    /**
+     * Number of players field of the team records.
+     */
+    static final int                                   PLAYER_COUNT       = 5;
+
+    /**
+     * First player record field of the team records.
+     */
+    static final int                                   PLAYER_FIRST       = 6;
+
+    /**
+     * Flags field of the player records.
+     */
+    static final int                                   PLAYER_FLAGS       = 3;
+
+    /**
+     * Name field of the player records.
+     */
+    static final int                                   PLAYER_NAME        = 4;
+
+    /**
+     * Position field of the player records.
+     */
+    static final int                                   PLAYER_POSITION    = 5;
+
+    /**
+     * Role field of the player records.
+     */
+    static final int                                   PLAYER_ROLE        = 6;
+
+    /**
+     * Template name field of the player records.
+     */
+    static final int                                   PLAYER_TEMPLATE    = 7;
+
+    /**
+     * Special Move Cards field of the team records.
+     */
+    static final int                                   SPECIAL_MOVE       = 7;
+
+    /**
+     * Sponsor affinity groups field of the team records.
+     */
+    static final int                                   SPONSOR_AFFINITIES = 8;
+
+    /**
+     * Sponsor cash field of the team records.
+     */
+    static final int                                   SPONSOR_CASH       = 9;
+
+    /**
+     * Sponsor name field of the team records.
+     */
+    static final int                                   SPONSOR_NAME       = 10;
+
+    /**
+     * Sponsor rank field of the team records.
+     */
+    static final int                                   SPONSOR_RANK       = 11;
+
+    /**
+     * Wagers field of the team records.
+     */
+    static final int                                   WAGERS             = 12;
+
+    /**
+     * Number of fields in the player records.
+     */
+    private static final int                           PLAYER_FIELDS      = 8;
+
+    /**
+     * Number of fields in the team records.
+     */
+    private static final int                           TEAM_FIELDS        = 13;
+
+    /**
+     * Dictionary of abilities.
+     */
+    private final ValueDictionary<List<Ability>>       abilities          = new ValueDictionary<>();
+
+    /**
+     * Dictionary of affinity groups.
+     */
+    private final ValueDictionary<List<AffinityGroup>> affinities         = new ValueDictionary<>();
+
+    /**
+     * Dictionary of attributes.
+     */
+    private final ValueDictionary<Attributes>          attributes         = new ValueDictionary<>();
+
+    /**
+     * Player records.
+     */
+    private final OffHeapRecords                       players;
+
+    /**
+     * Rank cost calculator for the teams.
+     */
+    private final CostCalculator<SponsorTeam>          rankCostCalculator;
+
+    /**
+     * Dictionary of roles.
+     */
+    private final ValueDictionary<Role>                roles              = new ValueDictionary<>();
+
+    /**
+     * Sponsor and player names.
+     */
+    private final OffHeapStrings                       strings;
+
+    /**
+     * Team records.
+     */
+    private final OffHeapRecords                       teams;
+
+    /**
+     * Dictionary of template names.
+     */
+    private final ValueDictionary<String>              templates          = new ValueDictionary<>();
+
+    /**
+     * Valoration calculator for the teams.
+     */
+    private final CostCalculator<SponsorTeam>          valorationCalculator;
+
+    /**
+     * Constructs a store with the specified arguments.
+     * <p>
+     * The store grows when the initial capacity is exceeded.
+     * 
+     * @param valorator
+     *            valoration calculator for the teams
+     * @param rankCoster
+     *            rank cost calculator for the teams
+     * @param teamsCapacity
+     *            initial capacity for teams
+     * @param playersCapacity
+     *            initial capacity for players
+     */
+    public OffHeapSponsorTeamStore(final CostCalculator<SponsorTeam> valorator,
+            final CostCalculator<SponsorTeam> rankCoster,
+            final Integer teamsCapacity, final Integer playersCapacity) {
+        super();
+
+        valorationCalculator = checkNotNull(valorator,
+                "Received a null pointer as valoration calculator");
+        rankCostCalculator = checkNotNull(rankCoster,
+                "Received a null pointer as rank cost calculator");
+        checkNotNull(teamsCapacity,
+                "Received a null pointer as teams capacity");
+        checkNotNull(playersCapacity,
+                "Received a null pointer as players capacity");
+        checkArgument(teamsCapacity > 0,
+                "The teams capacity should be positive");
+        checkArgument(playersCapacity > 0,
+                "The players capacity should be positive");
+
+        teams = new OffHeapRecords(TEAM_FIELDS, teamsCapacity);
+        players = new OffHeapRecords(PLAYER_FIELDS, playersCapacity);
+        strings = new OffHeapStrings((teamsCapacity + playersCapacity)
+                * (Integer.SIZE / Byte.SIZE) * 4);
+    }
+
+    /**
+     * Stores a copy of the team.
+     * 
+     * @param team
+     *            team to store
+     * @return the id of the stored team
+     */
+    public final int add(final SponsorTeam team) {
+        final int                 record; // Team record
+        final List<AffinityGroup> groups; // Additional affinities
+
+        checkNotNull(team, "Received a null pointer as team");
+
+        record = teams.append();
+
+        teams.set(record, SPONSOR_NAME,
+                strings.add(team.getSponsor().getName()));
+        teams.set(record, SPONSOR_RANK, team.getSponsor().getRank());
+        teams.set(record, SPONSOR_CASH, team.getSponsor().getCash());
+        teams.set(record, SPONSOR_AFFINITIES, affinities.add(
+                new ArrayList<>(team.getSponsor().getAffinityGroups())));
+
+        groups = new ArrayList<>();
+        for (final AffinityGroup group : team.getAdditionalAffinityGroups()) {
+            groups.add(group);
+        }
+        teams.set(record, AFFINITIES,
+                affinities.add(groups));
+
+        teams.set(record, DICE, team.getCoachingDice());
+        teams.set(record, NASTY_SURPRISE, team.getNastySurpriseCards());
+        teams.set(record, SPECIAL_MOVE, team.getSpecialMoveCards());
+        teams.set(record, CHEERLEADERS, team.getCheerleaders());
+        teams.set(record, WAGERS, team.getWagers());
+        teams.set(record, MEDIBOTS, team.getMediBots());
+
+        teams.set(record, PLAYER_FIRST, players.getCount());
+        teams.set(record, PLAYER_COUNT, team.getPlayers().size());
+        for (final Map.Entry<Integer, TeamPlayer> entry : team.getPlayers()
+                .entrySet()) {
+            addPlayer(entry.getKey(), entry.getValue());
+        }
+
+        return record;
+    }
+
+    /**
+     * Returns a read-only view of the team with the id.
+     * <p>
+     * The mutators of the team and of its players throw an
+     * {@code UnsupportedOperationException}, while the Sponsor is a detached
+     * copy of the stored one.
+     * 
+     * @param id
+     *            id of the team
+     * @return a view of the team
+     */
+    public final SponsorTeam get(final int id) {
+        checkElementIndex(id, teams.getCount());
+
+        return new OffHeapSponsorTeam(this, id);
+    }
+
+    /**
+     * Returns the number of teams stored.
+     * 
+     * @return the number of teams stored
+     */
+    public final int getSize() {
+        return teams.getCount();
+    }
+
+    /**
+     * Returns the abilities of a player.
+     * 
+     * @param player
+     *            player record
+     * @return the abilities of the player
+     */
+    final List<Ability> getAbilities(final int player) {
+        return Collections.unmodifiableList(
+                abilities.get(players.get(player, PLAYER_ABILITIES)));
+    }
+
+    /**
+     * Returns the additional affinity groups of a team.
+     * 
+     * @param id
+     *            id of the team
+     * @return the additional affinity groups of the team
+     */
+    final Iterable<AffinityGroup> getAdditionalAffinityGroups(final int id) {
+        return Collections.unmodifiableList(
+                affinities.get(teams.get(id, AFFINITIES)));
+    }
+
+    /**
+     * Returns the attributes of a player.
+     * 
+     * @param player
+     *            player record
+     * @return the attributes of the player
+     */
+    final Attributes getAttributes(final int player) {
+        return attributes.get(players.get(player, PLAYER_ATTRIBUTES));
+    }
+
+    /**
+     * Returns a field of a team.
+     * 
+     * @param id
+     *            id of the team
+     * @param field
+     *            field to read
+     * @return the value of the field
+     */
+    final Integer getField(final int id, final int field) {
+        return teams.get(id, field);
+    }
+
+    /**
+     * Returns a field of a player.
+     * 
+     * @param player
+     *            player record
+     * @param field
+     *            field to read
+     * @return the value of the field
+     */
+    final Integer getPlayerField(final int player, final int field) {
+        return players.get(player, field);
+    }
+
+    /**
+     * Returns the name of a player.
+     * 
+     * @param player
+     *            player record
+     * @return the name of the player
+     */
+    final String getPlayerName(final int player) {
+        return strings.get(players.get(player, PLAYER_NAME));
+    }
+
+    /**
+     * Returns the players of a team.
+     * 
+     * @param id
+     *            id of the team
+     * @return the players of the team
+     */
+    final Map<Integer, TeamPlayer> getPlayers(final int id) {
+        final Map<Integer, TeamPlayer> result; // Players of the team
+        final int                      first;  // First player record
+        final int                      count;  // Number of players
+
+        first = teams.get(id, PLAYER_FIRST);
+        count = teams.get(id, PLAYER_COUNT);
+
+        result = new LinkedHashMap<>();
+        for (int player = first; player < first + count; player++) {
+            result.put(players.get(player, PLAYER_POSITION),
+                    new OffHeapTeamPlayer(this, player));
+        }
+
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Returns the rank cost calculator for the teams.
+     * 
+     * @return the rank cost calculator
+     */
+    final CostCalculator<SponsorTeam> getRankCostCalculator() {
+        return rankCostCalculator;
+    }
+
+    /**
+     * Returns the role of a player.
+     * 
+     * @param player
+     *            player record
+     * @return the role of the player
+     */
+    final Role getRole(final int player) {
+        return roles.get(players.get(player, PLAYER_ROLE));
+    }
+
+    /**
+     * Returns a copy of the Sponsor of a team.
+     * 
+     * @param id
+     *            id of the team
+     * @return the Sponsor of the team
+     */
+    final Sponsor getSponsor(final int id) {
+        final Sponsor sponsor; // Sponsor copy
+
+        sponsor = new DefaultSponsor();
+        sponsor.setName(strings.get(teams.get(id, SPONSOR_NAME)));
+        sponsor.setRank(teams.get(id, SPONSOR_RANK));
+        sponsor.setCash(teams.get(id, SPONSOR_CASH));
+        sponsor.setAffinityGroups(
+                affinities.get(teams.get(id, SPONSOR_AFFINITIES)));
+
+        return sponsor;
+    }
+
+    /**
+     * Returns the template name of a player.
+     * 
+     * @param player
+     *            player record
+     * @return the template name of the player
+     */
+    final String getTemplateName(final int player) {
+        return templates.get(players.get(player, PLAYER_TEMPLATE));
+    }
+
+    /**
+     * Returns the valoration calculator for the teams.
+     * 
+     * @return the valoration calculator
+     */
+    final CostCalculator<SponsorTeam> getValorationCalculator() {
+        return valorationCalculator;
+    }
+
+    /**
+     * Stores a player.
+     * 
+     * @param position
+     *            position of the player
+     * @param player
+     *            player to store
+     */
+    private final void addPlayer(final Integer position,
+            final TeamPlayer player) {
+        final int        record; // Player record
+        final Attributes attrs;  // Player attributes
+        int              flags;  // Player flags
+
+        record = players.append();
+
+        players.set(record, PLAYER_POSITION, position);
+        players.set(record, PLAYER_NAME, strings.add(player.getName()));
+        players.set(record, PLAYER_TEMPLATE,
+                templates.add(player.getTemplateName()));
+        players.set(record, PLAYER_COST, player.getCost());
+        players.set(record, PLAYER_ROLE, roles.add(player.getRole()));
+        players.set(record, PLAYER_ABILITIES,
+                abilities.add(new ArrayList<>(player.getAbilities())));
+        // Attributes may be mutable, so an immutable copy is kept
+        attrs = player.getAttributes();
+        players.set(record, PLAYER_ATTRIBUTES,
+                attributes.add(new ImmutableAttributes(attrs.getArmor(),
+                        attrs.getMovement(), attrs.getSkill(),
+                        attrs.getSpeed(), attrs.getStrength())));
+
+        flags = 0;
+        if (player.getGiant()) {
+            flags |= FLAG_GIANT;
+        }
+        if (player.getMvp()) {
+            flags |= FLAG_MVP;
+        }
+        players.set(record, PLAYER_FLAGS, flags);
+    }
+
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.offheap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Strings stored as UTF-8 in a direct buffer.
+ * <p>
+ * Each string is preceded by its length in bytes, and identified by the
+ * offset of that length.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+final class OffHeapStrings {
+
+    /**
+     * Bytes in the length preceding each string.
+     */
+    private static final int LENGTH_BYTES = Integer.SIZE / Byte.SIZE;
+
+    /**
+     * Buffer containing the strings.
+     */
+    private ByteBuffer       buffer;
+
+    /**
+     * Position for the next string.
+     */
+    private int              position     = 0;
+
+    /**
+     * Constructs a strings store with the specified initial capacity.
+     * 
+     * @param capacity
+     *            initial capacity, in bytes
+     */
+    public OffHeapStrings(final int capacity) {
+        super();
+
+        buffer = ByteBuffer.allocateDirect(capacity);
+    }
+
+    /**
+     * Stores a string.
+     * 
+     * @param value
+     *            string to store
+     * @return the offset of the string
+     */
+    public final int add(final String value) {
+        final byte[]     bytes;    // String bytes
+        final long       required; // Bytes required
+        final ByteBuffer grown;    // Bigger buffer
+        final int        offset;   // Offset of the string
+
+        checkNotNull(value, "Received a null pointer as value");
+
+        bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        required = (long) position + LENGTH_BYTES + bytes.length;
+        checkState(required <= Integer.MAX_VALUE,
+                "The strings don't fit in a buffer");
+
+        if (required > buffer.capacity()) {
+            grown = ByteBuffer.allocateDirect((int) Math.min(
+                    Integer.MAX_VALUE, Math.max(required,
+                            (long) buffer.capacity() * 2)));
+            buffer.clear();
+            buffer.limit(position);
+            grown.put(buffer);
+            buffer = grown;
+        }
+
+        offset = position;
+        buffer.putInt(offset, bytes.length);
+        for (int i = 0; i < bytes.length; i++) {
+            buffer.put(offset + LENGTH_BYTES + i, bytes[i]);
+        }
+        position += LENGTH_BYTES + bytes.length;
+
+        return offset;
+    }
+
+    /**
+     * Returns the string at the offset.
+     * 
+     * @param offset
+     *            offset of the string
+     * @return the string at the offset
+     */
+    public final String get(final int offset) {
+        final byte[] bytes; // String bytes
+
+        bytes = new byte[buffer.getInt(offset)];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(offset + LENGTH_BYTES + i);
+        }
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
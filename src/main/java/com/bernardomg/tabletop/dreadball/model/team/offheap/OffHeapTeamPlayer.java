@@ -0,0 +1,123 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package com.bernardomg.tabletop.dreadball.model.team.offheap;
+
+import java.util.Collection;
+
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Attributes;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Read-only view of a player kept in an {@link OffHeapSponsorTeamStore}.
+ * <p>
+ * All the values are read from the store on each call.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+final class OffHeapTeamPlayer implements TeamPlayer {
+
+    /**
+     * Player record in the store.
+     */
+    private final int                     record;
+
+    /**
+     * Store containing the player.
+     */
+    private final OffHeapSponsorTeamStore store;
+
+    /**
+     * Constructs a view of a player in the store.
+     * 
+     * @param playerStore
+     *            store containing the player
+     * @param playerRecord
+     *            player record in the store
+     */
+    public OffHeapTeamPlayer(final OffHeapSponsorTeamStore playerStore,
+            final int playerRecord) {
+        super();
+
+        store = playerStore;
+        record = playerRecord;
+    }
+
+    @Override
+    public final Collection<Ability> getAbilities() {
+        return store.getAbilities(record);
+    }
+
+    @Override
+    public final Attributes getAttributes() {
+        return store.getAttributes(record);
+    }
+
+    @Override
+    public final Integer getCost() {
+        return store.getPlayerField(record,
+                OffHeapSponsorTeamStore.PLAYER_COST);
+    }
+
+    @Override
+    public final Boolean getGiant() {
+        return hasFlag(OffHeapSponsorTeamStore.FLAG_GIANT);
+    }
+
+    @Override
+    public final Boolean getMvp() {
+        return hasFlag(OffHeapSponsorTeamStore.FLAG_MVP);
+    }
+
+    @Override
+    public final String getName() {
+        return store.getPlayerName(record);
+    }
+
+    @Override
+    public final Role getRole() {
+        return store.getRole(record);
+    }
+
+    @Override
+    public final String getTemplateName() {
+        return store.getTemplateName(record);
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("record", record)
+                .toString();
+    }
+
+    /**
+     * Checks if the player has a flag.
+     * 
+     * @param flag
+     *            flag to check
+     * @return {@code true} if the player has the flag, {@code false}
+     *         otherwise
+     */
+    private final Boolean hasFlag(final int flag) {
+        return (store.getPlayerField(record,
+                OffHeapSponsorTeamStore.PLAYER_FLAGS) & flag) != 0;
+    }
+
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.offheap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dictionary of shared values, identified by their index.
+ * <p>
+ * This keeps the few distinct values, such as templates or team types, which
+ * many records point to. Values are compared by equality.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ *
+ * @param <T>
+ *            the type of value stored
+ */
+final class ValueDictionary<T> {
+
+    /**
+     * Index of each value.
+     */
+    private final Map<T, Integer> indexes = new HashMap<>();
+
+    /**
+     * Values, by index.
+     */
+    private final List<T>         values  = new ArrayList<>();
+
+    /**
+     * Default constructor.
+     */
+    public ValueDictionary() {
+        super();
+    }
+
+    /**
+     * Adds a value, returning its index.
+     * <p>
+     * If the value was already added, the index of that one is returned.
+     * 
+     * @param value
+     *            value to add
+     * @return the index of the value
+     */
+    public final int add(final T value) {
+        Integer index; // Index of the value
+
+        index = indexes.get(value);
+        if (index == null) {
+            index = values.size();
+            values.add(value);
+            indexes.put(value, index);
+        }
+
+        return index;
+    }
+
+    /**
+     * Returns the value at the index.
+     * 
+     * @param index
+     *            index of the value
+     * @return the value at the index
+     */
+    public final T get(final int index) {
+        return values.get(index);
+    }
+
+}
@@ -0,0 +1,228 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.search;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.AffinityTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.AbilityRegistry;
+import com.bernardomg.tabletop.dreadball.model.player.stats.AffinityGroup;
+import com.bernardomg.tabletop.dreadball.model.team.Team;
+
+/**
+ * Player stored in a {@link PlayerSearchIndex}, along the values it was
+ * indexed with.
+ * <p>
+ * Players are mutable, so these values are copied when indexing, and used
+ * to remove the player from the index even after it changed.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+final class IndexedPlayer {
+
+    /**
+     * Registry indices of the abilities.
+     */
+    private final int[]                     abilities;
+
+    /**
+     * Registered instances of the abilities.
+     * <p>
+     * These are kept so the registry indices stay assigned while the player
+     * is indexed.
+     */
+    private final Ability[]                 registered;
+
+    /**
+     * Affinity groups.
+     */
+    private final Collection<AffinityGroup> affinityGroups = new ArrayList<>();
+
+    /**
+     * Giant flag.
+     */
+    private final Boolean                   giant;
+
+    /**
+     * Hit returned by searches.
+     */
+    private final PlayerHit                 hit;
+
+    /**
+     * MVP flag.
+     */
+    private final Boolean                   mvp;
+
+    /**
+     * Rank, or {@code null} if the player has no rank.
+     */
+    private final Integer                   rank;
+
+    /**
+     * Role.
+     */
+    private final Role                      role;
+
+    /**
+     * Template name.
+     */
+    private final String                    templateName;
+
+    /**
+     * Valoration, or {@code null} if the player has no valoration.
+     */
+    private final Integer                   valoration;
+
+    /**
+     * Constructs an entry for the player, copying its current values.
+     * 
+     * @param team
+     *            team with the player
+     * @param position
+     *            position of the player
+     * @param player
+     *            player to index
+     */
+    public IndexedPlayer(final Team<?> team, final Integer position,
+            final TeamPlayer player) {
+        super();
+
+        final Collection<Ability> playerAbilities; // Player abilities
+        int                       index;           // Current ability
+
+        checkNotNull(player, "Received a null pointer as player");
+
+        hit = new PlayerHit(team, position, player);
+        templateName = player.getTemplateName();
+        role = player.getRole();
+        mvp = player.getMvp();
+        giant = player.getGiant();
+
+        playerAbilities = player.getAbilities();
+        abilities = new int[playerAbilities.size()];
+        registered = new Ability[playerAbilities.size()];
+        index = 0;
+        for (final Ability ability : playerAbilities) {
+            registered[index] = AbilityRegistry.register(ability);
+            abilities[index] = AbilityRegistry.getIndex(registered[index]);
+            index++;
+        }
+
+        if (player instanceof AffinityTeamPlayer) {
+            affinityGroups
+                    .addAll(((AffinityTeamPlayer) player).getAffinityGroups());
+        }
+
+        if (player instanceof AdvancementTeamPlayer) {
+            rank = ((AdvancementTeamPlayer) player).getRank();
+            valoration = ((AdvancementTeamPlayer) player).getValoration();
+        } else {
+            rank = null;
+            valoration = null;
+        }
+    }
+
+    /**
+     * Returns the registry indices of the abilities.
+     * 
+     * @return the registry indices of the abilities
+     */
+    public final int[] getAbilities() {
+        return abilities;
+    }
+
+    /**
+     * Returns the affinity groups.
+     * 
+     * @return the affinity groups
+     */
+    public final Collection<AffinityGroup> getAffinityGroups() {
+        return affinityGroups;
+    }
+
+    /**
+     * Returns the giant flag.
+     * 
+     * @return the giant flag
+     */
+    public final Boolean getGiant() {
+        return giant;
+    }
+
+    /**
+     * Returns the hit returned by searches.
+     * 
+     * @return the hit returned by searches
+     */
+    public final PlayerHit getHit() {
+        return hit;
+    }
+
+    /**
+     * Returns the MVP flag.
+     * 
+     * @return the MVP flag
+     */
+    public final Boolean getMvp() {
+        return mvp;
+    }
+
+    /**
+     * Returns the rank, or {@code null} if the player has no rank.
+     * 
+     * @return the rank
+     */
+    public final Integer getRank() {
+        return rank;
+    }
+
+    /**
+     * Returns the role.
+     * 
+     * @return the role
+     */
+    public final Role getRole() {
+        return role;
+    }
+
+    /**
+     * Returns the template name.
+     * 
+     * @return the template name
+     */
+    public final String getTemplateName() {
+        return templateName;
+    }
+
+    /**
+     * Returns the valoration, or {@code null} if the player has no
+     * valoration.
+     * 
+     * @return the valoration
+     */
+    public final Integer getValoration() {
+        return valoration;
+    }
+
+}
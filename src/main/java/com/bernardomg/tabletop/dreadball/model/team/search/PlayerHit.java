@@ -0,0 +1,101 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.search;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.team.Team;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Player found by a search, along the team and position where it is.
+ * <p>
+ * This is an immutable class.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class PlayerHit {
+
+    /**
+     * Player found.
+     */
+    private final TeamPlayer player;
+
+    /**
+     * Position of the player in the team.
+     */
+    private final Integer    position;
+
+    /**
+     * Team with the player.
+     */
+    private final Team<?>    team;
+
+    /**
+     * Constructs a hit with the specified arguments.
+     * 
+     * @param source
+     *            team with the player
+     * @param pos
+     *            position of the player in the team
+     * @param found
+     *            player found
+     */
+    public PlayerHit(final Team<?> source, final Integer pos,
+            final TeamPlayer found) {
+        super();
+
+        team = checkNotNull(source, "Received a null pointer as team");
+        position = checkNotNull(pos, "Received a null pointer as position");
+        player = checkNotNull(found, "Received a null pointer as player");
+    }
+
+    /**
+     * Returns the player found.
+     * 
+     * @return the player found
+     */
+    public final TeamPlayer getPlayer() {
+        return player;
+    }
+
+    /**
+     * Returns the position of the player in the team.
+     * 
+     * @return the position of the player in the team
+     */
+    public final Integer getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns the team with the player.
+     * 
+     * @return the team with the player
+     */
+    public final Team<?> getTeam() {
+        return team;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).add("position", position)
+                .add("player", player).toString();
+    }
+
+}
@@ -0,0 +1,322 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.search;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.AffinityGroup;
+import com.google.common.base.MoreObjects;
+
+/**
+ * Conditions for searching players in a {@link PlayerSearchIndex}.
+ * <p>
+ * A player matches the query when it fulfills all the conditions. Conditions
+ * which are not set are ignored, so an empty query matches all the players.
+ * <p>
+ * Ranks and valorations are only known for advancement players, so any
+ * other player won't match a query over them.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class PlayerQuery {
+
+    /**
+     * Abilities the players should have.
+     */
+    private final Collection<Ability>       abilities      = new ArrayList<>();
+
+    /**
+     * Affinity groups the players should have.
+     */
+    private final Collection<AffinityGroup> affinityGroups = new ArrayList<>();
+
+    /**
+     * Giant flag the players should have.
+     */
+    private Boolean                         giant;
+
+    /**
+     * Highest rank, inclusive.
+     */
+    private Integer                         maxRank;
+
+    /**
+     * Highest valoration, inclusive.
+     */
+    private Integer                         maxValoration;
+
+    /**
+     * Lowest rank, inclusive.
+     */
+    private Integer                         minRank;
+
+    /**
+     * Lowest valoration, inclusive.
+     */
+    private Integer                         minValoration;
+
+    /**
+     * MVP flag the players should have.
+     */
+    private Boolean                         mvp;
+
+    /**
+     * Role the players should have.
+     */
+    private Role                            role;
+
+    /**
+     * Template the players should come from.
+     */
+    private String                          templateName;
+
+    /**
+     * Constructs an empty query.
+     */
+    public PlayerQuery() {
+        super();
+    }
+
+    /**
+     * Returns the abilities the players should have.
+     * 
+     * @return the abilities the players should have
+     */
+    public final Collection<Ability> getAbilities() {
+        return Collections.unmodifiableCollection(abilities);
+    }
+
+    /**
+     * Returns the affinity groups the players should have.
+     * 
+     * @return the affinity groups the players should have
+     */
+    public final Collection<AffinityGroup> getAffinityGroups() {
+        return Collections.unmodifiableCollection(affinityGroups);
+    }
+
+    /**
+     * Returns the giant flag the players should have, or {@code null} if it
+     * is ignored.
+     * 
+     * @return the giant flag the players should have
+     */
+    public final Boolean getGiant() {
+        return giant;
+    }
+
+    /**
+     * Returns the highest rank, or {@code null} if there is no upper limit.
+     * 
+     * @return the highest rank
+     */
+    public final Integer getMaxRank() {
+        return maxRank;
+    }
+
+    /**
+     * Returns the highest valoration, or {@code null} if there is no upper
+     * limit.
+     * 
+     * @return the highest valoration
+     */
+    public final Integer getMaxValoration() {
+        return maxValoration;
+    }
+
+    /**
+     * Returns the lowest rank, or {@code null} if there is no lower limit.
+     * 
+     * @return the lowest rank
+     */
+    public final Integer getMinRank() {
+        return minRank;
+    }
+
+    /**
+     * Returns the lowest valoration, or {@code null} if there is no lower
+     * limit.
+     * 
+     * @return the lowest valoration
+     */
+    public final Integer getMinValoration() {
+        return minValoration;
+    }
+
+    /**
+     * Returns the MVP flag the players should have, or {@code null} if it is
+     * ignored.
+     * 
+     * @return the MVP flag the players should have
+     */
+    public final Boolean getMvp() {
+        return mvp;
+    }
+
+    /**
+     * Returns the role the players should have, or {@code null} if it is
+     * ignored.
+     * 
+     * @return the role the players should have
+     */
+    public final Role getRole() {
+        return role;
+    }
+
+    /**
+     * Returns the template the players should come from, or {@code null} if
+     * it is ignored.
+     * 
+     * @return the template the players should come from
+     */
+    public final String getTemplateName() {
+        return templateName;
+    }
+
+    @Override
+    public final String toString() {
+        return MoreObjects.toStringHelper(this).omitNullValues()
+                .add("template", templateName).add("role", role)
+                .add("abilities", abilities)
+                .add("affinityGroups", affinityGroups).add("mvp", mvp)
+                .add("giant", giant).add("minRank", minRank)
+                .add("maxRank", maxRank).add("minValoration", minValoration)
+                .add("maxValoration", maxValoration).toString();
+    }
+
+    /**
+     * Adds an ability the players should have.
+     * 
+     * @param ability
+     *            ability the players should have
+     * @return this query
+     */
+    public final PlayerQuery withAbility(final Ability ability) {
+        abilities.add(
+                checkNotNull(ability, "Received a null pointer as ability"));
+
+        return this;
+    }
+
+    /**
+     * Adds an affinity group the players should have.
+     * 
+     * @param affinity
+     *            affinity group the players should have
+     * @return this query
+     */
+    public final PlayerQuery withAffinityGroup(final AffinityGroup affinity) {
+        affinityGroups.add(checkNotNull(affinity,
+                "Received a null pointer as affinity group"));
+
+        return this;
+    }
+
+    /**
+     * Sets the giant flag the players should have.
+     * 
+     * @param flag
+     *            giant flag, or {@code null} to ignore it
+     * @return this query
+     */
+    public final PlayerQuery withGiant(final Boolean flag) {
+        giant = flag;
+
+        return this;
+    }
+
+    /**
+     * Sets the MVP flag the players should have.
+     * 
+     * @param flag
+     *            MVP flag, or {@code null} to ignore it
+     * @return this query
+     */
+    public final PlayerQuery withMvp(final Boolean flag) {
+        mvp = flag;
+
+        return this;
+    }
+
+    /**
+     * Sets the range of ranks the players should be in.
+     * 
+     * @param min
+     *            lowest rank, inclusive, or {@code null} for no lower limit
+     * @param max
+     *            highest rank, inclusive, or {@code null} for no upper limit
+     * @return this query
+     */
+    public final PlayerQuery withRank(final Integer min, final Integer max) {
+        minRank = min;
+        maxRank = max;
+
+        return this;
+    }
+
+    /**
+     * Sets the role the players should have.
+     * 
+     * @param playerRole
+     *            role, or {@code null} to ignore it
+     * @return this query
+     */
+    public final PlayerQuery withRole(final Role playerRole) {
+        role = playerRole;
+
+        return this;
+    }
+
+    /**
+     * Sets the template the players should come from.
+     * 
+     * @param name
+     *            template name, or {@code null} to ignore it
+     * @return this query
+     */
+    public final PlayerQuery withTemplateName(final String name) {
+        templateName = name;
+
+        return this;
+    }
+
+    /**
+     * Sets the range of valorations the players should be in.
+     * 
+     * @param min
+     *            lowest valoration, inclusive, or {@code null} for no lower
+     *            limit
+     * @param max
+     *            highest valoration, inclusive, or {@code null} for no upper
+     *            limit
+     * @return this query
+     */
+    public final PlayerQuery withValoration(final Integer min,
+            final Integer max) {
+        minValoration = min;
+        maxValoration = max;
+
+        return this;
+    }
+
+}
@@ -0,0 +1,582 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.team.search;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.AbilityRegistry;
+import com.bernardomg.tabletop.dreadball.model.player.stats.AffinityGroup;
+import com.bernardomg.tabletop.dreadball.model.team.AbstractTeam;
+import com.bernardomg.tabletop.dreadball.model.team.event.TeamChange;
+import com.bernardomg.tabletop.dreadball.model.team.event.TeamChangeEvent;
+import com.bernardomg.tabletop.dreadball.model.team.event.TeamChangeListener;
+
+/**
+ * Inverted index over the players of many teams.
+ * <p>
+ * Each indexed player is given a slot, and each searchable value keeps a
+ * bitmap with the slots of the players having it. Queries are answered by
+ * intersecting the bitmaps of their conditions, instead of visiting the
+ * players.
+ * <p>
+ * The index registers itself as a listener into the teams it contains, and
+ * reindexes the positions which changed when their roster changes. Players
+ * don't notify their own changes, so after modifying a player, such as its
+ * rank or abilities, the change should be marked with
+ * {@link AbstractTeam#markPlayerChanged(Integer)}, which reindexes all the
+ * players of the team, or the team reindexed with
+ * {@link #update(AbstractTeam)}.
+ * <p>
+ * The index is thread safe. Searches can run concurrently, while changes are
+ * exclusive.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class PlayerSearchIndex implements TeamChangeListener {
+
+    /**
+     * Slots for each ability, by registry index.
+     */
+    private final List<BitSet>                                abilities      = new ArrayList<>();
+
+    /**
+     * Slots for each affinity group.
+     */
+    private final Map<AffinityGroup, BitSet>                  affinityGroups = new HashMap<>();
+
+    /**
+     * Indexed players, by slot.
+     */
+    private final List<IndexedPlayer>                         entries        = new ArrayList<>();
+
+    /**
+     * Slots for giants.
+     */
+    private final BitSet                                      giants         = new BitSet();
+
+    /**
+     * Lock for the index.
+     */
+    private final ReadWriteLock                               lock           = new ReentrantReadWriteLock();
+
+    /**
+     * Slots in use.
+     */
+    private final BitSet                                      live           = new BitSet();
+
+    /**
+     * Slots for MVPs.
+     */
+    private final BitSet                                      mvps           = new BitSet();
+
+    /**
+     * Slots for each rank.
+     */
+    private final NavigableMap<Integer, BitSet>               ranks          = new TreeMap<>();
+
+    /**
+     * Slots for each role.
+     */
+    private final Map<Role, BitSet>                           roles          = new EnumMap<>(
+            Role.class);
+
+    /**
+     * Slots of each team, by position.
+     */
+    private final Map<AbstractTeam<?>, Map<Integer, Integer>> teams          = new IdentityHashMap<>();
+
+    /**
+     * Slots for each template.
+     */
+    private final Map<String, BitSet>                         templates      = new HashMap<>();
+
+    /**
+     * Slots for each valoration.
+     */
+    private final NavigableMap<Integer, BitSet>               valorations    = new TreeMap<>();
+
+    /**
+     * Default constructor.
+     */
+    public PlayerSearchIndex() {
+        super();
+    }
+
+    /**
+     * Adds the players of a team to the index, and starts listening to its
+     * roster changes.
+     * <p>
+     * If the team is already indexed, then nothing is done.
+     * 
+     * @param team
+     *            team to index
+     */
+    public final void addTeam(final AbstractTeam<?> team) {
+        final Boolean added; // Flag for a new team
+
+        checkNotNull(team, "Received a null pointer as team");
+
+        lock.writeLock().lock();
+        try {
+            added = !teams.containsKey(team);
+            if (added) {
+                teams.put(team, new HashMap<Integer, Integer>());
+                refresh(team, true);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (added) {
+            team.addChangeListener(this);
+        }
+    }
+
+    /**
+     * Returns the number of players matching the query.
+     * 
+     * @param query
+     *            conditions for the players
+     * @return the number of players matching the query
+     */
+    public final Integer count(final PlayerQuery query) {
+        checkNotNull(query, "Received a null pointer as query");
+
+        lock.readLock().lock();
+        try {
+            return match(query).cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed players.
+     * 
+     * @return the number of indexed players
+     */
+    public final Integer getSize() {
+        lock.readLock().lock();
+        try {
+            return live.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public final void onChange(final TeamChangeEvent event) {
+        checkNotNull(event, "Received a null pointer as event");
+
+        if (event.getChanges().contains(TeamChange.ROSTER)
+                || event.getChanges().contains(TeamChange.PLAYERS)) {
+            lock.writeLock().lock();
+            try {
+                // Events may arrive after the team was removed
+                // Players modified in place are only found reindexing all
+                if (teams.containsKey(event.getTeam())) {
+                    refresh((AbstractTeam<?>) event.getTeam(),
+                            event.getChanges().contains(TeamChange.PLAYERS));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Removes the players of a team from the index, and stops listening to
+     * its changes.
+     * 
+     * @param team
+     *            team to remove
+     */
+    public final void removeTeam(final AbstractTeam<?> team) {
+        final Map<Integer, Integer> slots; // Slots of the team
+
+        checkNotNull(team, "Received a null pointer as team");
+
+        team.removeChangeListener(this);
+
+        lock.writeLock().lock();
+        try {
+            slots = teams.remove(team);
+            if (slots != null) {
+                for (final Integer slot : slots.values()) {
+                    remove(slot);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the players matching the query, in no particular order.
+     * 
+     * @param query
+     *            conditions for the players
+     * @return the players matching the query
+     */
+    public final List<PlayerHit> search(final PlayerQuery query) {
+        final BitSet          matched; // Slots matching the query
+        final List<PlayerHit> hits;    // Players matching the query
+
+        checkNotNull(query, "Received a null pointer as query");
+
+        lock.readLock().lock();
+        try {
+            matched = match(query);
+
+            hits = new ArrayList<>(matched.cardinality());
+            for (int slot = matched.nextSetBit(0); slot >= 0; slot = matched
+                    .nextSetBit(slot + 1)) {
+                hits.add(entries.get(slot).getHit());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return hits;
+    }
+
+    /**
+     * Indexes again all the players of the team.
+     * <p>
+     * This should be called after modifying any of its players.
+     * 
+     * @param team
+     *            team to reindex
+     */
+    public final void update(final AbstractTeam<?> team) {
+        checkNotNull(team, "Received a null pointer as team");
+
+        lock.writeLock().lock();
+        try {
+            if (teams.containsKey(team)) {
+                refresh(team, true);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a player to the index.
+     * 
+     * @param entry
+     *            player to add
+     * @return the slot for the player
+     */
+    private final Integer add(final IndexedPlayer entry) {
+        final Integer slot; // Slot for the player
+
+        slot = live.nextClearBit(0);
+        live.set(slot);
+        if (slot == entries.size()) {
+            entries.add(entry);
+        } else {
+            entries.set(slot, entry);
+        }
+
+        getSlots(templates, entry.getTemplateName()).set(slot);
+        getSlots(roles, entry.getRole()).set(slot);
+        for (final int ability : entry.getAbilities()) {
+            while (abilities.size() <= ability) {
+                abilities.add(new BitSet());
+            }
+            abilities.get(ability).set(slot);
+        }
+        for (final AffinityGroup affinity : entry.getAffinityGroups()) {
+            getSlots(affinityGroups, affinity).set(slot);
+        }
+        mvps.set(slot, entry.getMvp());
+        giants.set(slot, entry.getGiant());
+        if (entry.getRank() != null) {
+            getSlots(ranks, entry.getRank()).set(slot);
+        }
+        if (entry.getValoration() != null) {
+            getSlots(valorations, entry.getValoration()).set(slot);
+        }
+
+        return slot;
+    }
+
+    /**
+     * Removes from the result the slots not in the received bitmap.
+     * 
+     * @param result
+     *            slots to filter
+     * @param slots
+     *            slots to keep, or {@code null} if none is kept
+     */
+    private final void and(final BitSet result, final BitSet slots) {
+        if (slots == null) {
+            result.clear();
+        } else {
+            result.and(slots);
+        }
+    }
+
+    /**
+     * Removes from the result the slots with a flag different from the
+     * expected one.
+     * 
+     * @param result
+     *            slots to filter
+     * @param flags
+     *            slots with the flag set
+     * @param expected
+     *            expected flag, or {@code null} to keep all the slots
+     */
+    private final void andFlag(final BitSet result, final BitSet flags,
+            final Boolean expected) {
+        if (expected != null) {
+            if (expected) {
+                result.and(flags);
+            } else {
+                result.andNot(flags);
+            }
+        }
+    }
+
+    /**
+     * Removes from the result the slots with values outside the range.
+     * 
+     * @param result
+     *            slots to filter
+     * @param values
+     *            slots for each value
+     * @param min
+     *            lowest value, or {@code null} for no lower limit
+     * @param max
+     *            highest value, or {@code null} for no upper limit
+     */
+    private final void andRange(final BitSet result,
+            final NavigableMap<Integer, BitSet> values, final Integer min,
+            final Integer max) {
+        final BitSet inRange; // Slots in the range
+        Integer      lower;   // Lowest value
+        Integer      upper;   // Highest value
+
+        if ((min != null) || (max != null)) {
+            if (min == null) {
+                lower = Integer.MIN_VALUE;
+            } else {
+                lower = min;
+            }
+            if (max == null) {
+                upper = Integer.MAX_VALUE;
+            } else {
+                upper = max;
+            }
+
+            inRange = new BitSet();
+            if (lower <= upper) {
+                for (final BitSet slots : values
+                        .subMap(lower, true, upper, true).values()) {
+                    inRange.or(slots);
+                }
+            }
+
+            result.and(inRange);
+        }
+    }
+
+    /**
+     * Removes a slot from the bitmap stored for the key, discarding the
+     * bitmap once it is empty.
+     * 
+     * @param <K>
+     *            the type of the keys
+     * @param bitmaps
+     *            bitmaps by key
+     * @param key
+     *            key for the bitmap
+     * @param slot
+     *            slot to remove
+     */
+    private final <K> void clear(final Map<K, BitSet> bitmaps, final K key,
+            final Integer slot) {
+        final BitSet slots; // Slots for the key
+
+        slots = bitmaps.get(key);
+        slots.clear(slot);
+        if (slots.isEmpty()) {
+            bitmaps.remove(key);
+        }
+    }
+
+    /**
+     * Returns the bitmap stored for the key, creating it if needed.
+     * 
+     * @param <K>
+     *            the type of the keys
+     * @param bitmaps
+     *            bitmaps by key
+     * @param key
+     *            key for the bitmap
+     * @return the bitmap for the key
+     */
+    private final <K> BitSet getSlots(final Map<K, BitSet> bitmaps,
+            final K key) {
+        BitSet slots; // Slots for the key
+
+        slots = bitmaps.get(key);
+        if (slots == null) {
+            slots = new BitSet();
+            bitmaps.put(key, slots);
+        }
+
+        return slots;
+    }
+
+    /**
+     * Returns the slots matching the query.
+     * 
+     * @param query
+     *            conditions for the players
+     * @return the slots matching the query
+     */
+    private final BitSet match(final PlayerQuery query) {
+        final BitSet result; // Slots matching the query
+        int          index;  // Ability index
+
+        result = (BitSet) live.clone();
+
+        if (query.getTemplateName() != null) {
+            and(result, templates.get(query.getTemplateName()));
+        }
+        if (query.getRole() != null) {
+            and(result, roles.get(query.getRole()));
+        }
+        for (final Ability ability : query.getAbilities()) {
+            index = AbilityRegistry.getIndex(ability);
+            if ((index == AbilityRegistry.NONE)
+                    || (index >= abilities.size())) {
+                result.clear();
+            } else {
+                result.and(abilities.get(index));
+            }
+        }
+        for (final AffinityGroup affinity : query.getAffinityGroups()) {
+            and(result, affinityGroups.get(affinity));
+        }
+        andFlag(result, mvps, query.getMvp());
+        andFlag(result, giants, query.getGiant());
+        andRange(result, ranks, query.getMinRank(), query.getMaxRank());
+        andRange(result, valorations, query.getMinValoration(),
+                query.getMaxValoration());
+
+        return result;
+    }
+
+    /**
+     * Indexes again the players of a team.
+     * <p>
+     * Unless all the players are reindexed, only the positions where the
+     * player was replaced are changed.
+     * 
+     * @param team
+     *            team to index
+     * @param all
+     *            flag indicating if all the players should be reindexed
+     */
+    private final void refresh(final AbstractTeam<?> team,
+            final Boolean all) {
+        final Map<Integer, Integer> slots;    // Team slots
+        final Map<Integer, Integer> current;  // Slots after refreshing
+        Integer                     position; // Current position
+        TeamPlayer                  player;   // Current player
+        Integer                     slot;     // Slot for the player
+
+        slots = teams.get(team);
+        current = new HashMap<>();
+
+        for (int i = 0; i < team.getPlayerCount(); i++) {
+            position = team.getPositionAt(i);
+            player = team.getPlayerAt(i);
+
+            slot = slots.remove(position);
+            if ((slot != null) && ((all)
+                    || (entries.get(slot).getHit().getPlayer() != player))) {
+                remove(slot);
+                slot = null;
+            }
+
+            if (slot == null) {
+                slot = add(new IndexedPlayer(team, position, player));
+            }
+            current.put(position, slot);
+        }
+
+        // Positions left are empty now
+        for (final Integer removed : slots.values()) {
+            remove(removed);
+        }
+
+        slots.clear();
+        slots.putAll(current);
+    }
+
+    /**
+     * Removes a player from the index.
+     * 
+     * @param slot
+     *            slot of the player
+     */
+    private final void remove(final Integer slot) {
+        final IndexedPlayer entry; // Player to remove
+
+        entry = entries.get(slot);
+        entries.set(slot, null);
+        live.clear(slot);
+
+        clear(templates, entry.getTemplateName(), slot);
+        clear(roles, entry.getRole(), slot);
+        for (final int ability : entry.getAbilities()) {
+            abilities.get(ability).clear(slot);
+        }
+        for (final AffinityGroup affinity : entry.getAffinityGroups()) {
+            clear(affinityGroups, affinity, slot);
+        }
+        mvps.clear(slot);
+        giants.clear(slot);
+        if (entry.getRank() != null) {
+            clear(ranks, entry.getRank(), slot);
+        }
+        if (entry.getValoration() != null) {
+            clear(valorations, entry.getValoration(), slot);
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.generator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.availability.asset.ImmutableTeamTypeAssetsAvailability;
+import com.bernardomg.tabletop.dreadball.model.availability.player.ImmutableTeamPlayerRangedAvailability;
+import com.bernardomg.tabletop.dreadball.model.availability.player.TeamPlayerRangedAvailability;
+import com.bernardomg.tabletop.dreadball.model.faction.ImmutableTeamType;
+import com.bernardomg.tabletop.dreadball.model.faction.TeamRule;
+import com.bernardomg.tabletop.dreadball.model.faction.TeamType;
+import com.bernardomg.tabletop.dreadball.model.generator.RandomAdvancementTeamGenerator;
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.DefaultTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAttributes;
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+
+/**
+ * Unit tests for {@link RandomAdvancementTeamGenerator}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestRandomAdvancementTeamGenerator {
+
+    /**
+     * Default constructor.
+     */
+    public TestRandomAdvancementTeamGenerator() {
+        super();
+    }
+
+    /**
+     * Tests that two generators with the same seed generate the same teams,
+     * even when one of them reuses a single team.
+     */
+    @Test
+    public final void testGenerate_SameSeed_Reused() {
+        final RandomAdvancementTeamGenerator generatorA; // First generator
+        final RandomAdvancementTeamGenerator generatorB; // Second generator
+        final AdvancementTeam reused;                    // Reused team
+        AdvancementTeam team;                            // New team
+
+        generatorA = getGenerator(42L);
+        generatorB = getGenerator(42L);
+
+        reused = generatorB.generate();
+        generatorA.generate();
+
+        for (int i = 0; i < 200; i++) {
+            team = generatorA.generate();
+            generatorB.fill(reused);
+
+            Assert.assertEquals(team.getPlayers().size(),
+                    reused.getPlayers().size());
+            Assert.assertEquals(team.getCash(), reused.getCash());
+            Assert.assertEquals(team.getTotalCost(), reused.getTotalCost());
+        }
+    }
+
+    /**
+     * Tests that the generated teams respect the limits.
+     */
+    @Test
+    public final void testGenerate_Valid() {
+        final RandomAdvancementTeamGenerator generator; // Tested generator
+        AdvancementTeam team;                           // Generated team
+
+        generator = getGenerator(7L);
+
+        for (int i = 0; i < 200; i++) {
+            team = generator.generate();
+
+            Assert.assertTrue(team.getPlayers().size() <= 4);
+            Assert.assertTrue(team.getCheerleaders() <= 5);
+            Assert.assertTrue(team.getCoachingDice() <= 6);
+            Assert.assertTrue(team.getDreadballCards() <= 7);
+
+            for (final AdvancementTeamPlayer player : team.getPlayers()
+                    .values()) {
+                Assert.assertTrue(player.getRank() <= 2);
+            }
+        }
+    }
+
+    /**
+     * Returns the generator to test.
+     * 
+     * @param seed
+     *            seed for the generator
+     * @return the generator to test
+     */
+    private final RandomAdvancementTeamGenerator getGenerator(
+            final Long seed) {
+        final Collection<TeamPlayerRangedAvailability> availabilities;
+        final TeamType type;
+
+        type = new ImmutableTeamType("type", new ArrayList<TeamRule>());
+
+        availabilities = new ArrayList<>();
+        availabilities.add(new ImmutableTeamPlayerRangedAvailability(type,
+                new DefaultTeamPlayer("guard", 10, Role.GUARD,
+                        new ImmutableAttributes(1, 2, 3, 4, 5),
+                        new ArrayList<Ability>(), false, false),
+                0, 2));
+        availabilities.add(new ImmutableTeamPlayerRangedAvailability(type,
+                new DefaultTeamPlayer("striker", 15, Role.STRIKER,
+                        new ImmutableAttributes(1, 2, 3, 4, 5),
+                        new ArrayList<Ability>(), false, false),
+                0, 2));
+
+        return new RandomAdvancementTeamGenerator(seed,
+                new ImmutableTeamTypeAssetsAvailability(type, 1, 0, 5, 2, 0, 6,
+                        3, 0, 7, 4, false, false, false),
+                availabilities, 10, 2, 100, 5);
+    }
+
+}
@@ -0,0 +1,202 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.generator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.availability.asset.ImmutableSponsorAssetsCosts;
+import com.bernardomg.tabletop.dreadball.model.availability.player.ImmutableTeamPlayerRangedAvailability;
+import com.bernardomg.tabletop.dreadball.model.availability.player.TeamPlayerRangedAvailability;
+import com.bernardomg.tabletop.dreadball.model.faction.ImmutableTeamType;
+import com.bernardomg.tabletop.dreadball.model.faction.TeamRule;
+import com.bernardomg.tabletop.dreadball.model.faction.TeamType;
+import com.bernardomg.tabletop.dreadball.model.generator.RandomSponsorTeamGenerator;
+import com.bernardomg.tabletop.dreadball.model.player.DefaultTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAttributes;
+import com.bernardomg.tabletop.dreadball.model.team.SponsorTeam;
+
+/**
+ * Unit tests for {@link RandomSponsorTeamGenerator}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestRandomSponsorTeamGenerator {
+
+    /**
+     * Default constructor.
+     */
+    public TestRandomSponsorTeamGenerator() {
+        super();
+    }
+
+    /**
+     * Tests that refilling a team with less players removes the leftovers.
+     */
+    @Test
+    public final void testFill_Reused() {
+        final RandomSponsorTeamGenerator generator; // Tested generator
+        final SponsorTeam team;                     // Reused team
+
+        generator = getGenerator(1L);
+        team = generator.generate();
+
+        for (int i = 0; i < 200; i++) {
+            generator.fill(team);
+
+            for (int pos = 1; pos <= team.getPlayers().size(); pos++) {
+                Assert.assertTrue(team.getPlayers().containsKey(pos));
+            }
+        }
+    }
+
+    /**
+     * Tests that each position receives its own player instance.
+     */
+    @Test
+    public final void testGenerate_PlayersNotShared() {
+        final RandomSponsorTeamGenerator generator; // Tested generator
+        final Collection<TeamPlayer> players;       // Players already seen
+        SponsorTeam team;                           // Generated team
+
+        generator = getGenerator(3L);
+        players = new ArrayList<>();
+
+        for (int i = 0; i < 50; i++) {
+            team = generator.generate();
+
+            for (final TeamPlayer player : team.getPlayers().values()) {
+                for (final TeamPlayer seen : players) {
+                    Assert.assertNotSame(seen, player);
+                }
+                players.add(player);
+            }
+        }
+    }
+
+    /**
+     * Tests that two generators with the same seed generate the same teams.
+     */
+    @Test
+    public final void testGenerate_SameSeed() {
+        final RandomSponsorTeamGenerator generatorA; // First generator
+        final RandomSponsorTeamGenerator generatorB; // Second generator
+        SponsorTeam teamA;                           // First team
+        SponsorTeam teamB;                           // Second team
+
+        generatorA = getGenerator(42L);
+        generatorB = getGenerator(42L);
+
+        for (int i = 0; i < 200; i++) {
+            teamA = generatorA.generate();
+            teamB = generatorB.generate();
+
+            Assert.assertEquals(teamA.getPlayers(), teamB.getPlayers());
+            Assert.assertEquals(teamA.getCoachingDice(),
+                    teamB.getCoachingDice());
+            Assert.assertEquals(teamA.getWagers(), teamB.getWagers());
+            Assert.assertEquals(teamA.getBaseRank(), teamB.getBaseRank());
+            Assert.assertEquals(teamA.getTotalCost(), teamB.getTotalCost());
+        }
+    }
+
+    /**
+     * Tests that the generated teams respect the limits.
+     */
+    @Test
+    public final void testGenerate_Valid() {
+        final RandomSponsorTeamGenerator generator; // Tested generator
+        final Map<String, Integer> counts;          // Players per template
+        SponsorTeam team;                           // Generated team
+
+        generator = getGenerator(7L);
+        counts = new HashMap<>();
+
+        for (int i = 0; i < 200; i++) {
+            team = generator.generate();
+
+            Assert.assertTrue(team.getPlayers().size() <= 8);
+            Assert.assertTrue(team.getCurrentRank() >= 0);
+            Assert.assertTrue(team.getWagers() <= 3);
+
+            counts.clear();
+            for (final TeamPlayer player : team.getPlayers().values()) {
+                if (counts.containsKey(player.getTemplateName())) {
+                    counts.put(player.getTemplateName(),
+                            counts.get(player.getTemplateName()) + 1);
+                } else {
+                    counts.put(player.getTemplateName(), 1);
+                }
+            }
+
+            for (final Integer count : counts.values()) {
+                Assert.assertTrue(count <= 3);
+            }
+        }
+    }
+
+    /**
+     * Returns the generator to test.
+     * 
+     * @param seed
+     *            seed for the generator
+     * @return the generator to test
+     */
+    private final RandomSponsorTeamGenerator getGenerator(final Long seed) {
+        final Collection<TeamPlayerRangedAvailability> availabilities;
+        final TeamType type;
+
+        type = new ImmutableTeamType("type", new ArrayList<TeamRule>());
+
+        availabilities = new ArrayList<>();
+        availabilities.add(new ImmutableTeamPlayerRangedAvailability(type,
+                getPlayer("guard", Role.GUARD, 10), 0, 3));
+        availabilities.add(new ImmutableTeamPlayerRangedAvailability(type,
+                getPlayer("striker", Role.STRIKER, 15), 0, 3));
+
+        return new RandomSponsorTeamGenerator(seed,
+                new ImmutableSponsorAssetsCosts(1, 2, 3, 4, 5, 6, 7),
+                availabilities, 8, 3);
+    }
+
+    /**
+     * Returns a player template.
+     * 
+     * @param name
+     *            template name
+     * @param role
+     *            player role
+     * @param cost
+     *            player cost
+     * @return a player template
+     */
+    private final TeamPlayer getPlayer(final String name, final Role role,
+            final Integer cost) {
+        return new DefaultTeamPlayer(name, cost, role,
+                new ImmutableAttributes(1, 2, 3, 4, 5),
+                new ArrayList<Ability>(), false, false);
+    }
+
+}
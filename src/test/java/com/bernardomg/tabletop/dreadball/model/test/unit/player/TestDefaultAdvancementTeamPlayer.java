@@ -17,6 +17,7 @@
 package com.bernardomg.tabletop.dreadball.model.test.unit.player;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 
 import org.junit.Assert;
@@ -30,6 +31,7 @@
 import com.bernardomg.tabletop.dreadball.model.player.TeamPlayerValorationCalculator;
 import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
 import com.bernardomg.tabletop.dreadball.model.player.stats.Attributes;
+import com.bernardomg.tabletop.dreadball.model.player.stats.MutableAttributes;
 
 /**
  * Unit tests for {@link DefaultAdvancementTeamPlayer}.
@@ -45,6 +47,70 @@ public TestDefaultAdvancementTeamPlayer() {
         super();
     }
 
+    /**
+     * Tests that changing the abilities of a copy doesn't change the original
+     * player.
+     */
+    @SuppressWarnings("unchecked")
+    @Test
+    public final void testCopy_Abilities_Independent() {
+        final DefaultAdvancementTeamPlayer player; // Copied player
+        final DefaultAdvancementTeamPlayer copy;   // Tested copy
+        final Ability ability;                     // Mocked ability
+        final Ability added;                       // Mocked added ability
+        final TeamPlayerValorationCalculator<AdvancementTeamPlayer> calculator;
+
+        ability = Mockito.mock(Ability.class);
+        added = Mockito.mock(Ability.class);
+
+        calculator = Mockito.mock(TeamPlayerValorationCalculator.class);
+
+        player = new DefaultAdvancementTeamPlayer("name", 0, Role.GUARD,
+                new MutableAttributes(), Arrays.asList(ability), true, true,
+                calculator);
+        player.addAbility(added);
+
+        copy = new DefaultAdvancementTeamPlayer(player);
+        copy.removeAbility(ability);
+
+        Assert.assertEquals(2, player.getAbilities().size());
+        Assert.assertEquals(1, copy.getAbilities().size());
+        Assert.assertTrue(copy.getAbilities().contains(added));
+    }
+
+    /**
+     * Tests that changing mutable attributes of a copy doesn't change the
+     * original player.
+     */
+    @SuppressWarnings("unchecked")
+    @Test
+    public final void testCopy_Attributes_Independent() {
+        final DefaultAdvancementTeamPlayer player; // Copied player
+        final DefaultAdvancementTeamPlayer copy;   // Tested copy
+        final MutableAttributes attributes;        // Player attributes
+        final TeamPlayerValorationCalculator<AdvancementTeamPlayer> calculator;
+
+        calculator = Mockito.mock(TeamPlayerValorationCalculator.class);
+
+        attributes = new MutableAttributes();
+        attributes.setArmor(4);
+
+        player = new DefaultAdvancementTeamPlayer("name", 0, Role.GUARD,
+                new MutableAttributes(), new ArrayList<Ability>(), true, true,
+                calculator);
+        player.setAttributes(attributes);
+        player.setName("player");
+        player.setRank(2);
+
+        copy = new DefaultAdvancementTeamPlayer(player);
+        ((MutableAttributes) copy.getAttributes()).setArmor(5);
+
+        Assert.assertEquals((Integer) 4, player.getAttributes().getArmor());
+        Assert.assertEquals((Integer) 5, copy.getAttributes().getArmor());
+        Assert.assertEquals("player", copy.getName());
+        Assert.assertEquals((Integer) 2, copy.getRank());
+    }
+
     /**
      * Tests that abilities are not repeated.
      */
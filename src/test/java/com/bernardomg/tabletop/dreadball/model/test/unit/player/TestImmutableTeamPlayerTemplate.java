@@ -0,0 +1,329 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.player;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayerValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.player.DefaultAdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.DefaultTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.ImmutableTeamPlayerTemplate;
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayerValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAbility;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAttributes;
+import com.bernardomg.tabletop.dreadball.model.player.stats.MutableAttributes;
+
+/**
+ * Unit tests for {@link ImmutableTeamPlayerTemplate}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestImmutableTeamPlayerTemplate {
+
+    /**
+     * Default constructor.
+     */
+    public TestImmutableTeamPlayerTemplate() {
+        super();
+    }
+
+    /**
+     * Tests that modifying the abilities of an advancement player doesn't
+     * change the template.
+     */
+    @Test
+    public final void testAdvancementPlayer_AddAbility_TemplateUnchanged() {
+        final ImmutableTeamPlayerTemplate template; // Shared template
+        final AdvancementTeamPlayer player;         // Modified player
+        final AdvancementTeamPlayer other;          // Unmodified player
+
+        template = getTemplate(10);
+
+        player = new DefaultAdvancementTeamPlayer(template, getCalculator());
+        other = new DefaultAdvancementTeamPlayer(template, getCalculator());
+
+        player.addAbility(new ImmutableAbility("dodge"));
+
+        Assert.assertEquals((Integer) 2, (Integer) player.getAbilities().size());
+        Assert.assertEquals((Integer) 1, (Integer) other.getAbilities().size());
+        Assert.assertEquals((Integer) 1,
+                (Integer) template.getAbilities().size());
+    }
+
+    /**
+     * Tests that an advancement player keeps the mutable attributes it
+     * received, while the template keeps a copy.
+     */
+    @Test
+    public final void testAdvancementPlayer_MutableAttributes_Kept() {
+        final AdvancementTeamPlayer player;  // Tested player
+        final MutableAttributes attributes; // Received attributes
+
+        attributes = new MutableAttributes();
+        attributes.setArmor(1);
+
+        player = new DefaultAdvancementTeamPlayer("template", 10, Role.GUARD,
+                attributes, new ArrayList<Ability>(), false, false,
+                getCalculator());
+
+        attributes.setArmor(2);
+
+        Assert.assertSame(attributes, player.getAttributes());
+        Assert.assertEquals((Integer) 2, player.getAttributes().getArmor());
+    }
+
+    /**
+     * Tests that a deserialized advancement player keeps modifying the
+     * abilities it already copied.
+     * 
+     * @throws Exception
+     *             never, as the player is serializable
+     */
+    @Test
+    public final void testAdvancementPlayer_Serialize_Modified()
+            throws Exception {
+        final ImmutableTeamPlayerTemplate template; // Shared template
+        final DefaultAdvancementTeamPlayer player;  // Serialized player
+        final DefaultAdvancementTeamPlayer read;    // Deserialized player
+
+        template = getTemplate(10);
+
+        player = new DefaultAdvancementTeamPlayer(template,
+                new AdvancementTeamPlayerValorationCalculator(5));
+        player.addAbility(new ImmutableAbility("dodge"));
+
+        read = (DefaultAdvancementTeamPlayer) serialize(player);
+        read.addAbility(new ImmutableAbility("block"));
+
+        Assert.assertEquals((Integer) 3, (Integer) read.getAbilities().size());
+        Assert.assertEquals((Integer) 2,
+                (Integer) player.getAbilities().size());
+        Assert.assertEquals((Integer) 1,
+                (Integer) template.getAbilities().size());
+    }
+
+    /**
+     * Tests that a deserialized advancement player, which receives the shared
+     * template, copies the abilities before modifying them.
+     * 
+     * @throws Exception
+     *             never, as the player is serializable
+     */
+    @Test
+    public final void testAdvancementPlayer_Serialize_TemplateUnchanged()
+            throws Exception {
+        final ImmutableTeamPlayerTemplate template; // Shared template
+        final DefaultAdvancementTeamPlayer player;  // Serialized player
+        final DefaultAdvancementTeamPlayer read;    // Deserialized player
+
+        template = getTemplate(10);
+
+        player = new DefaultAdvancementTeamPlayer(template,
+                new AdvancementTeamPlayerValorationCalculator(5));
+
+        read = (DefaultAdvancementTeamPlayer) serialize(player);
+        read.addAbility(new ImmutableAbility("dodge"));
+
+        Assert.assertSame(template, read.getTemplate());
+        Assert.assertEquals((Integer) 2, (Integer) read.getAbilities().size());
+        Assert.assertEquals((Integer) 1,
+                (Integer) template.getAbilities().size());
+    }
+
+    /**
+     * Tests that templates with the same abilities in a different order are
+     * different instances, keeping the received order.
+     */
+    @Test
+    public final void testOf_AbilitiesOrder_Kept() {
+        final Collection<Ability> abilities;        // First abilities
+        final Collection<Ability> reversed;         // Reversed abilities
+        final ImmutableTeamPlayerTemplate template; // First template
+        final ImmutableTeamPlayerTemplate other;    // Reversed template
+
+        abilities = new ArrayList<>();
+        abilities.add(new ImmutableAbility("jump"));
+        abilities.add(new ImmutableAbility("dodge"));
+
+        reversed = new ArrayList<>();
+        reversed.add(new ImmutableAbility("dodge"));
+        reversed.add(new ImmutableAbility("jump"));
+
+        template = ImmutableTeamPlayerTemplate.of("ordered", 10, Role.GUARD,
+                new ImmutableAttributes(1, 2, 3, 4, 5), abilities, false,
+                false);
+        other = ImmutableTeamPlayerTemplate.of("ordered", 10, Role.GUARD,
+                new ImmutableAttributes(1, 2, 3, 4, 5), reversed, false,
+                false);
+
+        Assert.assertNotSame(template, other);
+        Assert.assertEquals("dodge",
+                other.getAbilities().iterator().next().getName());
+    }
+
+    /**
+     * Tests that players created with the same data share the template.
+     */
+    @Test
+    public final void testOf_Equal_SameInstance() {
+        final DefaultTeamPlayer player;      // First player
+        final DefaultTeamPlayer other;       // Second player
+        final Collection<Ability> abilities; // Player abilities
+
+        abilities = new ArrayList<>();
+        abilities.add(new ImmutableAbility("jump"));
+
+        player = new DefaultTeamPlayer("player1", "template", 10, Role.JACK,
+                new ImmutableAttributes(1, 2, 3, 4, 5), abilities, false,
+                false);
+        other = new DefaultTeamPlayer("player2", "template", 10, Role.JACK,
+                new ImmutableAttributes(1, 2, 3, 4, 5), abilities, false,
+                false);
+
+        Assert.assertSame(player.getTemplate(), other.getTemplate());
+        Assert.assertEquals("player2", other.getName());
+    }
+
+    /**
+     * Tests that changing the received attributes doesn't change the
+     * template.
+     */
+    @Test
+    public final void testOf_MutableAttributes_Copied() {
+        final ImmutableTeamPlayerTemplate template; // Created template
+        final MutableAttributes attributes;         // Received attributes
+
+        attributes = new MutableAttributes();
+        attributes.setArmor(1);
+        attributes.setMovement(2);
+        attributes.setSkill(3);
+        attributes.setSpeed(4);
+        attributes.setStrength(5);
+
+        template = ImmutableTeamPlayerTemplate.of("mutable", 10, Role.GUARD,
+                attributes, new ArrayList<Ability>(), false, false);
+
+        attributes.setArmor(6);
+
+        Assert.assertEquals((Integer) 1, template.getAttributes().getArmor());
+    }
+
+    /**
+     * Tests that templates with different data are different instances.
+     */
+    @Test
+    public final void testOf_NotEqual_DifferentInstance() {
+        Assert.assertNotSame(getTemplate(10), getTemplate(20));
+        Assert.assertEquals((Integer) 20, getTemplate(20).getCost());
+    }
+
+    /**
+     * Tests that deserialized templates are replaced by the shared instance.
+     * 
+     * @throws Exception
+     *             never, as the template is serializable
+     */
+    @Test
+    public final void testSerialize_SameInstance() throws Exception {
+        final ImmutableTeamPlayerTemplate template; // Serialized template
+
+        template = getTemplate(10);
+
+        Assert.assertSame(template, serialize(template));
+    }
+
+    /**
+     * Returns a calculator which always returns zero.
+     * 
+     * @return a calculator which always returns zero
+     */
+    private final TeamPlayerValorationCalculator<AdvancementTeamPlayer>
+            getCalculator() {
+        return new TeamPlayerValorationCalculator<AdvancementTeamPlayer>() {
+
+            @Override
+            public final Integer
+                    getValoration(final AdvancementTeamPlayer player) {
+                return 0;
+            }
+
+        };
+    }
+
+    /**
+     * Returns a template with the specified cost.
+     * 
+     * @param cost
+     *            cost of the template
+     * @return a template with the specified cost
+     */
+    private final ImmutableTeamPlayerTemplate getTemplate(final Integer cost) {
+        final Collection<Ability> abilities; // Template abilities
+
+        abilities = new ArrayList<>();
+        abilities.add(new ImmutableAbility("jump"));
+
+        return ImmutableTeamPlayerTemplate.of("template", cost, Role.GUARD,
+                new ImmutableAttributes(1, 2, 3, 4, 5), abilities, false,
+                false);
+    }
+
+    /**
+     * Serializes and deserializes the received object.
+     * 
+     * @param value
+     *            object to serialize
+     * @return the deserialized object
+     * @throws IOException
+     *             if the object can't be serialized
+     * @throws ClassNotFoundException
+     *             if the object can't be deserialized
+     */
+    private final Object serialize(final Object value)
+            throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream bytes; // Serialized object
+        final ObjectOutputStream output;   // Serialization stream
+        final ObjectInputStream input;     // Deserialization stream
+
+        bytes = new ByteArrayOutputStream();
+        output = new ObjectOutputStream(bytes);
+        output.writeObject(value);
+        output.close();
+
+        input = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()));
+
+        try {
+            return input.readObject();
+        } finally {
+            input.close();
+        }
+    }
+
+}
@@ -0,0 +1,359 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.player.advancement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.faction.ImmutableTeamType;
+import com.bernardomg.tabletop.dreadball.model.faction.TeamRule;
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayerValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.player.DefaultAdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.advancement.AdvancementPlan;
+import com.bernardomg.tabletop.dreadball.model.player.advancement.AdvancementPlanner;
+import com.bernardomg.tabletop.dreadball.model.player.advancement.LinearAdvancementCostCalculator;
+import com.bernardomg.tabletop.dreadball.model.player.advancement.TeamAdvancementPlan;
+import com.bernardomg.tabletop.dreadball.model.player.component.Component;
+import com.bernardomg.tabletop.dreadball.model.player.component.ImmutableComponent;
+import com.bernardomg.tabletop.dreadball.model.player.component.ImmutableComponentLocation;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAbility;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAttributes;
+import com.bernardomg.tabletop.dreadball.model.team.DefaultAdvancementTeam;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.AdvancementTeamValorationCalculator;
+
+/**
+ * Unit tests for {@link AdvancementPlanner}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestAdvancementPlanner {
+
+    /**
+     * Default constructor.
+     */
+    public TestAdvancementPlanner() {
+        super();
+    }
+
+    /**
+     * Tests that the plans are the ones not dominated by any other, as found
+     * by checking all the combinations.
+     */
+    @Test
+    public final void testPlan_Front_MatchesExhaustive() {
+        final AdvancementPlanner    planner;    // Tested planner
+        final List<Ability>         abilities;  // Candidate abilities
+        final List<Component>       implants;   // Candidate implants
+        final List<int[]>           candidates; // All the advancements
+        final Set<String>           expected;   // Advancements not dominated
+        final Set<String>           found;      // Advancements planned
+        final List<AdvancementPlan> plans;      // Plans found
+        int                         spent;      // Experience spent
+        int                         valoration; // Valoration reached
+
+        abilities = Arrays.<Ability> asList(new ImmutableAbility("a"),
+                new ImmutableAbility("b"), new ImmutableAbility("c"));
+        implants = Arrays.asList(getImplant("x", Role.GUARD),
+                getImplant("y", Role.GUARD));
+
+        planner = new AdvancementPlanner(
+                new LinearAdvancementCostCalculator(4, 3, 5), abilities,
+                implants, 3);
+
+        // Ranks cost four times the rank reached, abilities three and
+        // implants five
+        candidates = new ArrayList<>();
+        for (int ranks = 0; ranks <= 3; ranks++) {
+            for (int implant = -1; implant < implants.size(); implant++) {
+                for (int mask = 0; mask < 8; mask++) {
+                    spent = 2 * ranks * (ranks + 1);
+                    valoration = 10 + (2 * ranks);
+                    if (implant >= 0) {
+                        spent += 5;
+                        valoration += 5;
+                    }
+                    spent += 3 * Integer.bitCount(mask);
+                    if (spent <= 20) {
+                        candidates.add(new int[] { valoration, 20 - spent,
+                                Integer.bitCount(mask) });
+                    }
+                }
+            }
+        }
+
+        expected = new HashSet<>();
+        for (final int[] candidate : candidates) {
+            if (!isDominated(candidate, candidates)) {
+                expected.add(getKey(candidate[0], candidate[1],
+                        candidate[2]));
+            }
+        }
+
+        plans = planner.plan(getPlayer(20));
+
+        found = new HashSet<>();
+        for (final AdvancementPlan plan : plans) {
+            found.add(getKey(plan.getValoration(),
+                    plan.getUnspentExperience(), plan.getAbilities().size()));
+        }
+
+        Assert.assertEquals(expected, found);
+        Assert.assertEquals(expected.size(), plans.size());
+    }
+
+    /**
+     * Tests that implants which don't support the player role are not
+     * planned.
+     */
+    @Test
+    public final void testPlan_Implant_OtherRole() {
+        final AdvancementPlanner planner; // Tested planner
+
+        planner = new AdvancementPlanner(
+                new LinearAdvancementCostCalculator(100, 100, 1),
+                Collections.<Ability> emptyList(),
+                Arrays.asList(getImplant("x", Role.STRIKER)), 3);
+
+        for (final AdvancementPlan plan : planner.plan(getPlayer(20))) {
+            Assert.assertNull(plan.getImplant());
+        }
+    }
+
+    /**
+     * Tests that with many abilities there is a plan for each number of
+     * abilities learnt, instead of one for each combination.
+     */
+    @Test
+    public final void testPlan_ManyAbilities_OnePerSize() {
+        final AdvancementPlanner    planner;   // Tested planner
+        final List<Ability>         abilities; // Candidate abilities
+        final List<AdvancementPlan> plans;     // Plans found
+
+        abilities = new ArrayList<>();
+        for (int i = 0; i < Long.SIZE; i++) {
+            abilities.add(new ImmutableAbility("ability" + i));
+        }
+
+        planner = new AdvancementPlanner(
+                new LinearAdvancementCostCalculator(100, 1, 100), abilities,
+                Collections.<Component> emptyList(), 3);
+
+        plans = planner.plan(getPlayer(Long.SIZE));
+
+        Assert.assertEquals(Long.SIZE + 1, plans.size());
+        Assert.assertEquals(Long.SIZE, plans.get(0).getAbilities().size());
+        Assert.assertTrue(plans.get(Long.SIZE).getAbilities().isEmpty());
+    }
+
+    /**
+     * Tests that without experience the only plan keeps the player as it is.
+     */
+    @Test
+    public final void testPlan_NoExperience_NoAdvancements() {
+        final AdvancementPlanner    planner; // Tested planner
+        final List<AdvancementPlan> plans;   // Plans found
+
+        planner = new AdvancementPlanner(
+                new LinearAdvancementCostCalculator(1, 1, 1),
+                Arrays.<Ability> asList(new ImmutableAbility("a")),
+                Collections.<Component> emptyList(), 3);
+
+        plans = planner.plan(getPlayer(0));
+
+        Assert.assertEquals(1, plans.size());
+        Assert.assertEquals((Integer) 0, plans.get(0).getRank());
+        Assert.assertTrue(plans.get(0).getAbilities().isEmpty());
+        Assert.assertEquals((Integer) 10, plans.get(0).getValoration());
+    }
+
+    /**
+     * Tests that abilities the player already has are not planned.
+     */
+    @Test
+    public final void testPlan_OwnedAbility_NotLearnt() {
+        final AdvancementPlanner           planner; // Tested planner
+        final DefaultAdvancementTeamPlayer player;  // Planned player
+        final Ability                      owned;   // Ability owned
+        final Ability                      other;   // Ability to learn
+        final List<AdvancementPlan>        plans;   // Plans found
+
+        owned = new ImmutableAbility("owned");
+        other = new ImmutableAbility("other");
+
+        planner = new AdvancementPlanner(
+                new LinearAdvancementCostCalculator(100, 5, 100),
+                Arrays.asList(owned, other),
+                Collections.<Component> emptyList(), 3);
+
+        player = getPlayer(5);
+        player.addAbility(owned);
+
+        plans = planner.plan(player);
+
+        Assert.assertEquals(2, plans.size());
+        Assert.assertEquals(Arrays.asList(other),
+                new ArrayList<>(plans.get(0).getAbilities()));
+        Assert.assertEquals((Integer) 0, plans.get(0).getUnspentExperience());
+        Assert.assertTrue(plans.get(1).getAbilities().isEmpty());
+    }
+
+    /**
+     * Tests that plans are sorted by valoration, which includes the ranks
+     * and implant, and that the plans dominated by another are discarded.
+     */
+    @Test
+    public final void testPlan_Sorted_Valoration() {
+        final AdvancementPlanner    planner; // Tested planner
+        final List<AdvancementPlan> plans;   // Plans found
+
+        planner = new AdvancementPlanner(
+                new LinearAdvancementCostCalculator(5, 5, 5),
+                Arrays.<Ability> asList(new ImmutableAbility("a")),
+                Arrays.asList(getImplant("x", Role.GUARD)), 3);
+
+        plans = planner.plan(getPlayer(5));
+
+        // The rank is dominated by the implant, which costs the same
+        Assert.assertEquals(3, plans.size());
+        Assert.assertEquals((Integer) 15, plans.get(0).getValoration());
+        Assert.assertEquals("x", plans.get(0).getImplant().getName());
+        Assert.assertEquals((Integer) 10, plans.get(1).getValoration());
+        Assert.assertEquals(1, plans.get(1).getAbilities().size());
+        Assert.assertEquals((Integer) 10, plans.get(2).getValoration());
+        Assert.assertEquals((Integer) 5, plans.get(2).getUnspentExperience());
+    }
+
+    /**
+     * Tests that team plans report the valoration after the best plans,
+     * without changing the team.
+     */
+    @Test
+    public final void testPlan_Team_Valoration() {
+        final AdvancementPlanner     planner; // Tested planner
+        final DefaultAdvancementTeam team;    // Planned team
+        final TeamAdvancementPlan    plan;    // Team plan
+
+        planner = new AdvancementPlanner(
+                new LinearAdvancementCostCalculator(5, 5, 5),
+                Collections.<Ability> emptyList(),
+                Collections.<Component> emptyList(), 3);
+
+        team = new DefaultAdvancementTeam(
+                new ImmutableTeamType("team", new ArrayList<TeamRule>()),
+                new AdvancementTeamValorationCalculator(0, 0, 0, 0));
+        team.addPlayer(getPlayer(15));
+        team.addPlayer(getPlayer(5));
+
+        plan = planner.plan(team,
+                new AdvancementTeamValorationCalculator(0, 0, 0, 0));
+
+        Assert.assertEquals((Integer) 20, plan.getCurrentValoration());
+        Assert.assertEquals((Integer) 26, plan.getPlannedValoration());
+        Assert.assertEquals((Integer) 2, plan.getBestPlans().get(1).getRank());
+        Assert.assertEquals((Integer) 1, plan.getBestPlans().get(2).getRank());
+        Assert.assertEquals((Integer) 0, team.getPlayers().get(1).getRank());
+    }
+
+    /**
+     * Returns an implant for the role.
+     * 
+     * @param name
+     *            name of the implant
+     * @param role
+     *            role supported by the implant
+     * @return an implant for the role
+     */
+    private final Component getImplant(final String name, final Role role) {
+        return new ImmutableComponent(name,
+                new ImmutableComponentLocation("implant"), 5,
+                Arrays.asList(role), new ImmutableAttributes(0, 0, 0, 0, 0),
+                new ArrayList<Ability>());
+    }
+
+    /**
+     * Returns a key identifying the outcome of the advancements.
+     * 
+     * @param valoration
+     *            valoration reached
+     * @param unspent
+     *            experience left
+     * @param learnt
+     *            number of abilities learnt
+     * @return a key identifying the outcome of the advancements
+     */
+    private final String getKey(final Integer valoration,
+            final Integer unspent, final Integer learnt) {
+        return valoration + "/" + unspent + "/" + learnt;
+    }
+
+    /**
+     * Returns a guard player at rank zero, with a cost of ten.
+     * 
+     * @param experience
+     *            unspent experience
+     * @return a guard player
+     */
+    private final DefaultAdvancementTeamPlayer
+            getPlayer(final Integer experience) {
+        final DefaultAdvancementTeamPlayer player; // Created player
+
+        player = new DefaultAdvancementTeamPlayer("guard", 10, Role.GUARD,
+                new ImmutableAttributes(4, 5, 4, 4, 4),
+                new ArrayList<Ability>(), false, false,
+                new AdvancementTeamPlayerValorationCalculator(2));
+        player.setRank(0);
+        player.setUnspentExperience(experience);
+
+        return player;
+    }
+
+    /**
+     * Indicates if the outcome of some advancements is dominated by another
+     * one, being no better in valoration, experience left and abilities
+     * learnt, and worse in one of them.
+     * 
+     * @param candidate
+     *            valoration, experience left and abilities learnt
+     * @param candidates
+     *            all the outcomes
+     * @return {@code true} if the outcome is dominated, {@code false}
+     *         otherwise
+     */
+    private final Boolean isDominated(final int[] candidate,
+            final List<int[]> candidates) {
+        Boolean dominated; // Flag for the result
+
+        dominated = false;
+        for (final int[] other : candidates) {
+            dominated |= (other[0] >= candidate[0])
+                    && (other[1] >= candidate[1]) && (other[2] >= candidate[2])
+                    && !Arrays.equals(other, candidate);
+        }
+
+        return dominated;
+    }
+
+}
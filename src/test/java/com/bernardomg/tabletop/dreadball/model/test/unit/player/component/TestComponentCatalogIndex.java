@@ -0,0 +1,178 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.player.component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.player.DefaultTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.component.Component;
+import com.bernardomg.tabletop.dreadball.model.player.component.ComponentCatalogIndex;
+import com.bernardomg.tabletop.dreadball.model.player.component.ComponentLocation;
+import com.bernardomg.tabletop.dreadball.model.player.component.ImmutableComponent;
+import com.bernardomg.tabletop.dreadball.model.player.component.ImmutableComponentLocation;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAttributes;
+
+/**
+ * Unit tests for {@link ComponentCatalogIndex}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestComponentCatalogIndex {
+
+    /**
+     * Arm location.
+     */
+    private final ComponentLocation arm  = new ImmutableComponentLocation(
+            "arm");
+
+    /**
+     * Head location.
+     */
+    private final ComponentLocation head = new ImmutableComponentLocation(
+            "head");
+
+    /**
+     * Default constructor.
+     */
+    public TestComponentCatalogIndex() {
+        super();
+    }
+
+    /**
+     * Tests that a location without compatible components returns an empty
+     * list.
+     */
+    @Test
+    public final void testGetComponents_NoneCompatible_Empty() {
+        Assert.assertTrue(
+                getIndex().getComponents(Role.KEEPER, head).isEmpty());
+        Assert.assertTrue(getIndex()
+                .getComponents(Role.GUARD, new ImmutableComponentLocation(
+                        "leg"))
+                .isEmpty());
+    }
+
+    /**
+     * Tests that the components are sorted by cost, and only include the
+     * compatible ones.
+     */
+    @Test
+    public final void testGetComponents_SortedByCost() {
+        final List<Component> components; // Indexed components
+
+        components = getIndex().getComponents(Role.GUARD, arm);
+
+        Assert.assertEquals((Integer) 2, (Integer) components.size());
+        Assert.assertEquals("cheap arm", components.get(0).getName());
+        Assert.assertEquals("big arm", components.get(1).getName());
+    }
+
+    /**
+     * Tests that the loadout options only include the locations with
+     * compatible components.
+     */
+    @Test
+    public final void testGetLoadoutOptions() {
+        final Map<ComponentLocation, List<Component>> options; // Options
+
+        options = getIndex().getLoadoutOptions(getPlayer(Role.STRIKER));
+
+        Assert.assertEquals((Integer) 1, (Integer) options.size());
+        Assert.assertEquals("eye", options.get(head).get(0).getName());
+    }
+
+    /**
+     * Tests that loadouts with repeated locations or incompatible components
+     * are not valid.
+     */
+    @Test
+    public final void testIsValidLoadout() {
+        final ComponentCatalogIndex index; // Tested index
+        final TeamPlayer player;           // Player to fit
+        final List<Component> arms;        // Arm components
+
+        index = getIndex();
+        player = getPlayer(Role.GUARD);
+        arms = index.getComponents(Role.GUARD, arm);
+
+        Assert.assertTrue(index.isValidLoadout(player, arms.subList(0, 1)));
+        Assert.assertFalse(index.isValidLoadout(player, arms));
+        Assert.assertFalse(index.isValidLoadout(player,
+                index.getComponents(Role.STRIKER, head)));
+    }
+
+    /**
+     * Returns a component with the specified data.
+     * 
+     * @param name
+     *            component name
+     * @param location
+     *            component location
+     * @param cost
+     *            component cost
+     * @param roles
+     *            supported roles
+     * @return a component with the specified data
+     */
+    private final Component getComponent(final String name,
+            final ComponentLocation location, final Integer cost,
+            final Role... roles) {
+        return new ImmutableComponent(name, location, cost,
+                Arrays.asList(roles), new ImmutableAttributes(0, 0, 0, 0, 0),
+                new ArrayList<Ability>());
+    }
+
+    /**
+     * Returns the tested index.
+     * 
+     * @return the tested index
+     */
+    private final ComponentCatalogIndex getIndex() {
+        final Collection<Component> catalog; // Indexed catalog
+
+        catalog = new ArrayList<>();
+        catalog.add(getComponent("big arm", arm, 20, Role.GUARD, Role.JACK));
+        catalog.add(getComponent("eye", head, 5, Role.STRIKER));
+        catalog.add(getComponent("cheap arm", arm, 10, Role.GUARD));
+
+        return new ComponentCatalogIndex(catalog);
+    }
+
+    /**
+     * Returns a player with the specified role.
+     * 
+     * @param role
+     *            role of the player
+     * @return a player with the specified role
+     */
+    private final TeamPlayer getPlayer(final Role role) {
+        return new DefaultTeamPlayer("template", 10, role,
+                new ImmutableAttributes(1, 2, 3, 4, 5), new ArrayList<Ability>(),
+                false, false);
+    }
+
+}
@@ -0,0 +1,239 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.player.component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.player.DefaultTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.component.Component;
+import com.bernardomg.tabletop.dreadball.model.player.component.ComponentCatalogIndex;
+import com.bernardomg.tabletop.dreadball.model.player.component.ComponentLocation;
+import com.bernardomg.tabletop.dreadball.model.player.component.ComponentScorer;
+import com.bernardomg.tabletop.dreadball.model.player.component.ImmutableComponent;
+import com.bernardomg.tabletop.dreadball.model.player.component.ImmutableComponentLocation;
+import com.bernardomg.tabletop.dreadball.model.player.component.Loadout;
+import com.bernardomg.tabletop.dreadball.model.player.component.LoadoutSolver;
+import com.bernardomg.tabletop.dreadball.model.player.component.WeightedComponentScorer;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAttributes;
+
+/**
+ * Unit tests for {@link LoadoutSolver}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestLoadoutSolver {
+
+    /**
+     * Scorer for the components, using only the strength.
+     */
+    private final ComponentScorer scorer = new WeightedComponentScorer(0, 0,
+            0, 0, 1, 0);
+
+    /**
+     * Default constructor.
+     */
+    public TestLoadoutSolver() {
+        super();
+    }
+
+    /**
+     * Tests that the best loadout inside the budget is chosen.
+     */
+    @Test
+    public final void testSolve_Budget() {
+        final ComponentLocation     arm;     // Arm location
+        final ComponentLocation     head;    // Head location
+        final Collection<Component> catalog; // Components
+        final Loadout               loadout; // Found loadout
+
+        arm = new ImmutableComponentLocation("arm");
+        head = new ImmutableComponentLocation("head");
+
+        catalog = new ArrayList<>();
+        catalog.add(getComponent("big arm", arm, 20, 5));
+        catalog.add(getComponent("small arm", arm, 5, 2));
+        catalog.add(getComponent("helmet", head, 10, 4));
+        catalog.add(getComponent("useless", head, 1, 0));
+
+        loadout = new LoadoutSolver(new ComponentCatalogIndex(catalog), scorer)
+                .solve(getPlayer(), 25);
+
+        Assert.assertEquals((Integer) 6, loadout.getScore());
+        Assert.assertEquals((Integer) 15, loadout.getCost());
+        Assert.assertEquals((Integer) 2,
+                (Integer) loadout.getComponents().size());
+    }
+
+    /**
+     * Tests that the solver finds the same score as an exhaustive search, in
+     * both modes.
+     */
+    @Test
+    public final void testSolve_MatchesExhaustive() {
+        final Random random;              // Random catalogs source
+        final ForkJoinPool pool;          // Pool for the parallel mode
+        List<List<Component>> catalog;    // Components by location
+        LoadoutSolver solver;             // Tested solver
+        Loadout loadout;                  // Sequential loadout
+        Loadout parallel;                 // Parallel loadout
+        Integer budget;                   // Loadout budget
+
+        random = new Random(42);
+        pool = new ForkJoinPool(2);
+        try {
+            for (int round = 0; round < 20; round++) {
+                catalog = getCatalog(random);
+                solver = new LoadoutSolver(
+                        new ComponentCatalogIndex(flatten(catalog)), scorer);
+                budget = random.nextInt(60);
+
+                loadout = solver.solve(getPlayer(), budget);
+                parallel = solver.solve(getPlayer(), budget, pool);
+
+                Assert.assertEquals(getBestScore(catalog, 0, budget),
+                        loadout.getScore());
+                Assert.assertEquals(loadout.getScore(), parallel.getScore());
+                Assert.assertEquals(loadout.getCost(), parallel.getCost());
+                Assert.assertTrue(loadout.getCost() <= budget);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Returns the components in all the locations.
+     * 
+     * @param catalog
+     *            components by location
+     * @return all the components
+     */
+    private final Collection<Component>
+            flatten(final List<List<Component>> catalog) {
+        final Collection<Component> components; // All the components
+
+        components = new ArrayList<>();
+        for (final List<Component> located : catalog) {
+            components.addAll(located);
+        }
+
+        return components;
+    }
+
+    /**
+     * Returns the best score for the locations, searching all the loadouts.
+     * 
+     * @param catalog
+     *            components by location
+     * @param location
+     *            first location to search
+     * @param budget
+     *            remaining budget
+     * @return the best score
+     */
+    private final Integer getBestScore(final List<List<Component>> catalog,
+            final int location, final int budget) {
+        Integer best; // Best score
+
+        if (location == catalog.size()) {
+            best = 0;
+        } else {
+            best = getBestScore(catalog, location + 1, budget);
+            for (final Component component : catalog.get(location)) {
+                if (component.getCost() <= budget) {
+                    best = Math.max(best,
+                            scorer.getScore(component) + getBestScore(catalog,
+                                    location + 1,
+                                    budget - component.getCost()));
+                }
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Returns a random catalog.
+     * 
+     * @param random
+     *            random numbers source
+     * @return a random catalog, by location
+     */
+    private final List<List<Component>> getCatalog(final Random random) {
+        final List<List<Component>> catalog;  // Components by location
+        List<Component>             located;  // Components for a location
+        ComponentLocation           location; // Current location
+
+        catalog = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            location = new ImmutableComponentLocation("location" + i);
+            located = new ArrayList<>();
+            for (int j = 0; j < 5; j++) {
+                located.add(getComponent("component" + i + "_" + j, location,
+                        random.nextInt(20), random.nextInt(10) - 2));
+            }
+            catalog.add(located);
+        }
+
+        return catalog;
+    }
+
+    /**
+     * Returns a component for guards.
+     * 
+     * @param name
+     *            component name
+     * @param location
+     *            component location
+     * @param cost
+     *            component cost
+     * @param strength
+     *            strength granted, which is its score
+     * @return a component for guards
+     */
+    private final Component getComponent(final String name,
+            final ComponentLocation location, final Integer cost,
+            final Integer strength) {
+        return new ImmutableComponent(name, location, cost,
+                Arrays.asList(Role.GUARD),
+                new ImmutableAttributes(0, 0, 0, 0, strength),
+                new ArrayList<Ability>());
+    }
+
+    /**
+     * Returns a guard player.
+     * 
+     * @return a guard player
+     */
+    private final TeamPlayer getPlayer() {
+        return new DefaultTeamPlayer("template", 10, Role.GUARD,
+                new ImmutableAttributes(1, 2, 3, 4, 5), new ArrayList<Ability>(),
+                false, false);
+    }
+
+}
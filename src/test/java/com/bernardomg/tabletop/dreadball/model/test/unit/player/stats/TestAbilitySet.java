@@ -0,0 +1,271 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.player.stats;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.AbilityRegistry;
+import com.bernardomg.tabletop.dreadball.model.player.stats.AbilitySet;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAbility;
+
+/**
+ * Unit tests for {@link AbilitySet}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestAbilitySet {
+
+    /**
+     * Default constructor.
+     */
+    public TestAbilitySet() {
+        super();
+    }
+
+    /**
+     * Tests that adding an ability twice doesn't change the set.
+     */
+    @Test
+    public final void testAdd_Repeated_NotAdded() {
+        final AbilitySet abilities; // Tested set
+
+        abilities = new AbilitySet();
+
+        Assert.assertTrue(abilities.add(new ImmutableAbility("jump")));
+        Assert.assertFalse(abilities.add(new ImmutableAbility("jump")));
+
+        Assert.assertEquals((Integer) 1, (Integer) abilities.size());
+        Assert.assertTrue(abilities.contains(new ImmutableAbility("jump")));
+    }
+
+    /**
+     * Tests that the containment check works both against other bitmask sets
+     * and against any other collection.
+     */
+    @Test
+    public final void testContainsAll() {
+        final AbilitySet abilities; // Tested set
+
+        abilities = getAbilities("jump", "dodge", "tough");
+
+        Assert.assertTrue(abilities.containsAll(getAbilities("tough", "jump")));
+        Assert.assertFalse(
+                abilities.containsAll(getAbilities("jump", "unknown")));
+        Assert.assertTrue(abilities.containsAll(
+                Arrays.asList(new ImmutableAbility("dodge"))));
+        Assert.assertFalse(abilities.containsAll(
+                Arrays.asList(new ImmutableAbility("unregistered"))));
+    }
+
+    /**
+     * Tests that equal instances, including deserialized ones, are found and
+     * share the registry index.
+     * 
+     * @throws Exception
+     *             never, as the abilities are serializable
+     */
+    @Test
+    public final void testContains_EqualInstances() throws Exception {
+        final AbilitySet abilities; // Tested set
+        final Ability    ability;   // Added ability
+        final Ability    equal;     // Equal ability
+        final Ability    read;      // Deserialized ability
+
+        abilities = new AbilitySet();
+        ability = new ImmutableAbility("jump");
+        abilities.add(ability);
+
+        equal = new ImmutableAbility("jump");
+        read = (Ability) serialize(ability);
+
+        Assert.assertTrue(abilities.contains(equal));
+        Assert.assertTrue(abilities.contains(read));
+        Assert.assertEquals(AbilityRegistry.getIndex(ability),
+                AbilityRegistry.getIndex(equal));
+        Assert.assertEquals(AbilityRegistry.getIndex(ability),
+                AbilityRegistry.getIndex(read));
+    }
+
+    /**
+     * Tests that sets are equal to other sets with the same abilities.
+     */
+    @Test
+    public final void testEquals() {
+        final AbilitySet abilities; // Tested set
+
+        abilities = getAbilities("jump", "dodge");
+
+        Assert.assertEquals(abilities, getAbilities("dodge", "jump"));
+        Assert.assertEquals(abilities, new HashSet<>(abilities));
+        Assert.assertEquals(new HashSet<>(abilities), abilities);
+        Assert.assertEquals(new HashSet<>(abilities).hashCode(),
+                abilities.hashCode());
+        Assert.assertNotEquals(abilities, getAbilities("jump"));
+    }
+
+    /**
+     * Tests that sets sharing an ability intersect.
+     */
+    @Test
+    public final void testIntersects() {
+        final AbilitySet abilities; // Tested set
+
+        abilities = getAbilities("jump", "dodge");
+
+        Assert.assertTrue(abilities.intersects(getAbilities("tough", "jump")));
+        Assert.assertFalse(abilities.intersects(getAbilities("tough")));
+    }
+
+    /**
+     * Tests that the abilities are iterated in insertion order.
+     */
+    @Test
+    public final void testIterator_InsertionOrder() {
+        final AbilitySet        abilities; // Tested set
+        final Iterator<Ability> itr;       // Abilities iterator
+
+        abilities = getAbilities("tough", "jump", "dodge");
+        abilities.remove(new ImmutableAbility("jump"));
+        abilities.add(new ImmutableAbility("jump"));
+
+        itr = abilities.iterator();
+
+        Assert.assertEquals("tough", itr.next().getName());
+        Assert.assertEquals("dodge", itr.next().getName());
+        Assert.assertEquals("jump", itr.next().getName());
+        Assert.assertFalse(itr.hasNext());
+    }
+
+    /**
+     * Tests that iterating returns the instances added to the set, and not
+     * those added to other sets.
+     */
+    @Test
+    public final void testIterator_OwnInstances() {
+        final AbilitySet abilities; // Tested set
+        final Ability    ability;   // Added ability
+
+        getAbilities("tough");
+
+        ability = new ImmutableAbility("tough");
+        abilities = new AbilitySet();
+        abilities.add(ability);
+
+        Assert.assertSame(ability, abilities.iterator().next());
+    }
+
+    /**
+     * Tests that abilities can be removed through the iterator.
+     */
+    @Test
+    public final void testIterator_Remove() {
+        final AbilitySet        abilities; // Tested set
+        final Iterator<Ability> itr;       // Abilities iterator
+
+        abilities = getAbilities("tough", "jump", "dodge");
+
+        itr = abilities.iterator();
+        itr.next();
+        itr.next();
+        itr.remove();
+
+        Assert.assertEquals(getAbilities("tough", "dodge"), abilities);
+        Assert.assertEquals("dodge", itr.next().getName());
+        Assert.assertFalse(itr.hasNext());
+    }
+
+    /**
+     * Tests that the abilities are kept after serializing the set.
+     * 
+     * @throws Exception
+     *             never, as the set is serializable
+     */
+    @Test
+    public final void testSerialize() throws Exception {
+        final AbilitySet abilities; // Tested set
+        final AbilitySet read;      // Deserialized set
+
+        abilities = getAbilities("tough", "jump");
+
+        read = (AbilitySet) serialize(abilities);
+
+        Assert.assertEquals(abilities, read);
+        Assert.assertEquals("tough", read.iterator().next().getName());
+    }
+
+    /**
+     * Returns a set with the abilities for the names.
+     * 
+     * @param names
+     *            names of the abilities
+     * @return a set with the abilities
+     */
+    private final AbilitySet getAbilities(final String... names) {
+        final AbilitySet abilities; // Created set
+
+        abilities = new AbilitySet();
+        for (final String name : names) {
+            abilities.add(new ImmutableAbility(name));
+        }
+
+        return abilities;
+    }
+
+    /**
+     * Serializes and deserializes the received object.
+     * 
+     * @param value
+     *            object to serialize
+     * @return the deserialized object
+     * @throws IOException
+     *             if the object can't be serialized
+     * @throws ClassNotFoundException
+     *             if the object can't be deserialized
+     */
+    private final Object serialize(final Object value)
+            throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream bytes; // Serialized object
+        final ObjectOutputStream output;   // Serialization stream
+        final ObjectInputStream input;     // Deserialization stream
+
+        bytes = new ByteArrayOutputStream();
+        output = new ObjectOutputStream(bytes);
+        output.writeObject(value);
+        output.close();
+
+        input = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()));
+
+        try {
+            return input.readObject();
+        } finally {
+            input.close();
+        }
+    }
+
+}
@@ -0,0 +1,154 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.ruleset;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.faction.DefaultSponsor;
+import com.bernardomg.tabletop.dreadball.model.ruleset.CostRule;
+import com.bernardomg.tabletop.dreadball.model.ruleset.CostRuleset;
+import com.bernardomg.tabletop.dreadball.model.ruleset.CostRulesetHolder;
+import com.bernardomg.tabletop.dreadball.model.team.DefaultSponsorTeam;
+import com.bernardomg.tabletop.dreadball.model.team.SponsorTeam;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CheckedCostCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CostCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.DefaultRankCostCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.OverflowPolicy;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.SponsorTeamValorationCalculator;
+
+/**
+ * Unit tests for {@link CostRulesetHolder}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestCostRulesetHolder {
+
+    /**
+     * Default constructor.
+     */
+    public TestCostRulesetHolder() {
+        super();
+    }
+
+    /**
+     * Tests that the calculators give the same results as those built from
+     * constructor arguments.
+     */
+    @Test
+    public final void testCost_SameAsConstructed() {
+        final CostRulesetHolder holder; // Tested holder
+        final SponsorTeam team;         // Valorated team
+
+        holder = new CostRulesetHolder(getRuleset(1));
+        team = getTeam(holder);
+
+        Assert.assertEquals(
+                new DefaultRankCostCalculator(1, 1, 1, 1, 1, 1).getCost(team),
+                team.getRankCost());
+        Assert.assertEquals(new SponsorTeamValorationCalculator(1, 1, 1, 1, 1,
+                1).getCost(team), team.getTotalCost());
+    }
+
+    /**
+     * Tests that the calculators can be checked for overflows, and the
+     * checked calculator follows the replaced ruleset.
+     */
+    @Test
+    public final void testSetRuleset_Checked_Reloaded() {
+        final CostRulesetHolder           holder;     // Tested holder
+        final SponsorTeam                 team;       // Valorated team
+        final CostCalculator<SponsorTeam> calculator; // Checked calculator
+
+        holder = new CostRulesetHolder(getRuleset(1));
+        team = getTeam(holder);
+        calculator = new CheckedCostCalculator<>(
+                holder.getSponsorTeamValorationCalculator(),
+                OverflowPolicy.FAIL);
+
+        Assert.assertEquals((Integer) 21, calculator.getCost(team));
+
+        holder.setRuleset(getRuleset(2));
+
+        Assert.assertEquals((Integer) 42, calculator.getCost(team));
+    }
+
+    /**
+     * Tests that replacing the ruleset changes the costs of the teams already
+     * using the calculators.
+     */
+    @Test
+    public final void testSetRuleset_Reloaded() {
+        final CostRulesetHolder holder; // Tested holder
+        final SponsorTeam team;         // Valorated team
+
+        holder = new CostRulesetHolder(getRuleset(1));
+        team = getTeam(holder);
+
+        Assert.assertEquals((Integer) 21, team.getRankCost());
+
+        holder.setRuleset(getRuleset(2));
+
+        Assert.assertEquals((Integer) 42, team.getRankCost());
+        Assert.assertEquals((Integer) 42, team.getTotalCost());
+    }
+
+    /**
+     * Returns a ruleset where all the rules have the same cost.
+     * 
+     * @param cost
+     *            cost for all the rules
+     * @return a ruleset with the same cost for all the rules
+     */
+    private final CostRuleset getRuleset(final Integer cost) {
+        final Map<CostRule, Integer> costs; // Costs for the rules
+
+        costs = new EnumMap<>(CostRule.class);
+        for (final CostRule rule : CostRule.values()) {
+            costs.put(rule, cost);
+        }
+
+        return new CostRuleset("ruleset", costs);
+    }
+
+    /**
+     * Returns a team using the holder calculators.
+     * 
+     * @param holder
+     *            holder with the calculators
+     * @return a team using the holder calculators
+     */
+    private final SponsorTeam getTeam(final CostRulesetHolder holder) {
+        final SponsorTeam team; // Created team
+
+        team = new DefaultSponsorTeam(new DefaultSponsor(),
+                holder.getSponsorTeamValorationCalculator(),
+                holder.getRankCostCalculator());
+        team.setCoachingDice(1);
+        team.setNastySurpriseCards(2);
+        team.setSpecialMoveCards(3);
+        team.setCheerleaders(4);
+        team.setWagers(5);
+        team.setMediBots(6);
+
+        return team;
+    }
+
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.ruleset;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.ruleset.CostRule;
+import com.bernardomg.tabletop.dreadball.model.ruleset.CostRuleset;
+import com.bernardomg.tabletop.dreadball.model.ruleset.CostRulesetReader;
+
+/**
+ * Unit tests for {@link CostRulesetReader}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestCostRulesetReader {
+
+    /**
+     * Default constructor.
+     */
+    public TestCostRulesetReader() {
+        super();
+    }
+
+    /**
+     * Tests that a complete ruleset file is read.
+     * 
+     * @throws IOException
+     *             never, as the file exists
+     */
+    @Test
+    public final void testRead() throws IOException {
+        final CostRuleset ruleset; // Read ruleset
+
+        try (final InputStream input = getClass().getClassLoader()
+                .getResourceAsStream("rulesets/dreadball.properties")) {
+            ruleset = new CostRulesetReader().read(input);
+        }
+
+        Assert.assertEquals("Dreadball", ruleset.getName());
+        Assert.assertEquals((Integer) 10,
+                ruleset.getCost(CostRule.SPONSOR_DIE));
+        Assert.assertEquals((Integer) 6,
+                ruleset.getCost(CostRule.RANK_MEDIBOT));
+        Assert.assertEquals((Integer) 5,
+                ruleset.getCost(CostRule.PLAYER_RANK));
+    }
+
+    /**
+     * Tests that a ruleset file missing a rule is rejected.
+     * 
+     * @throws IOException
+     *             never, as the file exists
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testRead_MissingRule() throws IOException {
+        try (final InputStream input = getClass().getClassLoader()
+                .getResourceAsStream("rulesets/missing.properties")) {
+            new CostRulesetReader().read(input);
+        }
+    }
+
+}
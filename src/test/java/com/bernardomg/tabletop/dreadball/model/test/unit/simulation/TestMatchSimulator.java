@@ -0,0 +1,196 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.simulation;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.player.DefaultTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAbility;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAttributes;
+import com.bernardomg.tabletop.dreadball.model.simulation.ActionTest;
+import com.bernardomg.tabletop.dreadball.model.simulation.MatchSimulator;
+import com.bernardomg.tabletop.dreadball.model.simulation.SimulationResult;
+import com.bernardomg.tabletop.dreadball.model.team.AbstractTeam;
+
+/**
+ * Unit tests for {@link MatchSimulator}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestMatchSimulator {
+
+    /**
+     * Default constructor.
+     */
+    public TestMatchSimulator() {
+        super();
+    }
+
+    /**
+     * Tests that abilities giving a bonus to strikes make the team score
+     * more points.
+     */
+    @Test
+    public final void testSimulate_Abilities_MorePoints() {
+        final Map<Ability, ActionTest> bonuses; // Ability bonuses
+        final Ability                  ability; // Ability with a bonus
+        final AbstractTeam<TeamPlayer> team;    // Team with the ability
+        final SimulationResult         without; // Result without bonuses
+        final SimulationResult         with;    // Result with bonuses
+
+        ability = new ImmutableAbility("sure_strike");
+        bonuses = new HashMap<>();
+        bonuses.put(ability, ActionTest.STRIKE);
+
+        team = getTeam(5, ability);
+
+        without = new MatchSimulator(7,
+                Collections.<Ability, ActionTest> emptyMap())
+                        .simulate(team, getTeam(5, null), 20000L, 1L);
+        with = new MatchSimulator(7, bonuses).simulate(team,
+                getTeam(5, null), 20000L, 1L);
+
+        Assert.assertTrue(with.getAverageHomePoints() > without
+                .getAverageHomePoints());
+    }
+
+    /**
+     * Tests that a team without players can't score nor stop the other team.
+     */
+    @Test
+    public final void testSimulate_EmptyTeam_Loses() {
+        final SimulationResult result; // Tested result
+
+        result = getSimulator().simulate(getTeam(4, null),
+                new AbstractTeam<TeamPlayer>() {}, 1000L, 1L);
+
+        Assert.assertEquals((Long) 0L, result.getAwayWins());
+        Assert.assertEquals((Double) 0.0, result.getAverageAwayPoints());
+        Assert.assertTrue(result.getAverageHomePoints() > 0);
+    }
+
+    /**
+     * Tests that simulating in parallel gives the same result as simulating
+     * sequentially with the same seed.
+     */
+    @Test
+    public final void testSimulate_Parallel_SameResult() {
+        final MatchSimulator   simulator;  // Tested simulator
+        final SimulationResult sequential; // Sequential result
+        final SimulationResult parallel;   // Parallel result
+        final ForkJoinPool     pool;       // Pool for the simulation
+
+        simulator = getSimulator();
+        pool = new ForkJoinPool(4);
+
+        try {
+            sequential = simulator.simulate(getTeam(4, null),
+                    getTeam(5, null), 50000L, 42L);
+            parallel = simulator.simulate(getTeam(4, null), getTeam(5, null),
+                    50000L, 42L, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        Assert.assertEquals(sequential, parallel);
+        Assert.assertEquals((Long) 50000L, parallel.getTrials());
+    }
+
+    /**
+     * Tests that the probabilities of all the outcomes add up to one.
+     */
+    @Test
+    public final void testSimulate_Probabilities_AddUp() {
+        final SimulationResult result; // Tested result
+
+        result = getSimulator().simulate(getTeam(4, null), getTeam(4, null),
+                10000L, 7L);
+
+        Assert.assertEquals(1.0,
+                result.getHomeWinProbability()
+                        + result.getAwayWinProbability()
+                        + result.getDrawProbability(),
+                0.000001);
+    }
+
+    /**
+     * Tests that the team with better attributes wins more often.
+     */
+    @Test
+    public final void testSimulate_Stronger_WinsMore() {
+        final SimulationResult result; // Tested result
+
+        result = getSimulator().simulate(getTeam(5, null), getTeam(3, null),
+                20000L, 3L);
+
+        Assert.assertTrue(result.getAwayWinProbability() > result
+                .getHomeWinProbability());
+    }
+
+    /**
+     * Returns a simulator without ability bonuses.
+     * 
+     * @return a simulator without ability bonuses
+     */
+    private final MatchSimulator getSimulator() {
+        return new MatchSimulator(7,
+                Collections.<Ability, ActionTest> emptyMap());
+    }
+
+    /**
+     * Returns a team with a player for each role, all of them with the same
+     * test values.
+     * 
+     * @param value
+     *            value for the tests of all the players
+     * @param ability
+     *            ability for the players, or {@code null} for none
+     * @return a team with a player for each role
+     */
+    private final AbstractTeam<TeamPlayer> getTeam(final Integer value,
+            final Ability ability) {
+        final AbstractTeam<TeamPlayer> team;      // Created team
+        final Collection<Ability>      abilities; // Player abilities
+
+        if (ability == null) {
+            abilities = Collections.emptyList();
+        } else {
+            abilities = Arrays.asList(ability);
+        }
+
+        team = new AbstractTeam<TeamPlayer>() {};
+        for (final Role role : Role.values()) {
+            team.addPlayer(new DefaultTeamPlayer(role.name(), 0, role,
+                    new ImmutableAttributes(value, 6, value, value, value),
+                    abilities, false, false));
+        }
+
+        return team;
+    }
+
+}
@@ -0,0 +1,317 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.team;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.player.DefaultTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAttributes;
+import com.bernardomg.tabletop.dreadball.model.team.AbstractTeam;
+import com.bernardomg.tabletop.dreadball.model.team.TeamBatch;
+import com.bernardomg.tabletop.dreadball.model.team.TeamPlayerVisitor;
+import com.bernardomg.tabletop.dreadball.model.team.event.TeamChange;
+import com.bernardomg.tabletop.dreadball.model.team.event.TeamChangeEvent;
+import com.bernardomg.tabletop.dreadball.model.team.event.TeamChangeListener;
+
+/**
+ * Unit tests for the indexed access and batches of {@link AbstractTeam}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestAbstractTeam {
+
+    /**
+     * Default constructor.
+     */
+    public TestAbstractTeam() {
+        super();
+    }
+
+    /**
+     * Tests that automatic positions fill the first gap.
+     */
+    @Test
+    public final void testAddPlayer_AutoPos_FillsGap() {
+        final AbstractTeam<TeamPlayer> team; // Tested team
+
+        team = getTeam();
+        team.addPlayer(getPlayer("p1"), 1);
+        team.addPlayer(getPlayer("p3"), 3);
+        team.addPlayer(getPlayer("p2"));
+        team.addPlayer(getPlayer("p4"));
+
+        Assert.assertEquals("p2", team.getPlayers().get(2).getName());
+        Assert.assertEquals("p4", team.getPlayers().get(4).getName());
+    }
+
+    /**
+     * Tests that closing the batch handle commits the batch.
+     */
+    @Test
+    public final void testBeginBatch_Close_Commits() {
+        final AbstractTeam<TeamPlayer> team; // Tested team
+        final long version;                  // Initial version
+
+        team = getTeam();
+        version = team.getVersion();
+
+        try (final TeamBatch batch = team.beginBatch()) {
+            team.setCheerleaders(2);
+            team.setCoachingDice(3);
+
+            Assert.assertTrue(team.isInBatch());
+        }
+
+        Assert.assertFalse(team.isInBatch());
+        Assert.assertEquals(version + 1, team.getVersion());
+    }
+
+    /**
+     * Tests that closing the batch handle twice only commits the batch once.
+     */
+    @Test
+    public final void testBeginBatch_CloseTwice_CommitsOnce() {
+        final AbstractTeam<TeamPlayer> team;  // Tested team
+        final TeamBatch                outer; // Outer batch
+
+        team = getTeam();
+
+        outer = team.beginBatch();
+        try (final TeamBatch inner = team.beginBatch()) {
+            team.setCheerleaders(2);
+            inner.close();
+        }
+
+        Assert.assertTrue(team.isInBatch());
+
+        outer.close();
+
+        Assert.assertFalse(team.isInBatch());
+    }
+
+    /**
+     * Tests that a batch advances the version only once, when committed.
+     */
+    @Test
+    public final void testCommitBatch_VersionOnce() {
+        final AbstractTeam<TeamPlayer> team; // Tested team
+        final long version;                  // Initial version
+
+        team = getTeam();
+        version = team.getVersion();
+
+        team.beginBatch();
+        team.addPlayer(getPlayer("p1"));
+        team.addPlayer(getPlayer("p2"));
+        team.beginBatch();
+        team.setCheerleaders(2);
+        team.commitBatch();
+        team.setCoachingDice(3);
+
+        Assert.assertEquals(version, team.getVersion());
+        Assert.assertTrue(team.isInBatch());
+
+        team.commitBatch();
+
+        Assert.assertEquals(version + 1, team.getVersion());
+        Assert.assertFalse(team.isInBatch());
+        Assert.assertEquals((Integer) 2, (Integer) team.getPlayerCount());
+    }
+
+    /**
+     * Tests that committing without a batch open fails.
+     */
+    @Test(expected = IllegalStateException.class)
+    public final void testCommitBatch_NoBatch_Exception() {
+        getTeam().commitBatch();
+    }
+
+    /**
+     * Tests that the players are visited sorted by position.
+     */
+    @Test
+    public final void testForEachPlayer_Sorted() {
+        final AbstractTeam<TeamPlayer> team; // Tested team
+        final List<Integer> positions;       // Visited positions
+
+        team = getTeam();
+        team.addPlayer(getPlayer("p3"), 3);
+        team.addPlayer(getPlayer("p1"), 1);
+        team.addPlayer(getPlayer("p2"), 2);
+
+        positions = new ArrayList<>();
+        team.forEachPlayer(new TeamPlayerVisitor<TeamPlayer>() {
+
+            @Override
+            public final void visit(final int position,
+                    final TeamPlayer player) {
+                positions.add(position);
+                Assert.assertEquals("p" + position, player.getName());
+            }
+
+        });
+
+        Assert.assertEquals((Integer) 3, (Integer) positions.size());
+        Assert.assertEquals((Integer) 1, positions.get(0));
+        Assert.assertEquals((Integer) 2, positions.get(1));
+        Assert.assertEquals((Integer) 3, positions.get(2));
+    }
+
+    /**
+     * Tests that the indexed access and the players map agree after adding,
+     * replacing and removing players.
+     */
+    @Test
+    public final void testGetPlayerAt_MatchesMap() {
+        final AbstractTeam<TeamPlayer> team; // Tested team
+
+        team = getTeam();
+        for (int i = 1; i <= 40; i++) {
+            team.addPlayer(getPlayer("p" + i));
+        }
+        team.removePlayer(10);
+        team.removePlayer(20);
+        team.addPlayer(getPlayer("other"), 20);
+        team.removePlayer(99);
+
+        Assert.assertEquals((Integer) team.getPlayers().size(),
+                (Integer) team.getPlayerCount());
+        for (int i = 0; i < team.getPlayerCount(); i++) {
+            Assert.assertSame(team.getPlayers().get(team.getPositionAt(i)),
+                    team.getPlayerAt(i));
+        }
+        Assert.assertEquals("other", team.getPlayerAt(18).getName());
+    }
+
+    /**
+     * Tests that the players map view is reused between calls.
+     */
+    @Test
+    public final void testGetPlayers_SameView() {
+        final AbstractTeam<TeamPlayer> team; // Tested team
+
+        team = getTeam();
+
+        Assert.assertSame(team.getPlayers(), team.getPlayers());
+    }
+
+    /**
+     * Tests that marking a missing player as changed fails.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testMarkPlayerChanged_Missing_Exception() {
+        getTeam().markPlayerChanged(1);
+    }
+
+    /**
+     * Tests that marking a player as changed notifies the listeners.
+     */
+    @Test
+    public final void testMarkPlayerChanged_Notifies() {
+        final AbstractTeam<TeamPlayer> team; // Tested team
+        final List<TeamChangeEvent> events;  // Received events
+
+        team = getTeam();
+        team.addPlayer(getPlayer("p1"), 1);
+
+        events = new ArrayList<>();
+        team.addChangeListener(new TeamChangeListener() {
+
+            @Override
+            public final void onChange(final TeamChangeEvent event) {
+                events.add(event);
+            }
+
+        });
+
+        team.markPlayerChanged(1);
+
+        Assert.assertEquals(1, events.size());
+        Assert.assertEquals(EnumSet.of(TeamChange.PLAYERS),
+                events.get(0).getChanges());
+    }
+
+    /**
+     * Tests that moving a player into a taken position swaps both players.
+     */
+    @Test
+    public final void testMovePlayer_Taken_Swaps() {
+        final AbstractTeam<TeamPlayer> team; // Tested team
+        final long version;                  // Initial version
+
+        team = getTeam();
+        team.addPlayer(getPlayer("p1"), 1);
+        team.addPlayer(getPlayer("p2"), 2);
+        version = team.getVersion();
+
+        team.movePlayer(1, 2);
+
+        Assert.assertEquals("p1", team.getPlayers().get(2).getName());
+        Assert.assertEquals("p2", team.getPlayers().get(1).getName());
+        Assert.assertEquals("p2", team.getPlayerAt(0).getName());
+        Assert.assertEquals(version + 1, team.getVersion());
+    }
+
+    /**
+     * Tests that moving a player into a free position leaves the old one
+     * empty.
+     */
+    @Test
+    public final void testMovePlayer_Free() {
+        final AbstractTeam<TeamPlayer> team; // Tested team
+
+        team = getTeam();
+        team.addPlayer(getPlayer("p1"), 1);
+
+        team.movePlayer(1, 5);
+
+        Assert.assertNull(team.getPlayers().get(1));
+        Assert.assertEquals("p1", team.getPlayers().get(5).getName());
+        Assert.assertEquals(5, team.getPositionAt(0));
+    }
+
+    /**
+     * Returns a player with the specified name.
+     * 
+     * @param name
+     *            name of the player
+     * @return a player with the specified name
+     */
+    private final TeamPlayer getPlayer(final String name) {
+        return new DefaultTeamPlayer(name, "template", 10, Role.GUARD,
+                new ImmutableAttributes(1, 2, 3, 4, 5), new ArrayList<Ability>(),
+                false, false);
+    }
+
+    /**
+     * Returns an empty team.
+     * 
+     * @return an empty team
+     */
+    private final AbstractTeam<TeamPlayer> getTeam() {
+        return new AbstractTeam<TeamPlayer>() {};
+    }
+
+}
@@ -16,12 +16,19 @@
 
 package com.bernardomg.tabletop.dreadball.model.test.unit.team;
 
+import java.util.ArrayList;
+
 import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mockito;
 
 import com.bernardomg.tabletop.dreadball.model.faction.TeamType;
 import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.DefaultAdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayerValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.MutableAttributes;
 import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
 import com.bernardomg.tabletop.dreadball.model.team.DefaultAdvancementTeam;
 import com.bernardomg.tabletop.dreadball.model.team.calculator.CostCalculator;
@@ -214,6 +221,89 @@ public final void testAddPlayer_Position_Overwrite() {
                 team.getPlayers().values().iterator().next() == player2);
     }
 
+    /**
+     * Tests that a copy keeps the team values, while its players can be
+     * changed without changing the original team.
+     */
+    @SuppressWarnings("unchecked")
+    @Test
+    public final void testCopy_Players_Independent() {
+        final DefaultAdvancementTeam team;         // Copied team
+        final DefaultAdvancementTeam copy;         // Tested copy
+        final DefaultAdvancementTeamPlayer player; // Team player
+        final TeamType type;                       // Mocked team type
+        final CostCalculator<AdvancementTeam> calculator; // Mocked
+                                                          // calculator
+
+        type = Mockito.mock(TeamType.class);
+
+        calculator = Mockito.mock(CostCalculator.class);
+
+        team = new DefaultAdvancementTeam(type, calculator);
+        team.setName("team");
+        team.setCash(10);
+        team.setCheerleaders(2);
+
+        player = new DefaultAdvancementTeamPlayer("name", 0, Role.GUARD,
+                new MutableAttributes(), new ArrayList<Ability>(), false,
+                false, Mockito.mock(TeamPlayerValorationCalculator.class));
+        player.setRank(1);
+        team.addPlayer(player, 3);
+
+        copy = new DefaultAdvancementTeam(team);
+        copy.getPlayers().get(3).setRank(2);
+        copy.removePlayer(3);
+
+        Assert.assertEquals("team", copy.getName());
+        Assert.assertEquals((Integer) 10, copy.getCash());
+        Assert.assertEquals((Integer) 2, copy.getCheerleaders());
+        Assert.assertEquals(type, copy.getTeamType());
+        Assert.assertEquals(1, team.getPlayers().size());
+        Assert.assertEquals((Integer) 1, player.getRank());
+        Assert.assertTrue(copy.getPlayers().isEmpty());
+    }
+
+    /**
+     * Tests that a copy receives copies of the players, at the same
+     * positions.
+     */
+    @SuppressWarnings("unchecked")
+    @Test
+    public final void testCopy_Players_Positions() {
+        final DefaultAdvancementTeam team;          // Copied team
+        final DefaultAdvancementTeam copy;          // Tested copy
+        final DefaultAdvancementTeamPlayer player1; // Team player 1
+        final DefaultAdvancementTeamPlayer player2; // Team player 2
+        final TeamType type;                        // Mocked team type
+        final CostCalculator<AdvancementTeam> calculator; // Mocked
+                                                          // calculator
+
+        type = Mockito.mock(TeamType.class);
+
+        calculator = Mockito.mock(CostCalculator.class);
+
+        team = new DefaultAdvancementTeam(type, calculator);
+
+        player1 = new DefaultAdvancementTeamPlayer("name", 0, Role.GUARD,
+                new MutableAttributes(), new ArrayList<Ability>(), false,
+                false, Mockito.mock(TeamPlayerValorationCalculator.class));
+        player2 = new DefaultAdvancementTeamPlayer("name", 0, Role.JACK,
+                new MutableAttributes(), new ArrayList<Ability>(), false,
+                false, Mockito.mock(TeamPlayerValorationCalculator.class));
+        team.addPlayer(player2, 5);
+        team.addPlayer(player1, 2);
+
+        copy = new DefaultAdvancementTeam(team);
+
+        Assert.assertEquals(2, copy.getPlayerCount());
+        Assert.assertEquals(2, copy.getPositionAt(0));
+        Assert.assertEquals(5, copy.getPositionAt(1));
+        Assert.assertEquals(Role.GUARD, copy.getPlayerAt(0).getRole());
+        Assert.assertEquals(Role.JACK, copy.getPlayers().get(5).getRole());
+        Assert.assertTrue(copy.getPlayerAt(0) != player1);
+        Assert.assertTrue(copy.getPlayers().get(5) == copy.getPlayerAt(1));
+    }
+
     /**
      * Tests that removing a player works as expected.
      */
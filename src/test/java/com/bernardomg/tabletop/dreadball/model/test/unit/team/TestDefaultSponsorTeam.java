@@ -16,13 +16,21 @@
 
 package com.bernardomg.tabletop.dreadball.model.test.unit.team;
 
+import java.util.ArrayList;
+
 import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Matchers;
 import org.mockito.Mockito;
 
+import com.bernardomg.tabletop.dreadball.model.faction.DefaultSponsor;
 import com.bernardomg.tabletop.dreadball.model.faction.Sponsor;
+import com.bernardomg.tabletop.dreadball.model.player.DefaultTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.Role;
 import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.AffinityGroup;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAttributes;
 import com.bernardomg.tabletop.dreadball.model.team.DefaultSponsorTeam;
 import com.bernardomg.tabletop.dreadball.model.team.SponsorTeam;
 import com.bernardomg.tabletop.dreadball.model.team.calculator.CostCalculator;
@@ -231,6 +239,73 @@ public final void testAddPlayer_Position_Overwrite() {
                 team.getPlayers().values().iterator().next() == player2);
     }
 
+    /**
+     * Tests that a copy receives its own players.
+     */
+    @SuppressWarnings("unchecked")
+    @Test
+    public final void testCopy_Players_Independent() {
+        final DefaultSponsorTeam team;  // Copied team
+        final DefaultSponsorTeam copy;  // Tested copy
+        final DefaultTeamPlayer player; // Copied player
+        final CostCalculator<SponsorTeam> calculator; // Mocked
+                                                      // calculator
+        final CostCalculator<SponsorTeam> ranker; // Mocked rank calculator
+
+        calculator = Mockito.mock(CostCalculator.class);
+        ranker = Mockito.mock(CostCalculator.class);
+
+        player = new DefaultTeamPlayer("player", "template", 10, Role.JACK,
+                new ImmutableAttributes(1, 2, 3, 4, 5),
+                new ArrayList<Ability>(), false, false);
+
+        team = new DefaultSponsorTeam(new DefaultSponsor(), calculator,
+                ranker);
+        team.addPlayer(player);
+
+        copy = new DefaultSponsorTeam(team);
+        ((DefaultTeamPlayer) copy.getPlayers().get(1)).setName("renamed");
+
+        Assert.assertEquals("player", player.getName());
+        Assert.assertEquals("renamed", copy.getPlayers().get(1).getName());
+        Assert.assertSame(player.getTemplate(),
+                ((DefaultTeamPlayer) copy.getPlayers().get(1)).getTemplate());
+    }
+
+    /**
+     * Tests that a copy receives its own sponsor and affinity groups.
+     */
+    @SuppressWarnings("unchecked")
+    @Test
+    public final void testCopy_Sponsor_Independent() {
+        final DefaultSponsorTeam team; // Copied team
+        final DefaultSponsorTeam copy; // Tested copy
+        final DefaultSponsor sponsor;  // Team sponsor
+        final CostCalculator<SponsorTeam> calculator; // Mocked
+                                                      // calculator
+        final CostCalculator<SponsorTeam> ranker; // Mocked rank calculator
+
+        sponsor = new DefaultSponsor();
+        sponsor.setRank(5);
+
+        calculator = Mockito.mock(CostCalculator.class);
+        ranker = Mockito.mock(CostCalculator.class);
+
+        team = new DefaultSponsorTeam(sponsor, calculator, ranker);
+        team.setWagers(2);
+        team.addAdditionalAffinityGroup(Mockito.mock(AffinityGroup.class));
+
+        copy = new DefaultSponsorTeam(team);
+        copy.getSponsor().setRank(6);
+        copy.clearAdditionalAffinityGroups();
+
+        Assert.assertEquals((Integer) 5, team.getSponsor().getRank());
+        Assert.assertEquals((Integer) 6, copy.getSponsor().getRank());
+        Assert.assertTrue(
+                team.getAdditionalAffinityGroups().iterator().hasNext());
+        Assert.assertEquals((Integer) 2, copy.getWagers());
+    }
+
     /**
      * Tests that the base rank is calculated correctly.
      */
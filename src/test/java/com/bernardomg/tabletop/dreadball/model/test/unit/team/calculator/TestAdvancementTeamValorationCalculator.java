@@ -26,7 +26,9 @@
 import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
 import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
 import com.bernardomg.tabletop.dreadball.model.team.calculator.AdvancementTeamValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CostBreakdown;
 import com.bernardomg.tabletop.dreadball.model.team.calculator.CostCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.TeamAsset;
 
 /**
  * Unit tests for {@link TeamValorationCalculator} applied to a
@@ -77,4 +79,48 @@ public final void testValoration() {
         Assert.assertEquals(calculator.getCost(team), (Integer) 35);
     }
 
+    /**
+     * Tests that the valoration breakdown is calculated correctly.
+     */
+    @Test
+    public final void testValoration_Breakdown() {
+        final AdvancementTeamValorationCalculator calculator; // Tested class
+        final CostBreakdown breakdown;                     // Breakdown
+        final AdvancementTeam team;                        // Team to valorate
+        final Map<Integer, AdvancementTeamPlayer> players; // Team players
+        final AdvancementTeamPlayer player;                // Mocked player
+
+        // Mocks team
+        team = Mockito.mock(AdvancementTeam.class);
+        Mockito.when(team.getCash()).thenReturn(7);
+        Mockito.when(team.getCoachingDice()).thenReturn(2);
+        Mockito.when(team.getDreadballCards()).thenReturn(4);
+        Mockito.when(team.getCheerleaders()).thenReturn(1);
+        Mockito.when(team.getDefensiveCoachingStaff()).thenReturn(true);
+        Mockito.when(team.getOffensiveCoachingStaff()).thenReturn(false);
+        Mockito.when(team.getSupportCoachingStaff()).thenReturn(true);
+
+        // Mocks players
+        players = new HashMap<>();
+        player = Mockito.mock(AdvancementTeamPlayer.class);
+        Mockito.when(player.getValoration()).thenReturn(10);
+        players.put(1, player);
+
+        Mockito.when(team.getPlayers()).thenReturn(players);
+
+        // Creates calculator
+        calculator = new AdvancementTeamValorationCalculator(1, 2, 3, 4);
+
+        breakdown = new CostBreakdown(0);
+        calculator.getCostBreakdown(team, breakdown);
+
+        Assert.assertEquals(38, breakdown.getTotal());
+        Assert.assertEquals(7, breakdown.getAssetCost(TeamAsset.CASH));
+        Assert.assertEquals(0,
+                breakdown.getAssetCost(TeamAsset.OFFENSIVE_COACHING_STAFF));
+        Assert.assertEquals(4,
+                breakdown.getAssetCost(TeamAsset.SUPPORT_COACHING_STAFF));
+        Assert.assertEquals(10, breakdown.getPlayerCost(0));
+    }
+
 }
@@ -0,0 +1,257 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.team.calculator;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.faction.DefaultSponsor;
+import com.bernardomg.tabletop.dreadball.model.faction.ImmutableTeamType;
+import com.bernardomg.tabletop.dreadball.model.faction.TeamRule;
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayerValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.player.DefaultAdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.DefaultTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAttributes;
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+import com.bernardomg.tabletop.dreadball.model.team.DefaultAdvancementTeam;
+import com.bernardomg.tabletop.dreadball.model.team.DefaultSponsorTeam;
+import com.bernardomg.tabletop.dreadball.model.team.SponsorTeam;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.AdvancementTeamValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CheckedCostCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CostCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.OverflowPolicy;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.SponsorTeamValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.WideCostCalculator;
+
+/**
+ * Property based tests for {@link CheckedCostCalculator}.
+ * <p>
+ * Random teams, using extreme values, are valorated and the results compared
+ * against an arbitrary precision calculation.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestCheckedCostCalculator {
+
+    /**
+     * Number of random cases to check.
+     */
+    private static final int CASES = 5000;
+
+    /**
+     * Default constructor.
+     */
+    public TestCheckedCostCalculator() {
+        super();
+    }
+
+    /**
+     * Tests that an advancement player valoration which overflows is
+     * saturated, instead of wrapping around.
+     */
+    @Test
+    public final void testValoration_AdvancementPlayer_Overflow() {
+        final AdvancementTeamValorationCalculator wide;      // Wide calculator
+        final CostCalculator<AdvancementTeam>     saturated; // Saturating
+        final AdvancementTeam                     team;      // Valorated team
+        final AdvancementTeamPlayer               player;    // Valorated player
+
+        wide = new AdvancementTeamValorationCalculator(0, 0, 0, 0);
+        saturated = new CheckedCostCalculator<>(wide, OverflowPolicy.SATURATE);
+
+        team = new DefaultAdvancementTeam(
+                new ImmutableTeamType("type", new ArrayList<TeamRule>()),
+                wide);
+
+        // The player valoration wraps around to a negative value
+        player = new DefaultAdvancementTeamPlayer("template",
+                Integer.MAX_VALUE, Role.JACK,
+                new ImmutableAttributes(0, 0, 0, 0, 0), new ArrayList<Ability>(),
+                false, false, new AdvancementTeamPlayerValorationCalculator(1));
+        player.setRank(1);
+        team.addPlayer(player, 1);
+
+        Assert.assertEquals((Integer) Integer.MAX_VALUE,
+                saturated.getCost(team));
+    }
+
+    /**
+     * Tests that the checked calculator fails, saturates or returns the exact
+     * valoration as expected for random teams.
+     */
+    @Test
+    public final void testValoration_RandomTeams() {
+        final Random random; // Random generator
+        final int[] costs;   // Asset costs
+        SponsorTeam team;    // Team to valorate
+        WideCostCalculator<SponsorTeam> wide;  // Wide calculator
+        CostCalculator<SponsorTeam> failing;   // Failing calculator
+        CostCalculator<SponsorTeam> saturated; // Saturating calculator
+        BigInteger expected; // Exact valoration
+
+        random = new Random(42);
+        costs = new int[6];
+        for (int i = 0; i < CASES; i++) {
+            for (int j = 0; j < costs.length; j++) {
+                costs[j] = getValue(random);
+            }
+
+            wide = new SponsorTeamValorationCalculator(costs[0], costs[1],
+                    costs[2], costs[3], costs[4], costs[5]);
+            failing = new CheckedCostCalculator<>(wide, OverflowPolicy.FAIL);
+            saturated = new CheckedCostCalculator<>(wide,
+                    OverflowPolicy.SATURATE);
+
+            team = getTeam(random, wide);
+            expected = getExpected(team, costs);
+
+            if (expected.bitLength() < Integer.SIZE) {
+                Assert.assertEquals((Integer) expected.intValue(),
+                        failing.getCost(team));
+                Assert.assertEquals((Integer) expected.intValue(),
+                        saturated.getCost(team));
+            } else {
+                assertFails(failing, team);
+                if (expected.signum() > 0) {
+                    Assert.assertEquals((Integer) Integer.MAX_VALUE,
+                            saturated.getCost(team));
+                } else {
+                    Assert.assertEquals((Integer) Integer.MIN_VALUE,
+                            saturated.getCost(team));
+                }
+            }
+        }
+    }
+
+    /**
+     * Asserts that the calculator throws an {@code ArithmeticException}.
+     * 
+     * @param calculator
+     *            calculator to check
+     * @param team
+     *            team to valorate
+     */
+    private final void assertFails(final CostCalculator<SponsorTeam> calculator,
+            final SponsorTeam team) {
+        try {
+            calculator.getCost(team);
+            Assert.fail("Expected an overflow");
+        } catch (final ArithmeticException e) {
+            // Expected
+        }
+    }
+
+    /**
+     * Returns the exact valoration of the team.
+     * 
+     * @param team
+     *            team to valorate
+     * @param costs
+     *            asset costs
+     * @return the exact valoration of the team
+     */
+    private final BigInteger getExpected(final SponsorTeam team,
+            final int[] costs) {
+        final int[] counts; // Asset counts
+        BigInteger result;  // Exact valoration
+
+        counts = new int[] { team.getCoachingDice(),
+                team.getNastySurpriseCards(), team.getSpecialMoveCards(),
+                team.getCheerleaders(), team.getWagers(), team.getMediBots() };
+
+        result = BigInteger.ZERO;
+        for (final TeamPlayer player : team.getPlayers().values()) {
+            result = result.add(BigInteger.valueOf(player.getCost()));
+        }
+        for (int i = 0; i < counts.length; i++) {
+            result = result.add(BigInteger.valueOf(counts[i])
+                    .multiply(BigInteger.valueOf(costs[i])));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a random team.
+     * 
+     * @param random
+     *            random generator
+     * @param calculator
+     *            valoration calculator for the team
+     * @return a random team
+     */
+    private final SponsorTeam getTeam(final Random random,
+            final CostCalculator<SponsorTeam> calculator) {
+        final SponsorTeam team; // Generated team
+        final int players;      // Number of players
+
+        team = new DefaultSponsorTeam(new DefaultSponsor(), calculator,
+                calculator);
+
+        team.setCoachingDice(getValue(random));
+        team.setNastySurpriseCards(getValue(random));
+        team.setSpecialMoveCards(getValue(random));
+        team.setCheerleaders(getValue(random));
+        team.setWagers(getValue(random));
+        team.setMediBots(getValue(random));
+
+        players = random.nextInt(4);
+        for (int i = 0; i < players; i++) {
+            team.addPlayer(new DefaultTeamPlayer("template", getValue(random),
+                    Role.JACK, new ImmutableAttributes(0, 0, 0, 0, 0),
+                    new ArrayList<Ability>(), false, false));
+        }
+
+        return team;
+    }
+
+    /**
+     * Returns a random value, favouring the extremes.
+     * 
+     * @param random
+     *            random generator
+     * @return a random value
+     */
+    private final int getValue(final Random random) {
+        final int value;
+
+        switch (random.nextInt(5)) {
+            case 0:
+                value = Integer.MAX_VALUE;
+                break;
+            case 1:
+                value = Integer.MIN_VALUE;
+                break;
+            case 2:
+                value = random.nextInt();
+                break;
+            default:
+                value = random.nextInt(100);
+        }
+
+        return value;
+    }
+
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.team.calculator;
+
+import java.util.ArrayList;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.availability.asset.ImmutableSponsorAssetsCosts;
+import com.bernardomg.tabletop.dreadball.model.availability.player.TeamPlayerRangedAvailability;
+import com.bernardomg.tabletop.dreadball.model.generator.RandomSponsorTeamGenerator;
+import com.bernardomg.tabletop.dreadball.model.team.SponsorTeam;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CompiledRankCostCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CostCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.DefaultRankCostCalculator;
+
+/**
+ * Unit tests for {@link CompiledRankCostCalculator}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestCompiledRankCostCalculator {
+
+    /**
+     * Default constructor.
+     */
+    public TestCompiledRankCostCalculator() {
+        super();
+    }
+
+    /**
+     * Tests that an offset outside the array is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testCost_InvalidOffset() {
+        final CompiledRankCostCalculator calculator; // Tested calculator
+
+        calculator = new CompiledRankCostCalculator(1, 2, 3, 4, 5, 6);
+
+        calculator.getCost(new int[CompiledRankCostCalculator.ASSETS_SIZE], 1);
+    }
+
+    /**
+     * Tests that the compiled calculator gives the same results as the
+     * default one, both for teams and for packed assets.
+     */
+    @Test
+    public final void testCost_SameAsDefault() {
+        final CostCalculator<SponsorTeam> expected;   // Reference calculator
+        final CompiledRankCostCalculator calculator;  // Tested calculator
+        final RandomSponsorTeamGenerator generator;   // Team generator
+        final int[] assets;                           // Packed assets
+        SponsorTeam team;                             // Generated team
+
+        expected = new DefaultRankCostCalculator(1, 2, 3, 4, 5, 6);
+        calculator = new CompiledRankCostCalculator(1, 2, 3, 4, 5, 6);
+        generator = new RandomSponsorTeamGenerator(42L,
+                new ImmutableSponsorAssetsCosts(1, 2, 3, 4, 5, 6, 7),
+                new ArrayList<TeamPlayerRangedAvailability>(), 0, 20);
+        assets = new int[CompiledRankCostCalculator.ASSETS_SIZE * 2];
+
+        for (int i = 0; i < 1000; i++) {
+            team = generator.generate();
+
+            calculator.pack(team, assets,
+                    CompiledRankCostCalculator.ASSETS_SIZE);
+
+            Assert.assertEquals(expected.getCost(team),
+                    calculator.getCost(team));
+            Assert.assertEquals((int) expected.getCost(team), calculator
+                    .getCost(assets, CompiledRankCostCalculator.ASSETS_SIZE));
+        }
+    }
+
+}
@@ -25,8 +25,11 @@
 
 import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
 import com.bernardomg.tabletop.dreadball.model.team.SponsorTeam;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CostBreakdown;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CostBreakdownCalculator;
 import com.bernardomg.tabletop.dreadball.model.team.calculator.CostCalculator;
 import com.bernardomg.tabletop.dreadball.model.team.calculator.SponsorTeamValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.TeamAsset;
 
 /**
  * Unit tests for {@link SponsorTeamValorationCalculator}.
@@ -75,4 +78,47 @@ public final void testValoration() {
         Assert.assertEquals(calculator.getCost(team), (Integer) 87);
     }
 
+    /**
+     * Tests that the valoration breakdown is calculated correctly.
+     */
+    @Test
+    public final void testValoration_Breakdown() {
+        final CostBreakdownCalculator<SponsorTeam> calculator; // Tested class
+        final CostBreakdown breakdown;          // Valoration breakdown
+        final SponsorTeam team;                 // Team to valorate
+        final Map<Integer, TeamPlayer> players; // Team players
+        final TeamPlayer player;                // Mocked player
+
+        // Mocks team
+        team = Mockito.mock(SponsorTeam.class);
+        Mockito.when(team.getCoachingDice()).thenReturn(2);
+        Mockito.when(team.getNastySurpriseCards()).thenReturn(4);
+        Mockito.when(team.getSpecialMoveCards()).thenReturn(5);
+        Mockito.when(team.getCheerleaders()).thenReturn(1);
+        Mockito.when(team.getWagers()).thenReturn(6);
+        Mockito.when(team.getMediBots()).thenReturn(3);
+
+        // Mocks players
+        players = new HashMap<>();
+        player = Mockito.mock(TeamPlayer.class);
+        Mockito.when(player.getCost()).thenReturn(10);
+        players.put(3, player);
+
+        Mockito.when(team.getPlayers()).thenReturn(players);
+
+        // Creates calculator
+        calculator = new SponsorTeamValorationCalculator(1, 2, 3, 4, 5, 6);
+
+        breakdown = new CostBreakdown(0);
+        calculator.getCostBreakdown(team, breakdown);
+
+        Assert.assertEquals(87, breakdown.getTotal());
+        Assert.assertEquals(2,
+                breakdown.getAssetCost(TeamAsset.COACHING_DICE));
+        Assert.assertEquals(18, breakdown.getAssetCost(TeamAsset.MEDIBOTS));
+        Assert.assertEquals(1, breakdown.getPlayerCount());
+        Assert.assertEquals(3, breakdown.getPlayerPosition(0));
+        Assert.assertEquals(10, breakdown.getPlayerCost(0));
+    }
+
 }
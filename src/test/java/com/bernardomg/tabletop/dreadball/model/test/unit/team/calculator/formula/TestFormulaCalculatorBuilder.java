@@ -0,0 +1,146 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.team.calculator.formula;
+
+import java.util.ArrayList;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.faction.DefaultSponsor;
+import com.bernardomg.tabletop.dreadball.model.faction.ImmutableTeamType;
+import com.bernardomg.tabletop.dreadball.model.faction.TeamRule;
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+import com.bernardomg.tabletop.dreadball.model.team.DefaultAdvancementTeam;
+import com.bernardomg.tabletop.dreadball.model.team.DefaultSponsorTeam;
+import com.bernardomg.tabletop.dreadball.model.team.SponsorTeam;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.AdvancementTeamValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CostCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.DefaultRankCostCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.formula.FormulaCalculatorBuilder;
+
+/**
+ * Unit tests for {@link FormulaCalculatorBuilder}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestFormulaCalculatorBuilder {
+
+    /**
+     * Default constructor.
+     */
+    public TestFormulaCalculatorBuilder() {
+        super();
+    }
+
+    /**
+     * Tests that flags are counted as one when they are true.
+     */
+    @Test
+    public final void testBuild_Flags() {
+        final CostCalculator<AdvancementTeam> calculator; // Tested calculator
+        final AdvancementTeam team;                      // Valorated team
+
+        calculator = new FormulaCalculatorBuilder<>(AdvancementTeam.class)
+                .addTerm("getDefensiveCoachingStaff", 10)
+                .addTerm("getOffensiveCoachingStaff", 20)
+                .addTerm("getCash", 1).build();
+
+        team = new DefaultAdvancementTeam(
+                new ImmutableTeamType("type", new ArrayList<TeamRule>()),
+                new AdvancementTeamValorationCalculator(0, 0, 0, 0));
+        team.setCash(5);
+        team.setDefensiveCoachingStaff(true);
+        team.setOffensiveCoachingStaff(false);
+
+        Assert.assertEquals((Integer) 15, calculator.getCost(team));
+    }
+
+    /**
+     * Tests that the formula gives the same result as the hand written
+     * calculator, plus the surcharges and constants.
+     */
+    @Test
+    public final void testBuild_SameAsRankCost() {
+        final CostCalculator<SponsorTeam> calculator; // Tested calculator
+        final CostCalculator<SponsorTeam> rankCost;   // Rank calculator
+        final SponsorTeam team;                       // Valorated team
+
+        rankCost = new DefaultRankCostCalculator(1, 2, 3, 4, 5, 6);
+        calculator = new FormulaCalculatorBuilder<>(SponsorTeam.class)
+                .addTerm("getCoachingDice", 1)
+                .addTerm("getNastySurpriseCards", 2)
+                .addTerm("getSpecialMoveCards", 3)
+                .addTerm("getCheerleaders", 4).addTerm("getWagers", 5)
+                .addTerm("getMediBots", 6).build();
+
+        team = new DefaultSponsorTeam(new DefaultSponsor(), rankCost,
+                rankCost);
+        for (int i = 0; i < 10; i++) {
+            team.setCoachingDice(i);
+            team.setWagers(i * 2);
+            team.setMediBots(10 - i);
+
+            Assert.assertEquals(rankCost.getCost(team),
+                    calculator.getCost(team));
+        }
+    }
+
+    /**
+     * Tests that surcharges are only applied above the threshold, and
+     * calculators and constants are added.
+     */
+    @Test
+    public final void testBuild_Surcharge() {
+        final CostCalculator<SponsorTeam> calculator; // Tested calculator
+        final CostCalculator<SponsorTeam> rankCost;   // Rank calculator
+        final SponsorTeam team;                       // Valorated team
+
+        rankCost = new DefaultRankCostCalculator(1, 1, 1, 1, 1, 1);
+        calculator = new FormulaCalculatorBuilder<>(SponsorTeam.class)
+                .addCalculator(rankCost).addSurcharge("getWagers", 2, 100)
+                .addConstant(1000).build();
+
+        team = new DefaultSponsorTeam(new DefaultSponsor(), rankCost,
+                rankCost);
+
+        team.setWagers(2);
+        Assert.assertEquals((Integer) 1002, calculator.getCost(team));
+
+        team.setWagers(3);
+        Assert.assertEquals((Integer) 1103, calculator.getCost(team));
+    }
+
+    /**
+     * Tests that an unknown getter is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testTerm_InvalidGetter() {
+        new FormulaCalculatorBuilder<>(SponsorTeam.class)
+                .addTerm("getNothing", 1);
+    }
+
+    /**
+     * Tests that a getter not returning a number or a flag is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testTerm_InvalidType() {
+        new FormulaCalculatorBuilder<>(SponsorTeam.class).addTerm("getSponsor",
+                1);
+    }
+
+}
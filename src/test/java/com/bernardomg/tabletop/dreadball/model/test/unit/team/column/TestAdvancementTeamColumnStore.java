@@ -0,0 +1,162 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.team.column;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.availability.asset.ImmutableTeamTypeAssetsAvailability;
+import com.bernardomg.tabletop.dreadball.model.availability.player.ImmutableTeamPlayerRangedAvailability;
+import com.bernardomg.tabletop.dreadball.model.availability.player.TeamPlayerRangedAvailability;
+import com.bernardomg.tabletop.dreadball.model.faction.ImmutableTeamType;
+import com.bernardomg.tabletop.dreadball.model.faction.TeamRule;
+import com.bernardomg.tabletop.dreadball.model.faction.TeamType;
+import com.bernardomg.tabletop.dreadball.model.generator.RandomAdvancementTeamGenerator;
+import com.bernardomg.tabletop.dreadball.model.player.DefaultTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAttributes;
+import com.bernardomg.tabletop.dreadball.model.ruleset.CostRule;
+import com.bernardomg.tabletop.dreadball.model.ruleset.CostRuleset;
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+import com.bernardomg.tabletop.dreadball.model.team.column.AdvancementTeamColumnStore;
+
+/**
+ * Unit tests for {@link AdvancementTeamColumnStore}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestAdvancementTeamColumnStore {
+
+    /**
+     * Default constructor.
+     */
+    public TestAdvancementTeamColumnStore() {
+        super();
+    }
+
+    /**
+     * Tests that clearing the store allows reusing it.
+     */
+    @Test
+    public final void testClear() {
+        final RandomAdvancementTeamGenerator generator; // Team generator
+        final AdvancementTeamColumnStore store;         // Tested store
+        final AdvancementTeam team;                     // Stored team
+
+        generator = getGenerator();
+        store = new AdvancementTeamColumnStore(1, 1);
+
+        store.add(1, generator.generate());
+        store.add(2, generator.generate());
+        store.clear();
+
+        team = generator.generate();
+        store.add(3, team);
+
+        Assert.assertEquals(1, store.getSize());
+        Assert.assertEquals(3, store.getId(0));
+        Assert.assertEquals((int) team.getTotalCost(),
+                store.getValoration(0, getRuleset()));
+    }
+
+    /**
+     * Tests that the kernel gives the same results as the team calculator.
+     */
+    @Test
+    public final void testValorate_SameAsCalculator() {
+        final RandomAdvancementTeamGenerator generator; // Team generator
+        final AdvancementTeamColumnStore store;         // Tested store
+        final List<AdvancementTeam> teams;              // Stored teams
+        final int[] valorations;                        // Kernel valorations
+
+        generator = getGenerator();
+        store = new AdvancementTeamColumnStore(1, 1);
+        teams = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            teams.add(generator.generate());
+            store.add(i, teams.get(i));
+        }
+
+        valorations = new int[store.getSize()];
+        store.valorate(getRuleset(), valorations);
+
+        for (int row = 0; row < teams.size(); row++) {
+            Assert.assertEquals(teams.get(row).getPlayers().size(),
+                    store.getPlayerCount(row));
+            Assert.assertEquals((int) teams.get(row).getTotalCost(),
+                    valorations[row]);
+        }
+    }
+
+    /**
+     * Returns a generator using the same costs as the ruleset.
+     * 
+     * @return a generator for the teams
+     */
+    private final RandomAdvancementTeamGenerator getGenerator() {
+        final Collection<TeamPlayerRangedAvailability> availabilities;
+        final TeamType type;
+
+        type = new ImmutableTeamType("type", new ArrayList<TeamRule>());
+
+        availabilities = new ArrayList<>();
+        availabilities.add(new ImmutableTeamPlayerRangedAvailability(type,
+                new DefaultTeamPlayer("guard", 10, Role.GUARD,
+                        new ImmutableAttributes(1, 2, 3, 4, 5),
+                        new ArrayList<Ability>(), false, false),
+                0, 5));
+        availabilities.add(new ImmutableTeamPlayerRangedAvailability(type,
+                new DefaultTeamPlayer("striker", 15, Role.STRIKER,
+                        new ImmutableAttributes(1, 2, 3, 4, 5),
+                        new ArrayList<Ability>(), false, false),
+                0, 5));
+
+        return new RandomAdvancementTeamGenerator(42L,
+                new ImmutableTeamTypeAssetsAvailability(type, 1, 0, 5, 2, 0, 6,
+                        3, 0, 7, 4, false, false, false),
+                availabilities, 10, 3, 100, 5);
+    }
+
+    /**
+     * Returns a ruleset with the same costs as the generator.
+     * 
+     * @return a ruleset for the kernel
+     */
+    private final CostRuleset getRuleset() {
+        final Map<CostRule, Integer> costs; // Costs for the rules
+
+        costs = new EnumMap<>(CostRule.class);
+        for (final CostRule rule : CostRule.values()) {
+            costs.put(rule, 0);
+        }
+        costs.put(CostRule.ADVANCEMENT_CHEERLEADER, 1);
+        costs.put(CostRule.ADVANCEMENT_DIE, 2);
+        costs.put(CostRule.ADVANCEMENT_CARD, 3);
+        costs.put(CostRule.ADVANCEMENT_COACHING_STAFF, 4);
+        costs.put(CostRule.PLAYER_RANK, 5);
+
+        return new CostRuleset("ruleset", costs);
+    }
+
+}
@@ -0,0 +1,200 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.team.column;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.availability.asset.ImmutableSponsorAssetsCosts;
+import com.bernardomg.tabletop.dreadball.model.availability.player.ImmutableTeamPlayerRangedAvailability;
+import com.bernardomg.tabletop.dreadball.model.availability.player.TeamPlayerRangedAvailability;
+import com.bernardomg.tabletop.dreadball.model.faction.ImmutableTeamType;
+import com.bernardomg.tabletop.dreadball.model.faction.TeamRule;
+import com.bernardomg.tabletop.dreadball.model.faction.TeamType;
+import com.bernardomg.tabletop.dreadball.model.generator.RandomSponsorTeamGenerator;
+import com.bernardomg.tabletop.dreadball.model.player.DefaultTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAttributes;
+import com.bernardomg.tabletop.dreadball.model.ruleset.CostRule;
+import com.bernardomg.tabletop.dreadball.model.ruleset.CostRuleset;
+import com.bernardomg.tabletop.dreadball.model.team.SponsorTeam;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.TeamAsset;
+import com.bernardomg.tabletop.dreadball.model.team.column.SponsorTeamColumnStore;
+
+/**
+ * Unit tests for {@link SponsorTeamColumnStore}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestSponsorTeamColumnStore {
+
+    /**
+     * Default constructor.
+     */
+    public TestSponsorTeamColumnStore() {
+        super();
+    }
+
+    /**
+     * Tests that the kernels give the same results as the team calculators.
+     */
+    @Test
+    public final void testKernels_SameAsCalculators() {
+        final RandomSponsorTeamGenerator generator; // Team generator
+        final SponsorTeamColumnStore store;         // Tested store
+        final List<SponsorTeam> teams;              // Stored teams
+        final int[] valorations;                    // Kernel valorations
+        final int[] rankCosts;                      // Kernel rank costs
+        int row;                                    // Current row
+
+        generator = getGenerator();
+        store = new SponsorTeamColumnStore(1);
+        teams = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            teams.add(generator.generate());
+            store.add(i, teams.get(i));
+        }
+
+        valorations = new int[store.getSize()];
+        rankCosts = new int[store.getSize()];
+        store.valorate(getRuleset(1), valorations);
+        store.rankCost(getRuleset(1), rankCosts);
+
+        Assert.assertEquals(500, store.getSize());
+
+        row = 0;
+        for (final SponsorTeam team : teams) {
+            Assert.assertEquals(row, store.getId(row));
+            Assert.assertEquals(team.getPlayers().size(),
+                    store.getPlayerCount(row));
+            Assert.assertEquals((int) team.getTotalCost(), valorations[row]);
+            Assert.assertEquals((int) team.getRankCost(), rankCosts[row]);
+            Assert.assertEquals((int) team.getBaseRank(),
+                    store.getBaseRank(row));
+            row++;
+        }
+    }
+
+    /**
+     * Tests that repricing an asset gives the same results as running the
+     * kernels with the new cost.
+     */
+    @Test
+    public final void testReprice() {
+        final RandomSponsorTeamGenerator generator; // Team generator
+        final SponsorTeamColumnStore store;         // Tested store
+        final int[] repriced;                       // Repriced valorations
+        final int[] expected;                       // Expected valorations
+
+        generator = getGenerator();
+        store = new SponsorTeamColumnStore(1);
+        for (int i = 0; i < 500; i++) {
+            store.add(i, generator.generate());
+        }
+
+        repriced = new int[store.getSize()];
+        expected = new int[store.getSize()];
+
+        store.valorate(getRuleset(1), repriced);
+        store.reprice(TeamAsset.COACHING_DICE, 1, 9, repriced);
+        store.valorate(getRuleset(9), expected);
+
+        Assert.assertArrayEquals(expected, repriced);
+
+        store.rankCost(getRuleset(1), repriced);
+        store.reprice(TeamAsset.COACHING_DICE, 1, 9, repriced);
+        store.rankCost(getRuleset(9), expected);
+
+        Assert.assertArrayEquals(expected, repriced);
+    }
+
+    /**
+     * Tests that repricing an asset Sponsor teams don't have is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testReprice_InvalidAsset() {
+        new SponsorTeamColumnStore(1).reprice(TeamAsset.CASH, 1, 2,
+                new int[1]);
+    }
+
+    /**
+     * Returns a generator using the same costs as the ruleset.
+     * 
+     * @return a generator for the teams
+     */
+    private final RandomSponsorTeamGenerator getGenerator() {
+        final Collection<TeamPlayerRangedAvailability> availabilities;
+        final TeamType type;
+
+        type = new ImmutableTeamType("type", new ArrayList<TeamRule>());
+
+        availabilities = new ArrayList<>();
+        availabilities.add(new ImmutableTeamPlayerRangedAvailability(type,
+                new DefaultTeamPlayer("guard", 10, Role.GUARD,
+                        new ImmutableAttributes(1, 2, 3, 4, 5),
+                        new ArrayList<Ability>(), false, false),
+                0, 5));
+        availabilities.add(new ImmutableTeamPlayerRangedAvailability(type,
+                new DefaultTeamPlayer("striker", 15, Role.STRIKER,
+                        new ImmutableAttributes(1, 2, 3, 4, 5),
+                        new ArrayList<Ability>(), false, false),
+                0, 5));
+
+        return new RandomSponsorTeamGenerator(42L,
+                new ImmutableSponsorAssetsCosts(1, 2, 3, 4, 5, 6, 7),
+                availabilities, 10, 5);
+    }
+
+    /**
+     * Returns a ruleset with the same costs as the generator, except for the
+     * Coaching Dice.
+     * 
+     * @param dieCost
+     *            cost of a Coaching Die
+     * @return a ruleset for the kernels
+     */
+    private final CostRuleset getRuleset(final Integer dieCost) {
+        final Map<CostRule, Integer> costs; // Costs for the rules
+
+        costs = new EnumMap<>(CostRule.class);
+        for (final CostRule rule : CostRule.values()) {
+            costs.put(rule, 0);
+        }
+        costs.put(CostRule.SPONSOR_DIE, dieCost);
+        costs.put(CostRule.SPONSOR_NASTY_SURPRISE_CARD, 2);
+        costs.put(CostRule.SPONSOR_SPECIAL_MOVE_CARD, 3);
+        costs.put(CostRule.SPONSOR_CHEERLEADER, 4);
+        costs.put(CostRule.SPONSOR_MEDIBOT, 6);
+        costs.put(CostRule.SPONSOR_WAGER, 7);
+        costs.put(CostRule.RANK_DIE, dieCost);
+        costs.put(CostRule.RANK_NASTY_SURPRISE_CARD, 2);
+        costs.put(CostRule.RANK_SPECIAL_MOVE_CARD, 3);
+        costs.put(CostRule.RANK_CHEERLEADER, 4);
+        costs.put(CostRule.RANK_MEDIBOT, 6);
+        costs.put(CostRule.RANK_WAGER, 7);
+
+        return new CostRuleset("ruleset", costs);
+    }
+
+}
@@ -0,0 +1,243 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.team.event;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.team.AbstractTeam;
+import com.bernardomg.tabletop.dreadball.model.team.Team;
+import com.bernardomg.tabletop.dreadball.model.team.event.CoalescingTeamChangeListener;
+import com.bernardomg.tabletop.dreadball.model.team.event.TeamChange;
+import com.bernardomg.tabletop.dreadball.model.team.event.TeamChangeEvent;
+import com.bernardomg.tabletop.dreadball.model.team.event.TeamChangeListener;
+
+/**
+ * Unit tests for {@link CoalescingTeamChangeListener}, and the events sent by
+ * teams.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestCoalescingTeamChangeListener {
+
+    /**
+     * Events received.
+     */
+    private final List<TeamChangeEvent> events = new ArrayList<>();
+
+    /**
+     * Scheduler for the deliveries.
+     */
+    private ScheduledExecutorService    scheduler;
+
+    /**
+     * Default constructor.
+     */
+    public TestCoalescingTeamChangeListener() {
+        super();
+    }
+
+    /**
+     * Creates the scheduler.
+     */
+    @Before
+    public final void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        events.clear();
+    }
+
+    /**
+     * Stops the scheduler.
+     */
+    @After
+    public final void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Tests that a batch sends a single event with all the changes.
+     */
+    @Test
+    public final void testBatch_SingleEvent() {
+        final AbstractTeam<TeamPlayer> team; // Tested team
+
+        team = getTeam();
+        team.addChangeListener(getListener());
+
+        team.beginBatch();
+        team.setCheerleaders(1);
+        team.setCoachingDice(2);
+        team.removePlayer(1);
+        team.commitBatch();
+
+        Assert.assertEquals((Integer) 1, (Integer) events.size());
+        Assert.assertEquals(EnumSet.of(TeamChange.ASSETS),
+                events.get(0).getChanges());
+        Assert.assertEquals(team.getVersion(), events.get(0).getVersion());
+    }
+
+    /**
+     * Tests that the events received in the window are merged for each team.
+     */
+    @Test
+    public final void testFlush_Merged() {
+        final AbstractTeam<TeamPlayer> team;         // First team
+        final AbstractTeam<TeamPlayer> other;        // Second team
+        final CoalescingTeamChangeListener listener; // Tested listener
+
+        listener = new CoalescingTeamChangeListener(getListener(), scheduler,
+                1, TimeUnit.HOURS);
+
+        team = getTeam();
+        other = getTeam();
+        team.addChangeListener(listener);
+        other.addChangeListener(listener);
+
+        team.setCheerleaders(1);
+        team.setCoachingDice(2);
+        other.setCoachingDice(2);
+
+        Assert.assertTrue(events.isEmpty());
+
+        listener.flush();
+
+        Assert.assertEquals((Integer) 2, (Integer) events.size());
+        Assert.assertEquals(2L, getEvent(team).getVersion());
+        Assert.assertEquals(1L, getEvent(other).getVersion());
+    }
+
+    /**
+     * Tests that flushing cancels the scheduled delivery, and the next event
+     * schedules a new one.
+     */
+    @Test
+    public final void testFlush_ScheduledCancelled() {
+        final AbstractTeam<TeamPlayer> team;         // Tested team
+        final CoalescingTeamChangeListener listener; // Tested listener
+        final ScheduledThreadPoolExecutor executor;  // Inspected scheduler
+
+        executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+
+        listener = new CoalescingTeamChangeListener(getListener(), executor, 1,
+                TimeUnit.HOURS);
+
+        team = getTeam();
+        team.addChangeListener(listener);
+
+        try {
+            team.setCheerleaders(1);
+            Assert.assertEquals((Integer) 1,
+                    (Integer) executor.getQueue().size());
+
+            listener.flush();
+            Assert.assertTrue(executor.getQueue().isEmpty());
+
+            team.setCoachingDice(2);
+            Assert.assertEquals((Integer) 1,
+                    (Integer) executor.getQueue().size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests that the events are delivered when the window closes.
+     * 
+     * @throws InterruptedException
+     *             if the test is interrupted
+     */
+    @Test
+    public final void testWindow_Delivered() throws InterruptedException {
+        final AbstractTeam<TeamPlayer> team;         // Tested team
+        final CoalescingTeamChangeListener listener; // Tested listener
+
+        listener = new CoalescingTeamChangeListener(getListener(), scheduler,
+                0, TimeUnit.MILLISECONDS);
+
+        team = getTeam();
+        team.addChangeListener(listener);
+
+        team.setCheerleaders(1);
+
+        scheduler.shutdown();
+        scheduler.awaitTermination(1, TimeUnit.SECONDS);
+
+        synchronized (events) {
+            Assert.assertEquals((Integer) 1, (Integer) events.size());
+        }
+    }
+
+    /**
+     * Returns the event received for the team.
+     * 
+     * @param team
+     *            team to search
+     * @return the event received for the team
+     */
+    private final TeamChangeEvent getEvent(final Team<?> team) {
+        TeamChangeEvent found; // Event for the team
+
+        found = null;
+        for (final TeamChangeEvent event : events) {
+            if (event.getTeam() == team) {
+                found = event;
+            }
+        }
+
+        return found;
+    }
+
+    /**
+     * Returns a listener storing the events received.
+     * 
+     * @return a listener storing the events received
+     */
+    private final TeamChangeListener getListener() {
+        return new TeamChangeListener() {
+
+            @Override
+            public final void onChange(final TeamChangeEvent event) {
+                synchronized (events) {
+                    events.add(event);
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Returns an empty team.
+     * 
+     * @return an empty team
+     */
+    private final AbstractTeam<TeamPlayer> getTeam() {
+        return new AbstractTeam<TeamPlayer>() {};
+    }
+
+}
@@ -0,0 +1,209 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.team.event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.team.AbstractTeam;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CostCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.event.TeamValorationPublisher;
+import com.bernardomg.tabletop.dreadball.model.team.event.UpdateSubscriber;
+import com.bernardomg.tabletop.dreadball.model.team.event.UpdateSubscription;
+import com.bernardomg.tabletop.dreadball.model.team.event.ValorationUpdate;
+
+/**
+ * Unit tests for {@link TeamValorationPublisher}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestTeamValorationPublisher {
+
+    /**
+     * Flag telling if the subscription completed.
+     */
+    private Boolean                      completed = false;
+
+    /**
+     * Errors received.
+     */
+    private final List<Throwable>        errors    = new ArrayList<>();
+
+    /**
+     * Subscription received.
+     */
+    private UpdateSubscription           subscription;
+
+    /**
+     * Updates received.
+     */
+    private final List<ValorationUpdate> updates   = new ArrayList<>();
+
+    /**
+     * Default constructor.
+     */
+    public TestTeamValorationPublisher() {
+        super();
+    }
+
+    /**
+     * Tests that closing the publisher completes the subscriptions.
+     */
+    @Test
+    public final void testClose_Completed() {
+        final TeamValorationPublisher<AbstractTeam<TeamPlayer>> publisher;
+
+        publisher = new TeamValorationPublisher<>(getTeam(), getCalculator());
+        publisher.subscribe(getSubscriber());
+
+        publisher.close();
+
+        Assert.assertTrue(completed);
+    }
+
+    /**
+     * Tests that changes which keep the same valoration are not published.
+     */
+    @Test
+    public final void testOnChange_SameValue_NotPublished() {
+        final AbstractTeam<TeamPlayer> team; // Valorated team
+        final TeamValorationPublisher<AbstractTeam<TeamPlayer>> publisher;
+
+        team = getTeam();
+        publisher = new TeamValorationPublisher<>(team, getCalculator());
+        publisher.subscribe(getSubscriber());
+        subscription.request(10);
+
+        team.setCheerleaders(2);
+        team.setCoachingDice(1);
+        team.setCoachingDice(0);
+        team.setCheerleaders(3);
+
+        Assert.assertEquals((Integer) 3, (Integer) updates.size());
+        Assert.assertEquals((Integer) 0, updates.get(0).getValoration());
+        Assert.assertEquals((Integer) 2, updates.get(1).getValoration());
+        Assert.assertEquals((Integer) 3, updates.get(2).getValoration());
+    }
+
+    /**
+     * Tests that updates without demand are conflated into the latest one.
+     */
+    @Test
+    public final void testRequest_Conflated() {
+        final AbstractTeam<TeamPlayer> team; // Valorated team
+        final TeamValorationPublisher<AbstractTeam<TeamPlayer>> publisher;
+
+        team = getTeam();
+        publisher = new TeamValorationPublisher<>(team, getCalculator());
+        publisher.subscribe(getSubscriber());
+
+        team.setCheerleaders(1);
+        team.setCheerleaders(2);
+        team.setCheerleaders(3);
+
+        Assert.assertTrue(updates.isEmpty());
+
+        subscription.request(5);
+
+        Assert.assertEquals((Integer) 1, (Integer) updates.size());
+        Assert.assertEquals((Integer) 3, updates.get(0).getValoration());
+        Assert.assertEquals(team.getVersion(), updates.get(0).getVersion());
+    }
+
+    /**
+     * Tests that requesting a non positive number of updates ends with an
+     * error.
+     */
+    @Test
+    public final void testRequest_Negative_Error() {
+        final AbstractTeam<TeamPlayer> team; // Valorated team
+        final TeamValorationPublisher<AbstractTeam<TeamPlayer>> publisher;
+
+        team = getTeam();
+        publisher = new TeamValorationPublisher<>(team, getCalculator());
+        publisher.subscribe(getSubscriber());
+
+        subscription.request(0);
+        team.setCheerleaders(1);
+        subscription.request(1);
+
+        Assert.assertEquals((Integer) 1, (Integer) errors.size());
+        Assert.assertTrue(updates.isEmpty());
+    }
+
+    /**
+     * Returns a calculator which counts the cheerleaders.
+     * 
+     * @return a calculator which counts the cheerleaders
+     */
+    private final CostCalculator<AbstractTeam<TeamPlayer>> getCalculator() {
+        return new CostCalculator<AbstractTeam<TeamPlayer>>() {
+
+            @Override
+            public final Integer getCost(final AbstractTeam<TeamPlayer> obj) {
+                return obj.getCheerleaders();
+            }
+
+        };
+    }
+
+    /**
+     * Returns a subscriber storing what it receives.
+     * 
+     * @return a subscriber storing what it receives
+     */
+    private final UpdateSubscriber<ValorationUpdate> getSubscriber() {
+        return new UpdateSubscriber<ValorationUpdate>() {
+
+            @Override
+            public final void onComplete() {
+                completed = true;
+            }
+
+            @Override
+            public final void onError(final Throwable error) {
+                errors.add(error);
+            }
+
+            @Override
+            public final void onNext(final ValorationUpdate update) {
+                updates.add(update);
+            }
+
+            @Override
+            public final void
+                    onSubscribe(final UpdateSubscription received) {
+                subscription = received;
+            }
+
+        };
+    }
+
+    /**
+     * Returns an empty team.
+     * 
+     * @return an empty team
+     */
+    private final AbstractTeam<TeamPlayer> getTeam() {
+        return new AbstractTeam<TeamPlayer>() {};
+    }
+
+}
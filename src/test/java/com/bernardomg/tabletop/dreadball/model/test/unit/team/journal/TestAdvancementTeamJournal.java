@@ -0,0 +1,277 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.team.journal;
+
+import java.util.ArrayList;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.faction.ImmutableTeamType;
+import com.bernardomg.tabletop.dreadball.model.faction.TeamRule;
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayerValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.player.DefaultAdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAbility;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAttributes;
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+import com.bernardomg.tabletop.dreadball.model.team.DefaultAdvancementTeam;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.AdvancementTeamValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.journal.AdvancementTeamJournal;
+import com.bernardomg.tabletop.dreadball.model.team.journal.CoachingStaff;
+import com.bernardomg.tabletop.dreadball.model.team.journal.ImmutableCashSetEvent;
+import com.bernardomg.tabletop.dreadball.model.team.journal.ImmutablePlayerAddedEvent;
+import com.bernardomg.tabletop.dreadball.model.team.journal.ImmutablePlayerRemovedEvent;
+import com.bernardomg.tabletop.dreadball.model.team.journal.ImmutableRankChangedEvent;
+import com.bernardomg.tabletop.dreadball.model.team.journal.ImmutableStaffToggledEvent;
+
+/**
+ * Unit tests for {@link AdvancementTeamJournal}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestAdvancementTeamJournal {
+
+    /**
+     * Default constructor.
+     */
+    public TestAdvancementTeamJournal() {
+        super();
+    }
+
+    /**
+     * Tests that compacting the journal drops the events in the snapshot,
+     * while keeping the indexes and the replayed state.
+     */
+    @Test
+    public final void testCompact() {
+        final AdvancementTeamJournal journal; // Tested journal
+        final AdvancementTeam team;           // Journaled team
+        final AdvancementTeam rebuilt;        // Rebuilt team
+
+        journal = new AdvancementTeamJournal(2);
+        team = getTeam();
+
+        journal.record(team, new ImmutablePlayerAddedEvent<AdvancementTeamPlayer>(
+                getPlayer("player1"), 1));
+        journal.record(team, new ImmutablePlayerAddedEvent<AdvancementTeamPlayer>(
+                getPlayer("player2"), 2));
+        journal.record(team, new ImmutableRankChangedEvent(1, 3));
+
+        journal.compact();
+
+        Assert.assertEquals((Integer) 2, journal.getFirstIndex());
+        Assert.assertEquals(1, journal.getEvents().size());
+        Assert.assertEquals(1, journal.getEvents(2).size());
+
+        journal.record(team, new ImmutableCashSetEvent(100));
+
+        Assert.assertEquals((Integer) 4, journal.getSnapshotIndex());
+
+        rebuilt = getTeam();
+        journal.replay(rebuilt);
+
+        Assert.assertEquals((Integer) 100, rebuilt.getCash());
+        Assert.assertEquals(2, rebuilt.getPlayers().size());
+        Assert.assertEquals((Integer) 3,
+                rebuilt.getPlayers().get(1).getRank());
+    }
+
+    /**
+     * Tests that replaying the journal into a new team rebuilds the state,
+     * both with and without a snapshot.
+     */
+    @Test
+    public final void testReplay() {
+        final AdvancementTeamJournal journal; // Tested journal
+        final AdvancementTeam team;           // Journaled team
+        final AdvancementTeam rebuilt;        // Rebuilt team
+
+        journal = new AdvancementTeamJournal(3);
+        team = getTeam();
+
+        journal.record(team, new ImmutablePlayerAddedEvent<AdvancementTeamPlayer>(
+                getPlayer("player1"), 1));
+        journal.record(team, new ImmutablePlayerAddedEvent<AdvancementTeamPlayer>(
+                getPlayer("player2"), 2));
+        journal.record(team, new ImmutableRankChangedEvent(1, 3));
+        journal.record(team, new ImmutableCashSetEvent(100));
+        journal.record(team,
+                new ImmutableStaffToggledEvent(CoachingStaff.SUPPORT, true));
+
+        Assert.assertEquals((Integer) 3, journal.getSnapshotIndex());
+
+        rebuilt = getTeam();
+        journal.replay(rebuilt);
+
+        Assert.assertEquals((Integer) 100, rebuilt.getCash());
+        Assert.assertTrue(rebuilt.getSupportCoachingStaff());
+        Assert.assertEquals(2, rebuilt.getPlayers().size());
+        Assert.assertEquals((Integer) 3,
+                rebuilt.getPlayers().get(1).getRank());
+        Assert.assertEquals(team.getTotalCost(), rebuilt.getTotalCost());
+    }
+
+    /**
+     * Tests that a journal loaded from a snapshot and the events after it
+     * rebuilds the same state.
+     */
+    @Test
+    public final void testReplay_Loaded() {
+        final AdvancementTeamJournal journal; // Persisted journal
+        final AdvancementTeamJournal loaded;  // Tested journal
+        final AdvancementTeam team;           // Journaled team
+        final AdvancementTeam rebuilt;        // Rebuilt team
+
+        journal = new AdvancementTeamJournal(2);
+        team = getTeam();
+
+        journal.record(team, new ImmutablePlayerAddedEvent<AdvancementTeamPlayer>(
+                getPlayer("player1"), 1));
+        journal.record(team, new ImmutablePlayerAddedEvent<AdvancementTeamPlayer>(
+                getPlayer("player2"), 2));
+        journal.record(team, new ImmutableRankChangedEvent(1, 3));
+
+        loaded = new AdvancementTeamJournal(2, journal.getSnapshot(),
+                journal.getSnapshotIndex(),
+                journal.getEvents(journal.getSnapshotIndex()));
+
+        rebuilt = getTeam();
+        loaded.replay(rebuilt);
+
+        Assert.assertEquals((Integer) 2, loaded.getFirstIndex());
+        Assert.assertEquals(1, loaded.getEvents().size());
+        Assert.assertEquals(2, rebuilt.getPlayers().size());
+        Assert.assertEquals((Integer) 3,
+                rebuilt.getPlayers().get(1).getRank());
+    }
+
+    /**
+     * Tests that replaying a change to a player advances the team version.
+     */
+    @Test
+    public final void testReplay_PlayerChange_VersionAdvanced() {
+        final AdvancementTeamJournal journal; // Tested journal
+        final DefaultAdvancementTeam team;    // Rebuilt team
+        final long version;                   // Version before replaying
+
+        team = (DefaultAdvancementTeam) getTeam();
+        team.addPlayer(getPlayer("player1"), 1);
+        version = team.getVersion();
+
+        journal = new AdvancementTeamJournal(10);
+        journal.append(new ImmutableRankChangedEvent(1, 3));
+        journal.replay(team);
+
+        Assert.assertTrue(team.getVersion() > version);
+        Assert.assertEquals((Integer) 3, team.getPlayers().get(1).getRank());
+    }
+
+    /**
+     * Tests that replayed teams don't share players with the journaled team,
+     * and keep the abilities captured in the snapshot.
+     */
+    @Test
+    public final void testReplay_PlayersNotShared() {
+        final AdvancementTeamJournal journal; // Tested journal
+        final AdvancementTeam team;           // Journaled team
+        final AdvancementTeamPlayer player;   // Added player
+        final AdvancementTeam first;          // First rebuilt team
+        final AdvancementTeam second;         // Second rebuilt team
+
+        journal = new AdvancementTeamJournal(1);
+        team = getTeam();
+        player = getPlayer("player1");
+        player.addAbility(new ImmutableAbility("jump"));
+
+        journal.record(team,
+                new ImmutablePlayerAddedEvent<AdvancementTeamPlayer>(player,
+                        1));
+        journal.record(team, new ImmutableRankChangedEvent(1, 2));
+        player.setRank(5);
+
+        first = getTeam();
+        journal.replay(first);
+        first.getPlayers().get(1).setRank(3);
+
+        second = getTeam();
+        journal.replay(second);
+
+        Assert.assertNotSame(team.getPlayers().get(1),
+                first.getPlayers().get(1));
+        Assert.assertEquals((Integer) 2, team.getPlayers().get(1).getRank());
+        Assert.assertEquals((Integer) 2,
+                second.getPlayers().get(1).getRank());
+        Assert.assertTrue(second.getPlayers().get(1).getAbilities()
+                .contains(new ImmutableAbility("jump")));
+    }
+
+    /**
+     * Tests that a removal recorded after the snapshot is replayed.
+     */
+    @Test
+    public final void testReplay_RemovedAfterSnapshot() {
+        final AdvancementTeamJournal journal; // Tested journal
+        final AdvancementTeam team;           // Journaled team
+        final AdvancementTeam rebuilt;        // Rebuilt team
+
+        journal = new AdvancementTeamJournal(1);
+        team = getTeam();
+
+        journal.record(team, new ImmutablePlayerAddedEvent<AdvancementTeamPlayer>(
+                getPlayer("player1"), 1));
+        journal.record(team, new ImmutablePlayerRemovedEvent(1));
+
+        rebuilt = getTeam();
+        journal.replay(rebuilt);
+
+        Assert.assertTrue(rebuilt.getPlayers().isEmpty());
+    }
+
+    /**
+     * Returns a player for the tests.
+     * 
+     * @param name
+     *            name for the player
+     * @return a player for the tests
+     */
+    private final AdvancementTeamPlayer getPlayer(final String name) {
+        final AdvancementTeamPlayer player;
+
+        player = new DefaultAdvancementTeamPlayer("template", 10, Role.GUARD,
+                new ImmutableAttributes(1, 2, 3, 4, 5), new ArrayList<Ability>(),
+                false, false, new AdvancementTeamPlayerValorationCalculator(5));
+        player.setName(name);
+        player.setRank(0);
+
+        return player;
+    }
+
+    /**
+     * Returns an empty team for the tests.
+     * 
+     * @return an empty team for the tests
+     */
+    private final AdvancementTeam getTeam() {
+        return new DefaultAdvancementTeam(
+                new ImmutableTeamType("type", new ArrayList<TeamRule>()),
+                new AdvancementTeamValorationCalculator(1, 2, 3, 4));
+    }
+
+}
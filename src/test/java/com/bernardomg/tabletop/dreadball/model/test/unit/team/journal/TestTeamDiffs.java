@@ -0,0 +1,340 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.team.journal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.faction.DefaultSponsor;
+import com.bernardomg.tabletop.dreadball.model.faction.ImmutableTeamType;
+import com.bernardomg.tabletop.dreadball.model.faction.TeamRule;
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayerValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.player.DefaultAdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.ImmutableAffinityGroup;
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAbility;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAttributes;
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+import com.bernardomg.tabletop.dreadball.model.team.DefaultAdvancementTeam;
+import com.bernardomg.tabletop.dreadball.model.team.DefaultSponsorTeam;
+import com.bernardomg.tabletop.dreadball.model.team.SponsorTeam;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.AdvancementTeamValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CostCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.journal.TeamChangeSet;
+import com.bernardomg.tabletop.dreadball.model.team.journal.TeamDiffs;
+
+/**
+ * Unit tests for {@link TeamDiffs}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestTeamDiffs {
+
+    /**
+     * Default constructor.
+     */
+    public TestTeamDiffs() {
+        super();
+    }
+
+    /**
+     * Tests that applying the changes between two advancement teams
+     * reproduces the target, with a change for each difference.
+     */
+    @Test
+    public final void testDiff_Advancement() {
+        final AdvancementTeam                source;  // Initial state
+        final AdvancementTeam                target;  // Final state
+        final TeamChangeSet<AdvancementTeam> changes; // Found changes
+
+        source = getTeam();
+        source.addPlayer(getPlayer("player1"), 1);
+        source.addPlayer(getPlayer("player2"), 2);
+
+        target = getTeam();
+        target.addPlayer(getPlayer("player1"), 1);
+        target.addPlayer(getPlayer("player3"), 3);
+        target.getPlayers().get(1).setRank(3);
+        target.getPlayers().get(1).addAbility(new ImmutableAbility("dodge"));
+        target.setCash(100);
+        target.setSupportCoachingStaff(true);
+        target.setCheerleaders(2);
+
+        changes = TeamDiffs.diff(source, target);
+        changes.apply(source);
+
+        Assert.assertEquals((Integer) 7, (Integer) changes.getEvents().size());
+        Assert.assertEquals(target.getPlayers().keySet(),
+                source.getPlayers().keySet());
+        Assert.assertEquals((Integer) 3, source.getPlayers().get(1).getRank());
+        Assert.assertEquals((Integer) 1,
+                (Integer) source.getPlayers().get(1).getAbilities().size());
+        Assert.assertEquals((Integer) 100, source.getCash());
+        Assert.assertTrue(source.getSupportCoachingStaff());
+        Assert.assertEquals((Integer) 2, source.getCheerleaders());
+        Assert.assertTrue(TeamDiffs.diff(source, target).isEmpty());
+    }
+
+    /**
+     * Tests that a player with changed attributes is added again whole, as
+     * there is no event for them.
+     */
+    @Test
+    public final void testDiff_Advancement_AttributesChanged() {
+        final AdvancementTeam                source;  // Initial state
+        final AdvancementTeam                target;  // Final state
+        final TeamChangeSet<AdvancementTeam> changes; // Found changes
+
+        source = getTeam();
+        source.addPlayer(getPlayer("player1"), 1);
+
+        target = getTeam();
+        target.addPlayer(getPlayer("player1"), 1);
+        target.getPlayers().get(1)
+                .setAttributes(new ImmutableAttributes(6, 2, 3, 4, 5));
+
+        changes = TeamDiffs.diff(source, target);
+        changes.apply(source);
+
+        Assert.assertEquals((Integer) 1, (Integer) changes.getEvents().size());
+        Assert.assertEquals((Integer) 6,
+                source.getPlayers().get(1).getAttributes().getArmor());
+        Assert.assertTrue(TeamDiffs.diff(source, target).isEmpty());
+    }
+
+    /**
+     * Tests that players with the default name, but from different templates,
+     * are replaced.
+     */
+    @Test
+    public final void testDiff_Advancement_DefaultNames_Replaced() {
+        final AdvancementTeam       source; // Initial state
+        final AdvancementTeam       target; // Final state
+        final AdvancementTeamPlayer player; // Player from another template
+
+        source = getTeam();
+        source.addPlayer(getPlayer(""), 1);
+
+        player = new DefaultAdvancementTeamPlayer("other", 20, Role.STRIKER,
+                new ImmutableAttributes(1, 2, 3, 4, 5), new ArrayList<Ability>(),
+                false, false, new AdvancementTeamPlayerValorationCalculator(5));
+        player.setRank(0);
+
+        target = getTeam();
+        target.addPlayer(player, 1);
+
+        TeamDiffs.diff(source, target).apply(source);
+
+        Assert.assertEquals("other",
+                source.getPlayers().get(1).getTemplateName());
+        Assert.assertEquals(Role.STRIKER, source.getPlayers().get(1).getRole());
+    }
+
+    /**
+     * Tests that applying the changes doesn't make the teams share players.
+     */
+    @Test
+    public final void testDiff_Advancement_PlayersCopied() {
+        final AdvancementTeam source; // Initial state
+        final AdvancementTeam target; // Final state
+
+        source = getTeam();
+
+        target = getTeam();
+        target.addPlayer(getPlayer("player1"), 1);
+
+        TeamDiffs.diff(source, target).apply(source);
+        target.getPlayers().get(1).setRank(4);
+
+        Assert.assertNotSame(target.getPlayers().get(1),
+                source.getPlayers().get(1));
+        Assert.assertEquals((Integer) 0, source.getPlayers().get(1).getRank());
+    }
+
+    /**
+     * Tests that equal teams have no changes.
+     */
+    @Test
+    public final void testDiff_Equal_Empty() {
+        final AdvancementTeam source; // Initial state
+        final AdvancementTeam target; // Final state
+
+        source = getTeam();
+        source.addPlayer(getPlayer("player1"), 1);
+
+        target = getTeam();
+        target.addPlayer(getPlayer("player1"), 1);
+
+        Assert.assertTrue(TeamDiffs.diff(source, target).isEmpty());
+    }
+
+    /**
+     * Tests that the changes to the Sponsor of the team are applied.
+     */
+    @Test
+    public final void testDiff_Sponsor_SponsorChanged() {
+        final SponsorTeam                source;  // Initial state
+        final SponsorTeam                target;  // Final state
+        final TeamChangeSet<SponsorTeam> changes; // Found changes
+
+        source = getSponsorTeam();
+
+        target = getSponsorTeam();
+        target.getSponsor().setName("sponsor");
+        target.getSponsor().setCash(50);
+        target.getSponsor().setRank(2);
+        target.getSponsor()
+                .addAffinityGroup(new ImmutableAffinityGroup("alien"));
+
+        changes = TeamDiffs.diff(source, target);
+        changes.apply(source);
+
+        Assert.assertEquals((Integer) 1, (Integer) changes.getEvents().size());
+        Assert.assertEquals("sponsor", source.getSponsor().getName());
+        Assert.assertEquals((Integer) 50, source.getSponsor().getCash());
+        Assert.assertEquals((Integer) 2, source.getSponsor().getRank());
+        Assert.assertEquals((Integer) 1,
+                (Integer) source.getSponsor().getAffinityGroups().size());
+        Assert.assertTrue(TeamDiffs.diff(source, target).isEmpty());
+    }
+
+    /**
+     * Tests that the changes between two Sponsor teams can be serialized and
+     * applied.
+     * 
+     * @throws Exception
+     *             never, as the changes are serializable
+     */
+    @SuppressWarnings("unchecked")
+    @Test
+    public final void testDiff_Sponsor_Serialized() throws Exception {
+        final SponsorTeam                source;  // Initial state
+        final SponsorTeam                target;  // Final state
+        final TeamChangeSet<SponsorTeam> changes; // Found changes
+
+        source = getSponsorTeam();
+        source.setWagers(1);
+
+        target = getSponsorTeam();
+        target.setWagers(2);
+        target.setMediBots(3);
+        target.addAdditionalAffinityGroup(new ImmutableAffinityGroup("alien"));
+
+        changes = (TeamChangeSet<SponsorTeam>) serialize(
+                TeamDiffs.diff(source, target));
+        changes.apply(source);
+
+        Assert.assertEquals((Integer) 3, (Integer) changes.getEvents().size());
+        Assert.assertEquals((Integer) 2, source.getWagers());
+        Assert.assertEquals((Integer) 3, source.getMediBots());
+        Assert.assertEquals("alien", source.getAdditionalAffinityGroups()
+                .iterator().next().getName());
+    }
+
+    /**
+     * Returns a player for the tests.
+     * 
+     * @param name
+     *            name for the player
+     * @return a player for the tests
+     */
+    private final AdvancementTeamPlayer getPlayer(final String name) {
+        final AdvancementTeamPlayer player; // Created player
+
+        player = new DefaultAdvancementTeamPlayer("template", 10, Role.GUARD,
+                new ImmutableAttributes(1, 2, 3, 4, 5), new ArrayList<Ability>(),
+                false, false, new AdvancementTeamPlayerValorationCalculator(5));
+        player.setName(name);
+        player.setRank(0);
+
+        return player;
+    }
+
+    /**
+     * Returns an empty Sponsor team for the tests.
+     * 
+     * @return an empty Sponsor team for the tests
+     */
+    private final SponsorTeam getSponsorTeam() {
+        final CostCalculator<SponsorTeam> calculator; // Costs calculator
+
+        calculator = new CostCalculator<SponsorTeam>() {
+
+            @Override
+            public final Integer getCost(final SponsorTeam team) {
+                return 0;
+            }
+
+        };
+
+        return new DefaultSponsorTeam(new DefaultSponsor(), calculator,
+                calculator);
+    }
+
+    /**
+     * Returns an empty team for the tests.
+     * 
+     * @return an empty team for the tests
+     */
+    private final AdvancementTeam getTeam() {
+        return new DefaultAdvancementTeam(
+                new ImmutableTeamType("type", new ArrayList<TeamRule>()),
+                new AdvancementTeamValorationCalculator(1, 2, 3, 4));
+    }
+
+    /**
+     * Serializes and deserializes the received object.
+     * 
+     * @param value
+     *            object to serialize
+     * @return the deserialized object
+     * @throws IOException
+     *             if the object can't be serialized
+     * @throws ClassNotFoundException
+     *             if the object can't be deserialized
+     */
+    private final Object serialize(final Object value)
+            throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream bytes; // Serialized object
+        final ObjectOutputStream output;   // Serialization stream
+        final ObjectInputStream input;     // Deserialization stream
+
+        bytes = new ByteArrayOutputStream();
+        output = new ObjectOutputStream(bytes);
+        output.writeObject(value);
+        output.close();
+
+        input = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()));
+
+        try {
+            return input.readObject();
+        } finally {
+            input.close();
+        }
+    }
+
+}
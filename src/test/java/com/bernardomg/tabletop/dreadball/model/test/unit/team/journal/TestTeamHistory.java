@@ -0,0 +1,265 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.team.journal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.faction.DefaultSponsor;
+import com.bernardomg.tabletop.dreadball.model.faction.ImmutableTeamType;
+import com.bernardomg.tabletop.dreadball.model.faction.TeamRule;
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayerValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.player.DefaultAdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAttributes;
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+import com.bernardomg.tabletop.dreadball.model.team.DefaultAdvancementTeam;
+import com.bernardomg.tabletop.dreadball.model.team.DefaultSponsorTeam;
+import com.bernardomg.tabletop.dreadball.model.team.SponsorTeam;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.AdvancementTeamValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CostCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.journal.AdvancementTeamEventInverter;
+import com.bernardomg.tabletop.dreadball.model.team.journal.ImmutableCashSetEvent;
+import com.bernardomg.tabletop.dreadball.model.team.journal.ImmutablePlayerAddedEvent;
+import com.bernardomg.tabletop.dreadball.model.team.journal.ImmutablePlayerRemovedEvent;
+import com.bernardomg.tabletop.dreadball.model.team.journal.ImmutableRankChangedEvent;
+import com.bernardomg.tabletop.dreadball.model.team.journal.ImmutableSponsorAssetSetEvent;
+import com.bernardomg.tabletop.dreadball.model.team.journal.SponsorAsset;
+import com.bernardomg.tabletop.dreadball.model.team.journal.SponsorTeamEventInverter;
+import com.bernardomg.tabletop.dreadball.model.team.journal.TeamChangeSet;
+import com.bernardomg.tabletop.dreadball.model.team.journal.TeamEvent;
+import com.bernardomg.tabletop.dreadball.model.team.journal.TeamHistory;
+
+/**
+ * Unit tests for {@link TeamHistory}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestTeamHistory {
+
+    /**
+     * Default constructor.
+     */
+    public TestTeamHistory() {
+        super();
+    }
+
+    /**
+     * Tests that applying a step after undoing discards the steps to redo.
+     */
+    @Test
+    public final void testApply_AfterUndo_NoRedo() {
+        final AdvancementTeam              team;    // Edited team
+        final TeamHistory<AdvancementTeam> history; // Tested history
+
+        team = getTeam();
+        history = new TeamHistory<>(team, new AdvancementTeamEventInverter(),
+                5);
+
+        history.apply(new ImmutableCashSetEvent(100));
+        history.undo();
+        history.apply(new ImmutableCashSetEvent(50));
+
+        Assert.assertFalse(history.canRedo());
+        Assert.assertEquals((Integer) 50, team.getCash());
+    }
+
+    /**
+     * Tests that a change set failing halfway leaves the team as it was, and
+     * stores no step.
+     */
+    @Test
+    public final void testApply_ChangeSetFails_RolledBack() {
+        final AdvancementTeam                          team;    // Team
+        final TeamHistory<AdvancementTeam>             history; // History
+        final List<TeamEvent<? super AdvancementTeam>> events;  // Change set
+
+        team = getTeam();
+        history = new TeamHistory<>(team, new AdvancementTeamEventInverter(),
+                5);
+
+        events = new ArrayList<>();
+        events.add(new ImmutablePlayerAddedEvent<AdvancementTeamPlayer>(
+                getPlayer(), 1));
+        events.add(new ImmutableCashSetEvent(100));
+        // There is no player to change in this position
+        events.add(new ImmutableRankChangedEvent(2, 2));
+
+        try {
+            history.apply(new TeamChangeSet<>(events));
+            Assert.fail("The change set should fail");
+        } catch (final RuntimeException e) {
+            Assert.assertTrue(team.getPlayers().isEmpty());
+            Assert.assertEquals((Integer) 0, team.getCash());
+            Assert.assertFalse(history.canUndo());
+        }
+    }
+
+    /**
+     * Tests that only the latest steps are kept.
+     */
+    @Test
+    public final void testApply_Full_OldestDiscarded() {
+        final AdvancementTeam              team;    // Edited team
+        final TeamHistory<AdvancementTeam> history; // Tested history
+
+        team = getTeam();
+        history = new TeamHistory<>(team, new AdvancementTeamEventInverter(),
+                2);
+
+        history.apply(new ImmutableCashSetEvent(10));
+        history.apply(new ImmutableCashSetEvent(20));
+        history.apply(new ImmutableCashSetEvent(30));
+
+        history.undo();
+        history.undo();
+
+        Assert.assertFalse(history.canUndo());
+        Assert.assertEquals((Integer) 10, team.getCash());
+    }
+
+    /**
+     * Tests that redoing all the steps returns the team to the last state.
+     */
+    @Test
+    public final void testRedo() {
+        final AdvancementTeam              team;    // Edited team
+        final TeamHistory<AdvancementTeam> history; // Tested history
+
+        team = getTeam();
+        history = new TeamHistory<>(team, new AdvancementTeamEventInverter(),
+                5);
+
+        history.apply(new ImmutablePlayerAddedEvent<AdvancementTeamPlayer>(
+                getPlayer(), 1));
+        history.apply(new ImmutableRankChangedEvent(1, 4));
+        history.apply(new ImmutablePlayerRemovedEvent(1));
+
+        history.undo();
+        history.undo();
+        history.undo();
+        history.redo();
+        history.redo();
+
+        Assert.assertEquals((Integer) 4, team.getPlayers().get(1).getRank());
+        Assert.assertTrue(history.canRedo());
+    }
+
+    /**
+     * Tests that undoing all the steps returns the team to its initial
+     * state, including change sets.
+     */
+    @Test
+    public final void testUndo_ChangeSet() {
+        final AdvancementTeam                          team;    // Team
+        final TeamHistory<AdvancementTeam>             history; // History
+        final List<TeamEvent<? super AdvancementTeam>> events;  // Change set
+
+        team = getTeam();
+        history = new TeamHistory<>(team, new AdvancementTeamEventInverter(),
+                5);
+
+        events = new ArrayList<>();
+        events.add(new ImmutablePlayerAddedEvent<AdvancementTeamPlayer>(
+                getPlayer(), 1));
+        events.add(new ImmutableRankChangedEvent(1, 2));
+        events.add(new ImmutableCashSetEvent(100));
+
+        history.apply(new TeamChangeSet<>(events));
+        history.apply(new ImmutableRankChangedEvent(1, 3));
+
+        history.undo();
+        Assert.assertEquals((Integer) 2, team.getPlayers().get(1).getRank());
+
+        history.undo();
+        Assert.assertTrue(team.getPlayers().isEmpty());
+        Assert.assertEquals((Integer) 0, team.getCash());
+        Assert.assertFalse(history.canUndo());
+    }
+
+    /**
+     * Tests that Sponsor assets can be undone.
+     */
+    @Test
+    public final void testUndo_Sponsor() {
+        final SponsorTeam              team;    // Edited team
+        final TeamHistory<SponsorTeam> history; // Tested history
+
+        team = getSponsorTeam();
+        history = new TeamHistory<>(team, new SponsorTeamEventInverter(), 5);
+
+        history.apply(
+                new ImmutableSponsorAssetSetEvent(SponsorAsset.WAGERS, 2));
+        history.undo();
+
+        Assert.assertEquals((Integer) 0, team.getWagers());
+    }
+
+    /**
+     * Returns a player for the tests.
+     * 
+     * @return a player for the tests
+     */
+    private final AdvancementTeamPlayer getPlayer() {
+        final AdvancementTeamPlayer player; // Created player
+
+        player = new DefaultAdvancementTeamPlayer("template", 10, Role.GUARD,
+                new ImmutableAttributes(1, 2, 3, 4, 5), new ArrayList<Ability>(),
+                false, false, new AdvancementTeamPlayerValorationCalculator(5));
+        player.setRank(0);
+
+        return player;
+    }
+
+    /**
+     * Returns an empty Sponsor team for the tests.
+     * 
+     * @return an empty Sponsor team for the tests
+     */
+    private final SponsorTeam getSponsorTeam() {
+        final CostCalculator<SponsorTeam> calculator; // Costs calculator
+
+        calculator = new CostCalculator<SponsorTeam>() {
+
+            @Override
+            public final Integer getCost(final SponsorTeam team) {
+                return 0;
+            }
+
+        };
+
+        return new DefaultSponsorTeam(new DefaultSponsor(), calculator,
+                calculator);
+    }
+
+    /**
+     * Returns an empty team for the tests.
+     * 
+     * @return an empty team for the tests
+     */
+    private final AdvancementTeam getTeam() {
+        return new DefaultAdvancementTeam(
+                new ImmutableTeamType("type", new ArrayList<TeamRule>()),
+                new AdvancementTeamValorationCalculator(1, 2, 3, 4));
+    }
+
+}
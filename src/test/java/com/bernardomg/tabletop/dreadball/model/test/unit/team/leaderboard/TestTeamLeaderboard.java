@@ -0,0 +1,176 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.team.leaderboard;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.team.AbstractTeam;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.CostCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.leaderboard.LeaderboardEntry;
+import com.bernardomg.tabletop.dreadball.model.team.leaderboard.TeamLeaderboard;
+
+/**
+ * Unit tests for {@link TeamLeaderboard}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestTeamLeaderboard {
+
+    /**
+     * Default constructor.
+     */
+    public TestTeamLeaderboard() {
+        super();
+    }
+
+    /**
+     * Tests that teams are moved when they change.
+     */
+    @Test
+    public final void testChange_Moved() {
+        final TeamLeaderboard<AbstractTeam<TeamPlayer>> leaderboard; // Tested
+        final AbstractTeam<TeamPlayer>                  first;       // First
+        final AbstractTeam<TeamPlayer>                  second;      // Second
+
+        leaderboard = new TeamLeaderboard<>(getCalculator());
+        first = getTeam(10);
+        second = getTeam(5);
+        leaderboard.addTeam(first);
+        leaderboard.addTeam(second);
+
+        second.setCheerleaders(20);
+
+        Assert.assertEquals((Integer) 1, leaderboard.getPosition(second));
+        Assert.assertEquals((Integer) 2, leaderboard.getPosition(first));
+        Assert.assertEquals((Integer) 20,
+                leaderboard.getTop(1).iterator().next().getValoration());
+    }
+
+    /**
+     * Tests that the positions match the sorted teams, after adding, changing
+     * and removing many of them.
+     */
+    @Test
+    public final void testGetPosition_ManyTeams() {
+        final TeamLeaderboard<AbstractTeam<TeamPlayer>> leaderboard; // Tested
+        final List<AbstractTeam<TeamPlayer>>            teams;       // Teams
+        final List<LeaderboardEntry<AbstractTeam<TeamPlayer>>> top;  // Top
+
+        leaderboard = new TeamLeaderboard<>(getCalculator());
+        teams = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            teams.add(getTeam((i * 37) % 50));
+            leaderboard.addTeam(teams.get(i));
+        }
+        for (int i = 0; i < 200; i += 3) {
+            teams.get(i).setCheerleaders((i * 11) % 60);
+        }
+        for (int i = 0; i < 200; i += 7) {
+            leaderboard.removeTeam(teams.get(i));
+        }
+
+        top = leaderboard.getTop(leaderboard.getSize());
+
+        for (int i = 0; i < top.size(); i++) {
+            Assert.assertEquals((Integer) (i + 1),
+                    leaderboard.getPosition(top.get(i).getTeam()));
+        }
+    }
+
+    /**
+     * Tests that the teams are sorted from highest to lowest valoration,
+     * with ties in the order they were added.
+     */
+    @Test
+    public final void testGetTop_Sorted() {
+        final TeamLeaderboard<AbstractTeam<TeamPlayer>> leaderboard; // Tested
+        final List<LeaderboardEntry<AbstractTeam<TeamPlayer>>> top;  // Top
+
+        leaderboard = new TeamLeaderboard<>(getCalculator());
+        leaderboard.addTeam(getTeam(3));
+        leaderboard.addTeam(getTeam(7));
+        leaderboard.addTeam(getTeam(5));
+        leaderboard.addTeam(getTeam(7));
+
+        top = leaderboard.getTop(3);
+
+        Assert.assertEquals((Integer) 3, (Integer) top.size());
+        Assert.assertEquals((Integer) 7, top.get(0).getValoration());
+        Assert.assertEquals((Integer) 7, top.get(1).getValoration());
+        Assert.assertEquals((Integer) 5, top.get(2).getValoration());
+        Assert.assertEquals((Integer) 4, leaderboard.getSize());
+    }
+
+    /**
+     * Tests that removed teams are not in the leaderboard, and are not
+     * listened to.
+     */
+    @Test
+    public final void testRemoveTeam() {
+        final TeamLeaderboard<AbstractTeam<TeamPlayer>> leaderboard; // Tested
+        final AbstractTeam<TeamPlayer>                  team;        // Team
+
+        leaderboard = new TeamLeaderboard<>(getCalculator());
+        team = getTeam(10);
+        leaderboard.addTeam(team);
+
+        leaderboard.removeTeam(team);
+        team.setCheerleaders(20);
+
+        Assert.assertEquals((Integer) 0, leaderboard.getSize());
+        Assert.assertNull(leaderboard.getPosition(team));
+        Assert.assertTrue(leaderboard.getTop(1).isEmpty());
+    }
+
+    /**
+     * Returns a calculator valorating the teams by their cheerleaders.
+     * 
+     * @return a calculator valorating the teams by their cheerleaders
+     */
+    private final CostCalculator<AbstractTeam<TeamPlayer>> getCalculator() {
+        return new CostCalculator<AbstractTeam<TeamPlayer>>() {
+
+            @Override
+            public final Integer getCost(final AbstractTeam<TeamPlayer> team) {
+                return team.getCheerleaders();
+            }
+
+        };
+    }
+
+    /**
+     * Returns a team with the specified cheerleaders.
+     * 
+     * @param cheerleaders
+     *            cheerleaders of the team
+     * @return a team with the specified cheerleaders
+     */
+    private final AbstractTeam<TeamPlayer> getTeam(final Integer cheerleaders) {
+        final AbstractTeam<TeamPlayer> team; // Created team
+
+        team = new AbstractTeam<TeamPlayer>() {};
+        team.setCheerleaders(cheerleaders);
+
+        return team;
+    }
+
+}
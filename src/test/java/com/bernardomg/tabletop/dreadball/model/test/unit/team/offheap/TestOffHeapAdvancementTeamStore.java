@@ -0,0 +1,173 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.team.offheap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.availability.asset.ImmutableTeamTypeAssetsAvailability;
+import com.bernardomg.tabletop.dreadball.model.availability.player.ImmutableTeamPlayerRangedAvailability;
+import com.bernardomg.tabletop.dreadball.model.availability.player.TeamPlayerRangedAvailability;
+import com.bernardomg.tabletop.dreadball.model.faction.ImmutableTeamType;
+import com.bernardomg.tabletop.dreadball.model.faction.TeamRule;
+import com.bernardomg.tabletop.dreadball.model.faction.TeamType;
+import com.bernardomg.tabletop.dreadball.model.generator.RandomAdvancementTeamGenerator;
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayerValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.player.DefaultTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAttributes;
+import com.bernardomg.tabletop.dreadball.model.team.AdvancementTeam;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.AdvancementTeamValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.offheap.OffHeapAdvancementTeamStore;
+
+/**
+ * Unit tests for {@link OffHeapAdvancementTeamStore}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestOffHeapAdvancementTeamStore {
+
+    /**
+     * Default constructor.
+     */
+    public TestOffHeapAdvancementTeamStore() {
+        super();
+    }
+
+    /**
+     * Tests that the stored players can't be changed.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public final void testGet_ReadOnlyPlayer() {
+        final OffHeapAdvancementTeamStore store;        // Tested store
+        final RandomAdvancementTeamGenerator generator; // Team generator
+        AdvancementTeam team;                           // Stored team
+
+        store = getStore();
+        generator = getGenerator();
+
+        do {
+            team = generator.generate();
+        } while (team.getPlayers().isEmpty());
+        store.add(team);
+
+        store.get(0).getPlayers().values().iterator().next().setRank(1);
+    }
+
+    /**
+     * Tests that the stored teams are read back with the same values.
+     */
+    @Test
+    public final void testGet_SameValues() {
+        final RandomAdvancementTeamGenerator generator; // Team generator
+        final OffHeapAdvancementTeamStore store;        // Tested store
+        final List<AdvancementTeam> teams;              // Original teams
+        AdvancementTeam stored;                         // Stored team
+        AdvancementTeamPlayer player;                   // Stored player
+
+        generator = getGenerator();
+        store = getStore();
+        teams = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            teams.add(generator.generate());
+            teams.get(i).setName("team" + i);
+            store.add(teams.get(i));
+        }
+
+        for (int i = 0; i < teams.size(); i++) {
+            stored = store.get(i);
+
+            Assert.assertEquals(teams.get(i).getName(), stored.getName());
+            Assert.assertEquals(teams.get(i).getTeamType(),
+                    stored.getTeamType());
+            Assert.assertEquals(teams.get(i).getSupportCoachingStaff(),
+                    stored.getSupportCoachingStaff());
+            Assert.assertEquals(teams.get(i).getTotalCost(),
+                    stored.getTotalCost());
+            Assert.assertEquals(teams.get(i).getPlayers().keySet(),
+                    stored.getPlayers().keySet());
+
+            for (final Integer position : stored.getPlayers().keySet()) {
+                player = stored.getPlayers().get(position);
+
+                Assert.assertEquals(
+                        teams.get(i).getPlayers().get(position)
+                                .getTemplateName(),
+                        player.getTemplateName());
+                Assert.assertEquals(
+                        teams.get(i).getPlayers().get(position).getRank(),
+                        player.getRank());
+                Assert.assertEquals(
+                        teams.get(i).getPlayers().get(position)
+                                .getUnspentExperience(),
+                        player.getUnspentExperience());
+                Assert.assertEquals(
+                        teams.get(i).getPlayers().get(position).getMvp(),
+                        player.getMvp());
+                Assert.assertEquals(teams.get(i).getPlayers().get(position)
+                        .getValoration(), player.getValoration());
+            }
+        }
+    }
+
+    /**
+     * Returns a team generator.
+     * 
+     * @return a team generator
+     */
+    private final RandomAdvancementTeamGenerator getGenerator() {
+        final Collection<TeamPlayerRangedAvailability> availabilities;
+        final TeamType type;
+
+        type = new ImmutableTeamType("type", new ArrayList<TeamRule>());
+
+        availabilities = new ArrayList<>();
+        availabilities.add(new ImmutableTeamPlayerRangedAvailability(type,
+                new DefaultTeamPlayer("guard", 10, Role.GUARD,
+                        new ImmutableAttributes(1, 2, 3, 4, 5),
+                        new ArrayList<Ability>(), false, false),
+                0, 5));
+        availabilities.add(new ImmutableTeamPlayerRangedAvailability(type,
+                new DefaultTeamPlayer("striker", 15, Role.STRIKER,
+                        new ImmutableAttributes(1, 2, 3, 4, 5),
+                        new ArrayList<Ability>(), true, false),
+                0, 5));
+
+        return new RandomAdvancementTeamGenerator(42L,
+                new ImmutableTeamTypeAssetsAvailability(type, 1, 0, 5, 2, 0, 6,
+                        3, 0, 7, 4, false, false, false),
+                availabilities, 10, 3, 100, 5);
+    }
+
+    /**
+     * Returns the store to test, with the same costs as the generator.
+     * 
+     * @return the store to test
+     */
+    private final OffHeapAdvancementTeamStore getStore() {
+        return new OffHeapAdvancementTeamStore(
+                new AdvancementTeamValorationCalculator(2, 3, 1, 4),
+                new AdvancementTeamPlayerValorationCalculator(5), 1, 1);
+    }
+
+}
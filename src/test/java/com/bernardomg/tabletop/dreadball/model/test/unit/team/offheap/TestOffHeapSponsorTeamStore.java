@@ -0,0 +1,165 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.team.offheap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.availability.asset.ImmutableSponsorAssetsCosts;
+import com.bernardomg.tabletop.dreadball.model.availability.player.ImmutableTeamPlayerRangedAvailability;
+import com.bernardomg.tabletop.dreadball.model.availability.player.TeamPlayerRangedAvailability;
+import com.bernardomg.tabletop.dreadball.model.faction.ImmutableTeamType;
+import com.bernardomg.tabletop.dreadball.model.faction.TeamRule;
+import com.bernardomg.tabletop.dreadball.model.faction.TeamType;
+import com.bernardomg.tabletop.dreadball.model.generator.RandomSponsorTeamGenerator;
+import com.bernardomg.tabletop.dreadball.model.player.DefaultTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAttributes;
+import com.bernardomg.tabletop.dreadball.model.team.SponsorTeam;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.DefaultRankCostCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.calculator.SponsorTeamValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.team.offheap.OffHeapSponsorTeamStore;
+
+/**
+ * Unit tests for {@link OffHeapSponsorTeamStore}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestOffHeapSponsorTeamStore {
+
+    /**
+     * Default constructor.
+     */
+    public TestOffHeapSponsorTeamStore() {
+        super();
+    }
+
+    /**
+     * Tests that the stored teams can't be changed.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public final void testGet_ReadOnly() {
+        final OffHeapSponsorTeamStore store; // Tested store
+
+        store = getStore();
+        store.add(getGenerator().generate());
+
+        store.get(0).setWagers(1);
+    }
+
+    /**
+     * Tests that the stored teams are read back with the same values.
+     */
+    @Test
+    public final void testGet_SameValues() {
+        final RandomSponsorTeamGenerator generator; // Team generator
+        final OffHeapSponsorTeamStore store;        // Tested store
+        final List<SponsorTeam> teams;              // Original teams
+        SponsorTeam stored;                         // Stored team
+        TeamPlayer original;                        // Original player
+        TeamPlayer player;                          // Stored player
+
+        generator = getGenerator();
+        store = getStore();
+        teams = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            teams.add(generator.generate());
+            teams.get(i).getSponsor().setName("sponsor" + i);
+            store.add(teams.get(i));
+        }
+
+        Assert.assertEquals(300, store.getSize());
+
+        for (int i = 0; i < teams.size(); i++) {
+            stored = store.get(i);
+
+            Assert.assertEquals(teams.get(i).getPlayers().keySet(),
+                    stored.getPlayers().keySet());
+            Assert.assertEquals(teams.get(i).getSponsor().getName(),
+                    stored.getSponsor().getName());
+            Assert.assertEquals(teams.get(i).getBaseRank(),
+                    stored.getBaseRank());
+            Assert.assertEquals(teams.get(i).getMediBots(),
+                    stored.getMediBots());
+            Assert.assertEquals(teams.get(i).getTotalCost(),
+                    stored.getTotalCost());
+            Assert.assertEquals(teams.get(i).getCurrentRank(),
+                    stored.getCurrentRank());
+
+            for (final Integer position : stored.getPlayers().keySet()) {
+                original = teams.get(i).getPlayers().get(position);
+                player = stored.getPlayers().get(position);
+
+                Assert.assertEquals(original.getName(), player.getName());
+                Assert.assertEquals(original.getTemplateName(),
+                        player.getTemplateName());
+                Assert.assertEquals(original.getCost(), player.getCost());
+                Assert.assertEquals(original.getRole(), player.getRole());
+                Assert.assertEquals(original.getGiant(), player.getGiant());
+                Assert.assertEquals(original.getMvp(), player.getMvp());
+                Assert.assertEquals(original.getAttributes(),
+                        player.getAttributes());
+            }
+        }
+    }
+
+    /**
+     * Returns a team generator.
+     * 
+     * @return a team generator
+     */
+    private final RandomSponsorTeamGenerator getGenerator() {
+        final Collection<TeamPlayerRangedAvailability> availabilities;
+        final TeamType type;
+
+        type = new ImmutableTeamType("type", new ArrayList<TeamRule>());
+
+        availabilities = new ArrayList<>();
+        availabilities.add(new ImmutableTeamPlayerRangedAvailability(type,
+                new DefaultTeamPlayer("guard", 10, Role.GUARD,
+                        new ImmutableAttributes(1, 2, 3, 4, 5),
+                        new ArrayList<Ability>(), false, false),
+                0, 5));
+        availabilities.add(new ImmutableTeamPlayerRangedAvailability(type,
+                new DefaultTeamPlayer("striker", 15, Role.STRIKER,
+                        new ImmutableAttributes(1, 2, 3, 4, 5),
+                        new ArrayList<Ability>(), false, false),
+                0, 5));
+
+        return new RandomSponsorTeamGenerator(42L,
+                new ImmutableSponsorAssetsCosts(1, 2, 3, 4, 5, 6, 7),
+                availabilities, 10, 5);
+    }
+
+    /**
+     * Returns the store to test, with the same costs as the generator.
+     * 
+     * @return the store to test
+     */
+    private final OffHeapSponsorTeamStore getStore() {
+        return new OffHeapSponsorTeamStore(
+                new SponsorTeamValorationCalculator(1, 2, 3, 4, 7, 6),
+                new DefaultRankCostCalculator(1, 2, 3, 4, 7, 6), 1, 1);
+    }
+
+}
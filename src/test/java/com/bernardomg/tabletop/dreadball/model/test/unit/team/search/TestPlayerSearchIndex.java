@@ -0,0 +1,304 @@
+/**
+ * Copyright 2017 the original author or authors
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.bernardomg.tabletop.dreadball.model.test.unit.team.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.bernardomg.tabletop.dreadball.model.player.AdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.DefaultAdvancementTeamPlayer;
+import com.bernardomg.tabletop.dreadball.model.player.Role;
+import com.bernardomg.tabletop.dreadball.model.player.TeamPlayerValorationCalculator;
+import com.bernardomg.tabletop.dreadball.model.player.stats.Ability;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAbility;
+import com.bernardomg.tabletop.dreadball.model.player.stats.ImmutableAttributes;
+import com.bernardomg.tabletop.dreadball.model.team.AbstractTeam;
+import com.bernardomg.tabletop.dreadball.model.team.search.PlayerHit;
+import com.bernardomg.tabletop.dreadball.model.team.search.PlayerQuery;
+import com.bernardomg.tabletop.dreadball.model.team.search.PlayerSearchIndex;
+
+/**
+ * Unit tests for {@link PlayerSearchIndex}.
+ * 
+ * @author Bernardo Mart&iacute;nez Garrido
+ */
+public final class TestPlayerSearchIndex {
+
+    /**
+     * Default constructor.
+     */
+    public TestPlayerSearchIndex() {
+        super();
+    }
+
+    /**
+     * Tests that players added to an indexed team are found.
+     */
+    @Test
+    public final void testAddPlayer_Found() {
+        final PlayerSearchIndex                   index; // Tested index
+        final AbstractTeam<AdvancementTeamPlayer> team;  // Indexed team
+
+        index = new PlayerSearchIndex();
+        team = new AbstractTeam<AdvancementTeamPlayer>() {};
+        index.addTeam(team);
+
+        team.addPlayer(getPlayer("keeper", Role.KEEPER, 1, "jump"), 2);
+
+        Assert.assertEquals((Integer) 1,
+                index.count(new PlayerQuery().withRole(Role.KEEPER)));
+        Assert.assertEquals((Integer) 2, index
+                .search(new PlayerQuery().withRole(Role.KEEPER)).iterator()
+                .next().getPosition());
+    }
+
+    /**
+     * Tests that marking a player as changed reindexes it.
+     */
+    @Test
+    public final void testMarkPlayerChanged_Reindexed() {
+        final PlayerSearchIndex                   index;  // Tested index
+        final AbstractTeam<AdvancementTeamPlayer> team;   // Indexed team
+        final AdvancementTeamPlayer               player; // Modified player
+
+        index = new PlayerSearchIndex();
+        team = new AbstractTeam<AdvancementTeamPlayer>() {};
+        player = getPlayer("keeper", Role.KEEPER, 1, "jump");
+        team.addPlayer(player, 1);
+        index.addTeam(team);
+
+        player.setRank(5);
+        player.addAbility(new ImmutableAbility("dodge"));
+        team.markPlayerChanged(1);
+
+        Assert.assertEquals((Integer) 1,
+                index.count(new PlayerQuery().withRank(5, 5)
+                        .withAbility(new ImmutableAbility("dodge"))));
+        Assert.assertEquals((Integer) 0,
+                index.count(new PlayerQuery().withRank(1, 1)));
+    }
+
+    /**
+     * Tests that removed players are not found.
+     */
+    @Test
+    public final void testRemovePlayer_NotFound() {
+        final PlayerSearchIndex                   index; // Tested index
+        final AbstractTeam<AdvancementTeamPlayer> team;  // Indexed team
+
+        index = new PlayerSearchIndex();
+        team = new AbstractTeam<AdvancementTeamPlayer>() {};
+        team.addPlayer(getPlayer("keeper", Role.KEEPER, 1, "jump"), 1);
+        team.addPlayer(getPlayer("guard", Role.GUARD, 1, "jump"), 2);
+        index.addTeam(team);
+
+        team.removePlayer(1);
+
+        Assert.assertEquals((Integer) 1, index.getSize());
+        Assert.assertEquals((Integer) 0,
+                index.count(new PlayerQuery().withRole(Role.KEEPER)));
+        Assert.assertEquals((Integer) 1, index.count(
+                new PlayerQuery().withAbility(new ImmutableAbility("jump"))));
+    }
+
+    /**
+     * Tests that removed teams are not searched, nor listened to.
+     */
+    @Test
+    public final void testRemoveTeam() {
+        final PlayerSearchIndex                   index; // Tested index
+        final AbstractTeam<AdvancementTeamPlayer> team;  // Indexed team
+
+        index = new PlayerSearchIndex();
+        team = new AbstractTeam<AdvancementTeamPlayer>() {};
+        team.addPlayer(getPlayer("keeper", Role.KEEPER, 1, "jump"), 1);
+        index.addTeam(team);
+
+        index.removeTeam(team);
+        team.addPlayer(getPlayer("guard", Role.GUARD, 1, "jump"), 2);
+
+        Assert.assertEquals((Integer) 0, index.getSize());
+    }
+
+    /**
+     * Tests that conjunctive queries only return the players fulfilling all
+     * the conditions.
+     */
+    @Test
+    public final void testSearch_Conjunctive() {
+        final PlayerSearchIndex index; // Tested index
+        final List<PlayerHit>   hits;  // Found players
+
+        index = getIndex();
+
+        hits = index.search(new PlayerQuery().withRole(Role.JACK)
+                .withAbility(new ImmutableAbility("jump")));
+
+        Assert.assertEquals((Integer) 1, (Integer) hits.size());
+        Assert.assertEquals("jack",
+                hits.iterator().next().getPlayer().getTemplateName());
+    }
+
+    /**
+     * Tests that an empty query returns all the players.
+     */
+    @Test
+    public final void testSearch_Empty_All() {
+        Assert.assertEquals((Integer) 4, getIndex().count(new PlayerQuery()));
+    }
+
+    /**
+     * Tests that the rank ranges are inclusive.
+     */
+    @Test
+    public final void testSearch_RankRange() {
+        final PlayerSearchIndex index; // Tested index
+
+        index = getIndex();
+
+        Assert.assertEquals((Integer) 2,
+                index.count(new PlayerQuery().withRank(2, 3)));
+        Assert.assertEquals((Integer) 3,
+                index.count(new PlayerQuery().withRank(null, 3)));
+        Assert.assertEquals((Integer) 0,
+                index.count(new PlayerQuery().withRank(3, 2)));
+    }
+
+    /**
+     * Tests that queries for unknown abilities return nothing.
+     */
+    @Test
+    public final void testSearch_UnknownAbility_Empty() {
+        Assert.assertEquals((Integer) 0, getIndex().count(new PlayerQuery()
+                .withAbility(new ImmutableAbility("unknown_ability"))));
+    }
+
+    /**
+     * Tests that the valoration ranges are applied.
+     */
+    @Test
+    public final void testSearch_ValorationRange() {
+        Assert.assertEquals((Integer) 1, getIndex()
+                .count(new PlayerQuery().withValoration(40, null)));
+    }
+
+    /**
+     * Tests that updating a team reindexes its modified players.
+     */
+    @Test
+    public final void testUpdate_ModifiedPlayer() {
+        final PlayerSearchIndex                   index;  // Tested index
+        final AbstractTeam<AdvancementTeamPlayer> team;   // Indexed team
+        final AdvancementTeamPlayer               player; // Modified player
+
+        index = new PlayerSearchIndex();
+        team = new AbstractTeam<AdvancementTeamPlayer>() {};
+        player = getPlayer("keeper", Role.KEEPER, 1, "jump");
+        team.addPlayer(player, 1);
+        index.addTeam(team);
+
+        player.setRank(5);
+        player.addAbility(new ImmutableAbility("dodge"));
+        index.update(team);
+
+        Assert.assertEquals((Integer) 1,
+                index.count(new PlayerQuery().withRank(5, 5)
+                        .withAbility(new ImmutableAbility("dodge"))));
+        Assert.assertEquals((Integer) 0,
+                index.count(new PlayerQuery().withRank(1, 1)));
+    }
+
+    /**
+     * Returns the calculator for the valoration, which is ten times the rank.
+     * 
+     * @return the calculator for the valoration
+     */
+    private final TeamPlayerValorationCalculator<AdvancementTeamPlayer>
+            getCalculator() {
+        return new TeamPlayerValorationCalculator<AdvancementTeamPlayer>() {
+
+            @Override
+            public final Integer
+                    getValoration(final AdvancementTeamPlayer player) {
+                return player.getRank() * 10;
+            }
+
+        };
+    }
+
+    /**
+     * Returns an index with players in two teams.
+     * 
+     * @return an index with players
+     */
+    private final PlayerSearchIndex getIndex() {
+        final PlayerSearchIndex                   index;  // Created index
+        final AbstractTeam<AdvancementTeamPlayer> first;  // First team
+        final AbstractTeam<AdvancementTeamPlayer> second; // Second team
+
+        first = new AbstractTeam<AdvancementTeamPlayer>() {};
+        first.addPlayer(getPlayer("jack", Role.JACK, 1, "jump", "dodge"), 1);
+        first.addPlayer(getPlayer("guard", Role.GUARD, 2, "tough"), 2);
+
+        second = new AbstractTeam<AdvancementTeamPlayer>() {};
+        second.addPlayer(getPlayer("striker", Role.STRIKER, 3, "dodge"), 1);
+        second.addPlayer(getPlayer("keeper", Role.JACK, 4, "tough"), 2);
+
+        index = new PlayerSearchIndex();
+        index.addTeam(first);
+        index.addTeam(second);
+
+        return index;
+    }
+
+    /**
+     * Returns a player with the specified arguments.
+     * 
+     * @param template
+     *            template name
+     * @param role
+     *            player role
+     * @param rank
+     *            player rank
+     * @param abilityNames
+     *            names of the player abilities
+     * @return a player with the specified arguments
+     */
+    private final AdvancementTeamPlayer getPlayer(final String template,
+            final Role role, final Integer rank,
+            final String... abilityNames) {
+        final Collection<Ability>   abilities; // Player abilities
+        final AdvancementTeamPlayer player;    // Created player
+
+        abilities = new ArrayList<>();
+        for (final String name : abilityNames) {
+            abilities.add(new ImmutableAbility(name));
+        }
+
+        player = new DefaultAdvancementTeamPlayer(template, 10, role,
+                new ImmutableAttributes(1, 2, 3, 4, 5), abilities, false,
+                false, getCalculator());
+        player.setRank(rank);
+
+        return player;
+    }
+
+}